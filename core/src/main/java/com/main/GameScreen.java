@@ -1,5 +1,8 @@
 package com.main;
 
+import java.io.File;
+import java.io.IOException;
+
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
@@ -8,20 +11,53 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.main.entities.Unit;
 import com.main.entities.player.Hero;
+import com.main.fx.CombatFx;
+import com.main.fx.FxEventQueue;
 import com.main.map.Base;
 import com.main.map.WarMap;
+import com.main.render.FreezeFrame;
+import com.main.render.HealthBarRenderer;
+import com.main.render.RenderQueue;
+import com.main.render.ViewCuller;
+import com.main.utils.FrameManifest;
+import com.main.utils.FramePacer;
+import com.main.utils.FrameProfiler;
+import com.main.utils.MetricsRecorder;
+import com.main.utils.GameLog;
+import com.main.utils.PixmapDecoder;
+import com.main.utils.TextureLoader;
+import com.main.sim.GdxInputSource;
+import com.main.sim.HeroBot;
+import com.main.sim.InputFrame;
+import com.main.sim.InputSource;
+import com.main.sim.Match;
+import com.main.sim.MatchContext;
+import com.main.sim.ReplayReader;
+import com.main.sim.ReplayRecorder;
+import com.main.sim.SimulationThread;
+import com.main.save.AutoSaver;
+import com.main.net.LockstepClient;
+import com.main.net.LockstepProtocol;
+import com.main.net.LockstepSession;
+import com.main.net.RemoteMatchView;
+import com.main.net.StateStreamClient;
+import com.main.net.StreamProtocol;
+import com.main.net.WorldState;
 import com.ui.BaseDestroyedOverlay;
 import com.ui.BaseZombieDestroyedOverlay;
 import com.ui.GameOverOverlay;
 import com.ui.Inventory;
+import com.ui.Minimap;
 import com.ui.Target;
 import com.ui.PauseOverlay;
+import com.ui.ProfilerOverlay;
 import com.ui.UnitShop;
 import com.ui.hud;
 import com.utils.AudioSettings;
@@ -52,6 +88,15 @@ public class GameScreen implements Screen {
      * Reference to the main game application.
      */
     private Main game;
+    /**
+     * Map and audio settings every match of this screen is created in.
+     */
+    private MatchContext matchContext;
+    /**
+     * Silent context without textures for matches ticked on the
+     * {@link SimulationThread}, which has no GL context.
+     */
+    private MatchContext simulationContext;
     /**
      * The main playable hero unit.
      */
@@ -93,6 +138,10 @@ public class GameScreen implements Screen {
      * HUD display for health, gold, and other game stats.
      */
     private hud hudDisplay;
+    /**
+     * Overview of the whole battlefield with unit blips.
+     */
+    private Minimap minimap;
     /**
      * Overlay displayed when the game is over.
      */
@@ -113,6 +162,143 @@ public class GameScreen implements Screen {
      * Flag to toggle display of unit attack ranges (activated with 'R' key).
      */
     private boolean showRanges = false;
+    /**
+     * Per-subsystem CPU timer, only active while the profiler overlay is shown.
+     */
+    private FrameProfiler profiler;
+    /**
+     * Skips units outside the camera view when rendering.
+     */
+    private final ViewCuller viewCuller = new ViewCuller();
+    /**
+     * World sprites of the frame, drawn by layer, depth and texture.
+     */
+    private final RenderQueue renderQueue = new RenderQueue();
+    /**
+     * Health bars over damaged units, drawn on the world batch.
+     */
+    private final HealthBarRenderer healthBars = new HealthBarRenderer();
+    /**
+     * Still image of the scene shown under the pause and end-of-match
+     * overlays.
+     */
+    private final FreezeFrame freezeFrame = new FreezeFrame();
+    /**
+     * 1x1 white texture stretched over the unit health bars, shared through
+     * {@link TextureLoader#whitePixel()}.
+     */
+    private Texture whitePixel;
+    private TextureRegion whitePixelRegion;
+    /**
+     * Combat events of the match, queued until the next frame draws them.
+     */
+    private final FxEventQueue fxEvents = new FxEventQueue(1024);
+    /**
+     * Particles and rising numbers shown for hits, deaths and gold gains.
+     */
+    private CombatFx combatFx;
+    /**
+     * Debug overlay showing frame timings and GL statistics (toggled with 'F3').
+     */
+    private ProfilerOverlay profilerOverlay;
+    /**
+     * Frame rate governor: halts offline matches in the background and sheds
+     * optional drawing when frames run over budget.
+     */
+    private final FramePacer framePacer;
+    /**
+     * Per-second metrics export, null unless -Dzgame.metrics is set.
+     */
+    private MetricsRecorder metrics;
+    /**
+     * Background saver for F5 quick saves and periodic autosaves.
+     */
+    private AutoSaver autoSaver;
+    /**
+     * Seconds between two autosaves.
+     */
+    private static final float AUTOSAVE_INTERVAL = 60f;
+    /**
+     * Decodes the soldier and zombie frames on every core while the match
+     * starts, so the first unit of a type does not stall the frame loading
+     * them. Created for each match; holds the textures until the match ends
+     * or the screen is hidden, or null.
+     */
+    private PixmapDecoder preloader;
+    /**
+     * Most preloaded textures uploaded per frame.
+     */
+    private static final int PRELOAD_UPLOADS_PER_FRAME = 4;
+    /**
+     * Simulation state of the current match (bases, hero, seeded spawns).
+     */
+    private Match match;
+    /**
+     * Live keyboard input, also receiving unit purchases from the shop.
+     */
+    private final GdxInputSource liveInput = new GdxInputSource();
+    /**
+     * Input driving the simulation: live input, a replay or the bot.
+     */
+    private InputSource inputSource = liveInput;
+    /**
+     * Input snapshot reused every tick.
+     */
+    private final InputFrame inputFrame = new InputFrame();
+    /**
+     * Replay being played back, null when playing live.
+     */
+    private ReplayReader replayReader;
+    /**
+     * Recording of the current match, null unless -Dzgame.replay.record is set.
+     */
+    private ReplayRecorder replayRecorder;
+    /**
+     * Set by the simulation thread when writing the replay failed; the
+     * render thread then closes it.
+     */
+    private volatile boolean replayFailed;
+    /**
+     * Replay files still to use; only the first match is recorded or replayed.
+     */
+    private String replayPlayPath = System.getProperty(ReplayReader.PROPERTY);
+    private String replayRecordPath = System.getProperty(ReplayRecorder.PROPERTY);
+    /**
+     * True to let a {@link HeroBot} play the local matches; set with
+     * -Dzgame.bot=true.
+     */
+    private final boolean botPlays = Boolean.getBoolean(HeroBot.PROPERTY);
+    /**
+     * True to simulate local matches on a {@link SimulationThread}; set with
+     * -Dzgame.simthread=true.
+     */
+    private final boolean simThreadEnabled = Boolean.getBoolean(SimulationThread.PROPERTY);
+    /**
+     * Thread simulating the local match, null when the render thread ticks it.
+     * While it runs, {@link #match} only mirrors its published states.
+     */
+    private SimulationThread simThread;
+    /**
+     * Relay address ({@code host:port}) for the versus mode, used by the first
+     * match only; set with -Dzgame.lockstep.
+     */
+    private String lockstepAddress = System.getProperty("zgame.lockstep");
+    /**
+     * Lockstep versus session, null in single player.
+     */
+    private LockstepSession lockstep;
+    /**
+     * Dedicated server address ({@code host:port}), used by the first match
+     * only; set with -Dzgame.server.
+     */
+    private String serverAddress = System.getProperty("zgame.server");
+    /**
+     * Connection to a dedicated server and the view it drives, null when the
+     * match is simulated locally.
+     */
+    private StateStreamClient stateStream;
+    private RemoteMatchView remoteView;
+    private final WorldState remoteState = new WorldState();
     /**
      * UI component for buying units during gameplay.
      */
@@ -128,6 +314,11 @@ public class GameScreen implements Screen {
      * Sound effect for shooting.
      */
     private Sound shootSound;
+    /**
+     * Shots and reloads of the simulated hero whose sounds were played.
+     */
+    private int heardShots;
+    private int heardReloads;
 
     /**
      * Font used for pause display (deprecated, replaced by PauseOverlay).
@@ -168,6 +359,9 @@ public class GameScreen implements Screen {
      */
     public GameScreen(Main game) {
         this.game = game;
+        // A pacer of its own when the game does not provide one (tests)
+        FramePacer pacer = game.getFramePacer();
+        this.framePacer = pacer != null ? pacer : new FramePacer();
         batch = new SpriteBatch();
         shapeRenderer = new ShapeRenderer(); // Pour debug
         camera = new OrthographicCamera();
@@ -177,14 +371,19 @@ public class GameScreen implements Screen {
         viewport.update(com.badlogic.gdx.Gdx.graphics.getWidth(), com.badlogic.gdx.Gdx.graphics.getHeight(), true);
 
         map = new WarMap();
+        // Defaults when the game has not loaded its settings (tests)
+        AudioSettings audioSettings = game.getAudioSettings();
+        this.matchContext = new MatchContext(map, audioSettings != null ? audioSettings : new AudioSettings());
+        this.simulationContext = new MatchContext(map, null, true);
         this.mapWidth = map.getMapWidthInPixels();
         this.mapHeight = map.getMapHeightInPixels();
-        this.enemyBase = new Base(20, 300, false, this.mapHeight); // false = spawn zombies
-        this.playerBase = new Base(0, 300, true, this.mapHeight); // true = spawn soldiers
-        hero = new Hero(map.getMapWidthInPixels() / 2, map.getMapHeightInPixels() / 2, this.map, this.playerBase);
-        this.playerBase.setHero(hero);
+        // Before the first match: its simulation thread may tick right away
+        this.metrics = MetricsRecorder.fromSystemProperty();
+        this.autoSaver = new AutoSaver(AutoSaver.AUTOSAVE_FILE, AUTOSAVE_INTERVAL);
+        startMatch(20, 0);
         // Initialize HUD
         this.hudDisplay = new hud();
+        this.minimap = new Minimap(map);
         // Initialize Game Over Overlay
         this.gameOverOverlay = new GameOverOverlay();
         // Initialize Base Destroyed Overlay
@@ -202,6 +401,13 @@ public class GameScreen implements Screen {
         this.unitShop = new UnitShop(playerBase, hero);
         this.inventory = new Inventory(hero);
         this.target = new Target(hero, camera);
+        // Initialize profiler (disabled until F3 is pressed)
+        this.profiler = new FrameProfiler();
+        this.profilerOverlay = new ProfilerOverlay(profiler);
+        this.match.setProfiler(profiler);
+        this.combatFx = new CombatFx();
+        this.whitePixel = TextureLoader.whitePixel();
+        this.whitePixelRegion = new TextureRegion(whitePixel);
 
         // Load audio
         loadSounds();
@@ -218,7 +424,7 @@ public class GameScreen implements Screen {
             backgroundMusic = com.badlogic.gdx.Gdx.audio
                     .newMusic(com.badlogic.gdx.Gdx.files.internal("sounds/debut.mp3"));
             backgroundMusic.setLooping(true);
-            backgroundMusic.setVolume(AudioSettings.getMusicVolume());
+            backgroundMusic.setVolume(matchContext.getAudioSettings().getMusicVolume());
             backgroundMusic.play();
 
             // Son de tir
@@ -226,36 +432,40 @@ public class GameScreen implements Screen {
                     .newSound(com.badlogic.gdx.Gdx.files.internal("sounds/coup de feu heros.mp3"));
 
             // Passer le son au héros
-            hero.setShootSound(shootSound);
+            assignShootSound();
 
             // TEST: Jouer le son une fois au démarrage pour vérifier
             shootSound.play(1.0f);
 
         } catch (Exception e) {
-            e.printStackTrace();
+            GameLog.error("GameScreen", "Could not load sounds", e);
         }
     }
 
     /**
-     * Resets the game state after losing, reinitializing map, bases, hero, unit
-     * shop, and audio.
+     * Resets the game state after losing, reinitializing bases, hero, unit
+     * shop, and audio. The map never changes, so the loaded one (and its baked
+     * caches, the match contexts and the minimap built on it) is reused.
      * Reassigns sound resources and resizes UI components.
      */
     public void reset() {
-        this.map = new WarMap();
-        this.enemyBase = new Base(1350, 300, false, this.mapHeight); // false = spawn zombies
-        this.playerBase = new Base(-22, 300, true, this.mapHeight); // true = spawn soldiers
-        this.hero = new Hero(map.getMapWidthInPixels() / 2, map.getMapHeightInPixels() / 2, this.map, this.playerBase);
-        this.playerBase.setHero(hero);
+        combatFx.clear();
+        startMatch(Match.ENEMY_BASE_X, Match.PLAYER_BASE_X);
+        attachMatchUi();
+    }
+
+    /**
+     * Rebuilds the match-bound UI (shop, inventory, target) and audio links
+     * after the match has been replaced, and resumes play.
+     */
+    private void attachMatchUi() {
+        this.match.setProfiler(profiler);
         this.unitShop = new UnitShop(playerBase, hero, hudDisplay.getGoldDisplay());
         this.inventory = new Inventory(hero);
         this.target = new Target(hero, camera);
 
         // ✅ IMPORTANT: Réassigner le son au nouveau héros
-
-        if (shootSound != null) {
-            hero.setShootSound(shootSound);
-        }
+        assignShootSound();
 
         // Resize the new unitShop to match current window size
         this.unitShop.resize(com.badlogic.gdx.Gdx.graphics.getWidth(), com.badlogic.gdx.Gdx.graphics.getHeight());
@@ -264,6 +474,349 @@ public class GameScreen implements Screen {
         this.gameState = GameState.PLAYING;
     }
 
+    /**
+     * Gives the shoot sound to the new hero. A hero simulated on another
+     * thread gets none: its shots are played by {@link #playSimulatedSounds}.
+     */
+    private void assignShootSound() {
+        if (shootSound == null) {
+            return;
+        }
+        hero.setShootSound(shootSound);
+    }
+
+    /**
+     * Creates a new match on the current map and picks its input: the replay
+     * given with -Dzgame.replay.play (whose seed is reused), or live input with a
+     * fresh seed, recorded if -Dzgame.replay.record is set.
+     *
+     * @param enemyBaseX  X position of the enemy base
+     * @param playerBaseX X position of the player base
+     */
+    private void startMatch(int enemyBaseX, int playerBaseX) {
+        closeSimulation();
+        closeReplay();
+        closeLockstep();
+        closeStateStream();
+        if (match != null) {
+            match.dispose();
+        }
+        startPreloader();
+        inputSource = liveInput;
+        long seed = System.nanoTime();
+        LockstepClient lockstepClient = null;
+        if (serverAddress != null && !serverAddress.isEmpty()) {
+            stateStream = connectServer(serverAddress);
+            serverAddress = null;
+        } else if (lockstepAddress != null && !lockstepAddress.isEmpty()) {
+            lockstepClient = connectLockstep(lockstepAddress);
+            if (lockstepClient != null) {
+                seed = lockstepClient.getSeed();
+            }
+            lockstepAddress = null;
+        } else if (replayPlayPath != null && !replayPlayPath.isEmpty()) {
+            try {
+                replayReader = new ReplayReader(new File(replayPlayPath));
+                seed = replayReader.getSeed();
+                inputSource = replayReader;
+                GameLog.info("GameScreen", "Playing replay {}", replayPlayPath);
+            } catch (IOException e) {
+                GameLog.warn("GameScreen", "Could not open replay {}: {}", replayPlayPath, e.getMessage());
+            }
+            replayPlayPath = null;
+        } else if (replayRecordPath != null && !replayRecordPath.isEmpty()) {
+            try {
+                replayRecorder = new ReplayRecorder(new File(replayRecordPath), seed);
+                GameLog.info("GameScreen", "Recording replay to {}", replayRecordPath);
+            } catch (IOException e) {
+                GameLog.warn("GameScreen", "Could not record replay {}: {}", replayRecordPath, e.getMessage());
+            }
+            replayRecordPath = null;
+        }
+
+        boolean simulate = simThreadEnabled && lockstepClient == null && stateStream == null;
+        useMatch(new Match(simulate ? simulationContext : matchContext, seed, enemyBaseX, playerBaseX));
+        if (botPlays && inputSource == liveInput && lockstepClient == null && stateStream == null) {
+            inputSource = new HeroBot(match);
+            GameLog.info("GameScreen", "Hero played by the bot");
+        }
+        if (simulate) {
+            startSimulation();
+        }
+        if (lockstepClient != null) {
+            lockstep = new LockstepSession(match, lockstepClient);
+        }
+        if (stateStream != null) {
+            remoteView = new RemoteMatchView(match);
+        }
+    }
+
+    /**
+     * Hands the current match to a simulation thread, which also takes over its
+     * scripted input, replay recording and autosaves, and displays a mirror of
+     * the match instead. The match must have been created in
+     * {@link #simulationContext}: the thread cannot create textures.
+     */
+    private void startSimulation() {
+        Match simulated = match;
+        InputSource script = inputSource == liveInput ? null : inputSource;
+        inputSource = liveInput;
+        simThread = new SimulationThread(simulated, SimulationThread.DEFAULT_TICK, script, this::simulationTicked);
+        useMatch(new Match(new MatchContext(map), simulated.getSeed(), (int) simulated.getEnemyBase().getPosX(),
+                (int) simulated.getPlayerBase().getPosX()));
+        remoteView = new RemoteMatchView(match);
+        // Only the simulated match reports combat events: the queue has a single writer
+        match.getPlayerBase().setCombatEvents(null);
+        match.getEnemyBase().setCombatEvents(null);
+        assignShootSound();
+        heardShots = 0;
+        heardReloads = 0;
+        replayFailed = false;
+        simThread.start();
+        GameLog.info("GameScreen", "Simulating on a separate thread at {} ticks/s",
+                Math.round(1f / SimulationThread.DEFAULT_TICK));
+    }
+
+    /**
+     * Records and autosaves a tick of the simulation thread; runs on that
+     * thread.
+     *
+     * @param simulated Simulated match
+     * @param input     Input of the tick
+     */
+    private void simulationTicked(Match simulated, InputFrame input) {
+        if (replayRecorder != null && !replayFailed) {
+            try {
+                replayRecorder.write(input);
+            } catch (IOException e) {
+                GameLog.warn("GameScreen", "Replay recording stopped: {}", e.getMessage());
+                // Closed on the render thread, which owns the replay fields
+                replayFailed = true;
+            }
+        }
+        autoSaver.update(input.getDelta(), simulated);
+    }
+
+    /**
+     * Plays the shoot and reload sounds of the simulated hero published since
+     * the last frame, on the render thread.
+     *
+     * @param state Newest state of the simulation thread
+     */
+    private void playSimulatedSounds(WorldState state) {
+        if (state.heroShots != heardShots) {
+            heardShots = state.heroShots;
+            if (shootSound != null && matchContext.isSoundEnabled()) {
+                shootSound.play(0.7f);
+            }
+        }
+        if (state.heroReloads != heardReloads) {
+            heardReloads = state.heroReloads;
+            if (hero.getWeapon() != null) {
+                hero.getWeapon().playReloadSound(matchContext.getAudioSettings());
+            }
+        }
+    }
+
+    /**
+     * Ends a match whose simulation thread stopped on an error: the last
+     * state stays on screen under the game over overlay, which tells what
+     * happened and offers to start a new match.
+     */
+    private void simulationFailed() {
+        RuntimeException failure = simThread.getFailure();
+        GameLog.warn("GameScreen", "Match stopped, the simulation failed: {}",
+                failure != null ? failure.toString() : "unknown error");
+        closeSimulation();
+        gameOverOverlay.setTitle("Simulation stopped");
+        gameState = GameState.GAME_OVER;
+    }
+
+    /**
+     * Starts preloading the unit frames of a new match, replacing the
+     * preloader of the previous one.
+     */
+    private void startPreloader() {
+        closePreloader();
+        if (!TextureLoader.isHeadless()) {
+            preloader = new PixmapDecoder(PixmapDecoder.defaultThreads(), 16);
+            preloader.submitAll(FrameManifest.SOLDIERS);
+            preloader.submitAll(FrameManifest.ZOMBIES);
+        }
+    }
+
+    /**
+     * Stops the preloader, if any, and gives back its texture references;
+     * frames no unit loaded are deleted.
+     */
+    private void closePreloader() {
+        if (preloader != null) {
+            preloader.dispose();
+            preloader = null;
+        }
+    }
+
+    /**
+     * Stops the simulation thread, if running. Its match is dropped.
+     */
+    private void closeSimulation() {
+        if (simThread != null) {
+            simThread.close();
+            simThread = null;
+            remoteView = null;
+        }
+    }
+
+    /**
+     * Connects to a dedicated match server.
+     *
+     * @param address Server address as {@code host:port} (port optional)
+     * @return The connected client, or null to play locally
+     */
+    private StateStreamClient connectServer(String address) {
+        int colon = address.lastIndexOf(':');
+        String host = colon >= 0 ? address.substring(0, colon) : address;
+        try {
+            int port = colon >= 0 ? Integer.parseInt(address.substring(colon + 1)) : StreamProtocol.DEFAULT_PORT;
+            StateStreamClient client = StateStreamClient.connect(host, port, 5000);
+            GameLog.info("GameScreen", "Connected to match server {}:{}", host, port);
+            return client;
+        } catch (IOException | NumberFormatException e) {
+            GameLog.warn("GameScreen", "Could not join match server {}: {}", address, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Disconnects from the dedicated server, if connected.
+     */
+    private void closeStateStream() {
+        if (stateStream != null) {
+            try {
+                stateStream.close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+            stateStream = null;
+            remoteView = null;
+        }
+    }
+
+    /**
+     * Connects to a lockstep relay, waiting for the second player.
+     *
+     * @param address Relay address as {@code host:port} (port optional)
+     * @return The connected client, or null to play alone
+     */
+    private LockstepClient connectLockstep(String address) {
+        int colon = address.lastIndexOf(':');
+        String host = colon >= 0 ? address.substring(0, colon) : address;
+        int port = LockstepProtocol.DEFAULT_PORT;
+        try {
+            if (colon >= 0) {
+                port = Integer.parseInt(address.substring(colon + 1));
+            }
+            GameLog.info("GameScreen", "Waiting for versus match on {}:{}", host, port);
+            LockstepClient client = LockstepClient.connect(host, port, 5000);
+            GameLog.info("GameScreen", "Versus match started as {}",
+                    client.getRole() == LockstepProtocol.ROLE_HERO ? "hero" : "zombie commander");
+            return client;
+        } catch (IOException | NumberFormatException e) {
+            GameLog.warn("GameScreen", "Could not join versus match {}: {}", address, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Leaves the versus match, if any; the zombie base spawns on its own again.
+     */
+    private void closeLockstep() {
+        if (lockstep != null) {
+            lockstep.close();
+            lockstep.getMatch().getEnemyBase().setCommanded(false);
+            lockstep = null;
+        }
+    }
+
+    /**
+     * Makes the given match the current one.
+     *
+     * @param newMatch Match to play
+     */
+    private void useMatch(Match newMatch) {
+        this.match = newMatch;
+        this.enemyBase = match.getEnemyBase(); // spawn zombies
+        this.playerBase = match.getPlayerBase(); // spawn soldiers
+        this.hero = match.getHero();
+        freezeFrame.invalidate();
+        playerBase.setCombatEvents(fxEvents);
+        enemyBase.setCombatEvents(fxEvents);
+    }
+
+    /**
+     * Writes the F5 quick save in the background.
+     *
+     * @param saved Match to save; the simulated one when a simulation thread
+     *              runs, in which case this is called on that thread
+     */
+    private void quickSave(Match saved) {
+        if (autoSaver.save(saved, AutoSaver.QUICKSAVE_FILE)) {
+            GameLog.info("GameScreen", "Quick saved ({} bytes, {} us)", autoSaver.getLastSize(),
+                    autoSaver.getLastEncodeNanos() / 1000);
+        }
+    }
+
+    /**
+     * Restores the quick save written with F5. The save is read synchronously
+     * (it is small); any replay in progress stops since it no longer matches.
+     */
+    private void loadQuickSave() {
+        if (lockstep != null || stateStream != null) {
+            GameLog.warn("GameScreen", "Quick load is disabled in online matches");
+            return;
+        }
+        if (!autoSaver.awaitIdle(1000)) {
+            GameLog.warn("GameScreen", "Quick save still being written, load cancelled");
+            return;
+        }
+        Match loaded;
+        try {
+            loaded = AutoSaver.load(AutoSaver.QUICKSAVE_FILE, simThreadEnabled ? simulationContext : matchContext);
+        } catch (IOException e) {
+            GameLog.warn("GameScreen", "Could not load {}: {}", AutoSaver.QUICKSAVE_FILE.getPath(), e.getMessage());
+            return;
+        }
+        closeSimulation();
+        closeReplay();
+        match.dispose();
+        useMatch(loaded);
+        inputSource = botPlays ? new HeroBot(match) : liveInput;
+        if (simThreadEnabled) {
+            startSimulation();
+        }
+        attachMatchUi();
+        GameLog.info("GameScreen", "Quick save loaded (tick {})", loaded.getTick());
+    }
+
+    /**
+     * Closes the replay being played or recorded, if any.
+     */
+    private void closeReplay() {
+        try {
+            if (replayReader != null) {
+                replayReader.close();
+            }
+            if (replayRecorder != null) {
+                replayRecorder.close();
+                GameLog.info("GameScreen", "Replay saved ({} ticks)", replayRecorder.getTicks());
+            }
+        } catch (IOException e) {
+            GameLog.warn("GameScreen", "Could not close replay: {}", e.getMessage());
+        }
+        replayReader = null;
+        replayRecorder = null;
+    }
+
     /**
      * Called when the screen is shown. (No implementation needed.)
      */
@@ -279,8 +832,108 @@ public class GameScreen implements Screen {
      */
     @Override
     public void render(float delta) {
+        profiler.beginFrame();
+        long tickStart = System.nanoTime();
         update(delta);
+        long renderStart = System.nanoTime();
+
+        // Paused and end-of-match screens show a still image of the scene
+        boolean ended = gameState == GameState.GAME_OVER || gameState == GameState.BASE_DESTROYED
+                || gameState == GameState.ZOMBIE_BASE_DESTROYED;
+        boolean frozen = ended || gameState == GameState.PAUSE;
+        if (ended) {
+            closePreloader();
+        } else if (preloader != null && !preloader.isDone()) {
+            preloader.upload(PRELOAD_UPLOADS_PER_FRAME);
+        }
+        if (!frozen) {
+            freezeFrame.invalidate();
+        }
+        if (frozen && freezeFrame.isCaptured()) {
+            ScreenUtils.clear(0.15f, 0.15f, 0.2f, 1f);
+            freezeFrame.draw(batch);
+        } else {
+            renderScene(delta);
+            if (frozen) {
+                freezeFrame.capture();
+            }
+        }
 
+        profiler.begin(FrameProfiler.Section.OVERLAYS);
+        // Render Pause overlay if in Pause state
+        if (gameState == GameState.PAUSE) {
+            pauseOverlay.render();
+        }
+
+        // Render Game Over Overlay if in Game Over state
+        if (gameState == GameState.GAME_OVER) {
+            gameOverOverlay.render();
+        }
+
+        // Render Base Destroyed Overlay if player base is destroyed
+        if (gameState == GameState.BASE_DESTROYED) {
+            baseDestroyedOverlay.render();
+        }
+
+        // Render Zombie Base Destroyed Overlay if enemy base is destroyed (Victory!)
+        if (gameState == GameState.ZOMBIE_BASE_DESTROYED) {
+            baseZombieDestroyedOverlay.render();
+        }
+
+        // Draw range circles if enabled, unless frames are over budget
+        if (showRanges && !framePacer.isShedding(FramePacer.SHED_DEBUG)) {
+            shapeRenderer.setProjectionMatrix(camera.combined);
+            shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+
+            // Draw player units ranges in green
+            shapeRenderer.setColor(0, 1, 0, 0.5f); // Green with transparency
+            for (Unit unit : playerBase.getUnits()) {
+                float cx = unit.getPosX() + unit.getWidth() / 2;
+                float cy = unit.getPosY() + unit.getHeight() / 2;
+                if (!unit.isDead() && viewCuller.isVisible(cx, cy, unit.getRange())) {
+                    shapeRenderer.circle(cx, cy, unit.getRange());
+                }
+            }
+
+            // Draw enemy units ranges in red
+            shapeRenderer.setColor(1, 0, 0, 0.5f); // Red with transparency
+            for (Unit unit : enemyBase.getUnits()) {
+                float cx = unit.getPosX() + unit.getWidth() / 2;
+                float cy = unit.getPosY() + unit.getHeight() / 2;
+                if (!unit.isDead() && viewCuller.isVisible(cx, cy, unit.getRange())) {
+                    shapeRenderer.circle(cx, cy, unit.getRange());
+                }
+            }
+
+            // Draw base collision hitboxes (purple for player, yellow for enemy)
+            shapeRenderer.setColor(0.5f, 0, 0.5f, 0.5f); // Purple for player base hitbox
+            com.badlogic.gdx.math.Rectangle playerBox = playerBase.getCollisionBox();
+            shapeRenderer.rect(playerBox.x, playerBox.y, playerBox.width, playerBox.height);
+
+            shapeRenderer.setColor(1, 1, 0, 0.5f); // Yellow for enemy base hitbox
+            com.badlogic.gdx.math.Rectangle enemyBox = enemyBase.getCollisionBox();
+            shapeRenderer.rect(enemyBox.x, enemyBox.y, enemyBox.width, enemyBox.height);
+
+            shapeRenderer.end();
+        }
+        profiler.end(FrameProfiler.Section.OVERLAYS);
+        profiler.endFrame();
+
+        if (metrics != null) {
+            metrics.frame(delta, renderStart - tickStart, System.nanoTime() - renderStart,
+                    playerBase, enemyBase, hero);
+        }
+
+        // Drawn last so its GL counters cover the whole frame
+        profilerOverlay.render(delta, playerBase, enemyBase);
+    }
+
+    /**
+     * Draws the map, units, effects, shop, inventory and HUD.
+     *
+     * @param delta Time elapsed since last frame (seconds)
+     */
+    private void renderScene(float delta) {
         ScreenUtils.clear(0.15f, 0.15f, 0.2f, 1f);
 
         float spriteHalfWidth = hero.getSprite().getWidth() / 2f;
@@ -309,23 +962,45 @@ public class GameScreen implements Screen {
 
         camera.position.set(camX, camY, 0);
         camera.update();
+        profiler.begin(FrameProfiler.Section.MAP);
         map.setView(camera);
         map.render();
+        profiler.end(FrameProfiler.Section.MAP);
+        profiler.begin(FrameProfiler.Section.UNITS);
         batch.setProjectionMatrix(camera.combined);
         // Appliquer la luminosité globale
         float brightness = game.getBrightness();
         batch.setColor(brightness, brightness, brightness, 1f);
         batch.begin();
-        // Render toutes les unités
-        for (Unit elem : enemyBase.getUnits()) {
-            elem.render(batch);
-        }
-        for (Unit elem : playerBase.getUnits()) {
-            elem.render(batch);
+        // Render the units inside the camera view, sorted by depth then texture
+        viewCuller.setView(camera);
+        viewCuller.submit(enemyBase, renderQueue);
+        viewCuller.submit(playerBase, renderQueue);
+        hero.submit(renderQueue);
+        renderQueue.flush(batch);
+        // Health bars of the damaged units over their sprites
+        healthBars.draw(batch, whitePixelRegion, enemyBase, viewCuller);
+        healthBars.draw(batch, whitePixelRegion, playerBase, viewCuller);
+        // Hit, death and gold feedback over the units
+        // Fewer new effects, then none, when frames run over budget
+        boolean fewerEffects = framePacer.isShedding(FramePacer.SHED_EFFECTS);
+        combatFx.setEmissionCaps(fewerEffects ? CombatFx.PARTICLES_PER_FRAME / 4 : CombatFx.PARTICLES_PER_FRAME,
+                fewerEffects ? CombatFx.TEXTS_PER_FRAME / 2 : CombatFx.TEXTS_PER_FRAME);
+        fxEvents.drain(combatFx);
+        if (framePacer.isShedding(FramePacer.SHED_ALL_EFFECTS)) {
+            combatFx.clear();
+        } else {
+            if (gameState != GameState.PAUSE) {
+                combatFx.update(delta);
+            }
+            combatFx.render(batch);
         }
-        hero.render(batch);
         batch.end();
+        profiler.countSprites(renderQueue.getSubmitted(), viewCuller.getCulled());
+        profiler.countTextureSwitches(renderQueue.getTextureSwitches());
+        profiler.end(FrameProfiler.Section.UNITS);
 
+        profiler.begin(FrameProfiler.Section.HUD);
         // Render Unit Shop buttons
         unitShop.render(shapeRenderer, batch);
         inventory.render(shapeRenderer, batch);
@@ -344,63 +1019,8 @@ public class GameScreen implements Screen {
         // Render base health bars in game world (with game camera)
         hudDisplay.renderBaseHealthBars(camera);
         hudDisplay.render();
-
-        // Render Pause overlay if in Pause state
-        if (gameState == GameState.PAUSE) {
-            pauseOverlay.render();
-        }
-
-        // Render Game Over Overlay if in Game Over state
-        if (gameState == GameState.GAME_OVER) {
-            gameOverOverlay.render();
-        }
-
-        // Render Base Destroyed Overlay if player base is destroyed
-        if (gameState == GameState.BASE_DESTROYED) {
-            baseDestroyedOverlay.render();
-        }
-
-        // Render Zombie Base Destroyed Overlay if enemy base is destroyed (Victory!)
-        if (gameState == GameState.ZOMBIE_BASE_DESTROYED) {
-            baseZombieDestroyedOverlay.render();
-        }
-
-        // Draw range circles if enabled
-        if (showRanges) {
-            shapeRenderer.setProjectionMatrix(camera.combined);
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-
-            // Draw player units ranges in green
-            shapeRenderer.setColor(0, 1, 0, 0.5f); // Green with transparency
-            for (Unit unit : playerBase.getUnits()) {
-                if (!unit.isDead()) {
-                    shapeRenderer.circle(unit.getPosX() + unit.getWidth() / 2,
-                            unit.getPosY() + unit.getHeight() / 2,
-                            unit.getRange());
-                }
-            }
-
-            // Draw enemy units ranges in red
-            shapeRenderer.setColor(1, 0, 0, 0.5f); // Red with transparency
-            for (Unit unit : enemyBase.getUnits()) {
-                if (!unit.isDead()) {
-                    shapeRenderer.circle(unit.getPosX() + unit.getWidth() / 2,
-                            unit.getPosY() + unit.getHeight() / 2,
-                            unit.getRange());
-                }
-            }
-
-            // Draw base collision hitboxes (purple for player, yellow for enemy)
-            shapeRenderer.setColor(0.5f, 0, 0.5f, 0.5f); // Purple for player base hitbox
-            com.badlogic.gdx.math.Rectangle playerBox = playerBase.getCollisionBox();
-            shapeRenderer.rect(playerBox.x, playerBox.y, playerBox.width, playerBox.height);
-
-            shapeRenderer.setColor(1, 1, 0, 0.5f); // Yellow for enemy base hitbox
-            com.badlogic.gdx.math.Rectangle enemyBox = enemyBase.getCollisionBox();
-            shapeRenderer.rect(enemyBox.x, enemyBox.y, enemyBox.width, enemyBox.height);
-
-            shapeRenderer.end();
-        }
+        minimap.render(playerBase, enemyBase, hero, camera);
+        profiler.end(FrameProfiler.Section.HUD);
     }
 
     /**
@@ -429,9 +1049,12 @@ public class GameScreen implements Screen {
 
         // Handle unit shop clicks (only when playing)
         if (gameState == GameState.PLAYING && com.badlogic.gdx.Gdx.input.justTouched()) {
-            unitShop.handleClick(
+            Base.Type purchase = unitShop.resolveClick(
                     com.badlogic.gdx.Gdx.input.getX(),
                     com.badlogic.gdx.Gdx.input.getY());
+            if (purchase != null) {
+                liveInput.queuePurchase(purchase, unitShop.getSelectedSpawnPoint());
+            }
         }
 
         // Check if hero is dead
@@ -456,6 +1079,7 @@ public class GameScreen implements Screen {
             deathTimer += delta;
             if(deathTimer >= DEATH_ANIM_DURATION){
                 deathTimer = 0f;
+                gameOverOverlay.setTitle("Game Over");
                 gameState = GameState.GAME_OVER;
             }
         }
@@ -509,7 +1133,7 @@ public class GameScreen implements Screen {
                 gameState = GameState.PLAYING;
                 pauseOverlay.resetConfirmation();
             } else if ("options".equals(action)) {
-                System.out.println("Options clicked from pause!");
+                GameLog.debug("GameScreen", "Options clicked from pause");
                 com.badlogic.gdx.Gdx.app.postRunnable(() -> game.showOptionsScreen(true));
             } else if ("quit".equals(action)) {
                 pauseOverlay.resetConfirmation();
@@ -517,9 +1141,46 @@ public class GameScreen implements Screen {
             }
         }
 
-        // Don't update game if Game Over, Base Destroyed, or Paused
-        if (gameState == GameState.GAME_OVER || gameState == GameState.PAUSE ||
-                gameState == GameState.BASE_DESTROYED || gameState == GameState.ZOMBIE_BASE_DESTROYED) {
+        // Toggle profiler overlay with 'F3' key (available in every state)
+        if (com.badlogic.gdx.Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F3)) {
+            profilerOverlay.toggle();
+        }
+
+        // Quick save with 'F5', quick load with 'F9'
+        if (com.badlogic.gdx.Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F5)
+                && (gameState == GameState.PLAYING || gameState == GameState.PAUSE)) {
+            if (simThread != null) {
+                simThread.post(this::quickSave);
+            } else {
+                quickSave(match);
+            }
+        }
+        if (com.badlogic.gdx.Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F9)) {
+            loadQuickSave();
+        }
+
+        if (replayFailed && replayRecorder != null) {
+            closeReplay();
+        }
+        if (simThread != null && simThread.isFailed()) {
+            simulationFailed();
+        }
+
+        // Don't update game if Game Over, Base Destroyed, or Paused; offline
+        // matches also wait while the window is in the background (network
+        // matches keep going so the other side is not stalled)
+        boolean background = !framePacer.shouldSimulate() && lockstep == null && stateStream == null;
+        boolean halted = gameState == GameState.GAME_OVER || gameState == GameState.PAUSE ||
+                gameState == GameState.BASE_DESTROYED || gameState == GameState.ZOMBIE_BASE_DESTROYED
+                || background;
+        if (simThread != null) {
+            simThread.setPaused(halted);
+        }
+        if (halted) {
+            // The versus opponent waits for our ticks, so keep sending idle ones
+            if (lockstep != null) {
+                stepLockstep(delta, 0, InputFrame.NO_PURCHASE);
+            }
             return;
         }
 
@@ -528,20 +1189,65 @@ public class GameScreen implements Screen {
             showRanges = !showRanges;
         }
 
-        hero.update(delta, map.getMapWidthInPixels(), map.getMapHeightInPixels(), enemyBase.getUnits());
-
-        // Remove dead enemies and give gold to hero
-        removeDeadEnemiesAndGiveGold();
+        // Dedicated server: send the input, display the interpolated server state
+        if (stateStream != null) {
+            liveInput.next(inputFrame, delta);
+            try {
+                stateStream.sendInput(inputFrame.getButtons(), inputFrame.getPurchase());
+            } catch (IOException e) {
+                GameLog.warn("GameScreen", "Could not send input: {}", e.getMessage());
+            }
+            if (stateStream.isDisconnected()) {
+                GameLog.warn("GameScreen", "Match server connection lost, starting a local match");
+                reset();
+                return;
+            }
+            if (stateStream.sample(delta, remoteState)) {
+                remoteView.apply(remoteState, delta);
+            }
+            camera.position.set(hero.getPosX(), hero.getPosY(), 0);
+            return;
+        }
 
-        // Spawn des ennemis
-        enemyBase.spawnUnit(this, delta);
+        // Simulation thread: send the input, display the newest published state
+        if (simThread != null) {
+            liveInput.next(inputFrame, delta);
+            simThread.submit(inputFrame.getButtons(), inputFrame.getPurchase());
+            WorldState state = simThread.latest();
+            if (state != null) {
+                remoteView.apply(state, delta);
+                playSimulatedSounds(state);
+            }
+            camera.position.set(hero.getPosX(), hero.getPosY(), 0);
+            return;
+        }
 
-        // Spawn des alliés
-        playerBase.spawnUnit(this, delta);
+        // Versus mode: fixed ticks exchanged through the relay
+        if (lockstep != null) {
+            liveInput.next(inputFrame, delta);
+            stepLockstep(delta, inputFrame.getButtons(), inputFrame.getPurchase());
+            camera.position.set(hero.getPosX(), hero.getPosY(), 0);
+            return;
+        }
 
-        // Update : les ennemis attaquent les alliés (et leur base) et vice-versa
-        enemyBase.updateUnits(delta, playerBase.getUnits(), playerBase, this.hero);
-        playerBase.updateUnits(delta, enemyBase.getUnits(), enemyBase, null);
+        // Collect this tick's input (live, replayed or bot), record it, then simulate
+        if (!inputSource.next(inputFrame, delta)) {
+            GameLog.info("GameScreen", "Replay finished after {} ticks, switching to live input",
+                    replayReader.getTicks());
+            closeReplay();
+            inputSource = liveInput;
+            liveInput.next(inputFrame, delta);
+        }
+        if (replayRecorder != null) {
+            try {
+                replayRecorder.write(inputFrame);
+            } catch (IOException e) {
+                GameLog.warn("GameScreen", "Replay recording stopped: {}", e.getMessage());
+                closeReplay();
+            }
+        }
+        match.tick(inputFrame);
+        autoSaver.update(delta, match);
 
         // Check for game over conditions
         if (playerBase.isDestroyed()) {
@@ -557,17 +1263,22 @@ public class GameScreen implements Screen {
     }
 
     /**
-     * Removes dead enemies from the enemy base and rewards gold to the hero for
-     * each kill.
+     * Advances the versus match with this player's input; ends it when the
+     * relay connection is lost.
+     *
+     * @param delta    Frame delta (seconds)
+     * @param buttons  Button bitmask
+     * @param purchase Encoded purchase, or {@link InputFrame#NO_PURCHASE}
      */
-    private void removeDeadEnemiesAndGiveGold() {
-        for (Unit enemy : enemyBase.getUnits()) {
-            if (enemy.isDead()) {
-                // Give gold to hero when enemy dies
-                int goldReward = 15;
-                hero.addGold(goldReward);
-                // System.out.println("Enemy killed! +40 gold. Total: " + hero.getGold());
-            }
+    private void stepLockstep(float delta, int buttons, byte purchase) {
+        if (lockstep.getRole() == LockstepProtocol.ROLE_COMMANDER) {
+            purchase = LockstepSession.toCommanderPurchase(purchase);
+        }
+        try {
+            lockstep.update(delta, buttons, purchase);
+        } catch (IOException e) {
+            GameLog.warn("GameScreen", "Versus match ended: {}", e.getMessage());
+            closeLockstep();
         }
     }
 
@@ -580,9 +1291,13 @@ public class GameScreen implements Screen {
     @Override
     public void resize(int width, int height) {
         viewport.update(width, height, true);
+        freezeFrame.invalidate();
         if (hudDisplay != null) {
             hudDisplay.resize(width, height);
         }
+        if (minimap != null) {
+            minimap.resize(width, height);
+        }
         if (gameOverOverlay != null) {
             gameOverOverlay.resize(width, height);
         }
@@ -592,6 +1307,9 @@ public class GameScreen implements Screen {
         if (baseZombieDestroyedOverlay != null) {
             baseZombieDestroyedOverlay.resize(width, height);
         }
+        if (profilerOverlay != null) {
+            profilerOverlay.resize(width, height);
+        }
         if (pauseOverlay != null) {
             pauseOverlay.resize(width, height);
             if (unitShop != null) {
@@ -627,10 +1345,11 @@ public class GameScreen implements Screen {
     }
 
     /**
-     * Called when the screen is hidden. (No implementation needed.)
+     * Called when the screen is hidden; drops the preloaded frames.
      */
     @Override
     public void hide() {
+        closePreloader();
     }
 
     /**
@@ -642,12 +1361,14 @@ public class GameScreen implements Screen {
         batch.dispose();
         if (image != null)
             image.dispose();
-        if (hero != null)
-            hero.dispose();
+        if (match != null)
+            match.dispose();
         if (map != null)
             map.dispose();
         if (hudDisplay != null)
             hudDisplay.dispose();
+        if (minimap != null)
+            minimap.dispose();
         if (gameOverOverlay != null)
             gameOverOverlay.dispose();
         if (baseDestroyedOverlay != null)
@@ -662,6 +1383,22 @@ public class GameScreen implements Screen {
             target.dispose();
         if (pauseFont != null)
             pauseFont.dispose();
+        if (profilerOverlay != null)
+            profilerOverlay.dispose();
+        if (combatFx != null)
+            combatFx.dispose();
+        if (whitePixel != null)
+            whitePixel.dispose();
+        freezeFrame.dispose();
+        closePreloader();
+        if (metrics != null)
+            metrics.close();
+        closeSimulation();
+        closeReplay();
+        closeLockstep();
+        closeStateStream();
+        if (autoSaver != null)
+            autoSaver.dispose();
 
         // Dispose audio resources
         if (backgroundMusic != null)
@@ -751,6 +1488,15 @@ public class GameScreen implements Screen {
         return playerBase;
     }
 
+    /**
+     * Returns the simulation state of the current match.
+     *
+     * @return Match instance
+     */
+    public Match getMatch() {
+        return match;
+    }
+
     /**
      * Returns the width of the map in pixels.
      *
@@ -770,12 +1516,12 @@ public class GameScreen implements Screen {
     }
 
     /**
-     * Updates the background music volume based on AudioSettings.
+     * Updates the background music volume from the game's audio settings.
      * Called when volume is changed in the options menu.
      */
     public void updateMusicVolume() {
         if (backgroundMusic != null) {
-            backgroundMusic.setVolume(AudioSettings.getMusicVolume());
+            backgroundMusic.setVolume(matchContext.getAudioSettings().getMusicVolume());
         }
     }
 
@@ -1,8 +1,16 @@
 package com.main;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.main.screens.OptionsScreen;
 import com.main.screens.TitleScreen;
+import com.main.utils.FramePacer;
+import com.main.utils.GameLog;
+import com.main.utils.TextureLoader;
+import com.main.utils.jfr.ScreenTransitionEvent;
+import com.main.utils.pack.PackedFiles;
+import com.utils.AudioSettings;
 
 /**
  * Main entry point for the game application.
@@ -30,6 +38,14 @@ public class Main extends Game {
      * The options screen for audio settings.
      */
     private OptionsScreen optionsScreen;
+    /**
+     * Audio settings shared by the screens of this game.
+     */
+    private AudioSettings audioSettings;
+    /**
+     * Frame rate governor, fed by the launcher's window events.
+     */
+    private final FramePacer framePacer = FramePacer.fromSystemProperty();
 
     /**
      * Initializes the game, creating and setting the title and game screens.
@@ -37,9 +53,58 @@ public class Main extends Game {
      */
     @Override
     public void create() {
+        long start = System.nanoTime();
+        // Read the assets from the packed archive when -Dzgame.pack is set
+        PackedFiles packedFiles = PackedFiles.fromSystemProperty(Gdx.files);
+        if (packedFiles != null) {
+            Gdx.files = packedFiles;
+        }
+        audioSettings = AudioSettings.load();
         gameScreen = new GameScreen(this);
         titleScreen = new TitleScreen(this);
         setScreen(titleScreen);
+
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+        if (packedFiles != null) {
+            GameLog.info("Main", "Started in {} ms, {} assets read from the pack, {} from disk", millis,
+                    packedFiles.getServed(), packedFiles.getFallbacks());
+        } else {
+            GameLog.info("Main", "Started in {} ms", millis);
+        }
+    }
+
+    /**
+     * Renders the current screen and reports the time it took to the
+     * {@link FramePacer}.
+     */
+    @Override
+    public void render() {
+        long start = System.nanoTime();
+        super.render();
+        framePacer.frame((System.nanoTime() - start) / 1_000_000_000f);
+    }
+
+    /**
+     * Switches screens and reports the transition (hide, show and resize) as a
+     * {@link ScreenTransitionEvent} for Flight Recorder.
+     *
+     * @param screen The new screen
+     */
+    @Override
+    public void setScreen(Screen screen) {
+        ScreenTransitionEvent event = new ScreenTransitionEvent();
+        Screen previous = getScreen();
+        event.begin();
+        super.setScreen(screen);
+        event.end();
+        if (GameLog.isEnabled(GameLog.Level.DEBUG)) {
+            GameLog.debug("Main", "Resident textures: {}", TextureLoader.describeResidency());
+        }
+        if (event.shouldCommit()) {
+            event.from = previous != null ? previous.getClass().getSimpleName() : null;
+            event.to = screen != null ? screen.getClass().getSimpleName() : null;
+            event.commit();
+        }
     }
 
     /**
@@ -53,6 +118,11 @@ public class Main extends Game {
      * Shows the main game screen, resetting the game state before display.
      */
     public void showGameScreen() {
+        // Release the options screen and its menu background while in-game
+        if (optionsScreen != null) {
+            optionsScreen.dispose();
+            optionsScreen = null;
+        }
         gameScreen.reset();
         setScreen(gameScreen);
     }
@@ -62,6 +132,9 @@ public class Main extends Game {
      * @param fromPause True if accessed from pause menu, false if from title screen
      */
     public void showOptionsScreen(boolean fromPause) {
+        if (optionsScreen != null) {
+            optionsScreen.dispose();
+        }
         optionsScreen = new OptionsScreen(this, fromPause);
         setScreen(optionsScreen);
     }
@@ -82,6 +155,24 @@ public class Main extends Game {
         // Game will remain paused, showing pause overlay
     }
 
+    /**
+     * Returns the audio settings loaded at startup.
+     *
+     * @return Audio settings of this game
+     */
+    public AudioSettings getAudioSettings() {
+        return audioSettings;
+    }
+
+    /**
+     * Returns the frame rate governor of this game.
+     *
+     * @return Frame pacer
+     */
+    public FramePacer getFramePacer() {
+        return framePacer;
+    }
+
     /**
      * Updates the music volume in the game screen when changed in options.
      */
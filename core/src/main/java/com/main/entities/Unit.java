@@ -1,14 +1,21 @@
 package com.main.entities;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.main.entities.player.Hero;
+import com.main.fx.CombatEvents;
 import com.main.map.Base;
+import com.main.render.RenderQueue;
+import com.main.utils.TextureLoader;
 
 /**
  * Abstract base class for all units in the game (player, enemy, etc).
@@ -59,6 +66,8 @@ public abstract class Unit {
     protected Sprite sprite;
     /** Current health of the unit. */
     protected int health;
+    /** Health the unit spawns with, set by each unit type with its stats. */
+    protected int maxHealth;
     /** Attack damage value. */
     protected float attackDamage;
     /**
@@ -81,6 +90,15 @@ public abstract class Unit {
     protected float attackCooldown = 0f;
     protected Texture texture;
     protected float width, height;
+    /**
+     * Largest size the sprite is drawn at by {@link #render(SpriteBatch)}, at
+     * least the hitbox; used to cull units outside the camera view.
+     */
+    protected float visualWidth, visualHeight;
+    /**
+     * Whole texture as a region, created on first use by {@link #getCurrentFrame()}.
+     */
+    private TextureRegion textureRegion;
 
     /**
      * Index of the unit within its lane (used for collision and movement).
@@ -121,14 +139,9 @@ public abstract class Unit {
         this.posX = posX;
         this.posY = posY;
 
-        // Handle null texture for testing purposes
-        if (filePath != null) {
-            this.texture = new Texture(filePath);
-            this.sprite = new Sprite(texture);
-        } else {
-            this.texture = null;
-            this.sprite = null;
-        }
+        // Handle null texture for testing purposes (headless servers get null too)
+        this.texture = filePath != null ? TextureLoader.load(filePath) : null;
+        this.sprite = this.texture != null ? new Sprite(texture) : null;
 
         if (this.sprite != null) {
             this.sprite.setPosition(posX, posY);
@@ -136,6 +149,31 @@ public abstract class Unit {
         }
         this.width = 32; // Hitbox width
         this.height = 48; // Hitbox height
+        this.visualWidth = this.texture != null ? Math.max(width, texture.getWidth()) : width;
+        this.visualHeight = this.texture != null ? Math.max(height, texture.getHeight()) : height;
+    }
+
+    /**
+     * Returns whether units of a base load no texture (headless match or
+     * dedicated server).
+     *
+     * @param base Base of the unit, may be null
+     * @return True for units without textures
+     */
+    protected static boolean isHeadless(Base base) {
+        return base != null ? base.isHeadless() : TextureLoader.isHeadless();
+    }
+
+    /**
+     * Returns the sprite to pass to {@link #Unit(String, float, float)}: none
+     * when the unit's base loads no texture.
+     *
+     * @param base     Base of the unit, may be null
+     * @param filePath Sprite of the unit
+     * @return The sprite path, or null
+     */
+    protected static String texturePath(Base base, String filePath) {
+        return isHeadless(base) ? null : filePath;
     }
 
     public float getPosX() {
@@ -178,6 +216,15 @@ public abstract class Unit {
         return this.health;
     }
 
+    /**
+     * Returns the health the unit spawned with.
+     *
+     * @return Maximum health, 0 if the unit type does not set one
+     */
+    public int getMaxHealth() {
+        return this.maxHealth;
+    }
+
     public int getAttackDamage() {
         return (int)attackDamage;
     }
@@ -216,12 +263,16 @@ public abstract class Unit {
     }
 
     public void setSpritePosX(float posX) {
-        this.sprite.setX(posX);
+        if (this.sprite != null) {
+            this.sprite.setX(posX);
+        }
         this.posX = posX;
     }
 
     public void setSpritePosY(float posY) {
-        this.sprite.setY(posY);
+        if (this.sprite != null) {
+            this.sprite.setY(posY);
+        }
         this.posY = posY;
     }
 
@@ -237,6 +288,31 @@ public abstract class Unit {
         return this.allyBase;
     }
 
+    /**
+     * Returns the screen area the sprite covers when rendered: the largest
+     * frame drawn at the unit's position. Subclasses drawing with an offset or
+     * a fixed size override it to match their {@link #render(SpriteBatch)}.
+     *
+     * @param out Rectangle receiving the bounds
+     * @return {@code out}
+     */
+    public Rectangle getVisualBounds(Rectangle out) {
+        return out.set(posX, posY, visualWidth, visualHeight);
+    }
+
+    /**
+     * Grows the visual size to fit animation frames drawn at their natural
+     * size.
+     *
+     * @param frames Frames the unit may render
+     */
+    protected void fitVisualSize(TextureRegion[] frames) {
+        for (TextureRegion frame : frames) {
+            visualWidth = Math.max(visualWidth, frame.getRegionWidth());
+            visualHeight = Math.max(visualHeight, frame.getRegionHeight());
+        }
+    }
+
     @lombok.Generated
     /**
      * Renders the unit's sprite using the provided SpriteBatch.
@@ -247,11 +323,39 @@ public abstract class Unit {
         batch.draw(this.texture, posX, posY);
     }
 
+    /**
+     * Returns the frame the unit currently shows, drawn at its natural size
+     * unless {@link #submit(RenderQueue)} is overridden.
+     *
+     * @return Current frame, or null without a texture
+     */
+    protected TextureRegion getCurrentFrame() {
+        if (textureRegion == null && texture != null) {
+            textureRegion = new TextureRegion(texture);
+        }
+        return textureRegion;
+    }
+
+    /**
+     * Queues the unit's current frame for the world pass, sorted by depth
+     * with the other sprites instead of drawn immediately.
+     *
+     * @param queue Queue of the world pass
+     */
+    public void submit(RenderQueue queue) {
+        TextureRegion frame = getCurrentFrame();
+        if (frame != null) {
+            queue.add(RenderQueue.LAYER_UNITS, frame, posX, posY, frame.getRegionWidth(), frame.getRegionHeight());
+        }
+    }
+
     /**
      * Releases resources used by the unit (such as texture).
      */
     public void dispose() {
-        texture.dispose();
+        if (texture != null) {
+            texture.dispose();
+        }
     }
 
     /**
@@ -357,14 +461,26 @@ public abstract class Unit {
 
     /**
      * Inflicts damage to this unit and triggers death logic if health reaches zero.
+     * The hit, and the death if it killed the unit, are reported to the ally
+     * base's {@link CombatEvents}.
      *
      * @param damage Amount of damage to apply.
      */
     public void takeDamage(int damage) {
+        int oldHealth = this.health;
         this.health -= damage;
         if (this.health <= 0) {
             this.health = 0;
         }
+        CombatEvents events = allyBase != null ? allyBase.getCombatEvents() : null;
+        if (events != null && this.health < oldHealth) {
+            int kind = allyBase.isPlayerBase() ? CombatEvents.SOLDIER : CombatEvents.ZOMBIE;
+            float centerX = posX + width / 2f;
+            events.damaged(centerX, posY + height, oldHealth - this.health, kind);
+            if (this.health == 0) {
+                events.died(centerX, posY + height / 2f, kind);
+            }
+        }
     }
 
     /**
@@ -646,6 +762,80 @@ public abstract class Unit {
         this.stateTime += delta;
     }
 
+    /**
+     * Writes the unit's simulation state (position, stats, timers, state and lane
+     * slot) for a save snapshot. Target links are written by the caller, which
+     * knows the other units' indices.
+     *
+     * @param out Destination
+     * @throws IOException If writing fails
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeFloat(posX);
+        out.writeFloat(posY);
+        out.writeInt(health);
+        out.writeFloat(attackDamage);
+        out.writeFloat(attackSpeed);
+        out.writeFloat(speed);
+        out.writeInt(range);
+        out.writeFloat(attackCooldown);
+        out.writeByte(currentState.ordinal());
+        out.writeFloat(attackAnimationTimer);
+        out.writeFloat(stateTime);
+        out.writeByte(lane);
+        out.writeShort(index);
+    }
+
+    /**
+     * Restores the state written by {@link #writeState(DataOutput)}.
+     *
+     * @param in Source
+     * @throws IOException If reading fails
+     */
+    public void readState(DataInput in) throws IOException {
+        posX = in.readFloat();
+        posY = in.readFloat();
+        if (sprite != null) {
+            sprite.setPosition(posX, posY);
+        }
+        health = in.readInt();
+        attackDamage = in.readFloat();
+        attackSpeed = in.readFloat();
+        speed = in.readFloat();
+        range = in.readInt();
+        attackCooldown = in.readFloat();
+        currentState = UnitState.values()[in.readByte()];
+        attackAnimationTimer = in.readFloat();
+        stateTime = in.readFloat();
+        lane = in.readByte();
+        index = in.readShort();
+    }
+
+    /**
+     * Sets the displayed state of a unit mirrored from a server stream. The
+     * animation clock restarts when the state changes.
+     *
+     * @param x      X position
+     * @param y      Y position
+     * @param health Current health
+     * @param state  Current state
+     * @param delta  Time since the previous update (seconds)
+     */
+    public void applyRemoteState(float x, float y, int health, UnitState state, float delta) {
+        posX = x;
+        posY = y;
+        if (sprite != null) {
+            sprite.setPosition(x, y);
+        }
+        this.health = health;
+        if (state != currentState) {
+            currentState = state;
+            stateTime = 0f;
+        } else {
+            stateTime += delta;
+        }
+    }
+
     /**
      * Returns the current state of the unit (for animation and logic).
      *
@@ -12,6 +12,11 @@ import com.main.map.Base;
  */
 public class CZombie extends Zombie {
 
+    /**
+     * The gold cost required to deploy a CZombie unit (versus mode).
+     */
+    public static final int COST = 30;
+
     /**
      * Constructs a new CZombie instance with specific stats and animations for the "crawl" zombie type.
      * @param posX Initial X position
@@ -21,6 +26,7 @@ public class CZombie extends Zombie {
     public CZombie(int posX, int posY, Base allyBase) {
         super("zombie/crawl/Walk1.png", posX, posY, allyBase);
         this.health = (int) (0.7f * Unit.HP_BASE); // Sets health to 70% of base unit
+        this.maxHealth = this.health;
         this.speed = 60; // Movement speed for this zombie type
         this.attackDamage = 1.3f * Unit.DAMAGE_BASE; // Attack damage for this zombie type
         this.attackSpeed = 0.5f * Unit.ATTACK_SPEED_BASE; // Attack speed for this zombie type
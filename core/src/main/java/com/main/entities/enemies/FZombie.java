@@ -12,6 +12,11 @@ import com.main.map.Base;
  */
 public class FZombie extends Zombie {
 
+    /**
+     * The gold cost required to deploy a FZombie unit (versus mode).
+     */
+    public static final int COST = 40;
+
     /**
      * Constructs a new FZombie instance with specific stats and animations for the
      * "normal" zombie type.
@@ -31,6 +36,7 @@ public class FZombie extends Zombie {
          */
         super("zombie/normal/Walk1.png", posX, posY, allyBase);
         this.health = (int) (2.0f * Unit.HP_BASE); // Sets health to 200% of base unit
+        this.maxHealth = this.health;
         this.speed = 30; // Movement speed for this zombie type
         this.attackDamage = 0.6f * Unit.DAMAGE_BASE; // Attack damage for this zombie type
         this.attackSpeed = 0.8f * Unit.ATTACK_SPEED_BASE; // Attack speed for this zombie type
@@ -15,6 +15,11 @@ import com.main.map.Base;
  */
 public class WZombie extends Zombie {
 
+    /**
+     * The gold cost required to deploy a WZombie unit (versus mode).
+     */
+    public static final int COST = 20;
+
     /**
      * Constructs a new WZombie instance with specific stats and animations for the
      * "women" zombie type.
@@ -26,6 +31,7 @@ public class WZombie extends Zombie {
     public WZombie(int posX, int posY, Base allyBase) {
         super("zombie/women/Walk1.png", posX, posY, allyBase);
         this.health = (int) (0.6f * Unit.HP_BASE);
+        this.maxHealth = this.health;
         this.speed = 60;
         this.attackDamage = 0.9f * Unit.DAMAGE_BASE;
         this.attackSpeed = 1.2f * Unit.ATTACK_SPEED_BASE;
@@ -3,13 +3,13 @@ package com.main.entities.enemies;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.main.entities.Unit;
 import com.main.map.Base;
+import com.main.utils.TextureLoader;
 
 /**
  * Represents a basic zombie enemy unit in the game.
@@ -76,7 +76,7 @@ public class Zombie extends Unit {
      * @param allyBase Reference to the allied base associated with this unit
      */
     public Zombie(String filePath, float posX, float posY, Base allyBase) {
-        super(filePath, posX, posY);
+        super(texturePath(allyBase, filePath), posX, posY);
         this.allyBase = allyBase;
     }
 
@@ -144,14 +144,22 @@ public class Zombie extends Unit {
 
     /**
      * Renders the zombie on the screen using the current animation frame and state.
-     * <p>
-     * Selects the appropriate animation or static frame based on the zombie's state
-     * (attacking, idle, walking).
      *
      * @param batch SpriteBatch used for drawing the zombie
      */
     @Override
     public void render(SpriteBatch batch) {
+        batch.draw(getCurrentFrame(), posX, posY);
+    }
+
+    /**
+     * Selects the appropriate animation or static frame based on the zombie's state
+     * (attacking, idle, walking).
+     *
+     * @return Frame to draw this frame
+     */
+    @Override
+    protected TextureRegion getCurrentFrame() {
         TextureRegion currentFrame;
         if (currentState == UnitState.WALKING && walkLeft != null) {
             currentFrame = walkLeft.getKeyFrame(stateTime, true);
@@ -173,8 +181,7 @@ public class Zombie extends Unit {
                 currentFrame = idleFrame;
             }
         }
-
-        batch.draw(currentFrame, posX, posY);
+        return currentFrame;
     }
 
     /**
@@ -202,12 +209,8 @@ public class Zombie extends Unit {
      * @return Array of loaded TextureRegion frames
      */
     protected TextureRegion[] loadFrames(String pattern, int count) {
-        TextureRegion[] frames = new TextureRegion[count];
-        for (int i = 0; i < count; i++) {
-            Texture tex = new Texture(Gdx.files.internal(String.format(pattern, i + 1)));
-            loadedTextures.add(tex);
-            frames[i] = new TextureRegion(tex);
-        }
+        TextureRegion[] frames = TextureLoader.loadFrames(pattern, count, loadedTextures, isHeadless(allyBase));
+        fitVisualSize(frames);
         return frames;
     }
 
@@ -1,10 +1,11 @@
 package com.main.entities.player;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
@@ -12,10 +13,17 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.main.entities.Unit;
 import com.main.entities.units.Sniper;
+import com.main.fx.CombatEvents;
 import com.main.map.Base;
 import com.main.map.WarMap;
+import com.main.render.RenderQueue;
+import com.main.sim.GdxInputSource;
+import com.main.sim.InputFrame;
+import com.main.utils.GameLog;
+import com.main.utils.TextureLoader;
 import com.main.weapons.SniperRifle;
 import com.main.weapons.AssaultRifle;
 import com.main.weapons.Pistol;
@@ -32,6 +40,17 @@ import com.ui.Inventory;
  */
 public class Hero extends Unit {
 
+    /**
+     * Largest width and height any hero frame is drawn at.
+     */
+    private static final float MAX_VISUAL_SIZE = 50;
+
+    /**
+     * Size the frame returned by {@link #getCurrentFrame()} is drawn at.
+     */
+    private float frameWidth;
+    private float frameHeight;
+
     /**
      * Represents the possible directions the hero can face or attack.
      */
@@ -103,6 +122,11 @@ public class Hero extends Unit {
      */
     protected int gold = 0;
 
+    /**
+     * Total gold earned since creation (spending does not decrease it).
+     */
+    protected int goldEarned = 0;
+
     /**
      * Maximum health value for the hero.
      */
@@ -229,6 +253,21 @@ public class Hero extends Unit {
      * Sound effect played when the hero shoots.
      */
     private Sound shootSound;
+    /**
+     * Settings of the match this hero plays in; null for a silent match.
+     */
+    private AudioSettings audioSettings;
+    /**
+     * Shots fired and reloads started since the hero was created, published
+     * by the simulation thread so the render thread plays their sounds.
+     */
+    private int shots;
+    private int reloads;
+
+    /**
+     * Reused snapshot for the keyboard-driven {@link #update(float, float, float, List)}.
+     */
+    private final InputFrame keyboardInput = new InputFrame();
 
     /**
      * Constructs a new Hero instance with initial position, map, and allied base.
@@ -239,7 +278,7 @@ public class Hero extends Unit {
      * @param allyBase Reference to the allied base
      */
     public Hero(float posX, float posY, WarMap map, Base allyBase) {
-        super("sold/Idle.png", posX, posY);
+        super(texturePath(allyBase, "sold/Idle.png"), posX, posY);
         this.allyBase = allyBase;
 
         TextureRegion[] rightFrames = loadFrames("sold/RIght%d.png", 8);
@@ -334,6 +373,16 @@ public class Hero extends Unit {
         this.gold = 50; // Start with 50 gold
     }
 
+    /**
+     * Logs the stats of the weapon that was just bought.
+     *
+     * @param name Display name of the weapon
+     */
+    private void logWeaponChange(String name) {
+        GameLog.info("Hero", "Changed weapon to {}: {} damage, {} attacks/sec, {} range", name,
+                this.weapon.getDamage(), this.weapon.getAttackSpeed(), this.weapon.getRange());
+    }
+
     /**
      * Loads an array of frames for an animation from file names matching a pattern.
      *
@@ -342,13 +391,7 @@ public class Hero extends Unit {
      * @return Array of loaded TextureRegion frames
      */
     private TextureRegion[] loadFrames(String pattern, int count) {
-        TextureRegion[] frames = new TextureRegion[count];
-        for (int i = 0; i < count; i++) {
-            Texture tex = new Texture(Gdx.files.internal(String.format(pattern, i + 1)));
-            loadedTextures.add(tex);
-            frames[i] = new TextureRegion(tex);
-        }
-        return frames;
+        return TextureLoader.loadFrames(pattern, count, loadedTextures, isHeadless(allyBase));
     }
 
     /**
@@ -358,8 +401,11 @@ public class Hero extends Unit {
      * @return Loaded TextureRegion, or null if not found
      */
     private TextureRegion loadSingle(String path) {
+        if (isHeadless(allyBase)) {
+            return new TextureRegion();
+        }
         try {
-            Texture tex = new Texture(Gdx.files.internal(path));
+            Texture tex = TextureLoader.load(path);
             loadedTextures.add(tex);
             return new TextureRegion(tex);
         } catch (Exception e) {
@@ -376,6 +422,21 @@ public class Hero extends Unit {
      * @param mapHeight Hauteur de la map en pixels
      */
     public void update(float delta, float mapWidth, float mapHeight, List<Unit> units) {
+        keyboardInput.set(delta, GdxInputSource.readButtons(), InputFrame.NO_PURCHASE);
+        update(delta, mapWidth, mapHeight, units, keyboardInput);
+    }
+
+    /**
+     * Updates the hero from an input snapshot instead of reading the keyboard,
+     * so the same tick can be driven by live input, a replay or a bot.
+     *
+     * @param delta     Time elapsed since the last tick (seconds)
+     * @param mapWidth  Map width in pixels
+     * @param mapHeight Map height in pixels
+     * @param units     Enemy units the hero can target
+     * @param input     Buttons held or pressed this tick
+     */
+    public void update(float delta, float mapWidth, float mapHeight, List<Unit> units, InputFrame input) {
 
         // --- RETARGET SYSTEM (toutes les 100 ms) ---
         retargetTimer += delta;
@@ -399,7 +460,7 @@ public class Hero extends Unit {
         }
 
         // --- ATTAQUE ---
-        if (Gdx.input.isKeyPressed(Input.Keys.SPACE)) {
+        if (input.isDown(InputFrame.ATTACK)) {
             if (target != null && !target.isDead()) {
                 this.attack();
             }
@@ -408,81 +469,76 @@ public class Hero extends Unit {
 
         // Changing weapon
         // Pistol
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) {
+        if (input.isDown(InputFrame.WEAPON_1)) {
             if (this.gold >= 50 && !(this.weapon instanceof Pistol)) {
                 this.weapon = new Pistol();
                 this.removeGold(50);
-                System.out.println("Changed weapon to Pistol : " + this.weapon.getDamage() + " damage, "
-                        + this.weapon.getAttackSpeed() + " attacks/sec, " + this.weapon.getRange() + " range, "
-                        + this.weapon.getMaxMunitions() + " munitions.");
+                logWeaponChange("Pistol");
             } else if (this.weapon instanceof Pistol) {
-                System.out.println("You already have a Pistol.");
+                GameLog.info("Hero", "You already have a {}.", "Pistol");
             } else {
-                System.out.println("Not enough gold : 50 gold required to buy a Pistol -> You only have " + this.gold);
+                GameLog.info("Hero", "Not enough gold: {} gold required to buy a {} -> you only have {}",
+                        50, "Pistol", this.gold);
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
+        if (input.isDown(InputFrame.WEAPON_2)) {
             if (this.gold >= 70 && !(this.weapon instanceof Shotgun)) {
                 this.weapon = new Shotgun();
                 this.removeGold(70);
-                System.out.println("Changed weapon to Shotgun : " + this.weapon.getDamage() + " damage, "
-                        + this.weapon.getAttackSpeed() + " attacks/sec, " + this.weapon.getRange() + " range, "
-                        + this.weapon.getMaxMunitions() + " munitions.");
+                logWeaponChange("Shotgun");
             } else if (this.weapon instanceof Shotgun) {
-                System.out.println("You already have a Shotgun.");
+                GameLog.info("Hero", "You already have a {}.", "Shotgun");
             } else {
-                System.out.println("Not enough gold : 70 gold required to buy a Shotgun -> You only have " + this.gold);
+                GameLog.info("Hero", "Not enough gold: {} gold required to buy a {} -> you only have {}",
+                        70, "Shotgun", this.gold);
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
+        if (input.isDown(InputFrame.WEAPON_3)) {
             if (this.gold >= 100 && !(this.weapon instanceof SMG)) {
                 this.weapon = new SMG();
                 this.removeGold(100);
-                System.out.println("Changed weapon to SMG : " + this.weapon.getDamage() + " damage, "
-                        + this.weapon.getAttackSpeed() + " attacks/sec, " + this.weapon.getRange() + " range, "
-                        + this.weapon.getMaxMunitions() + " munitions.");
+                logWeaponChange("SMG");
             } else if (this.weapon instanceof SMG) {
-                System.out.println("You already have a SMG.");
+                GameLog.info("Hero", "You already have a {}.", "SMG");
             } else {
-                System.out.println("Not enough gold : 100 gold required to buy a SMG -> You only have " + this.gold);
+                GameLog.info("Hero", "Not enough gold: {} gold required to buy a {} -> you only have {}",
+                        100, "SMG", this.gold);
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_4)) {
+        if (input.isDown(InputFrame.WEAPON_4)) {
             if (this.gold >= 150 && !(this.weapon instanceof AssaultRifle)) {
                 this.weapon = new AssaultRifle();
                 this.removeGold(150);
-                System.out.println("Changed weapon to Assault Rifle : " + this.weapon.getDamage() + " damage, "
-                        + this.weapon.getAttackSpeed() + " attacks/sec, " + this.weapon.getRange() + " range, "
-                        + this.weapon.getMaxMunitions() + " munitions.");
+                logWeaponChange("Assault Rifle");
             } else if (this.weapon instanceof AssaultRifle) {
-                System.out.println("You already have a Assault Rifle.");
+                GameLog.info("Hero", "You already have a {}.", "Assault Rifle");
             } else {
-                System.out.println(
-                        "Not enough gold : 150 gold required to buy an Assault Rifle -> You only have " + this.gold);
+                GameLog.info("Hero", "Not enough gold: {} gold required to buy a {} -> you only have {}",
+                        150, "Assault Rifle", this.gold);
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_5)) {
+        if (input.isDown(InputFrame.WEAPON_5)) {
             if (this.gold >= 200 && !(this.weapon instanceof SniperRifle)) {
                 this.weapon = new SniperRifle();
                 this.removeGold(200);
-                System.out.println("Changed weapon to Sniper Rifle : " + this.weapon.getDamage() + " damage, "
-                        + this.weapon.getAttackSpeed() + " attacks/sec, " + this.weapon.getRange() + " range, "
-                        + this.weapon.getMaxMunitions() + " munitions.");
+                logWeaponChange("Sniper Rifle");
             } else if (this.weapon instanceof SniperRifle) {
-                System.out.println("You already have a Sniper Rifle.");
+                GameLog.info("Hero", "You already have a {}.", "Sniper Rifle");
             } else {
-                System.out.println(
-                        "Not enough gold : 200 gold required to buy a Sniper Rifle -> You only have " + this.gold);
+                GameLog.info("Hero", "Not enough gold: {} gold required to buy a {} -> you only have {}",
+                        200, "Sniper Rifle", this.gold);
             }
         }
 
         // -- Reload Weapon --
-        if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
+        if (input.isDown(InputFrame.RELOAD)) {
             this.weapon.reload();
+            this.reloads++;
+            this.weapon.playReloadSound(audioSettings);
             this.attackCooldown = this.weapon.getReloadTimer();
         }
 
@@ -492,10 +548,10 @@ public class Hero extends Unit {
         // Support diagonal movement by reading keys independently
         float base = speed * delta * 60f;
         float dx = 0f, dy = 0f;
-        boolean pressRight = Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT);
-        boolean pressLeft = Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT);
-        boolean pressUp = Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP);
-        boolean pressDown = Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN);
+        boolean pressRight = input.isDown(InputFrame.MOVE_RIGHT);
+        boolean pressLeft = input.isDown(InputFrame.MOVE_LEFT);
+        boolean pressUp = input.isDown(InputFrame.MOVE_UP);
+        boolean pressDown = input.isDown(InputFrame.MOVE_DOWN);
 
         if (pressRight && !pressLeft)
             dx += base;
@@ -801,13 +857,16 @@ public class Hero extends Unit {
 
                 target.takeDamage(totalDamage);
                 attackCooldown = weapon.getAttackSpeed();
+                shots++;
 
                 // Jouer le son de tir si les sons sont activés
-                if (shootSound != null && AudioSettings.isSoundEnabled()) {
+                if (shootSound != null && audioSettings != null && audioSettings.isSoundEnabled()) {
                     shootSound.play(0.7f); // Volume à 70%
                 }
             } else {
                 weapon.reload();
+                reloads++;
+                weapon.playReloadSound(audioSettings);
                 attackCooldown = weapon.getReloadTimer();
             }
         }
@@ -822,6 +881,38 @@ public class Hero extends Unit {
      * @param batch SpriteBatch used for drawing the hero
      */
     public void render(SpriteBatch batch) {
+        TextureRegion currentFrame = getCurrentFrame();
+
+        // Dessiner le sprite plus grand visuellement (90x90) mais hitbox reste 32x48
+
+        // Centrer horizontalement et aligner les pieds du sprite avec le bas de la
+        // hitbox
+        float offsetX = (this.width - frameWidth) / 2;
+        float offsetY = 0; // Aligner le bas du sprite avec le bas de la hitbox (pieds alignés)
+
+        batch.draw(currentFrame, this.posX + offsetX, this.posY + offsetY, frameWidth, frameHeight);
+    }
+
+    /**
+     * Queues the current frame at its drawn size, centred on the hitbox.
+     *
+     * @param queue Queue of the world pass
+     */
+    @Override
+    public void submit(RenderQueue queue) {
+        TextureRegion currentFrame = getCurrentFrame();
+        queue.add(RenderQueue.LAYER_UNITS, currentFrame, posX + (width - frameWidth) / 2, posY, frameWidth,
+                frameHeight);
+    }
+
+    /**
+     * Selects the frame for the current direction and movement, and the size
+     * it is drawn at ({@link #frameWidth}, {@link #frameHeight}).
+     *
+     * @return Frame to draw this frame
+     */
+    @Override
+    protected TextureRegion getCurrentFrame() {
         TextureRegion currentFrame;
         float visualWidth;
         float visualHeight;
@@ -941,15 +1032,33 @@ public class Hero extends Unit {
                 }
                 break;
         }
+        frameWidth = visualWidth;
+        frameHeight = visualHeight;
+        return currentFrame;
+    }
 
-        // Dessiner le sprite plus grand visuellement (90x90) mais hitbox reste 32x48
-
-        // Centrer horizontalement et aligner les pieds du sprite avec le bas de la
-        // hitbox
-        float offsetX = (this.width - visualWidth) / 2;
-        float offsetY = 0; // Aligner le bas du sprite avec le bas de la hitbox (pieds alignés)
+    /**
+     * Returns the area covered by the widest frame drawn by
+     * {@link #render(SpriteBatch)}, centred on the hitbox.
+     *
+     * @param out Rectangle receiving the bounds
+     * @return {@code out}
+     */
+    @Override
+    public Rectangle getVisualBounds(Rectangle out) {
+        return out.set(posX + (width - MAX_VISUAL_SIZE) / 2, posY, MAX_VISUAL_SIZE, MAX_VISUAL_SIZE);
+    }
 
-        batch.draw(currentFrame, this.posX + offsetX, this.posY + offsetY, visualWidth, visualHeight);
+    @Override
+    public void dispose() {
+        super.dispose();
+        // Release the animation frames, shared with other heroes by path
+        for (Texture tex : loadedTextures) {
+            if (tex != null) {
+                tex.dispose();
+            }
+        }
+        loadedTextures.clear();
     }
 
     // === HEALTH SYSTEM ===
@@ -1020,6 +1129,22 @@ public class Hero extends Unit {
      */
     public void addGold(int amount) {
         this.gold += amount;
+        if (amount > 0) {
+            this.goldEarned += amount;
+            CombatEvents events = allyBase != null ? allyBase.getCombatEvents() : null;
+            if (events != null) {
+                events.goldGained(posX + width / 2f, posY + height, amount);
+            }
+        }
+    }
+
+    /**
+     * Get total gold earned since the hero was created
+     * 
+     * @return Cumulative gold income
+     */
+    public int getGoldEarned() {
+        return this.goldEarned;
     }
 
     /**
@@ -1051,10 +1176,194 @@ public class Hero extends Unit {
         return shootSound;
     }
 
+    /**
+     * Sets the audio settings deciding whether the shoot and reload sounds play.
+     *
+     * @param audioSettings Settings of the match, or null for a silent match
+     */
+    public void setAudioSettings(AudioSettings audioSettings) {
+        this.audioSettings = audioSettings;
+    }
+
     public Weapon getWeapon() {
         return this.weapon;
     }
 
+    /**
+     * Returns the number of shots fired since the hero was created.
+     *
+     * @return Shot count
+     */
+    public int getShots() {
+        return shots;
+    }
+
+    /**
+     * Returns the number of reloads started since the hero was created.
+     *
+     * @return Reload count
+     */
+    public int getReloads() {
+        return reloads;
+    }
+
+    /**
+     * Returns the code of the equipped weapon, as written in saves.
+     *
+     * @return Weapon code, 0 when unarmed
+     */
+    public int getWeaponCode() {
+        return weaponCode(weapon);
+    }
+
+    /**
+     * Equips the weapon of a hero simulated elsewhere, so its reload sound
+     * is the one played. Nothing changes if the code is unknown or already
+     * equipped.
+     *
+     * @param code Value of {@link #getWeaponCode()} on the simulated hero
+     */
+    public void applyRemoteWeapon(int code) {
+        if (code != weaponCode(weapon)) {
+            Weapon remote = weaponFromCode(code);
+            if (remote != null) {
+                weapon = remote;
+            }
+        }
+    }
+
+    /**
+     * Writes the hero's state for a save snapshot: the unit state plus gold,
+     * weapon and ammo, facing and the retarget / income timers.
+     *
+     * @param out Destination
+     * @throws IOException If writing fails
+     */
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeInt(maxHealth);
+        out.writeInt(gold);
+        out.writeInt(goldEarned);
+        out.writeInt(xp);
+        out.writeInt(level);
+        out.writeByte(weaponCode(weapon));
+        out.writeInt(weapon != null ? weapon.getMunitions() : 0);
+        out.writeByte(direction.ordinal());
+        out.writeByte(prevDirection.ordinal());
+        out.writeFloat(retargetTimer);
+        out.writeFloat(goldTimer);
+    }
+
+    /**
+     * Restores the state written by {@link #writeState(DataOutput)}.
+     *
+     * @param in Source
+     * @throws IOException If reading fails
+     */
+    @Override
+    public void readState(DataInput in) throws IOException {
+        super.readState(in);
+        maxHealth = in.readInt();
+        gold = in.readInt();
+        goldEarned = in.readInt();
+        xp = in.readInt();
+        level = in.readInt();
+        int code = in.readByte();
+        int munitions = in.readInt();
+        if (code != weaponCode(weapon)) {
+            // Only a different weapon is created, as each one loads its reload sound
+            Weapon restored = weaponFromCode(code);
+            if (restored != null) {
+                weapon = restored;
+            }
+        }
+        if (weapon != null) {
+            weapon.setMunition(munitions);
+        }
+        direction = Direction.values()[in.readByte()];
+        prevDirection = Direction.values()[in.readByte()];
+        retargetTimer = in.readFloat();
+        goldTimer = in.readFloat();
+    }
+
+    /**
+     * Encodes the weapon type in one byte (0 when unarmed).
+     */
+    private static int weaponCode(Weapon weapon) {
+        if (weapon instanceof Pistol) {
+            return 1;
+        } else if (weapon instanceof Shotgun) {
+            return 2;
+        } else if (weapon instanceof SMG) {
+            return 3;
+        } else if (weapon instanceof AssaultRifle) {
+            return 4;
+        } else if (weapon instanceof SniperRifle) {
+            return 5;
+        }
+        return 0;
+    }
+
+    /**
+     * Creates a weapon from its code, or null for 0 / unknown codes.
+     */
+    private static Weapon weaponFromCode(int code) {
+        switch (code) {
+            case 1:
+                return new Pistol();
+            case 2:
+                return new Shotgun();
+            case 3:
+                return new SMG();
+            case 4:
+                return new AssaultRifle();
+            case 5:
+                return new SniperRifle();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the direction ordinal combined with the moving flag, as sent by
+     * the server stream.
+     *
+     * @return Direction ordinal, plus {@code 0x80} while walking
+     */
+    public int getPose() {
+        return direction.ordinal() | (moving ? 0x80 : 0);
+    }
+
+    /**
+     * Sets the displayed state of a hero mirrored from a server stream.
+     *
+     * @param x      X position
+     * @param y      Y position
+     * @param health Current health
+     * @param gold   Current gold
+     * @param pose   Value of {@link #getPose()} on the server
+     * @param delta  Time since the previous update (seconds)
+     */
+    public void applyRemoteState(float x, float y, int health, int gold, int pose, float delta) {
+        Direction remote = Direction.values()[pose & 0x7f];
+        boolean remoteMoving = (pose & 0x80) != 0;
+        if (remote != direction || remoteMoving != moving) {
+            direction = remote;
+            moving = remoteMoving;
+            stateTime = 0f;
+        } else {
+            stateTime += delta;
+        }
+        posX = x;
+        posY = y;
+        if (sprite != null) {
+            sprite.setPosition(x, y);
+        }
+        this.health = health;
+        this.gold = gold;
+    }
+
     public Direction getDirection() {
         return direction;
     }
@@ -42,6 +42,7 @@ public class Melee extends Soldier {
          * unique gameplay role.
          */
         this.health = (int) (0.7f * Unit.HP_BASE);
+        this.maxHealth = this.health;
         this.attackDamage = 0.5f * Unit.DAMAGE_BASE;
         this.attackSpeed = 0.8f * Unit.ATTACK_SPEED_BASE;
         this.speed = 60;
@@ -40,6 +40,7 @@ public class Sniper extends Soldier {
          * unique gameplay role.
          */
         this.health = (int) (0.5f * Unit.HP_BASE);
+        this.maxHealth = this.health;
         this.attackDamage = 1.5f * Unit.DAMAGE_BASE;
         this.attackSpeed = 2f * Unit.ATTACK_SPEED_BASE;
         this.speed = 30;
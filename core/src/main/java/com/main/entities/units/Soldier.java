@@ -3,13 +3,13 @@ package com.main.entities.units;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.main.entities.Unit;
 import com.main.map.Base;
+import com.main.utils.TextureLoader;
 
 /**
  * Represents a Soldier unit in the game, controlled by the player or AI.
@@ -66,7 +66,7 @@ public class Soldier extends Unit {
      * @param allyBase The allied base associated with this unit.
      */
     public Soldier(String filePath, float posX, float posY, Base allyBase) {
-        super(filePath, posX, posY);
+        super(texturePath(allyBase, filePath), posX, posY);
         this.allyBase = allyBase;
     }
 
@@ -129,13 +129,23 @@ public class Soldier extends Unit {
 
     /**
      * Renders the soldier unit using the appropriate animation frame based on its current state.
-     * Selects frames for walking, attacking, or idle states, and draws the sprite at its current position.
+     * Draws the sprite at its current position.
      *
      * @param batch The SpriteBatch used for rendering.
      */
     @lombok.Generated
     @Override
     public void render(SpriteBatch batch) {
+        batch.draw(getCurrentFrame(), posX, posY);
+    }
+
+    /**
+     * Selects the animation frame for walking, attacking, idle or dying states.
+     *
+     * @return Frame to draw this frame
+     */
+    @Override
+    protected TextureRegion getCurrentFrame() {
         TextureRegion currentFrame;
 
         // Select animation frame based on current state
@@ -177,8 +187,7 @@ public class Soldier extends Unit {
                 }
                 break;
         }
-
-        batch.draw(currentFrame, posX, posY);
+        return currentFrame;
     }
 
     /**
@@ -190,12 +199,8 @@ public class Soldier extends Unit {
      * @return An array of TextureRegion objects representing the loaded frames.
      */
     protected TextureRegion[] loadFrames(String pattern, int count) {
-        TextureRegion[] frames = new TextureRegion[count];
-        for (int i = 0; i < count; i++) {
-            Texture tex = new Texture(Gdx.files.internal(String.format(pattern, i + 1)));
-            loadedTextures.add(tex);
-            frames[i] = new TextureRegion(tex);
-        }
+        TextureRegion[] frames = TextureLoader.loadFrames(pattern, count, loadedTextures, isHeadless(allyBase));
+        fitVisualSize(frames);
         return frames;
     }
 
@@ -3,7 +3,9 @@ import com.main.entities.Unit;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.main.map.Base;
+import com.main.render.RenderQueue;
 
 /**
  * Represents a Tank unit in the game, a subclass of Soldier with heavy armor and slow movement.
@@ -18,6 +20,12 @@ public class Tank extends Soldier {
      */
     public static final int COST = 40;
 
+    /**
+     * Size the Tank sprite is drawn at, centred on its hitbox.
+     */
+    private static final float VISUAL_WIDTH = 85;
+    private static final float VISUAL_HEIGHT = 50;
+
     /**
      * Constructs a Tank unit at the specified position and base.
      * Initializes stats and loads animation frames for walking, attacking, and idle states.
@@ -30,6 +38,7 @@ public class Tank extends Soldier {
         super("Tank/Ride1.png", posX, posY, allyBase);
         // Set Tank stats based on base values
         this.health = (int)(2.0f * Unit.HP_BASE);
+        this.maxHealth = this.health;
         this.attackDamage = 0.3f * Unit.DAMAGE_BASE;
         this.attackSpeed = 0.6f * Unit.ATTACK_SPEED_BASE;
         this.speed = 40;
@@ -57,25 +66,50 @@ public class Tank extends Soldier {
      */
     @Override
     public void render(SpriteBatch batch) {
-        TextureRegion currentFrame;
+        float offsetX = (this.width - VISUAL_WIDTH) / 2;
+        float offsetY = 0;
+        batch.draw(getCurrentFrame(), this.posX + offsetX, this.posY + offsetY, VISUAL_WIDTH, VISUAL_HEIGHT);
+    }
+
+    /**
+     * Selects the ride, attack or idle frame for the current state.
+     *
+     * @return Frame to draw this frame
+     */
+    @Override
+    protected TextureRegion getCurrentFrame() {
         switch (getCurrentState()) {
             case ATTACKING:
-                currentFrame = attackAnimation.getKeyFrame(stateTime, false);
-                break;
+                return attackAnimation.getKeyFrame(stateTime, false);
             case IDLE:
-                currentFrame = idleFrame;
-                break;
+                return idleFrame;
             case WALKING:
             default:
-                currentFrame = walkAnimation.getKeyFrame(stateTime, true);
-                break;
+                return walkAnimation.getKeyFrame(stateTime, true);
         }
+    }
 
-        float visualWidth = 85;
-        float visualHeight = 50;
-        float offsetX = (this.width - visualWidth) / 2;
-        float offsetY = 0;
-        batch.draw(currentFrame, this.posX + offsetX, this.posY + offsetY, visualWidth, visualHeight);
+    /**
+     * Queues the current frame at the Tank's drawn size.
+     *
+     * @param queue Queue of the world pass
+     */
+    @Override
+    public void submit(RenderQueue queue) {
+        queue.add(RenderQueue.LAYER_UNITS, getCurrentFrame(), posX + (width - VISUAL_WIDTH) / 2, posY,
+                VISUAL_WIDTH, VISUAL_HEIGHT);
+    }
+
+    /**
+     * Returns the area of the sprite drawn by {@link #render(SpriteBatch)},
+     * wider than the hitbox.
+     *
+     * @param out Rectangle receiving the bounds
+     * @return {@code out}
+     */
+    @Override
+    public Rectangle getVisualBounds(Rectangle out) {
+        return out.set(posX + (width - VISUAL_WIDTH) / 2, posY, VISUAL_WIDTH, VISUAL_HEIGHT);
     }
 
     /**
@@ -0,0 +1,44 @@
+package com.main.fx;
+
+/**
+ * Receives the combat events shown as visual feedback: hits, deaths and gold
+ * gains. Events carry only the world position and amount, never the entity,
+ * so they can be handed to another thread.
+ */
+public interface CombatEvents {
+
+    /**
+     * Kind of a hit or killed target.
+     */
+    int SOLDIER = 0;
+    int ZOMBIE = 1;
+    int BASE = 2;
+
+    /**
+     * A unit, the hero or a base lost health.
+     *
+     * @param x      World X of the hit, usually the target's centre
+     * @param y      World Y of the hit, usually the top of the target
+     * @param amount Damage dealt
+     * @param target {@link #SOLDIER}, {@link #ZOMBIE} or {@link #BASE}
+     */
+    void damaged(float x, float y, int amount, int target);
+
+    /**
+     * A unit or the hero reached zero health.
+     *
+     * @param x      World X of the target's centre
+     * @param y      World Y of the target's centre
+     * @param target {@link #SOLDIER} or {@link #ZOMBIE}
+     */
+    void died(float x, float y, int target);
+
+    /**
+     * The hero earned gold.
+     *
+     * @param x      World X of the hero's centre
+     * @param y      World Y of the top of the hero
+     * @param amount Gold earned
+     */
+    void goldGained(float x, float y, int amount);
+}
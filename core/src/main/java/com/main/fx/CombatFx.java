@@ -0,0 +1,202 @@
+package com.main.fx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Disposable;
+import com.main.utils.FontLoader;
+import com.main.utils.GameLog;
+import com.main.utils.TextureLoader;
+
+/**
+ * Visual feedback for combat: blood and debris particles on hits and deaths,
+ * rising damage numbers and gold gains.
+ * <p>
+ * Turns {@link CombatEvents} into entries of a {@link ParticlePool} and a
+ * {@link FloatingTextPool}, both allocated once, and draws them in one pass
+ * over the world batch: the particles share a single white pixel and the
+ * numbers a font with its outline baked in. Per-frame emission caps keep a
+ * large fight from spawning more than the pools can show; effects that do not
+ * fit are skipped. Runs on the render thread only, with its own random
+ * generator so it never touches the match's.
+ */
+public class CombatFx implements CombatEvents, Disposable {
+
+    /**
+     * Default pool sizes and per-frame emission caps.
+     */
+    public static final int MAX_PARTICLES = 4096;
+    public static final int MAX_TEXTS = 256;
+    public static final int PARTICLES_PER_FRAME = 600;
+    public static final int TEXTS_PER_FRAME = 24;
+
+    private static final float GRAVITY = 420f;
+    private static final float TEXT_RISE = 40f;
+    private static final float TEXT_LIFETIME = 0.8f;
+
+    private static final int SOLDIER_BLOOD = Color.toIntBits(200, 20, 20, 255);
+    private static final int ZOMBIE_BLOOD = Color.toIntBits(90, 160, 40, 255);
+    private static final int DEBRIS = Color.toIntBits(120, 110, 100, 255);
+    private static final int GOLD = Color.toIntBits(255, 215, 0, 255);
+    private static final int DAMAGE_TEXT = Color.toIntBits(255, 255, 255, 255);
+    private static final int ALLY_DAMAGE_TEXT = Color.toIntBits(255, 80, 80, 255);
+
+    private final ParticlePool particles;
+    private final FloatingTextPool texts;
+    private final RandomXS128 random = new RandomXS128();
+    private Texture pixelTexture;
+    private TextureRegion pixel;
+    private BitmapFont font;
+
+    /**
+     * Creates the effects with the default pool sizes and caps.
+     */
+    public CombatFx() {
+        this(MAX_PARTICLES, MAX_TEXTS);
+    }
+
+    /**
+     * Creates the effects.
+     *
+     * @param maxParticles Particles shown at once
+     * @param maxTexts     Numbers shown at once
+     */
+    public CombatFx(int maxParticles, int maxTexts) {
+        particles = new ParticlePool(maxParticles);
+        texts = new FloatingTextPool(maxTexts);
+        setEmissionCaps(PARTICLES_PER_FRAME, TEXTS_PER_FRAME);
+
+        pixelTexture = TextureLoader.whitePixel();
+        pixel = new TextureRegion(pixelTexture);
+
+        try {
+            FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/PressStart2P.ttf"));
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+            parameter.size = 10;
+            parameter.borderWidth = 1f;
+            parameter.borderColor = Color.BLACK;
+            parameter.magFilter = Texture.TextureFilter.Nearest;
+            parameter.minFilter = Texture.TextureFilter.Nearest;
+            font = FontLoader.generate(generator, parameter, "CombatFx");
+            generator.dispose();
+        } catch (Exception e) {
+            GameLog.warn("CombatFx", "Could not load PressStart2P font: {}", e.getMessage());
+            font = new BitmapFont();
+        }
+    }
+
+    /**
+     * Sets how many particles and numbers may be spawned per frame.
+     *
+     * @param maxParticles Particle emission cap
+     * @param maxTexts     Number emission cap
+     */
+    public void setEmissionCaps(int maxParticles, int maxTexts) {
+        particles.setMaxPerFrame(maxParticles);
+        texts.setMaxPerFrame(maxTexts);
+    }
+
+    @Override
+    public void damaged(float x, float y, int amount, int target) {
+        if (amount <= 0) {
+            return;
+        }
+        int color = target == ZOMBIE ? ZOMBIE_BLOOD : target == BASE ? DEBRIS : SOLDIER_BLOOD;
+        burst(x, y, MathUtils.clamp(amount / 10, 3, 8), color, 90f, 0.45f);
+        texts.spawn(x, y + 12f, amount, '-', TEXT_RISE, TEXT_LIFETIME,
+                target == SOLDIER ? ALLY_DAMAGE_TEXT : DAMAGE_TEXT);
+    }
+
+    @Override
+    public void died(float x, float y, int target) {
+        burst(x, y, 18, target == ZOMBIE ? ZOMBIE_BLOOD : SOLDIER_BLOOD, 140f, 0.7f);
+    }
+
+    @Override
+    public void goldGained(float x, float y, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        texts.spawn(x, y + 24f, amount, '+', TEXT_RISE, TEXT_LIFETIME, GOLD);
+        burst(x, y, 4, GOLD, 60f, 0.4f);
+    }
+
+    /**
+     * Spawns particles flying out of a point, mostly upwards.
+     */
+    private void burst(float x, float y, int amount, int color, float speed, float lifetime) {
+        for (int i = 0; i < amount; i++) {
+            float angle = random.nextFloat() * MathUtils.PI;
+            float v = speed * (0.4f + 0.6f * random.nextFloat());
+            float life = lifetime * (0.6f + 0.4f * random.nextFloat());
+            if (!particles.spawn(x, y, MathUtils.cos(angle) * v, MathUtils.sin(angle) * v, life,
+                    2f + 2f * random.nextFloat(), color)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Advances every effect and starts a new emission frame.
+     *
+     * @param delta Seconds since the last frame
+     */
+    public void update(float delta) {
+        particles.update(delta, GRAVITY);
+        texts.update(delta);
+    }
+
+    /**
+     * Draws the particles, then the numbers over them.
+     *
+     * @param batch World batch between begin and end
+     */
+    public void render(Batch batch) {
+        particles.draw(batch, pixel);
+        texts.draw(batch, font);
+    }
+
+    /**
+     * Removes every effect, such as when a new match starts.
+     */
+    public void clear() {
+        particles.clear();
+        texts.clear();
+    }
+
+    /**
+     * Returns the number of live particles.
+     *
+     * @return Particle count
+     */
+    public int getParticleCount() {
+        return particles.size();
+    }
+
+    /**
+     * Returns the number of numbers shown.
+     *
+     * @return Text count
+     */
+    public int getTextCount() {
+        return texts.size();
+    }
+
+    @Override
+    public void dispose() {
+        if (pixelTexture != null) {
+            pixelTexture.dispose();
+            pixelTexture = null;
+        }
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+    }
+}
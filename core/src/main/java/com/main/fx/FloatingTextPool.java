@@ -0,0 +1,181 @@
+package com.main.fx;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * Fixed-capacity set of rising numbers ("-30", "+10") stored as parallel
+ * primitive arrays.
+ * <p>
+ * A number is kept as its value and sign, and only turned into characters
+ * when drawn, in one reused buffer, so showing it never allocates. Live
+ * entries are packed like in {@link ParticlePool}; spawns beyond the capacity
+ * or the per-frame emission cap are refused.
+ */
+public class FloatingTextPool {
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] vy;
+    private final float[] life;
+    private final float[] maxLife;
+    private final int[] values;
+    private final char[] signs;
+    /**
+     * Color of each text as ABGR8888 bits, faded out when drawn.
+     */
+    private final int[] colors;
+    private int count;
+
+    private int maxPerFrame = Integer.MAX_VALUE;
+    private int emitted;
+    private int refused;
+
+    /**
+     * Characters of the text being drawn.
+     */
+    private final StringBuilder text = new StringBuilder(12);
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param capacity Maximum number of texts shown at once
+     */
+    public FloatingTextPool(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        vy = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        values = new int[capacity];
+        signs = new char[capacity];
+        colors = new int[capacity];
+    }
+
+    /**
+     * Sets how many texts may be spawned between two updates.
+     *
+     * @param maxPerFrame Emission cap per frame
+     */
+    public void setMaxPerFrame(int maxPerFrame) {
+        this.maxPerFrame = Math.max(0, maxPerFrame);
+    }
+
+    /**
+     * Spawns a rising number.
+     *
+     * @param px       World X of its centre
+     * @param py       World Y of its top
+     * @param value    Number shown
+     * @param sign     Character shown before it, such as '+' or '-', or 0 for none
+     * @param rise     Upward speed in pixels per second
+     * @param lifetime Seconds before it disappears
+     * @param abgr     Color as from {@code Color.toIntBits()}
+     * @return False if the pool is full or the frame's cap is reached
+     */
+    public boolean spawn(float px, float py, int value, char sign, float rise, float lifetime, int abgr) {
+        if (count == x.length || emitted >= maxPerFrame || lifetime <= 0f) {
+            refused++;
+            return false;
+        }
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vy[i] = rise;
+        life[i] = lifetime;
+        maxLife[i] = lifetime;
+        values[i] = value;
+        signs[i] = sign;
+        colors[i] = abgr;
+        emitted++;
+        return true;
+    }
+
+    /**
+     * Moves the texts up, removes expired ones and starts a new emission
+     * frame.
+     *
+     * @param delta Seconds since the last update
+     */
+    public void update(float delta) {
+        emitted = 0;
+        int i = 0;
+        while (i < count) {
+            life[i] -= delta;
+            if (life[i] <= 0f) {
+                remove(i);
+                continue;
+            }
+            y[i] += vy[i] * delta;
+            i++;
+        }
+    }
+
+    private void remove(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        values[i] = values[last];
+        signs[i] = signs[last];
+        colors[i] = colors[last];
+    }
+
+    /**
+     * Draws every live text centred on its position, fading out over its last
+     * half of life. The font color is restored afterwards.
+     *
+     * @param batch Batch between begin and end
+     * @param font  Font to draw with, ideally with an outline baked in
+     */
+    public void draw(Batch batch, BitmapFont font) {
+        if (count == 0) {
+            return;
+        }
+        float r = font.getColor().r;
+        float g = font.getColor().g;
+        float b = font.getColor().b;
+        float a = font.getColor().a;
+        for (int i = 0; i < count; i++) {
+            int abgr = colors[i];
+            float fade = Math.min(1f, 2f * life[i] / maxLife[i]);
+            font.setColor((abgr & 0xff) / 255f, ((abgr >>> 8) & 0xff) / 255f, ((abgr >>> 16) & 0xff) / 255f,
+                    ((abgr >>> 24) & 0xff) / 255f * fade);
+            text.setLength(0);
+            if (signs[i] != 0) {
+                text.append(signs[i]);
+            }
+            text.append(values[i]);
+            font.draw(batch, text, x[i], y[i], 0f, Align.center, false);
+        }
+        font.setColor(r, g, b, a);
+    }
+
+    /**
+     * Removes every text.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Returns the number of texts shown.
+     *
+     * @return Live text count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the number of spawns refused since the pool was created.
+     *
+     * @return Refused spawn count
+     */
+    public int getRefused() {
+        return refused;
+    }
+}
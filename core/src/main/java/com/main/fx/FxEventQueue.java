@@ -0,0 +1,133 @@
+package com.main.fx;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Fixed-size ring of combat events passed from the thread running the match
+ * to the render thread.
+ * <p>
+ * Events are stored in preallocated primitive arrays, so recording one never
+ * allocates. There is one writer (the simulation) and one reader
+ * ({@link #drain(CombatEvents)} on the render thread); each side only moves its
+ * own index, so neither locks. When the reader falls behind and the ring is
+ * full, new events are dropped and counted: they are only visual feedback.
+ */
+public class FxEventQueue implements CombatEvents {
+
+    private static final byte DAMAGED = 0;
+    private static final byte DIED = 1;
+    private static final byte GOLD = 2;
+
+    private final int mask;
+    private final byte[] types;
+    private final float[] xs;
+    private final float[] ys;
+    private final int[] amounts;
+    private final int[] targets;
+
+    /**
+     * Next slot to read; written by the reader only.
+     */
+    private final AtomicInteger head = new AtomicInteger();
+    /**
+     * Next slot to write; written by the writer only.
+     */
+    private final AtomicInteger tail = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    /**
+     * Creates a queue.
+     *
+     * @param capacity Events held before new ones are dropped, rounded up to a
+     *                 power of two
+     */
+    public FxEventQueue(int capacity) {
+        int size = MathUtils.nextPowerOfTwo(capacity);
+        mask = size - 1;
+        types = new byte[size];
+        xs = new float[size];
+        ys = new float[size];
+        amounts = new int[size];
+        targets = new int[size];
+    }
+
+    @Override
+    public void damaged(float x, float y, int amount, int target) {
+        put(DAMAGED, x, y, amount, target);
+    }
+
+    @Override
+    public void died(float x, float y, int target) {
+        put(DIED, x, y, 0, target);
+    }
+
+    @Override
+    public void goldGained(float x, float y, int amount) {
+        put(GOLD, x, y, amount, 0);
+    }
+
+    private void put(byte type, float x, float y, int amount, int target) {
+        int t = tail.get();
+        if (t - head.get() > mask) {
+            dropped.incrementAndGet();
+            return;
+        }
+        int slot = t & mask;
+        types[slot] = type;
+        xs[slot] = x;
+        ys[slot] = y;
+        amounts[slot] = amount;
+        targets[slot] = target;
+        // Publishes the slot to the reader
+        tail.lazySet(t + 1);
+    }
+
+    /**
+     * Hands every queued event to a receiver, oldest first, and empties the
+     * queue. Called by the reader only.
+     *
+     * @param receiver Receiver of the events
+     * @return Number of events handed over
+     */
+    public int drain(CombatEvents receiver) {
+        int h = head.get();
+        int t = tail.get();
+        for (int i = h; i != t; i++) {
+            int slot = i & mask;
+            switch (types[slot]) {
+                case DAMAGED:
+                    receiver.damaged(xs[slot], ys[slot], amounts[slot], targets[slot]);
+                    break;
+                case DIED:
+                    receiver.died(xs[slot], ys[slot], targets[slot]);
+                    break;
+                default:
+                    receiver.goldGained(xs[slot], ys[slot], amounts[slot]);
+                    break;
+            }
+        }
+        // Frees the slots for the writer
+        head.lazySet(t);
+        return t - h;
+    }
+
+    /**
+     * Returns the number of events waiting to be drained.
+     *
+     * @return Queued event count
+     */
+    public int size() {
+        return tail.get() - head.get();
+    }
+
+    /**
+     * Returns the number of events dropped because the queue was full.
+     *
+     * @return Dropped event count
+     */
+    public int getDropped() {
+        return dropped.get();
+    }
+}
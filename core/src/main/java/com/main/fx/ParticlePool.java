@@ -0,0 +1,179 @@
+package com.main.fx;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/**
+ * Fixed-capacity set of square particles stored as parallel primitive arrays.
+ * <p>
+ * Live particles are packed at the front of the arrays; an expired one is
+ * replaced by the last live particle, so updating and drawing walk a dense
+ * range and spawning or expiring never allocates. Spawns beyond the capacity
+ * or beyond the per-frame emission cap are refused.
+ */
+public class ParticlePool {
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] life;
+    private final float[] maxLife;
+    private final float[] size;
+    /**
+     * Color of each particle as ABGR8888 bits, faded out when drawn.
+     */
+    private final int[] colors;
+    private int count;
+
+    private int maxPerFrame = Integer.MAX_VALUE;
+    private int emitted;
+    private int refused;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param capacity Maximum number of live particles
+     */
+    public ParticlePool(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        size = new float[capacity];
+        colors = new int[capacity];
+    }
+
+    /**
+     * Sets how many particles may be spawned between two updates.
+     *
+     * @param maxPerFrame Emission cap per frame
+     */
+    public void setMaxPerFrame(int maxPerFrame) {
+        this.maxPerFrame = Math.max(0, maxPerFrame);
+    }
+
+    /**
+     * Spawns a particle.
+     *
+     * @param px       World X of its centre
+     * @param py       World Y of its centre
+     * @param pvx      Horizontal speed in pixels per second
+     * @param pvy      Vertical speed in pixels per second
+     * @param lifetime Seconds before it disappears
+     * @param side     Side of the square in pixels
+     * @param abgr     Color as from {@code Color.toIntBits()}
+     * @return False if the pool is full or the frame's cap is reached
+     */
+    public boolean spawn(float px, float py, float pvx, float pvy, float lifetime, float side, int abgr) {
+        if (count == x.length || emitted >= maxPerFrame || lifetime <= 0f) {
+            refused++;
+            return false;
+        }
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        life[i] = lifetime;
+        maxLife[i] = lifetime;
+        size[i] = side;
+        colors[i] = abgr;
+        emitted++;
+        return true;
+    }
+
+    /**
+     * Moves the particles, removes expired ones and starts a new emission
+     * frame.
+     *
+     * @param delta   Seconds since the last update
+     * @param gravity Downward acceleration in pixels per second squared
+     */
+    public void update(float delta, float gravity) {
+        emitted = 0;
+        int i = 0;
+        while (i < count) {
+            life[i] -= delta;
+            if (life[i] <= 0f) {
+                remove(i);
+                continue;
+            }
+            vy[i] -= gravity * delta;
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+            i++;
+        }
+    }
+
+    private void remove(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        size[i] = size[last];
+        colors[i] = colors[last];
+    }
+
+    /**
+     * Draws every live particle as a tinted square of one region, fading out
+     * over its last half of life. The batch color is restored afterwards.
+     *
+     * @param batch Batch between begin and end
+     * @param pixel Region stretched over each particle, usually a white pixel
+     */
+    public void draw(Batch batch, TextureRegion pixel) {
+        if (count == 0) {
+            return;
+        }
+        float previous = batch.getPackedColor();
+        for (int i = 0; i < count; i++) {
+            float fade = Math.min(1f, 2f * life[i] / maxLife[i]);
+            int alpha = (int) (((colors[i] >>> 24) & 0xff) * fade);
+            batch.setPackedColor(NumberUtils.intToFloatColor((alpha << 24) | (colors[i] & 0x00ffffff)));
+            float half = size[i] / 2f;
+            batch.draw(pixel, x[i] - half, y[i] - half, size[i], size[i]);
+        }
+        batch.setPackedColor(previous);
+    }
+
+    /**
+     * Removes every particle.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Returns the number of live particles.
+     *
+     * @return Live particle count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the number of particles the pool can hold.
+     *
+     * @return Capacity
+     */
+    public int getCapacity() {
+        return x.length;
+    }
+
+    /**
+     * Returns the number of spawns refused since the pool was created.
+     *
+     * @return Refused spawn count
+     */
+    public int getRefused() {
+        return refused;
+    }
+}
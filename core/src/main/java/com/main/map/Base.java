@@ -1,6 +1,10 @@
 package com.main.map;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 
@@ -14,7 +18,11 @@ import com.main.entities.player.Hero;
 import com.main.entities.units.Melee;
 import com.main.entities.units.Sniper;
 import com.main.entities.units.Tank;
+import com.main.fx.CombatEvents;
 import com.main.utils.Position;
+import com.main.utils.TextureLoader;
+import com.main.utils.jfr.UnitSpawnEvent;
+import com.main.utils.jfr.UnitUpdateEvent;
 
 /**
  * Represents a base in the game, either player or enemy.
@@ -77,7 +85,16 @@ public class Base {
     /**
      * Random number generator for spawning logic.
      */
-    private final Random random;
+    private Random random;
+    /**
+     * Seed of {@link #random}, kept so a saved generator can be restored.
+     */
+    private final long seed;
+    /**
+     * Number of values drawn from {@link #random} (all with bound 3); replaying
+     * them on a fresh generator restores its exact position.
+     */
+    private int randomDraws = 0;
     /**
      * Flag indicating if this base is the player base (true) or enemy base (false).
      * Player bases spawn soldiers, enemy bases spawn zombies.
@@ -112,6 +129,47 @@ public class Base {
     private float deathTimer = 0f;
     private static final float DEATH_ANIM_DURATION = 1.2f;
 
+    /**
+     * True when a second player buys this base's zombies (versus mode) instead
+     * of the automatic spawner.
+     */
+    private boolean commanded = false;
+    /**
+     * Gold purse of a commanded base.
+     */
+    private int gold = 0;
+    /**
+     * Timer for the commanded base's passive income.
+     */
+    private float goldTimer = 0f;
+    /**
+     * Starting gold of a commanded base (same as the hero).
+     */
+    public static final int COMMANDER_START_GOLD = 50;
+    /**
+     * Gold earned by a commanded base every {@link #COMMANDER_INCOME_INTERVAL}
+     * seconds (same rate as the hero).
+     */
+    private static final int COMMANDER_INCOME = 10;
+    private static final float COMMANDER_INCOME_INTERVAL = 3f;
+
+    /**
+     * Total number of units spawned or bought by this base since creation.
+     */
+    private int totalSpawned = 0;
+    /**
+     * Total number of this base's units that died since creation.
+     */
+    private int totalDeaths = 0;
+    /**
+     * Receiver of combat events for visual feedback, or null.
+     */
+    private CombatEvents combatEvents;
+    /**
+     * True when the units of this base (and its hero) load no texture.
+     */
+    private boolean headless = false;
+
     /**
      * Constructs a new Base instance with specified position, type, and map height.
      * Initializes lanes, spawn points, collision box, and other attributes.
@@ -123,6 +181,21 @@ public class Base {
      *                     calculations)
      */
     public Base(int posX, int posY, boolean isPlayerBase, int mapHeight) {
+        this(posX, posY, isPlayerBase, mapHeight, new Random().nextLong());
+    }
+
+    /**
+     * Constructs a new Base whose spawn randomness comes from a fixed seed, so a
+     * match can be re-simulated exactly from its recorded input.
+     *
+     * @param posX         X position of the base on the map
+     * @param posY         Y position of the base on the map
+     * @param isPlayerBase True if this is the player base, false for enemy base
+     * @param mapHeight    Height of the map (used for hitbox and spawn
+     *                     calculations)
+     * @param seed         Seed of the spawn random number generator
+     */
+    public Base(int posX, int posY, boolean isPlayerBase, int mapHeight, long seed) {
         this.position = new Position(posX, posY);
         lastSpawn = 0.0f;
         this.units = new ArrayList<>();
@@ -130,7 +203,8 @@ public class Base {
         for (int i = 0; i < 3; i++) {
             this.unitsPerLane.add(new ArrayList<>());
         }
-        random = new Random();
+        this.seed = seed;
+        random = new Random(seed);
         this.isPlayerBase = isPlayerBase;
         this.name = isPlayerBase ? "PLAYER BASE" : "ENEMY BASE";
         this.spawnPointsY = new int[3];
@@ -160,6 +234,15 @@ public class Base {
         return health;
     }
 
+    /**
+     * Sets the health of a base mirrored from a server stream.
+     *
+     * @param health Health reported by the server
+     */
+    public void setHealth(int health) {
+        this.health = health;
+    }
+
     /**
      * Returns the position of the base on the map.
      *
@@ -235,6 +318,38 @@ public class Base {
         if (this.health < 0) {
             this.health = 0;
         }
+        if (combatEvents != null && collisionBox != null && this.health < oldHealth) {
+            combatEvents.damaged(collisionBox.x + collisionBox.width / 2f, collisionBox.y + collisionBox.height,
+                    oldHealth - this.health, CombatEvents.BASE);
+        }
+    }
+
+    /**
+     * Sets the receiver of the hits, deaths and gold gains of this base, its
+     * units and its hero.
+     *
+     * @param combatEvents Receiver, or null for none
+     */
+    public void setCombatEvents(CombatEvents combatEvents) {
+        this.combatEvents = combatEvents;
+    }
+
+    /**
+     * Returns the receiver of the combat events of this base and its units.
+     *
+     * @return Receiver, or null if none
+     */
+    public CombatEvents getCombatEvents() {
+        return combatEvents;
+    }
+
+    /**
+     * Returns whether this is the player's base.
+     *
+     * @return True for the player base, false for the zombie base
+     */
+    public boolean isPlayerBase() {
+        return isPlayerBase;
     }
 
     /**
@@ -246,6 +361,17 @@ public class Base {
         return unitsPerLane;
     }
 
+    /**
+     * Returns the Y coordinate units of a lane are spawned at. Units never
+     * leave it, so it is also the bottom of every sprite of the lane.
+     *
+     * @param lane Lane index
+     * @return Lane Y in world pixels
+     */
+    public int getLaneY(int lane) {
+        return spawnPointsY[lane];
+    }
+
     /**
      * Checks if the base is destroyed (health is zero or less).
      *
@@ -284,6 +410,25 @@ public class Base {
         }
     }
 
+    /**
+     * Returns the total number of units spawned or bought by this base.
+     *
+     * @return Cumulative spawn count
+     */
+    public int getTotalSpawned() {
+        return totalSpawned;
+    }
+
+    /**
+     * Returns the total number of this base's units that have died.
+     * Deaths are counted when the dead unit leaves its lane.
+     *
+     * @return Cumulative death count
+     */
+    public int getTotalDeaths() {
+        return totalDeaths;
+    }
+
     /**
      * Returns the list of all units managed by this base.
      *
@@ -293,6 +438,31 @@ public class Base {
         return this.units;
     }
 
+    /**
+     * Returns the price of a unit type, soldier or zombie.
+     *
+     * @param type Unit type
+     * @return Gold cost
+     */
+    public static int costOf(Type type) {
+        switch (type) {
+            case MELEE:
+                return Melee.COST;
+            case TANK:
+                return Tank.COST;
+            case SNIPER:
+                return Sniper.COST;
+            case WOMAN:
+                return WZombie.COST;
+            case CRAWL:
+                return CZombie.COST;
+            case FAST:
+                return FZombie.COST;
+            default:
+                throw new IllegalArgumentException("Unknown unit type " + type);
+        }
+    }
+
     /**
      * Buys and spawns a unit of the specified type for the player base, if the hero
      * has enough gold.
@@ -305,6 +475,8 @@ public class Base {
      * @return The created Unit if successful, null otherwise
      */
     public Unit buyUnit(Type unitType, int spawnIndex, Hero hero) {
+        UnitSpawnEvent event = new UnitSpawnEvent();
+        event.begin();
         int spawnY = spawnPointsY[spawnIndex];
         switch (unitType) {
             case MELEE:
@@ -314,7 +486,8 @@ public class Base {
                     this.unitsPerLane.get(spawnIndex).add(melee);
                     melee.setLane(spawnIndex);
                     melee.setIndex(this.unitsPerLane.get(spawnIndex).size() - 1);
-                    return melee;
+                    totalSpawned++;
+                    return spawned(event, melee, unitType, spawnIndex);
                 }
                 break;
             case TANK:
@@ -324,7 +497,8 @@ public class Base {
                     this.unitsPerLane.get(spawnIndex).add(tank);
                     tank.setLane(spawnIndex);
                     tank.setIndex(this.unitsPerLane.get(spawnIndex).size() - 1);
-                    return tank;
+                    totalSpawned++;
+                    return spawned(event, tank, unitType, spawnIndex);
                 }
                 break;
             case SNIPER:
@@ -334,7 +508,8 @@ public class Base {
                     this.unitsPerLane.get(spawnIndex).add(sniper);
                     sniper.setLane(spawnIndex);
                     sniper.setIndex(this.unitsPerLane.get(spawnIndex).size() - 1);
-                    return sniper;
+                    totalSpawned++;
+                    return spawned(event, sniper, unitType, spawnIndex);
                 }
                 break;
             default:
@@ -343,6 +518,110 @@ public class Base {
         return null;
     }
 
+    /**
+     * Buys a zombie for a commanded enemy base, if its purse holds enough gold.
+     * Zombies enter the map from its right edge in the chosen lane.
+     *
+     * @param unitType   Zombie type to buy (WOMAN, CRAWL, FAST)
+     * @param spawnIndex Index of the lane to spawn the unit (0: bottom, 1: middle,
+     *                   2: top)
+     * @param mapWidth   Width of the map in pixels
+     * @return The created Unit if successful, null otherwise
+     */
+    public Unit buyZombie(Type unitType, int spawnIndex, int mapWidth) {
+        if (!commanded) {
+            return null;
+        }
+        UnitSpawnEvent event = new UnitSpawnEvent();
+        event.begin();
+        int spawnY = spawnPointsY[spawnIndex];
+        Unit zombie;
+        switch (unitType) {
+            case WOMAN:
+                if (gold < WZombie.COST) {
+                    return null;
+                }
+                gold -= WZombie.COST;
+                zombie = new WZombie(mapWidth, spawnY, this);
+                break;
+            case CRAWL:
+                if (gold < CZombie.COST) {
+                    return null;
+                }
+                gold -= CZombie.COST;
+                zombie = new CZombie(mapWidth, spawnY, this);
+                break;
+            case FAST:
+                if (gold < FZombie.COST) {
+                    return null;
+                }
+                gold -= FZombie.COST;
+                zombie = new FZombie(mapWidth, spawnY, this);
+                break;
+            default:
+                return null;
+        }
+        this.unitsPerLane.get(spawnIndex).add(zombie);
+        zombie.setLane(spawnIndex);
+        zombie.setIndex(this.unitsPerLane.get(spawnIndex).size() - 1);
+        totalSpawned++;
+        this.units.add(zombie);
+        return spawned(event, zombie, unitType, spawnIndex);
+    }
+
+    /**
+     * Hands this base to a second player (versus mode): automatic spawning
+     * stops and the base earns gold to buy zombies with
+     * {@link #buyZombie(Type, int, int)}.
+     *
+     * @param commanded True to let a player command the base
+     */
+    public void setCommanded(boolean commanded) {
+        if (commanded && !this.commanded) {
+            gold = COMMANDER_START_GOLD;
+            goldTimer = 0f;
+        }
+        this.commanded = commanded;
+    }
+
+    /**
+     * Returns whether a player commands this base.
+     *
+     * @return True in versus mode
+     */
+    public boolean isCommanded() {
+        return commanded;
+    }
+
+    /**
+     * Makes the units of this base load no texture, for a match ticked off
+     * the render thread. Set by {@link com.main.sim.Match} from its context.
+     *
+     * @param headless True for units without textures
+     */
+    public void setHeadless(boolean headless) {
+        this.headless = headless;
+    }
+
+    /**
+     * Returns whether the units of this base load no texture, either for this
+     * match or for the whole process (dedicated server).
+     *
+     * @return True for units without textures
+     */
+    public boolean isHeadless() {
+        return headless || TextureLoader.isHeadless();
+    }
+
+    /**
+     * Returns the gold purse of a commanded base.
+     *
+     * @return Gold available to buy zombies
+     */
+    public int getGold() {
+        return gold;
+    }
+
     /**
      * Spawns a new unit for the base if the spawn timer has elapsed.
      * Player bases spawn soldiers, enemy bases spawn zombies. Units are added to
@@ -353,37 +632,64 @@ public class Base {
      * @return The spawned Unit if successful, null otherwise
      */
     public Unit spawnUnit(GameScreen screen, float delta) {
+        return spawnUnit(screen.getMapWidth(), delta);
+    }
+
+    /**
+     * Spawns a new unit for the base if the spawn timer has elapsed.
+     * Zombies enter the map from its right edge.
+     *
+     * @param mapWidth Width of the map in pixels
+     * @param delta    Time elapsed since last update (seconds)
+     * @return The spawned Unit if successful, null otherwise
+     */
+    public Unit spawnUnit(int mapWidth, float delta) {
+        if (commanded) {
+            // Zombies are bought by the commander; the base only earns gold
+            goldTimer += delta;
+            if (goldTimer >= COMMANDER_INCOME_INTERVAL) {
+                gold += COMMANDER_INCOME;
+                goldTimer = 0f;
+            }
+            return null;
+        }
         if (lastSpawn >= 5.0f) {
             lastSpawn = 0.0f;
 
             if (!isPlayerBase) {
+                UnitSpawnEvent event = new UnitSpawnEvent();
+                event.begin();
                 // Spawn zombies (right side)
                 Type[] zombieTypes = { Type.WOMAN, Type.CRAWL, Type.FAST };
                 Type type = zombieTypes[random.nextInt(zombieTypes.length)];
                 int rand = random.nextInt(3);
+                randomDraws += 2;
                 int lane = spawnPointsY[rand];
                 switch (type) {
                     case WOMAN:
-                        Unit wzombie = new WZombie(screen.getMapWidth(), lane, this);
+                        Unit wzombie = new WZombie(mapWidth, lane, this);
                         this.unitsPerLane.get(rand).add(wzombie);
                         wzombie.setLane(rand);
                         wzombie.setIndex(this.unitsPerLane.get(rand).size() - 1);
+                        totalSpawned++;
                         this.units.add(wzombie);
-                        return wzombie;
+                        return spawned(event, wzombie, type, rand);
                     case CRAWL:
-                        Unit czombie = new CZombie(screen.getMapWidth(), lane, this);
+                        Unit czombie = new CZombie(mapWidth, lane, this);
                         this.unitsPerLane.get(rand).add(czombie);
                         czombie.setLane(rand);
                         czombie.setIndex(this.unitsPerLane.get(rand).size() - 1);
+                        totalSpawned++;
                         this.units.add(czombie);
-                        return czombie;
+                        return spawned(event, czombie, type, rand);
                     case FAST:
-                        Unit fzombie = new FZombie(screen.getMapWidth(), lane, this);
+                        Unit fzombie = new FZombie(mapWidth, lane, this);
                         this.unitsPerLane.get(rand).add(fzombie);
                         fzombie.setLane(rand);
                         fzombie.setIndex(this.unitsPerLane.get(rand).size() - 1);
+                        totalSpawned++;
                         this.units.add(fzombie);
-                        return fzombie;
+                        return spawned(event, fzombie, type, rand);
                     default:
                         return null;
                 }
@@ -393,6 +699,90 @@ public class Base {
         return null;
     }
 
+    /**
+     * Completes the spawn event started before a unit was created and returns
+     * the unit. The event is only populated when a recording wants it.
+     *
+     * @param event Event begun before the unit constructor
+     * @param unit  The created unit
+     * @param type  Type of the unit
+     * @param lane  Lane index of the unit
+     * @return The unit, for chaining in return statements
+     */
+    private Unit spawned(UnitSpawnEvent event, Unit unit, Type type, int lane) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.unitType = type.name();
+            event.lane = lane;
+            event.playerSide = isPlayerBase;
+            event.commit();
+        }
+        return unit;
+    }
+
+    /**
+     * Writes the base's own state (health, timers, counters, random generator
+     * position and commander purse) for a save snapshot. Units are written by the caller.
+     *
+     * @param out Destination
+     * @throws IOException If writing fails
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(health);
+        out.writeFloat(lastSpawn);
+        out.writeFloat(deathTimer);
+        out.writeInt(totalSpawned);
+        out.writeInt(totalDeaths);
+        out.writeLong(seed);
+        out.writeInt(randomDraws);
+        out.writeBoolean(commanded);
+        out.writeInt(gold);
+        out.writeFloat(goldTimer);
+    }
+
+    /**
+     * Restores the state written by {@link #writeState(DataOutput)} and removes
+     * all units, which the caller then restores with
+     * {@link #restoreUnit(Unit, boolean)}.
+     *
+     * @param in Source
+     * @throws IOException If reading fails
+     */
+    public void readState(DataInput in) throws IOException {
+        health = in.readInt();
+        lastSpawn = in.readFloat();
+        deathTimer = in.readFloat();
+        totalSpawned = in.readInt();
+        totalDeaths = in.readInt();
+        long savedSeed = in.readLong();
+        randomDraws = in.readInt();
+        commanded = in.readBoolean();
+        gold = in.readInt();
+        goldTimer = in.readFloat();
+        random = new Random(savedSeed);
+        for (int i = 0; i < randomDraws; i++) {
+            random.nextInt(3);
+        }
+        units.clear();
+        for (List<Unit> lane : unitsPerLane) {
+            lane.clear();
+        }
+    }
+
+    /**
+     * Adds a unit restored from a snapshot, in its original order.
+     *
+     * @param unit   Unit whose state has been read
+     * @param inLane True if the unit was still in its lane list (alive, or died
+     *               during the last tick)
+     */
+    public void restoreUnit(Unit unit, boolean inLane) {
+        units.add(unit);
+        if (inLane) {
+            unitsPerLane.get(unit.getLane()).add(unit);
+        }
+    }
+
     /**
      * Updates the index of each unit in every lane to maintain correct ordering.
      * Used after adding or removing units from lanes.
@@ -418,23 +808,38 @@ public class Base {
      * @param hero      Hero instance to include as a target (if present)
      */
     public void updateUnits(float delta, List<Unit> enemies, Base enemyBase, Hero hero) {
-        // Remove dead units
+        // Remove dead units, giving back their references on the shared textures
         deathTimer += delta;
         if (deathTimer >= DEATH_ANIM_DURATION) {
-            units.removeIf(Unit::isDead);
+            Iterator<Unit> it = units.iterator();
+            while (it.hasNext()) {
+                Unit unit = it.next();
+                if (unit.isDead()) {
+                    unit.dispose();
+                    it.remove();
+                }
+            }
             deathTimer = 0f;
         }
         for (List<Unit> list : unitsPerLane) {
+            int before = list.size();
             list.removeIf(Unit::isDead);
+            totalDeaths += before - list.size();
         }
         updateIndexes();
 
-        // Update each unit
-        for (
+        UnitUpdateEvent update = new UnitUpdateEvent();
+        update.begin();
+        // Only read the clock when the event is recorded
+        boolean timed = update.isEnabled();
+        long selectionTime = 0L;
+        int maxCandidates = 0;
 
-        Unit unit : units) {
+        // Update each unit
+        for (Unit unit : units) {
             // Set enemy base as target
             unit.setTargetBase(enemyBase);
+            long selectionStart = timed ? System.nanoTime() : 0L;
 
             // Filter only live enemies
             List<Unit> liveEnemies = new ArrayList<>();
@@ -447,10 +852,14 @@ public class Base {
             }
             if (hero != null)
                 liveEnemies.add(hero);
+            maxCandidates = Math.max(maxCandidates, liveEnemies.size());
 
             // Determine target and update cooldown BEFORE moving so move(delta) sees the
             // correct state
             unit.selectTarget(liveEnemies);
+            if (timed) {
+                selectionTime += System.nanoTime() - selectionStart;
+            }
             unit.updateCooldown(delta);
 
             // If no target and near enemy base, attack the base
@@ -461,5 +870,14 @@ public class Base {
             // Move handles attack triggering and animation timing internally
             unit.move(delta);
         }
+
+        update.end();
+        if (update.shouldCommit()) {
+            update.base = name;
+            update.units = units.size();
+            update.selectionTime = selectionTime;
+            update.maxCandidates = maxCandidates;
+            update.commit();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,266 @@
+package com.main.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Static tile layers of a {@link TiledMap} baked once into a
+ * {@link SpriteCache}, so drawing the map no longer rebuilds its vertices
+ * every frame.
+ * <p>
+ * Each tile layer is split into square chunks of {@link #CHUNK_TILES} tiles,
+ * one cached mesh per chunk and layer. Only the chunks overlapping the camera
+ * view are drawn, layer by layer and top rows first, in the same order as
+ * {@link OrthogonalTiledMapRenderer}. Layers the cache cannot reproduce
+ * (animated or rotated tiles, parallax, image layers) are drawn by the
+ * renderer in their place in the layer order.
+ */
+public class MapCache implements Disposable {
+
+    /**
+     * Width and height of a chunk in tiles.
+     */
+    static final int CHUNK_TILES = 16;
+
+    private final MapLayers layers;
+    private final OrthogonalTiledMapRenderer fallback;
+    private final SpriteCache cache;
+
+    /**
+     * Cache id per chunk for each cached layer (-1 for an empty chunk), null
+     * for layers drawn by the renderer.
+     */
+    private final int[][] layerCaches;
+
+    /**
+     * Area covered by the sprites of each chunk, all layers together.
+     */
+    private final Rectangle[] chunkBounds;
+
+    private final int chunkColumns;
+    private final Rectangle view = new Rectangle();
+    private final int[] single = new int[1];
+
+    /**
+     * Bakes the cacheable layers of a map.
+     *
+     * @param map      Loaded map
+     * @param scale    World pixels per map pixel
+     * @param fallback Renderer drawing the layers that are not cached
+     */
+    public MapCache(TiledMap map, float scale, OrthogonalTiledMapRenderer fallback) {
+        this.layers = map.getLayers();
+        this.fallback = fallback;
+        this.layerCaches = new int[layers.getCount()][];
+
+        int mapWidth = map.getProperties().get("width", Integer.class);
+        int mapHeight = map.getProperties().get("height", Integer.class);
+        this.chunkColumns = (mapWidth + CHUNK_TILES - 1) / CHUNK_TILES;
+        int chunkRows = (mapHeight + CHUNK_TILES - 1) / CHUNK_TILES;
+        this.chunkBounds = new Rectangle[chunkColumns * chunkRows];
+
+        int sprites = 0;
+        for (MapLayer layer : layers) {
+            if (isCacheable(layer)) {
+                sprites += countSprites((TiledMapTileLayer) layer);
+            }
+        }
+        this.cache = new SpriteCache(Math.max(1, sprites), false);
+
+        for (int i = 0; i < layers.getCount(); i++) {
+            MapLayer layer = layers.get(i);
+            if (isCacheable(layer)) {
+                layerCaches[i] = bake((TiledMapTileLayer) layer, scale);
+            }
+        }
+    }
+
+    /**
+     * Returns whether a layer can be baked: a tile layer whose tiles are all
+     * static and unrotated and which does not scroll with parallax.
+     *
+     * @param layer Map layer
+     * @return True if the cache can draw it
+     */
+    static boolean isCacheable(MapLayer layer) {
+        if (!(layer instanceof TiledMapTileLayer) || layer.getParallaxX() != 1f || layer.getParallaxY() != 1f) {
+            return false;
+        }
+        TiledMapTileLayer tiles = (TiledMapTileLayer) layer;
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = tiles.getCell(x, y);
+                if (cell == null) {
+                    continue;
+                }
+                if (cell.getTile() instanceof AnimatedTiledMapTile || cell.getRotation() != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of sprites a tile layer bakes into.
+     *
+     * @param layer Tile layer
+     * @return Number of cells holding a tile
+     */
+    static int countSprites(TiledMapTileLayer layer) {
+        int count = 0;
+        for (int y = 0; y < layer.getHeight(); y++) {
+            for (int x = 0; x < layer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Bakes one layer chunk by chunk.
+     *
+     * @return Cache id per chunk, -1 where the chunk is empty
+     */
+    private int[] bake(TiledMapTileLayer layer, float scale) {
+        int[] ids = new int[chunkBounds.length];
+        float tileWidth = layer.getTileWidth() * scale;
+        float tileHeight = layer.getTileHeight() * scale;
+        float offsetX = layer.getRenderOffsetX() * scale;
+        float offsetY = -layer.getRenderOffsetY() * scale;
+        cache.setColor(1f, 1f, 1f, layer.getOpacity());
+        for (int chunk = 0; chunk < ids.length; chunk++) {
+            int col1 = (chunk % chunkColumns) * CHUNK_TILES;
+            int row1 = (chunk / chunkColumns) * CHUNK_TILES;
+            int col2 = Math.min(col1 + CHUNK_TILES, layer.getWidth());
+            int row2 = Math.min(row1 + CHUNK_TILES, layer.getHeight());
+            boolean begun = false;
+            // Top rows first, like the renderer, so lower tiles overlap upper ones
+            for (int row = row2 - 1; row >= row1; row--) {
+                for (int col = col1; col < col2; col++) {
+                    TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                    TiledMapTile tile = cell != null ? cell.getTile() : null;
+                    if (tile == null) {
+                        continue;
+                    }
+                    if (!begun) {
+                        cache.beginCache();
+                        begun = true;
+                    }
+                    TextureRegion region = tile.getTextureRegion();
+                    if (cell.getFlipHorizontally() || cell.getFlipVertically()) {
+                        region = new TextureRegion(region);
+                        region.flip(cell.getFlipHorizontally(), cell.getFlipVertically());
+                    }
+                    float x = col * tileWidth + tile.getOffsetX() * scale + offsetX;
+                    float y = row * tileHeight + tile.getOffsetY() * scale + offsetY;
+                    float width = region.getRegionWidth() * scale;
+                    float height = region.getRegionHeight() * scale;
+                    cache.add(region, x, y, width, height);
+                    grow(chunk, x, y, width, height);
+                }
+            }
+            ids[chunk] = begun ? cache.endCache() : -1;
+        }
+        cache.setColor(1f, 1f, 1f, 1f);
+        return ids;
+    }
+
+    private void grow(int chunk, float x, float y, float width, float height) {
+        Rectangle bounds = chunkBounds[chunk];
+        if (bounds == null) {
+            chunkBounds[chunk] = new Rectangle(x, y, width, height);
+        } else {
+            bounds.merge(x, y);
+            bounds.merge(x + width, y + height);
+        }
+    }
+
+    /**
+     * Sets the area to draw from a camera.
+     *
+     * @param camera Updated camera
+     */
+    public void setView(OrthographicCamera camera) {
+        cache.setProjectionMatrix(camera.combined);
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        view.set(camera.position.x - width / 2f, camera.position.y - height / 2f, width, height);
+    }
+
+    /**
+     * Draws the visible layers: cached chunks inside the view and, between
+     * them, the layers left to the renderer.
+     */
+    public void render() {
+        boolean drawing = false;
+        for (int i = 0; i < layerCaches.length; i++) {
+            MapLayer layer = layers.get(i);
+            if (!layer.isVisible()) {
+                continue;
+            }
+            int[] ids = layerCaches[i];
+            if (ids == null) {
+                if (!(layer instanceof TiledMapTileLayer || layer instanceof TiledMapImageLayer
+                        || layer instanceof MapGroupLayer)) {
+                    // Object layers (collisions) draw nothing
+                    continue;
+                }
+                if (drawing) {
+                    end();
+                    drawing = false;
+                }
+                single[0] = i;
+                fallback.render(single);
+                continue;
+            }
+            if (!drawing) {
+                Gdx.gl.glEnable(GL20.GL_BLEND);
+                Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                cache.begin();
+                drawing = true;
+            }
+            // Top chunk rows first, as tiles within a chunk
+            for (int row = ids.length / chunkColumns - 1; row >= 0; row--) {
+                for (int chunk = row * chunkColumns; chunk < (row + 1) * chunkColumns; chunk++) {
+                    if (ids[chunk] >= 0 && chunkBounds[chunk].overlaps(view)) {
+                        cache.draw(ids[chunk]);
+                    }
+                }
+            }
+        }
+        if (drawing) {
+            end();
+        }
+    }
+
+    private void end() {
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    /**
+     * Releases the cached meshes.
+     */
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+}
@@ -3,12 +3,17 @@ package com.main.map;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.XmlReader;
+import com.main.utils.jfr.MapLoadEvent;
+import com.main.utils.GameLog;
 
 
 /**
@@ -50,19 +55,49 @@ public class WarMap {
      * Renderer for drawing the tiled map.
      */
     private OrthogonalTiledMapRenderer renderer;
+    /**
+     * Static layers baked at load time; null when the renderer could not be
+     * created.
+     */
+    private MapCache mapCache;
     /**
      * Loader for TMX map files.
      */
     private TmxMapLoader mapLoader;
+    /**
+     * Internal path of the map file.
+     */
+    private static final String MAP_PATH = "map/JAVAGAMEZ.tmx";
+    /**
+     * Possible names of the collision layer, tried in order.
+     */
+    private static final String[] COLLISION_LAYERS = {"collision", "colision", "Calque d'Objets 1", "COLLISION"};
 
     /**
      * Constructs a new WarMap instance, loading the TMX map and initializing collision rectangles.
      * Automatically renders the map after loading.
      */
     public WarMap(){
+        this(false);
+    }
+
+    /**
+     * Constructs a new WarMap instance.
+     * <p>
+     * A headless map (dedicated server) only reads the map size and collision
+     * objects from the TMX file; tilesets are not loaded, so no graphics
+     * context is needed, and {@link #getMap()} returns null.
+     *
+     * @param headless True to skip tiles and rendering
+     */
+    public WarMap(boolean headless){
         this.collisionRects = new ArrayList<>();
-        loadTmxMap();
-        render();
+        if (headless) {
+            loadHeadless();
+        } else {
+            loadTmxMap();
+            render();
+        }
     }
 
     /**
@@ -70,17 +105,21 @@ public class WarMap {
      * Handles scaling and attempts to create the renderer, with fallback for headless mode.
      */
     private void loadTmxMap(){
+        MapLoadEvent event = new MapLoadEvent();
+        event.begin();
         mapLoader = new TmxMapLoader();
-        tiledMap = mapLoader.load("map/JAVAGAMEZ.tmx");
+        tiledMap = mapLoader.load(MAP_PATH);
 
         float scale = 2.0f;
         // Try to create the renderer (may fail in headless test mode)
         try {
             renderer = new OrthogonalTiledMapRenderer(tiledMap, scale);
+            mapCache = new MapCache(tiledMap, scale, renderer);
         } catch (Exception e) {
             // In headless test mode, renderer may not be created (missing shaders)
-            System.err.println("Warning: Could not create renderer (headless mode?): " + e.getMessage());
+            GameLog.warn("WarMap", "Could not create renderer (headless mode?): {}", e.getMessage());
             renderer = null;
+            mapCache = null;
         }
 
         this.mapHeight = tiledMap.getProperties().get("height", Integer.class);
@@ -90,6 +129,45 @@ public class WarMap {
 
         // Load collision objects from the "COLLISION" layer
         loadCollisionObjects();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = MAP_PATH;
+            event.layers = tiledMap.getLayers().getCount();
+            event.collisionRects = collisionRects.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Reads the map properties and collision rectangles straight from the TMX
+     * XML. Y coordinates are flipped the same way {@link TmxMapLoader} does.
+     */
+    private void loadHeadless() {
+        XmlReader.Element root = new XmlReader().parse(Gdx.files.internal(MAP_PATH));
+        this.mapWidth = root.getIntAttribute("width");
+        this.mapHeight = root.getIntAttribute("height");
+        this.tileWidth = root.getIntAttribute("tilewidth");
+        this.tileHeight = root.getIntAttribute("tileheight");
+        float heightInPixels = mapHeight * tileHeight;
+
+        Array<XmlReader.Element> groups = root.getChildrenByName("objectgroup");
+        for (String layerName : COLLISION_LAYERS) {
+            for (XmlReader.Element group : groups) {
+                if (!layerName.equals(group.getAttribute("name", null))) {
+                    continue;
+                }
+                for (XmlReader.Element object : group.getChildrenByName("object")) {
+                    float x = object.getFloatAttribute("x", 0f);
+                    float y = object.getFloatAttribute("y", 0f);
+                    float width = object.getFloatAttribute("width", 0f);
+                    float height = object.getFloatAttribute("height", 0f);
+                    float flippedY = heightInPixels - y - height;
+                    collisionRects.add(new Rectangle(x * scale, flippedY * scale, width * scale, height * scale));
+                }
+                return;
+            }
+        }
     }
 
     /**
@@ -97,9 +175,7 @@ public class WarMap {
      * Supports multiple possible layer names for compatibility. Populates the collisionRects list.
      */
     private void loadCollisionObjects() {
-        String[] possibleNames = {"collision", "colision", "Calque d'Objets 1", "COLLISION"};
-
-        for (String layerName : possibleNames) {
+        for (String layerName : COLLISION_LAYERS) {
             if (tiledMap.getLayers().get(layerName) != null) {
 
                 for (MapObject object : tiledMap.getLayers().get(layerName).getObjects()) {
@@ -124,10 +200,12 @@ public class WarMap {
     }
 
     /**
-     * Renders the tiled map using the renderer, if available.
+     * Renders the tiled map from its cached chunks, if available.
      */
     public void render(){
-        if (renderer != null){
+        if (mapCache != null){
+            mapCache.render();
+        } else if (renderer != null){
             renderer.render();
         }
     }
@@ -161,12 +239,15 @@ public class WarMap {
         if (renderer != null) {
             renderer.setView(camera);
         }
+        if (mapCache != null) {
+            mapCache.setView(camera);
+        }
     }
 
     /**
      * Returns the TiledMap object for direct access to map data.
      *
-     * @return TiledMap instance
+     * @return TiledMap instance, or null for a headless map
      */
     public TiledMap getMap(){
         return this.tiledMap;
@@ -228,5 +309,8 @@ public class WarMap {
         if (renderer != null){
             renderer.dispose();
         }
+        if (mapCache != null){
+            mapCache.dispose();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+package com.main.net;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.main.sim.InputFrame;
+
+/**
+ * Connection of one player to a {@link LockstepRelay}.
+ * <p>
+ * {@link #connect(String, int, int)} blocks until the relay has paired two
+ * players and sent the match seed and this player's role. A reader thread then
+ * queues the other player's inputs, which TCP delivers in tick order.
+ */
+public class LockstepClient implements Closeable {
+
+    private final Socket socket;
+    private final DataOutputStream out;
+    private final long seed;
+    private final int role;
+    private final int inputDelay;
+
+    /**
+     * Remote inputs packed as {@code tick << 24 | buttons << 8 | purchase}.
+     */
+    private final ConcurrentLinkedQueue<Long> remote = new ConcurrentLinkedQueue<>();
+    private volatile boolean disconnected;
+    private long bytesSent;
+
+    private LockstepClient(Socket socket, DataInputStream in, DataOutputStream out) throws IOException {
+        this.socket = socket;
+        this.out = out;
+        if (in.readByte() != LockstepProtocol.MSG_START) {
+            throw new IOException("Relay did not start the match");
+        }
+        this.seed = in.readLong();
+        this.role = in.readUnsignedByte();
+        this.inputDelay = in.readUnsignedByte();
+        Thread reader = new Thread(() -> read(in), "lockstep-client");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Connects to a relay and waits for the match to start.
+     *
+     * @param host          Relay host
+     * @param port          Relay port
+     * @param timeoutMillis Connection timeout (waiting for the second player is
+     *                      not limited)
+     * @return Connected client
+     * @throws IOException If the relay cannot be reached
+     */
+    public static LockstepClient connect(String host, int port, int timeoutMillis) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            return new LockstepClient(socket, in, out);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reader thread body: queues INPUT messages until the connection closes.
+     */
+    private void read(DataInputStream in) {
+        try {
+            while (true) {
+                if (in.readByte() != LockstepProtocol.MSG_INPUT) {
+                    throw new IOException("Unexpected message");
+                }
+                long tick = in.readInt() & 0xffffffffL;
+                int buttons = in.readUnsignedShort();
+                int purchase = in.readByte() & 0xff;
+                remote.add((tick << 24) | ((long) buttons << 8) | purchase);
+            }
+        } catch (IOException e) {
+            disconnected = true;
+        }
+    }
+
+    /**
+     * Sends this player's input for a tick.
+     *
+     * @param tick     Tick the input applies to
+     * @param buttons  Button bitmask
+     * @param purchase Encoded purchase or {@link InputFrame#NO_PURCHASE}
+     * @throws IOException If the connection is lost
+     */
+    public void sendInput(int tick, int buttons, byte purchase) throws IOException {
+        out.writeByte(LockstepProtocol.MSG_INPUT);
+        out.writeInt(tick);
+        out.writeShort(buttons);
+        out.writeByte(purchase);
+        out.flush();
+        bytesSent += LockstepProtocol.INPUT_SIZE;
+    }
+
+    /**
+     * Takes the other player's input for a tick if it has arrived.
+     *
+     * @param tick  Tick to simulate next
+     * @param frame Frame to fill (delta is set to {@code delta})
+     * @param delta Fixed tick delta
+     * @return True if the input was available
+     * @throws IOException If the other player sent inputs out of order
+     */
+    public boolean pollRemote(int tick, InputFrame frame, float delta) throws IOException {
+        Long packed = remote.peek();
+        if (packed == null) {
+            return false;
+        }
+        long value = packed;
+        int remoteTick = (int) (value >>> 24);
+        if (remoteTick != tick) {
+            throw new IOException("Expected input for tick " + tick + " but got " + remoteTick);
+        }
+        remote.poll();
+        frame.set(delta, (int) ((value >>> 8) & 0xffff), (byte) value);
+        return true;
+    }
+
+    /**
+     * Returns the match seed sent by the relay.
+     *
+     * @return Seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns this player's role.
+     *
+     * @return {@link LockstepProtocol#ROLE_HERO} or
+     *         {@link LockstepProtocol#ROLE_COMMANDER}
+     */
+    public int getRole() {
+        return role;
+    }
+
+    /**
+     * Returns the input delay chosen by the relay.
+     *
+     * @return Delay in ticks
+     */
+    public int getInputDelay() {
+        return inputDelay;
+    }
+
+    /**
+     * Returns the number of bytes sent to the relay.
+     *
+     * @return Sent byte count
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Returns whether the connection to the relay was lost.
+     *
+     * @return True once the reader thread stopped
+     */
+    public boolean isDisconnected() {
+        return disconnected;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
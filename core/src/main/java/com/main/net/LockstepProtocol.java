@@ -0,0 +1,40 @@
+package com.main.net;
+
+/**
+ * Wire format shared by {@link LockstepRelay} and {@link LockstepClient}.
+ * <p>
+ * All values are big-endian. The relay sends each client one START message
+ * once both players are connected:
+ * {@code [MSG_START][seed: long][role: byte][input delay: byte]}. After that,
+ * clients only exchange fixed-size INPUT messages, which the relay forwards
+ * unchanged to the other client:
+ * {@code [MSG_INPUT][tick: int][buttons: short][purchase: byte]}, i.e. 8 bytes
+ * per player per tick whatever happens on the field.
+ */
+public final class LockstepProtocol {
+
+    /** Default relay port. */
+    public static final int DEFAULT_PORT = 7777;
+
+    /** Match start: seed, role and input delay. */
+    public static final byte MSG_START = 1;
+    /** One tick of player input. */
+    public static final byte MSG_INPUT = 2;
+
+    /** Size of an INPUT message in bytes, type included. */
+    public static final int INPUT_SIZE = 8;
+
+    /** Role of the first player: controls the hero and soldiers. */
+    public static final int ROLE_HERO = 0;
+    /** Role of the second player: buys zombies for the enemy base. */
+    public static final int ROLE_COMMANDER = 1;
+
+    /**
+     * Number of ticks between sampling an input and simulating it, which hides
+     * the round trip through the relay.
+     */
+    public static final int INPUT_DELAY = 3;
+
+    private LockstepProtocol() {
+    }
+}
@@ -0,0 +1,197 @@
+package com.main.net;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.main.utils.GameLog;
+
+/**
+ * Small relay process for the lockstep versus mode, listening on localhost.
+ * <p>
+ * It waits for two players, sends each of them the match seed and its role
+ * (first connection: hero, second: zombie commander), then forwards every
+ * INPUT message from one player to the other. It never looks at the game
+ * state, so its cost does not depend on the number of units.
+ * <p>
+ * Usage: {@code java -cp core.jar com.main.net.LockstepRelay [port]}
+ */
+public class LockstepRelay implements Closeable {
+
+    private final ServerSocket server;
+    private final long seed;
+    private final AtomicLong forwardedBytes = new AtomicLong();
+    private Thread acceptThread;
+    private volatile Socket[] players;
+    private volatile boolean closed;
+
+    /**
+     * Opens the relay socket on the loopback interface.
+     *
+     * @param port Port to listen on (0 picks a free port)
+     * @param seed Seed sent to both players
+     * @throws IOException If the port cannot be bound
+     */
+    public LockstepRelay(int port, long seed) throws IOException {
+        this.server = new ServerSocket(port, 2, InetAddress.getLoopbackAddress());
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the port the relay listens on.
+     *
+     * @return Local port
+     */
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Returns the number of input bytes forwarded so far, both directions.
+     *
+     * @return Forwarded byte count
+     */
+    public long getForwardedBytes() {
+        return forwardedBytes.get();
+    }
+
+    /**
+     * Starts accepting players in the background.
+     */
+    public void start() {
+        acceptThread = new Thread(this::run, "lockstep-relay");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    /**
+     * Waits for both players, starts the match and forwards inputs until one
+     * of them disconnects.
+     */
+    private void run() {
+        Socket hero = null;
+        Socket commander = null;
+        try {
+            hero = accept();
+            GameLog.info("LockstepRelay", "Hero player connected from {}", hero.getRemoteSocketAddress());
+            commander = accept();
+            GameLog.info("LockstepRelay", "Commander player connected from {}", commander.getRemoteSocketAddress());
+            players = new Socket[] { hero, commander };
+
+            DataOutputStream heroOut = output(hero);
+            DataOutputStream commanderOut = output(commander);
+            sendStart(heroOut, LockstepProtocol.ROLE_HERO);
+            sendStart(commanderOut, LockstepProtocol.ROLE_COMMANDER);
+
+            Thread back = new Thread(forward(commander, heroOut), "lockstep-relay-commander");
+            back.setDaemon(true);
+            back.start();
+            forward(hero, commanderOut).run();
+            back.join();
+        } catch (IOException e) {
+            if (!closed) {
+                GameLog.warn("LockstepRelay", "Relay stopped: {}", e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeQuietly(hero);
+            closeQuietly(commander);
+        }
+    }
+
+    private Socket accept() throws IOException {
+        Socket socket = server.accept();
+        socket.setTcpNoDelay(true);
+        return socket;
+    }
+
+    private static DataOutputStream output(Socket socket) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    private void sendStart(DataOutputStream out, int role) throws IOException {
+        out.writeByte(LockstepProtocol.MSG_START);
+        out.writeLong(seed);
+        out.writeByte(role);
+        out.writeByte(LockstepProtocol.INPUT_DELAY);
+        out.flush();
+    }
+
+    /**
+     * Returns a task copying INPUT messages from one player to the other until
+     * either side closes; then both sockets are closed.
+     */
+    private Runnable forward(Socket from, DataOutputStream to) {
+        return () -> {
+            byte[] message = new byte[LockstepProtocol.INPUT_SIZE];
+            try {
+                DataInputStream in = new DataInputStream(from.getInputStream());
+                while (true) {
+                    in.readFully(message);
+                    if (message[0] != LockstepProtocol.MSG_INPUT) {
+                        throw new IOException("Unexpected message " + message[0]);
+                    }
+                    synchronized (to) {
+                        to.write(message);
+                        to.flush();
+                    }
+                    forwardedBytes.addAndGet(message.length);
+                }
+            } catch (IOException e) {
+                // A player left: end the match for both
+                Socket[] both = players;
+                if (both != null) {
+                    closeQuietly(both[0]);
+                    closeQuietly(both[1]);
+                }
+            }
+        };
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+        }
+    }
+
+    /**
+     * Stops the relay and disconnects both players.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        Socket[] both = players;
+        if (both != null) {
+            closeQuietly(both[0]);
+            closeQuietly(both[1]);
+        }
+        server.close();
+    }
+
+    /**
+     * Runs a relay until both players have left.
+     *
+     * @param args Optional port
+     * @throws Exception If the relay cannot start
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : LockstepProtocol.DEFAULT_PORT;
+        try (LockstepRelay relay = new LockstepRelay(port, System.nanoTime())) {
+            relay.start();
+            GameLog.info("LockstepRelay", "Listening on localhost:{}", relay.getPort());
+            relay.acceptThread.join();
+        }
+        GameLog.flush(1000);
+    }
+}
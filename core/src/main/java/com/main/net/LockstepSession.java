@@ -0,0 +1,216 @@
+package com.main.net;
+
+import java.io.IOException;
+
+import com.main.map.Base;
+import com.main.sim.InputFrame;
+import com.main.sim.Match;
+
+/**
+ * Drives a {@link Match} in lockstep with a remote player.
+ * <p>
+ * The match advances at a fixed {@link #TICK} regardless of the frame rate, so
+ * both machines run exactly the same steps. The local input sampled for tick
+ * {@code n} is sent right away but only simulated at tick
+ * {@code n + inputDelay}; a tick runs once the remote input for it has
+ * arrived, otherwise the session waits (stalls) and catches up later. The
+ * first {@code inputDelay} ticks use empty inputs on both sides.
+ * <p>
+ * Button presses seen in frames between two sent ticks are merged, so a short
+ * key press is never lost.
+ */
+public class LockstepSession {
+
+    /**
+     * Fixed simulation step (seconds).
+     */
+    public static final float TICK = 1f / 30f;
+
+    /**
+     * Maximum number of ticks simulated in one frame when catching up.
+     */
+    private static final int MAX_CATCH_UP = 8;
+
+    private final Match match;
+    private final LockstepClient client;
+    private final int role;
+    private final int inputDelay;
+
+    /**
+     * Local inputs already sent and not yet simulated, indexed by tick.
+     */
+    private final int[] sentButtons;
+    private final byte[] sentPurchases;
+
+    private final InputFrame localFrame = new InputFrame();
+    private final InputFrame remoteFrame = new InputFrame();
+
+    /** Next tick to simulate. */
+    private int tick = 0;
+    /** Next tick to send local input for. */
+    private int sendTick;
+    private float accumulator = 0f;
+    private int pendingButtons = 0;
+    private byte pendingPurchase = InputFrame.NO_PURCHASE;
+    private int stalls = 0;
+
+    /**
+     * Creates a session for a freshly created match. The zombie base is handed
+     * to the commander player.
+     *
+     * @param match  Match created with the relay's seed
+     * @param client Connected client
+     */
+    public LockstepSession(Match match, LockstepClient client) {
+        this.match = match;
+        this.client = client;
+        this.role = client.getRole();
+        this.inputDelay = client.getInputDelay();
+        this.sendTick = inputDelay;
+        this.sentButtons = new int[inputDelay + 2];
+        this.sentPurchases = new byte[inputDelay + 2];
+        match.getEnemyBase().setCommanded(true);
+    }
+
+    /**
+     * Collects this frame's local input and runs as many fixed ticks as the
+     * elapsed time and the received remote inputs allow.
+     *
+     * @param frameDelta Frame delta (seconds)
+     * @param buttons    Local buttons this frame
+     * @param purchase   Local purchase this frame, or
+     *                   {@link InputFrame#NO_PURCHASE}
+     * @throws IOException If the connection is lost
+     */
+    public void update(float frameDelta, int buttons, byte purchase) throws IOException {
+        pendingButtons |= buttons;
+        if (purchase != InputFrame.NO_PURCHASE) {
+            pendingPurchase = purchase;
+        }
+        accumulator = Math.min(accumulator + frameDelta, MAX_CATCH_UP * TICK);
+        while (accumulator >= TICK) {
+            if (!step()) {
+                stalls++;
+                break;
+            }
+            accumulator -= TICK;
+        }
+    }
+
+    /**
+     * Sends pending local input if due, then simulates the next tick if the
+     * remote input for it is available.
+     *
+     * @return False if the tick is still waiting for the remote player
+     * @throws IOException If the connection is lost
+     */
+    public boolean step() throws IOException {
+        if (client.isDisconnected()) {
+            throw new IOException("Relay connection lost");
+        }
+        if (sendTick <= tick + inputDelay) {
+            client.sendInput(sendTick, pendingButtons, pendingPurchase);
+            sentButtons[sendTick % sentButtons.length] = pendingButtons;
+            sentPurchases[sendTick % sentPurchases.length] = pendingPurchase;
+            sendTick++;
+            pendingButtons = 0;
+            pendingPurchase = InputFrame.NO_PURCHASE;
+        }
+
+        if (tick < inputDelay) {
+            localFrame.clear(TICK);
+            remoteFrame.clear(TICK);
+        } else {
+            if (!client.pollRemote(tick, remoteFrame, TICK)) {
+                return false;
+            }
+            int slot = tick % sentButtons.length;
+            localFrame.set(TICK, sentButtons[slot], sentPurchases[slot]);
+        }
+
+        if (role == LockstepProtocol.ROLE_HERO) {
+            match.tick(localFrame, remoteFrame);
+        } else {
+            match.tick(remoteFrame, localFrame);
+        }
+        tick++;
+        return true;
+    }
+
+    /**
+     * Translates a purchase made in the soldier shop into the zombie of the
+     * same cost, so the commander can use the regular shop buttons.
+     *
+     * @param purchase Encoded soldier purchase
+     * @return Encoded zombie purchase, or {@link InputFrame#NO_PURCHASE}
+     */
+    public static byte toCommanderPurchase(byte purchase) {
+        if (purchase == InputFrame.NO_PURCHASE) {
+            return purchase;
+        }
+        InputFrame frame = new InputFrame();
+        frame.set(0f, 0, purchase);
+        Base.Type zombie;
+        switch (frame.getPurchaseType()) {
+            case MELEE:
+                zombie = Base.Type.WOMAN;
+                break;
+            case SNIPER:
+                zombie = Base.Type.CRAWL;
+                break;
+            case TANK:
+                zombie = Base.Type.FAST;
+                break;
+            default:
+                return purchase;
+        }
+        return InputFrame.encodePurchase(zombie, frame.getPurchaseLane());
+    }
+
+    /**
+     * Returns the next tick to simulate.
+     *
+     * @return Tick number
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns this player's role.
+     *
+     * @return Role from {@link LockstepProtocol}
+     */
+    public int getRole() {
+        return role;
+    }
+
+    /**
+     * Returns how many frames ended waiting for the remote player.
+     *
+     * @return Stall count
+     */
+    public int getStalls() {
+        return stalls;
+    }
+
+    /**
+     * Returns the match being played.
+     *
+     * @return Match instance
+     */
+    public Match getMatch() {
+        return match;
+    }
+
+    /**
+     * Closes the connection to the relay.
+     */
+    public void close() {
+        try {
+            client.close();
+        } catch (IOException ignored) {
+            // Already closed
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.main.net;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.main.entities.Unit;
+import com.main.map.Base;
+import com.main.save.MatchSnapshot;
+import com.main.sim.Match;
+
+/**
+ * Mirrors the state streamed by the match server onto a local {@link Match}
+ * that is rendered but never ticked.
+ * <p>
+ * Each server unit id gets a local unit of the same type in the owning base;
+ * its position, health and state are overwritten from every sampled state and
+ * it is dropped, releasing its textures, when the server stops sending it.
+ */
+public class RemoteMatchView {
+
+    private final Match match;
+    private final Map<Integer, Unit> units = new HashMap<>();
+
+    /**
+     * Creates a view over a match used only for display. Its enemy base is
+     * marked as commanded so it never spawns on its own.
+     *
+     * @param match Local match created on the same map
+     */
+    public RemoteMatchView(Match match) {
+        this.match = match;
+        match.getEnemyBase().setCommanded(true);
+    }
+
+    /**
+     * Applies a (sampled) server state.
+     *
+     * @param state State to display
+     * @param delta Frame delta, used to advance the animations
+     */
+    public void apply(WorldState state, float delta) {
+        match.restoreTick(state.tick);
+        match.getPlayerBase().setHealth(state.playerBaseHealth);
+        match.getEnemyBase().setHealth(state.enemyBaseHealth);
+        match.getHero().applyRemoteState(StateCodec.dequantize(state.heroX), StateCodec.dequantize(state.heroY),
+                state.heroHealth, state.heroGold, state.heroPose, delta);
+        if (state.heroWeapon != 0) {
+            match.getHero().applyRemoteWeapon(state.heroWeapon);
+        }
+
+        // Forget units the server no longer sends
+        Iterator<Map.Entry<Integer, Unit>> it = units.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Unit> entry = it.next();
+            if (state.indexOf(entry.getKey()) < 0) {
+                Unit unit = entry.getValue();
+                unit.getAllyBase().getUnits().remove(unit);
+                unit.dispose();
+                it.remove();
+            }
+        }
+
+        Unit.UnitState[] unitStates = Unit.UnitState.values();
+        Base.Type[] types = Base.Type.values();
+        for (int i = 0; i < state.getUnitCount(); i++) {
+            Unit unit = units.get(state.getId(i));
+            if (unit == null) {
+                Base.Type type = types[state.getType(i)];
+                Base owner = type.ordinal() <= Base.Type.SNIPER.ordinal() ? match.getPlayerBase() : match.getEnemyBase();
+                unit = MatchSnapshot.create(type, owner);
+                unit.setLane(state.getLane(i));
+                owner.restoreUnit(unit, false);
+                units.put(state.getId(i), unit);
+            }
+            unit.applyRemoteState(StateCodec.dequantize(state.getX(i)), StateCodec.dequantize(state.getY(i)),
+                    state.getHealth(i), unitStates[state.getState(i)], delta);
+        }
+    }
+
+    /**
+     * Returns the displayed match.
+     *
+     * @return Match instance
+     */
+    public Match getMatch() {
+        return match;
+    }
+}
@@ -0,0 +1,72 @@
+package com.main.net;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.main.entities.Unit;
+import com.main.entities.player.Hero;
+import com.main.save.MatchSnapshot;
+import com.main.sim.Match;
+
+/**
+ * Captures a {@link Match} as a quantized {@link WorldState}, giving every unit
+ * a stable id for as long as it stays in its base's list.
+ * <p>
+ * Used for the snapshots streamed by the match server and for the render
+ * snapshots published by the simulation thread. Ids are remembered between
+ * captures, so an instance captures one match from one thread.
+ */
+public class StateCapture {
+
+    /**
+     * Id of every unit alive at the last capture.
+     */
+    private Map<Unit, Integer> ids = new IdentityHashMap<>();
+    private Map<Unit, Integer> nextIds = new IdentityHashMap<>();
+    private int nextId = 1;
+
+    /**
+     * Captures the match, assigning ids to new units and forgetting those of
+     * removed ones.
+     *
+     * @param match Match to capture
+     * @param out   State to overwrite
+     */
+    public void capture(Match match, WorldState out) {
+        out.tick = (int) match.getTick();
+        Hero hero = match.getHero();
+        out.heroX = StateCodec.quantize(hero.getPosX());
+        out.heroY = StateCodec.quantize(hero.getPosY());
+        out.heroHealth = hero.getCurrentHealth();
+        out.heroGold = hero.getGold();
+        out.heroPose = hero.getPose();
+        out.heroWeapon = hero.getWeaponCode();
+        out.heroShots = hero.getShots();
+        out.heroReloads = hero.getReloads();
+        out.playerBaseHealth = match.getPlayerBase().getHealth();
+        out.enemyBaseHealth = match.getEnemyBase().getHealth();
+
+        out.clearUnits();
+        nextIds.clear();
+        addUnits(out, match.getPlayerBase().getUnits());
+        addUnits(out, match.getEnemyBase().getUnits());
+        Map<Unit, Integer> swap = ids;
+        ids = nextIds;
+        nextIds = swap;
+        out.sortById();
+    }
+
+    private void addUnits(WorldState state, List<Unit> units) {
+        for (Unit unit : units) {
+            Integer id = ids.get(unit);
+            if (id == null) {
+                id = nextId++;
+            }
+            nextIds.put(unit, id);
+            state.addUnit(id, MatchSnapshot.typeOf(unit).ordinal(), unit.getLane(),
+                    StateCodec.quantize(unit.getPosX()), StateCodec.quantize(unit.getPosY()),
+                    unit.getHealth(), unit.getCurrentState().ordinal());
+        }
+    }
+}
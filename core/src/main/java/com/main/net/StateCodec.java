@@ -0,0 +1,322 @@
+package com.main.net;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Delta compression of {@link WorldState}s for the server stream.
+ * <p>
+ * A frame is either a keyframe (complete state) or a delta against the
+ * previous frame sent on the same connection. A delta only carries the fields
+ * that changed: for each unit, a bit mask followed by zigzag varint deltas of
+ * its quantized position and health, so a walking unit usually costs three to
+ * four bytes and an idle one nothing. Unit ids are written as gaps from the
+ * previous id, and removed units as a list of ids.
+ * <p>
+ * Layout: flags byte, tick, changed hero / base fields, removed ids, then the
+ * changed units. All integers are varints.
+ */
+public final class StateCodec {
+
+    /**
+     * Position quantization: a quarter of a pixel.
+     */
+    public static final int QUANT = 4;
+
+    static final int KEYFRAME = 1;
+    static final int HERO_X = 1 << 1;
+    static final int HERO_Y = 1 << 2;
+    static final int HERO_HEALTH = 1 << 3;
+    static final int HERO_GOLD = 1 << 4;
+    static final int HERO_POSE = 1 << 5;
+    static final int BASES = 1 << 6;
+
+    static final int UNIT_NEW = 1;
+    static final int UNIT_X = 1 << 1;
+    static final int UNIT_Y = 1 << 2;
+    static final int UNIT_HEALTH = 1 << 3;
+    static final int UNIT_STATE = 1 << 4;
+
+    /**
+     * State used as the baseline of keyframes.
+     */
+    private static final WorldState EMPTY = new WorldState();
+
+    private StateCodec() {
+    }
+
+    /**
+     * Quantizes a world coordinate.
+     *
+     * @param value Coordinate in pixels
+     * @return Coordinate in {@link #QUANT}ths of a pixel
+     */
+    public static int quantize(float value) {
+        return Math.round(value * QUANT);
+    }
+
+    /**
+     * Converts a quantized coordinate back to pixels.
+     *
+     * @param value Quantized coordinate
+     * @return Coordinate in pixels
+     */
+    public static float dequantize(int value) {
+        return value / (float) QUANT;
+    }
+
+    /**
+     * Writes {@code current} as a delta against {@code previous}.
+     *
+     * @param previous State last sent on this connection, or null for a keyframe
+     * @param current  State to send
+     * @param out      Destination
+     * @throws IOException If writing fails
+     */
+    public static void encode(WorldState previous, WorldState current, DataOutput out) throws IOException {
+        boolean keyframe = previous == null;
+        WorldState base = keyframe ? EMPTY : previous;
+
+        int flags = keyframe ? KEYFRAME : 0;
+        flags |= current.heroX != base.heroX ? HERO_X : 0;
+        flags |= current.heroY != base.heroY ? HERO_Y : 0;
+        flags |= current.heroHealth != base.heroHealth ? HERO_HEALTH : 0;
+        flags |= current.heroGold != base.heroGold ? HERO_GOLD : 0;
+        flags |= current.heroPose != base.heroPose ? HERO_POSE : 0;
+        if (current.playerBaseHealth != base.playerBaseHealth || current.enemyBaseHealth != base.enemyBaseHealth) {
+            flags |= BASES;
+        }
+        out.writeByte(flags);
+        writeVarInt(out, keyframe ? current.tick : current.tick - base.tick);
+        if ((flags & HERO_X) != 0) {
+            writeSigned(out, current.heroX - base.heroX);
+        }
+        if ((flags & HERO_Y) != 0) {
+            writeSigned(out, current.heroY - base.heroY);
+        }
+        if ((flags & HERO_HEALTH) != 0) {
+            writeSigned(out, current.heroHealth - base.heroHealth);
+        }
+        if ((flags & HERO_GOLD) != 0) {
+            writeSigned(out, current.heroGold - base.heroGold);
+        }
+        if ((flags & HERO_POSE) != 0) {
+            writeVarInt(out, current.heroPose);
+        }
+        if ((flags & BASES) != 0) {
+            writeSigned(out, current.playerBaseHealth - base.playerBaseHealth);
+            writeSigned(out, current.enemyBaseHealth - base.enemyBaseHealth);
+        }
+
+        // Removed units: in the baseline but not in the current state
+        int removed = 0;
+        for (int i = 0; i < base.getUnitCount(); i++) {
+            if (current.indexOf(base.getId(i)) < 0) {
+                removed++;
+            }
+        }
+        writeVarInt(out, removed);
+        int lastId = 0;
+        for (int i = 0; i < base.getUnitCount(); i++) {
+            int id = base.getId(i);
+            if (current.indexOf(id) < 0) {
+                writeVarInt(out, id - lastId);
+                lastId = id;
+            }
+        }
+
+        // Changed or new units
+        int changed = 0;
+        for (int i = 0; i < current.getUnitCount(); i++) {
+            if (unitMask(base, current, i) != 0) {
+                changed++;
+            }
+        }
+        writeVarInt(out, changed);
+        lastId = 0;
+        for (int i = 0; i < current.getUnitCount(); i++) {
+            int mask = unitMask(base, current, i);
+            if (mask == 0) {
+                continue;
+            }
+            int id = current.getId(i);
+            writeVarInt(out, id - lastId);
+            lastId = id;
+            out.writeByte(mask);
+            if ((mask & UNIT_NEW) != 0) {
+                out.writeByte(current.getType(i));
+                out.writeByte(current.getLane(i));
+                writeSigned(out, current.getX(i));
+                writeSigned(out, current.getY(i));
+                writeSigned(out, current.getHealth(i));
+                out.writeByte(current.getState(i));
+                continue;
+            }
+            int old = base.indexOf(id);
+            if ((mask & UNIT_X) != 0) {
+                writeSigned(out, current.getX(i) - base.getX(old));
+            }
+            if ((mask & UNIT_Y) != 0) {
+                writeSigned(out, current.getY(i) - base.getY(old));
+            }
+            if ((mask & UNIT_HEALTH) != 0) {
+                writeSigned(out, current.getHealth(i) - base.getHealth(old));
+            }
+            if ((mask & UNIT_STATE) != 0) {
+                out.writeByte(current.getState(i));
+            }
+        }
+    }
+
+    /**
+     * Computes which fields of unit {@code i} of {@code current} differ from
+     * the baseline.
+     */
+    private static int unitMask(WorldState base, WorldState current, int i) {
+        int old = base.indexOf(current.getId(i));
+        if (old < 0 || base.getType(old) != current.getType(i) || base.getLane(old) != current.getLane(i)) {
+            return UNIT_NEW;
+        }
+        int mask = 0;
+        mask |= current.getX(i) != base.getX(old) ? UNIT_X : 0;
+        mask |= current.getY(i) != base.getY(old) ? UNIT_Y : 0;
+        mask |= current.getHealth(i) != base.getHealth(old) ? UNIT_HEALTH : 0;
+        mask |= current.getState(i) != base.getState(old) ? UNIT_STATE : 0;
+        return mask;
+    }
+
+    /**
+     * Reads a frame written by {@link #encode(WorldState, WorldState, DataOutput)}.
+     *
+     * @param previous State decoded from the previous frame on this connection
+     *                 (ignored for keyframes, may be null before the first one)
+     * @param in       Source
+     * @param out      Receives the decoded state (must not be {@code previous})
+     * @throws IOException If reading fails or a delta arrives without baseline
+     */
+    public static void decode(WorldState previous, DataInput in, WorldState out) throws IOException {
+        int flags = in.readUnsignedByte();
+        boolean keyframe = (flags & KEYFRAME) != 0;
+        if (!keyframe && previous == null) {
+            throw new IOException("Delta frame received before a keyframe");
+        }
+        WorldState base = keyframe ? EMPTY : previous;
+
+        int tick = readVarInt(in);
+        out.tick = keyframe ? tick : base.tick + tick;
+        out.heroX = base.heroX + ((flags & HERO_X) != 0 ? readSigned(in) : 0);
+        out.heroY = base.heroY + ((flags & HERO_Y) != 0 ? readSigned(in) : 0);
+        out.heroHealth = base.heroHealth + ((flags & HERO_HEALTH) != 0 ? readSigned(in) : 0);
+        out.heroGold = base.heroGold + ((flags & HERO_GOLD) != 0 ? readSigned(in) : 0);
+        out.heroPose = (flags & HERO_POSE) != 0 ? readVarInt(in) : base.heroPose;
+        out.playerBaseHealth = base.playerBaseHealth;
+        out.enemyBaseHealth = base.enemyBaseHealth;
+        if ((flags & BASES) != 0) {
+            out.playerBaseHealth += readSigned(in);
+            out.enemyBaseHealth += readSigned(in);
+        }
+
+        int removedCount = readVarInt(in);
+        int[] removed = new int[removedCount];
+        int lastId = 0;
+        for (int i = 0; i < removedCount; i++) {
+            lastId += readVarInt(in);
+            removed[i] = lastId;
+        }
+
+        // Merge the baseline units (minus removed ones) with the changed records
+        out.clearUnits();
+        int changedCount = readVarInt(in);
+        int next = 0;
+        int removedIndex = 0;
+        lastId = 0;
+        for (int c = 0; c < changedCount; c++) {
+            lastId += readVarInt(in);
+            int id = lastId;
+            while (next < base.getUnitCount() && base.getId(next) < id) {
+                removedIndex = copyUnlessRemoved(base, next++, removed, removedIndex, out);
+            }
+            int old = -1;
+            if (next < base.getUnitCount() && base.getId(next) == id) {
+                old = next++;
+            }
+            int mask = in.readUnsignedByte();
+            if ((mask & UNIT_NEW) != 0) {
+                int type = in.readUnsignedByte();
+                int lane = in.readUnsignedByte();
+                int x = readSigned(in);
+                int y = readSigned(in);
+                int health = readSigned(in);
+                out.addUnit(id, type, lane, x, y, health, in.readUnsignedByte());
+                continue;
+            }
+            if (old < 0) {
+                throw new IOException("Delta for unknown unit " + id);
+            }
+            int x = base.getX(old) + ((mask & UNIT_X) != 0 ? readSigned(in) : 0);
+            int y = base.getY(old) + ((mask & UNIT_Y) != 0 ? readSigned(in) : 0);
+            int health = base.getHealth(old) + ((mask & UNIT_HEALTH) != 0 ? readSigned(in) : 0);
+            int state = (mask & UNIT_STATE) != 0 ? in.readUnsignedByte() : base.getState(old);
+            out.addUnit(id, base.getType(old), base.getLane(old), x, y, health, state);
+        }
+        while (next < base.getUnitCount()) {
+            removedIndex = copyUnlessRemoved(base, next++, removed, removedIndex, out);
+        }
+    }
+
+    /**
+     * Copies an unchanged baseline unit unless it is in the (sorted) removed
+     * list.
+     *
+     * @return Updated position in the removed list
+     */
+    private static int copyUnlessRemoved(WorldState base, int index, int[] removed, int removedIndex,
+            WorldState out) {
+        int id = base.getId(index);
+        while (removedIndex < removed.length && removed[removedIndex] < id) {
+            removedIndex++;
+        }
+        if (removedIndex < removed.length && removed[removedIndex] == id) {
+            return removedIndex + 1;
+        }
+        out.addUnit(id, base.getType(index), base.getLane(index), base.getX(index), base.getY(index),
+                base.getHealth(index), base.getState(index));
+        return removedIndex;
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint.
+     */
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Writes a signed value as a zigzag varint (small magnitudes take one byte).
+     */
+    static void writeSigned(DataOutput out, int value) throws IOException {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static int readSigned(DataInput in) throws IOException {
+        int value = readVarInt(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,211 @@
+package com.main.net;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayDeque;
+
+import com.main.sim.InputFrame;
+
+/**
+ * Connection of a rendering client to the dedicated match server.
+ * <p>
+ * A reader thread decodes the server's snapshots and keeps the last few. The
+ * game thread calls {@link #sample(float, WorldState)} every frame to get the
+ * state {@link StreamProtocol#INTERPOLATION_DELAY} ticks behind the newest
+ * snapshot, with unit positions interpolated between the two snapshots around
+ * that time. Nothing is simulated locally.
+ */
+public class StateStreamClient implements Closeable {
+
+    /**
+     * Number of decoded snapshots kept for interpolation.
+     */
+    private static final int BUFFER = 8;
+
+    private final Socket socket;
+    private final DataOutputStream out;
+
+    /**
+     * Decoded snapshots, oldest first; guarded by itself.
+     */
+    private final ArrayDeque<WorldState> snapshots = new ArrayDeque<>();
+
+    private volatile boolean disconnected;
+    private volatile long bytesReceived;
+    private volatile int framesReceived;
+
+    /**
+     * Render time in server ticks, set by the first sample.
+     */
+    private float playbackTick;
+    private boolean playing;
+    private int lastButtons = -1;
+
+    private StateStreamClient(Socket socket) throws IOException {
+        this.socket = socket;
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        Thread reader = new Thread(() -> read(in), "state-stream-client");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Connects to a match server.
+     *
+     * @param host          Server host
+     * @param port          Server port
+     * @param timeoutMillis Connection timeout
+     * @return Connected client
+     * @throws IOException If the server cannot be reached
+     */
+    public static StateStreamClient connect(String host, int port, int timeoutMillis) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+            socket.setTcpNoDelay(true);
+            return new StateStreamClient(socket);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reader thread body: decodes snapshots until the connection closes.
+     */
+    private void read(DataInputStream in) {
+        WorldState previous = null;
+        byte[] frame = new byte[1024];
+        try {
+            while (true) {
+                int length = in.readInt();
+                if (length < 0 || length > StreamProtocol.MAX_FRAME) {
+                    throw new IOException("Invalid frame length " + length);
+                }
+                if (frame.length < length) {
+                    frame = new byte[Math.max(length, frame.length * 2)];
+                }
+                in.readFully(frame, 0, length);
+                WorldState state = new WorldState();
+                StateCodec.decode(previous, new DataInputStream(new ByteArrayInputStream(frame, 0, length)), state);
+                previous = state;
+                synchronized (snapshots) {
+                    if (snapshots.size() == BUFFER) {
+                        snapshots.removeFirst();
+                    }
+                    snapshots.addLast(state);
+                }
+                bytesReceived += 4 + length;
+                framesReceived++;
+            }
+        } catch (IOException e) {
+            disconnected = true;
+        }
+    }
+
+    /**
+     * Sends the local input if it changed since the last call. Purchases are
+     * always sent.
+     *
+     * @param buttons  Button bitmask
+     * @param purchase Encoded purchase or {@link InputFrame#NO_PURCHASE}
+     * @throws IOException If the connection is lost
+     */
+    public void sendInput(int buttons, byte purchase) throws IOException {
+        if (buttons == lastButtons && purchase == InputFrame.NO_PURCHASE) {
+            return;
+        }
+        lastButtons = buttons;
+        out.writeByte(StreamProtocol.MSG_INPUT);
+        out.writeShort(buttons);
+        out.writeByte(purchase);
+        out.flush();
+    }
+
+    /**
+     * Advances the render clock and fills {@code out} with the interpolated
+     * state at that time.
+     *
+     * @param delta Frame delta (seconds)
+     * @param out   Receives the state
+     * @return False if no snapshot has arrived yet
+     */
+    public boolean sample(float delta, WorldState out) {
+        synchronized (snapshots) {
+            if (snapshots.isEmpty()) {
+                return false;
+            }
+            WorldState newest = snapshots.peekLast();
+            float target = newest.tick - StreamProtocol.INTERPOLATION_DELAY;
+            if (!playing) {
+                playbackTick = target;
+                playing = true;
+            } else {
+                playbackTick += delta / StreamProtocol.TICK;
+            }
+            // Resynchronise when the stream stalled or rushed ahead
+            if (playbackTick < target - StreamProtocol.INTERPOLATION_DELAY) {
+                playbackTick = target;
+            }
+            if (playbackTick > newest.tick) {
+                playbackTick = newest.tick;
+            }
+
+            WorldState from = snapshots.peekFirst();
+            if (playbackTick <= from.tick) {
+                out.set(from);
+                return true;
+            }
+            for (WorldState to : snapshots) {
+                if (to.tick >= playbackTick) {
+                    float alpha = (playbackTick - from.tick) / (float) (to.tick - from.tick);
+                    out.interpolate(from, to, alpha);
+                    return true;
+                }
+                from = to;
+            }
+            out.set(newest);
+            return true;
+        }
+    }
+
+    /**
+     * Returns the number of bytes received from the server.
+     *
+     * @return Received byte count
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Returns the number of snapshots received.
+     *
+     * @return Snapshot count
+     */
+    public int getFramesReceived() {
+        return framesReceived;
+    }
+
+    /**
+     * Returns whether the connection to the server was lost.
+     *
+     * @return True once the reader thread stopped
+     */
+    public boolean isDisconnected() {
+        return disconnected;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,42 @@
+package com.main.net;
+
+/**
+ * Wire format between the dedicated match server and {@link StateStreamClient}.
+ * <p>
+ * All values are big-endian. The server simulates at a fixed {@link #TICK} and
+ * every {@link #SNAPSHOT_INTERVAL} ticks sends each client one SNAPSHOT
+ * message: {@code [length: int][frame]}, where the frame is a
+ * {@link StateCodec} keyframe or delta against the previous frame on that
+ * connection. The client sends fixed-size INPUT messages whenever its input
+ * changes: {@code [MSG_INPUT][buttons: short][purchase: byte]}. Only the first
+ * connected client controls the hero; the others spectate.
+ */
+public final class StreamProtocol {
+
+    /** Default server port. */
+    public static final int DEFAULT_PORT = 7778;
+
+    /** Fixed simulation step of the server (seconds). */
+    public static final float TICK = 1f / 30f;
+
+    /** Number of ticks between two snapshots (10 per second). */
+    public static final int SNAPSHOT_INTERVAL = 3;
+
+    /**
+     * How far behind the newest snapshot clients render, in ticks. Two
+     * snapshot intervals let one late snapshot arrive without a visible stop.
+     */
+    public static final int INTERPOLATION_DELAY = 2 * SNAPSHOT_INTERVAL;
+
+    /** Client input: buttons and purchase. */
+    public static final byte MSG_INPUT = 2;
+
+    /** Size of an INPUT message in bytes, type included. */
+    public static final int INPUT_SIZE = 4;
+
+    /** Largest snapshot frame accepted by clients. */
+    public static final int MAX_FRAME = 1 << 20;
+
+    private StreamProtocol() {
+    }
+}
@@ -0,0 +1,216 @@
+package com.main.net;
+
+import java.util.Arrays;
+
+/**
+ * Quantized view of a match sent by the authoritative server: hero, base health
+ * and every unit, keyed by a stable unit id.
+ * <p>
+ * Units are kept in parallel arrays sorted by id so {@link StateCodec} can
+ * diff two states with a single merge walk and no per-unit objects.
+ * Positions are in {@link StateCodec#QUANT}ths of a pixel.
+ */
+public class WorldState {
+
+    /** Server tick this state was taken at. */
+    public int tick;
+
+    /** Hero position (quantized), health, gold and pose. */
+    public int heroX;
+    public int heroY;
+    public int heroHealth;
+    public int heroGold;
+    /**
+     * Hero direction ordinal, with {@link #POSE_MOVING} set while walking.
+     */
+    public int heroPose;
+
+    /**
+     * Hero weapon code and shot / reload counts, filled by the simulation
+     * thread so sounds play on the render thread. Not sent by
+     * {@link StateCodec}; 0 in server states.
+     */
+    public int heroWeapon;
+    public int heroShots;
+    public int heroReloads;
+
+    /** Current health of each base. */
+    public int playerBaseHealth;
+    public int enemyBaseHealth;
+
+    /**
+     * Flag of {@link #heroPose} telling the hero is walking.
+     */
+    public static final int POSE_MOVING = 0x80;
+
+    private int count;
+    private int[] ids = new int[64];
+    private int[] types = new int[64];
+    private int[] lanes = new int[64];
+    private int[] xs = new int[64];
+    private int[] ys = new int[64];
+    private int[] healths = new int[64];
+    private int[] states = new int[64];
+
+    /**
+     * Removes every unit; the scalar fields are left as they are.
+     */
+    public void clearUnits() {
+        count = 0;
+    }
+
+    /**
+     * Appends a unit. Call {@link #sortById()} afterwards unless units are added
+     * in increasing id order.
+     *
+     * @param id     Stable unit id
+     * @param type   {@link com.main.map.Base.Type} ordinal
+     * @param lane   Lane index
+     * @param x      Quantized X position
+     * @param y      Quantized Y position
+     * @param health Current health
+     * @param state  {@link com.main.entities.Unit.UnitState} ordinal
+     */
+    public void addUnit(int id, int type, int lane, int x, int y, int health, int state) {
+        if (count == ids.length) {
+            int capacity = count * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            types = Arrays.copyOf(types, capacity);
+            lanes = Arrays.copyOf(lanes, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            healths = Arrays.copyOf(healths, capacity);
+            states = Arrays.copyOf(states, capacity);
+        }
+        ids[count] = id;
+        types[count] = type;
+        lanes[count] = lane;
+        xs[count] = x;
+        ys[count] = y;
+        healths[count] = health;
+        states[count] = state;
+        count++;
+    }
+
+    /**
+     * Sorts the units by id. Insertion sort: the server adds units in spawn
+     * order per base, so the arrays are nearly sorted already.
+     */
+    public void sortById() {
+        for (int i = 1; i < count; i++) {
+            int j = i;
+            while (j > 0 && ids[j - 1] > ids[j]) {
+                swap(j - 1, j);
+                j--;
+            }
+        }
+    }
+
+    private void swap(int a, int b) {
+        swap(ids, a, b);
+        swap(types, a, b);
+        swap(lanes, a, b);
+        swap(xs, a, b);
+        swap(ys, a, b);
+        swap(healths, a, b);
+        swap(states, a, b);
+    }
+
+    private static void swap(int[] array, int a, int b) {
+        int value = array[a];
+        array[a] = array[b];
+        array[b] = value;
+    }
+
+    /**
+     * Finds a unit by id.
+     *
+     * @param id Unit id
+     * @return Index of the unit, or a negative value if absent
+     */
+    public int indexOf(int id) {
+        return Arrays.binarySearch(ids, 0, count, id);
+    }
+
+    /**
+     * Copies another state into this one.
+     *
+     * @param other Source state
+     */
+    public void set(WorldState other) {
+        tick = other.tick;
+        heroX = other.heroX;
+        heroY = other.heroY;
+        heroHealth = other.heroHealth;
+        heroGold = other.heroGold;
+        heroPose = other.heroPose;
+        heroWeapon = other.heroWeapon;
+        heroShots = other.heroShots;
+        heroReloads = other.heroReloads;
+        playerBaseHealth = other.playerBaseHealth;
+        enemyBaseHealth = other.enemyBaseHealth;
+        count = 0;
+        for (int i = 0; i < other.count; i++) {
+            addUnit(other.ids[i], other.types[i], other.lanes[i], other.xs[i], other.ys[i], other.healths[i],
+                    other.states[i]);
+        }
+    }
+
+    /**
+     * Sets this state to the interpolation between two states. Positions are
+     * blended for units present in both; everything else comes from {@code to}.
+     *
+     * @param from  Older state
+     * @param to    Newer state
+     * @param alpha Blend factor, 0 gives {@code from} positions, 1 gives
+     *              {@code to}
+     */
+    public void interpolate(WorldState from, WorldState to, float alpha) {
+        set(to);
+        heroX = lerp(from.heroX, to.heroX, alpha);
+        heroY = lerp(from.heroY, to.heroY, alpha);
+        for (int i = 0; i < count; i++) {
+            int old = from.indexOf(ids[i]);
+            if (old >= 0) {
+                xs[i] = lerp(from.xs[old], to.xs[i], alpha);
+                ys[i] = lerp(from.ys[old], to.ys[i], alpha);
+            }
+        }
+    }
+
+    private static int lerp(int from, int to, float alpha) {
+        return from + Math.round((to - from) * alpha);
+    }
+
+    public int getUnitCount() {
+        return count;
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public int getType(int index) {
+        return types[index];
+    }
+
+    public int getLane(int index) {
+        return lanes[index];
+    }
+
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    public int getHealth(int index) {
+        return healths[index];
+    }
+
+    public int getState(int index) {
+        return states[index];
+    }
+}
@@ -0,0 +1,107 @@
+package com.main.render;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Still image of the last rendered scene, shown under the pause and
+ * end-of-match overlays instead of drawing the world again every frame.
+ * <p>
+ * {@link #capture()} copies the back buffer into a texture on the GPU right
+ * after the world and HUD are drawn, without a round trip through memory.
+ * Copying the finished frame, rather than rendering the scene into a frame
+ * buffer, leaves the HUD and minimap free to use frame buffers of their own.
+ * Later frames draw the copy as one quad covering the window until
+ * {@link #invalidate()} is called, such as when play resumes or the window
+ * is resized. The texture is kept at the window size and reused for each
+ * capture.
+ */
+public class FreezeFrame implements Disposable {
+
+    private Texture texture;
+    private TextureRegion region;
+    private boolean captured;
+    private final Matrix4 projection = new Matrix4();
+    private final IntBuffer glViewport = BufferUtils.newIntBuffer(16);
+
+    /**
+     * Returns whether an image is held and can be drawn.
+     *
+     * @return True after a capture until invalidated
+     */
+    public boolean isCaptured() {
+        return captured;
+    }
+
+    /**
+     * Copies what has been drawn to the window so far this frame.
+     */
+    public void capture() {
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (texture == null || texture.getWidth() != width || texture.getHeight() != height) {
+            if (texture != null) {
+                texture.dispose();
+            }
+            texture = new Texture(width, height, Pixmap.Format.RGB888);
+            region = new TextureRegion(texture);
+            // The copy is bottom-up, as the back buffer
+            region.flip(false, true);
+        }
+        texture.bind();
+        Gdx.gl.glCopyTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, 0, 0, 0, width, height);
+        captured = true;
+    }
+
+    /**
+     * Draws the captured image over the whole window, then restores the GL
+     * viewport. The batch's projection is replaced.
+     *
+     * @param batch Batch not between begin and end
+     */
+    public void draw(Batch batch) {
+        if (!captured) {
+            return;
+        }
+        int width = texture.getWidth();
+        int height = texture.getHeight();
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, glViewport);
+        Gdx.gl.glViewport(0, 0, width, height);
+        batch.setProjectionMatrix(projection.setToOrtho2D(0, 0, width, height));
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.disableBlending();
+        batch.begin();
+        batch.draw(region, 0, 0, width, height);
+        batch.end();
+        batch.enableBlending();
+        Gdx.gl.glViewport(glViewport.get(0), glViewport.get(1), glViewport.get(2), glViewport.get(3));
+    }
+
+    /**
+     * Drops the image; the next frame renders the scene again.
+     */
+    public void invalidate() {
+        captured = false;
+    }
+
+    @Override
+    public void dispose() {
+        if (texture != null) {
+            texture.dispose();
+            texture = null;
+        }
+        captured = false;
+    }
+}
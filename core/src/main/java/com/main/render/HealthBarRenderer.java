@@ -0,0 +1,89 @@
+package com.main.render;
+
+import java.util.List;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.main.entities.Unit;
+import com.main.map.Base;
+
+/**
+ * Draws a small health bar above every damaged unit in the camera view.
+ * <p>
+ * Bars are quads of one white region tinted with packed colors on the world
+ * batch, so all of them go out in the same batch as the unit sprites, without
+ * a {@code ShapeRenderer} begin/end per unit. Units at full health, dead units
+ * and units outside the view are skipped before anything is drawn. The fill
+ * uses the same green / orange / red steps as the base health bars.
+ */
+public class HealthBarRenderer {
+
+    /**
+     * Size of the bar fill in world pixels, and its gap above the sprite.
+     */
+    static final float WIDTH = 24f;
+    static final float HEIGHT = 3f;
+    static final float GAP = 2f;
+
+    private static final float BORDER_COLOR = Color.toFloatBits(0f, 0f, 0f, 0.8f);
+    private static final float BACKGROUND_COLOR = Color.toFloatBits(0.2f, 0.2f, 0.2f, 0.8f);
+    private static final float HEALTH_COLOR = Color.toFloatBits(0.1f, 0.9f, 0.1f, 1f);
+    private static final float MEDIUM_HEALTH_COLOR = Color.toFloatBits(1f, 0.6f, 0f, 1f);
+    private static final float LOW_HEALTH_COLOR = Color.toFloatBits(0.9f, 0.1f, 0.1f, 1f);
+
+    private final Rectangle bounds = new Rectangle();
+
+    /**
+     * Draws the bars of the damaged, visible units of a base. The batch color
+     * is restored afterwards.
+     *
+     * @param batch  World batch between begin and end
+     * @param pixel  White region stretched over each quad
+     * @param base   Base whose units are shown
+     * @param culler Culler holding the current view
+     * @return Number of bars drawn
+     */
+    public int draw(Batch batch, TextureRegion pixel, Base base, ViewCuller culler) {
+        List<Unit> units = base.getUnits();
+        int count = 0;
+        float previous = batch.getPackedColor();
+        for (int i = 0; i < units.size(); i++) {
+            Unit unit = units.get(i);
+            int health = unit.getHealth();
+            int maxHealth = unit.getMaxHealth();
+            if (health <= 0 || health >= maxHealth) {
+                continue;
+            }
+            if (!culler.isVisible(unit.getVisualBounds(bounds))) {
+                continue;
+            }
+            float x = bounds.x + (bounds.width - WIDTH) / 2f;
+            float y = bounds.y + bounds.height + GAP;
+            float percentage = (float) health / maxHealth;
+
+            batch.setPackedColor(BORDER_COLOR);
+            batch.draw(pixel, x - 1f, y - 1f, WIDTH + 2f, HEIGHT + 2f);
+            batch.setPackedColor(BACKGROUND_COLOR);
+            batch.draw(pixel, x, y, WIDTH, HEIGHT);
+            batch.setPackedColor(getHealthColor(percentage));
+            batch.draw(pixel, x, y, WIDTH * percentage, HEIGHT);
+            count++;
+        }
+        batch.setPackedColor(previous);
+        return count;
+    }
+
+    /**
+     * Returns the packed fill color for a health percentage.
+     */
+    private static float getHealthColor(float percentage) {
+        if (percentage > 0.5f) {
+            return HEALTH_COLOR;
+        } else if (percentage > 0.25f) {
+            return MEDIUM_HEALTH_COLOR;
+        }
+        return LOW_HEALTH_COLOR;
+    }
+}
@@ -0,0 +1,173 @@
+package com.main.render;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Collects the world sprites of a frame and draws them sorted by layer, then
+ * depth, then texture.
+ * <p>
+ * Depth follows the Y of the sprite's bottom edge: sprites higher on screen
+ * are farther away and drawn first, so a unit walking in front of another
+ * overlaps it. Sprites at the same depth are grouped by texture, which keeps
+ * the units of a lane (same Y) from alternating textures, and otherwise keep
+ * their submission order. Each command is packed into one {@code long} sort
+ * key so a frame is sorted with a primitive sort and no allocation once the
+ * arrays have grown to the scene size.
+ */
+public class RenderQueue {
+
+    /**
+     * Layer of units and the hero.
+     */
+    public static final int LAYER_UNITS = 1;
+
+    /**
+     * Bits of each field of the sort key, from the most significant one; the
+     * sign bit stays clear.
+     */
+    private static final int DEPTH_BITS = 22;
+    private static final int TEXTURE_BITS = 14;
+    private static final int INDEX_BITS = 24;
+
+    /**
+     * Depth steps per world pixel.
+     */
+    private static final float DEPTH_SCALE = 4f;
+
+    private static final int MAX_DEPTH = (1 << DEPTH_BITS) - 1;
+    private static final int MAX_TEXTURES = 1 << TEXTURE_BITS;
+
+    private TextureRegion[] regions = new TextureRegion[256];
+    private float[] geometry = new float[256 * 4];
+    private long[] keys = new long[256];
+    private int count;
+
+    /**
+     * Sort id of each texture submitted this frame, in first-use order.
+     */
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+
+    private int textureSwitches;
+    private int submitted;
+
+    /**
+     * Queues a sprite.
+     *
+     * @param layer  Layer between 0 and 7, lower layers drawn first
+     * @param region Frame to draw; ignored if null
+     * @param x      Left edge in world pixels
+     * @param y      Bottom edge in world pixels, also the depth
+     * @param width  Drawn width
+     * @param height Drawn height
+     */
+    public void add(int layer, TextureRegion region, float x, float y, float width, float height) {
+        if (region == null) {
+            return;
+        }
+        if (count == keys.length) {
+            if (count == 1 << INDEX_BITS) {
+                throw new IllegalStateException("Too many sprites queued: " + count);
+            }
+            grow();
+        }
+        regions[count] = region;
+        int g = count * 4;
+        geometry[g] = x;
+        geometry[g + 1] = y;
+        geometry[g + 2] = width;
+        geometry[g + 3] = height;
+        keys[count] = key(layer, y, textureId(region.getTexture()), count);
+        count++;
+    }
+
+    /**
+     * Packs a command into its sort key.
+     */
+    static long key(int layer, float y, int textureId, int index) {
+        int depth = MAX_DEPTH - Math.max(0, Math.min(MAX_DEPTH, Math.round(y * DEPTH_SCALE)));
+        return ((long) layer << (DEPTH_BITS + TEXTURE_BITS + INDEX_BITS))
+                | ((long) depth << (TEXTURE_BITS + INDEX_BITS))
+                | ((long) textureId << INDEX_BITS)
+                | index;
+    }
+
+    private int textureId(Texture texture) {
+        if (texture == null) {
+            return 0;
+        }
+        int id = textureIds.get(texture, -1);
+        if (id < 0) {
+            id = Math.min(textureIds.size, MAX_TEXTURES - 1);
+            textureIds.put(texture, id);
+        }
+        return id;
+    }
+
+    private void grow() {
+        int size = keys.length * 2;
+        regions = Arrays.copyOf(regions, size);
+        geometry = Arrays.copyOf(geometry, size * 4);
+        keys = Arrays.copyOf(keys, size);
+    }
+
+    /**
+     * Sorts the queued sprites, draws them with a batch between begin and end
+     * and empties the queue. The texture switches and sprites of this flush
+     * can be read afterwards.
+     *
+     * @param batch Batch to draw with
+     */
+    public void flush(Batch batch) {
+        Arrays.sort(keys, 0, count);
+        int indexMask = (1 << INDEX_BITS) - 1;
+        Texture current = null;
+        textureSwitches = 0;
+        for (int i = 0; i < count; i++) {
+            int index = (int) (keys[i] & indexMask);
+            TextureRegion region = regions[index];
+            if (i == 0 || region.getTexture() != current) {
+                current = region.getTexture();
+                textureSwitches++;
+            }
+            int g = index * 4;
+            batch.draw(region, geometry[g], geometry[g + 1], geometry[g + 2], geometry[g + 3]);
+            regions[index] = null;
+        }
+        submitted = count;
+        count = 0;
+        textureIds.clear();
+    }
+
+    /**
+     * Returns the number of sprites currently queued.
+     *
+     * @return Queued sprite count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns how many times consecutive sprites of the last flush changed
+     * texture, the first texture included.
+     *
+     * @return Texture switch count
+     */
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+
+    /**
+     * Returns the number of sprites drawn by the last flush.
+     *
+     * @return Sprite count
+     */
+    public int getSubmitted() {
+        return submitted;
+    }
+}
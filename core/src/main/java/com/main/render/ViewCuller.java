@@ -0,0 +1,144 @@
+package com.main.render;
+
+import java.util.List;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
+import com.main.entities.Unit;
+import com.main.map.Base;
+
+/**
+ * Skips units whose sprite lies outside the camera view.
+ * <p>
+ * Units never leave the Y of their lane, so each base's lanes are tested
+ * against the view first and units of a lane that is entirely above or below
+ * it are rejected without looking at their sprite. Units of the visible lanes
+ * are then tested with their {@link Unit#getVisualBounds(Rectangle) visual
+ * bounds}, which include offsets such as the Tank's wide sprite. Visible units
+ * are queued in a {@link RenderQueue}, which orders them by depth.
+ * <p>
+ * Submitted and culled sprites are counted per frame for the profiler.
+ */
+public class ViewCuller {
+
+    /**
+     * Height of a lane band above its Y, taller than any unit sprite.
+     */
+    static final float LANE_HEIGHT = 100f;
+
+    /**
+     * Lanes tracked per base.
+     */
+    private static final int MAX_LANES = 8;
+
+    private final Rectangle view = new Rectangle();
+    private final Rectangle bounds = new Rectangle();
+    private final boolean[] laneVisible = new boolean[MAX_LANES];
+    private int submitted;
+    private int culled;
+
+    /**
+     * Sets the view to the area seen by a camera and resets the counters.
+     *
+     * @param camera Camera about to render, already updated
+     */
+    public void setView(OrthographicCamera camera) {
+        float w = camera.viewportWidth * camera.zoom;
+        float h = camera.viewportHeight * camera.zoom;
+        setView(camera.position.x - w / 2f, camera.position.y - h / 2f, w, h);
+    }
+
+    /**
+     * Sets the view rectangle and resets the counters.
+     *
+     * @param x      Left edge in world pixels
+     * @param y      Bottom edge in world pixels
+     * @param width  View width
+     * @param height View height
+     */
+    public void setView(float x, float y, float width, float height) {
+        view.set(x, y, width, height);
+        submitted = 0;
+        culled = 0;
+    }
+
+    /**
+     * Queues the units of a base that are inside the view.
+     *
+     * @param base  Base whose units are drawn
+     * @param queue Queue of the world pass
+     */
+    public void submit(Base base, RenderQueue queue) {
+        int lanes = Math.min(base.getUnitsPerLane().size(), MAX_LANES);
+        for (int i = 0; i < lanes; i++) {
+            float laneY = base.getLaneY(i);
+            laneVisible[i] = laneY < view.y + view.height && laneY + LANE_HEIGHT > view.y;
+        }
+        List<Unit> units = base.getUnits();
+        for (int i = 0; i < units.size(); i++) {
+            Unit unit = units.get(i);
+            int lane = unit.getLane();
+            if (lane >= 0 && lane < lanes && !laneVisible[lane]) {
+                culled++;
+                continue;
+            }
+            if (isVisible(unit)) {
+                unit.submit(queue);
+                submitted++;
+            } else {
+                culled++;
+            }
+        }
+    }
+
+    /**
+     * Returns whether any part of a unit's sprite is inside the view.
+     *
+     * @param unit Unit to test
+     * @return True if it must be drawn
+     */
+    public boolean isVisible(Unit unit) {
+        return view.overlaps(unit.getVisualBounds(bounds));
+    }
+
+    /**
+     * Returns whether any part of an area is inside the view.
+     *
+     * @param area Area in world pixels
+     * @return True if it must be drawn
+     */
+    public boolean isVisible(Rectangle area) {
+        return view.overlaps(area);
+    }
+
+    /**
+     * Returns whether a circle reaches into the view.
+     *
+     * @param x      Centre X
+     * @param y      Centre Y
+     * @param radius Radius
+     * @return True if it must be drawn
+     */
+    public boolean isVisible(float x, float y, float radius) {
+        return x + radius > view.x && x - radius < view.x + view.width
+                && y + radius > view.y && y - radius < view.y + view.height;
+    }
+
+    /**
+     * Returns the number of unit sprites queued since the view was set.
+     *
+     * @return Submitted sprite count
+     */
+    public int getSubmitted() {
+        return submitted;
+    }
+
+    /**
+     * Returns the number of units skipped since the view was set.
+     *
+     * @return Culled sprite count
+     */
+    public int getCulled() {
+        return culled;
+    }
+}
@@ -0,0 +1,250 @@
+package com.main.save;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.main.map.WarMap;
+import com.main.sim.Match;
+import com.main.sim.MatchContext;
+import com.main.utils.GameLog;
+
+/**
+ * Saves matches without stalling the game loop.
+ * <p>
+ * {@link #save(Match, File)} encodes the state with {@link MatchSnapshot} on
+ * the calling (game) thread, which only copies numbers into a byte array, then
+ * hands the array to a daemon thread that deflates it and writes it to a
+ * temporary file renamed over the target, so a crash never leaves a half
+ * written save. Only one save is in flight: requests made while the previous
+ * one is still being written are skipped.
+ * <p>
+ * {@link #update(float, Match)} also saves periodically to an autosave file.
+ */
+public class AutoSaver {
+
+    /**
+     * Folder of the default save files, in the user's home rather than the
+     * working directory, which is the assets folder when the game is run from
+     * Gradle.
+     */
+    public static final File SAVE_DIRECTORY = new File(System.getProperty("user.home"), ".zgame/saves");
+    /**
+     * Default autosave file.
+     */
+    public static final File AUTOSAVE_FILE = new File(SAVE_DIRECTORY, "autosave.zgs");
+    /**
+     * Default quick save file (F5 / F9).
+     */
+    public static final File QUICKSAVE_FILE = new File(SAVE_DIRECTORY, "quicksave.zgs");
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autosave");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean busy = new AtomicBoolean(false);
+    private final File autosaveFile;
+    private final float interval;
+    private float timer = 0f;
+
+    /**
+     * Time spent encoding the last snapshot on the game thread.
+     */
+    private long lastEncodeNanos;
+    /**
+     * Size of the last snapshot before compression.
+     */
+    private int lastSize;
+    /**
+     * Number of saves skipped because the previous one was still being written.
+     */
+    private int skipped;
+
+    /**
+     * Creates a saver that autosaves at a fixed interval.
+     *
+     * @param autosaveFile File periodically overwritten by {@link #update(float, Match)}
+     * @param interval     Seconds between autosaves
+     */
+    public AutoSaver(File autosaveFile, float interval) {
+        this.autosaveFile = autosaveFile;
+        this.interval = interval;
+    }
+
+    /**
+     * Advances the autosave timer and saves when it elapses.
+     *
+     * @param delta Frame delta (seconds)
+     * @param match Current match
+     */
+    public void update(float delta, Match match) {
+        timer += delta;
+        if (timer >= interval) {
+            timer = 0f;
+            save(match, autosaveFile);
+        }
+    }
+
+    /**
+     * Snapshots the match now and writes it in the background.
+     *
+     * @param match Match to save
+     * @param file  Destination file
+     * @return False if skipped because a save is still being written or the
+     *         snapshot failed
+     */
+    public boolean save(Match match, File file) {
+        if (!busy.compareAndSet(false, true)) {
+            skipped++;
+            return false;
+        }
+        final byte[] state;
+        long start = System.nanoTime();
+        try {
+            state = MatchSnapshot.encode(match);
+        } catch (IOException | RuntimeException e) {
+            busy.set(false);
+            GameLog.warn("AutoSaver", "Could not snapshot match: {}", e.getMessage());
+            return false;
+        }
+        lastEncodeNanos = System.nanoTime() - start;
+        lastSize = state.length;
+        writer.execute(() -> {
+            try {
+                writeCompressed(state, file);
+                GameLog.debug("AutoSaver", "Saved {} ({} bytes)", file.getPath(), state.length);
+            } catch (IOException e) {
+                GameLog.warn("AutoSaver", "Could not write {}: {}", file.getPath(), e.getMessage());
+            } finally {
+                busy.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Deflates a snapshot into a temporary file and moves it over the target.
+     *
+     * @param state Uncompressed snapshot
+     * @param file  Destination file
+     * @throws IOException If writing fails
+     */
+    static void writeCompressed(byte[] state, File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory " + parent);
+        }
+        File tmp = new File(file.getPath() + ".tmp");
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (OutputStream out = new DeflaterOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tmp)), deflater)) {
+            out.write(state);
+        } finally {
+            deflater.end();
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads a save file written by this class.
+     *
+     * @param file Save file
+     * @param map  Map to play the restored match on
+     * @return Restored match
+     * @throws IOException If the file is missing, corrupt or of another version
+     */
+    public static Match load(File file, WarMap map) throws IOException {
+        return load(file, new MatchContext(map));
+    }
+
+    /**
+     * Reads a save file written by this class into the given context.
+     *
+     * @param file    Save file
+     * @param context Map and audio settings of the restored match
+     * @return Restored match
+     * @throws IOException If the file is missing, corrupt or of another version
+     */
+    public static Match load(File file, MatchContext context) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new InflaterInputStream(new FileInputStream(file))))) {
+            return MatchSnapshot.read(in, context);
+        }
+    }
+
+    /**
+     * Waits until the save in flight (if any) has been written.
+     *
+     * @param timeoutMillis Maximum time to wait
+     * @return True if no save is in flight any more
+     */
+    public boolean awaitIdle(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (busy.get()) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the time the last snapshot took on the game thread.
+     *
+     * @return Encoding time in nanoseconds
+     */
+    public long getLastEncodeNanos() {
+        return lastEncodeNanos;
+    }
+
+    /**
+     * Returns the size of the last snapshot before compression.
+     *
+     * @return Size in bytes
+     */
+    public int getLastSize() {
+        return lastSize;
+    }
+
+    /**
+     * Returns how many saves were skipped because one was already in flight.
+     *
+     * @return Skipped save count
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Finishes the save in flight and stops the writer thread.
+     */
+    public void dispose() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
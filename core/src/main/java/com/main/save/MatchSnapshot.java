@@ -0,0 +1,286 @@
+package com.main.save;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.main.entities.Unit;
+import com.main.entities.enemies.CZombie;
+import com.main.entities.enemies.FZombie;
+import com.main.entities.enemies.WZombie;
+import com.main.entities.player.Hero;
+import com.main.entities.units.Melee;
+import com.main.entities.units.Sniper;
+import com.main.entities.units.Tank;
+import com.main.map.Base;
+import com.main.map.WarMap;
+import com.main.sim.Match;
+import com.main.sim.MatchContext;
+
+/**
+ * Versioned binary encoding of a full {@link Match} state.
+ * <p>
+ * Layout (big-endian, uncompressed; {@link AutoSaver} deflates it on disk):
+ * <ol>
+ * <li>header: magic {@code "ZGSV"}, version (short), seed, tick, base X
+ * positions</li>
+ * <li>each base (player, then enemy): base state, unit count, then per unit its
+ * type, whether it is still in its lane, and its state</li>
+ * <li>the hero's state</li>
+ * <li>target links of the hero and of every unit, as indices into the opposing
+ * side's unit list ({@link #NO_TARGET} or {@link #HERO_TARGET} otherwise)</li>
+ * </ol>
+ * Links are written last so every unit exists before they are resolved.
+ * Textures and sounds are not saved; restored units load them like new ones.
+ */
+public final class MatchSnapshot {
+
+    /**
+     * File magic.
+     */
+    static final int MAGIC = ('Z' << 24) | ('G' << 16) | ('S' << 8) | 'V';
+    /**
+     * Current format version; bump it whenever the layout changes.
+     */
+    public static final int VERSION = 2;
+
+    private static final int NO_TARGET = -1;
+    private static final int HERO_TARGET = -2;
+
+    private MatchSnapshot() {
+    }
+
+    /**
+     * Encodes a match into a new byte array.
+     *
+     * @param match Match to save
+     * @return Uncompressed snapshot
+     * @throws IOException Never for in-memory output, declared by DataOutput
+     */
+    public static byte[] encode(Match match) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        DataOutputStream out = new DataOutputStream(bytes);
+        write(match, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a match snapshot.
+     *
+     * @param match Match to save
+     * @param out   Destination
+     * @throws IOException If writing fails
+     */
+    public static void write(Match match, DataOutput out) throws IOException {
+        Base playerBase = match.getPlayerBase();
+        Base enemyBase = match.getEnemyBase();
+        Hero hero = match.getHero();
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(match.getSeed());
+        out.writeLong(match.getTick());
+        out.writeInt((int) enemyBase.getPosX());
+        out.writeInt((int) playerBase.getPosX());
+
+        writeBase(playerBase, out);
+        writeBase(enemyBase, out);
+        hero.writeState(out);
+
+        out.writeShort(targetIndex(hero.getTarget(), indexes(enemyBase.getUnits()), hero));
+        writeTargets(playerBase.getUnits(), enemyBase.getUnits(), null, out);
+        writeTargets(enemyBase.getUnits(), playerBase.getUnits(), hero, out);
+    }
+
+    private static void writeBase(Base base, DataOutput out) throws IOException {
+        base.writeState(out);
+        List<Unit> units = base.getUnits();
+        Set<Unit> inLane = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<Unit> lane : base.getUnitsPerLane()) {
+            inLane.addAll(lane);
+        }
+        out.writeShort(units.size());
+        for (Unit unit : units) {
+            out.writeByte(typeOf(unit).ordinal());
+            out.writeBoolean(inLane.contains(unit));
+            unit.writeState(out);
+        }
+    }
+
+    private static void writeTargets(List<Unit> units, List<Unit> opponents, Hero hero, DataOutput out)
+            throws IOException {
+        Map<Unit, Integer> indexes = indexes(opponents);
+        for (Unit unit : units) {
+            out.writeShort(targetIndex(unit.getTarget(), indexes, hero));
+        }
+    }
+
+    /**
+     * Maps each unit of a list to its position, so linking every target is
+     * one lookup instead of a scan of the list.
+     */
+    private static Map<Unit, Integer> indexes(List<Unit> units) {
+        Map<Unit, Integer> indexes = new IdentityHashMap<>(units.size());
+        for (int i = 0; i < units.size(); i++) {
+            indexes.put(units.get(i), i);
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the link code of a target.
+     */
+    private static int targetIndex(Unit target, Map<Unit, Integer> opponents, Hero hero) {
+        if (target == null) {
+            return NO_TARGET;
+        }
+        if (hero != null && target == hero) {
+            return HERO_TARGET;
+        }
+        Integer index = opponents.get(target);
+        // Null when the target was already dropped from its base's list
+        return index != null ? index : NO_TARGET;
+    }
+
+    /**
+     * Reads a snapshot and rebuilds the match on the given map.
+     *
+     * @param in  Source
+     * @param map Map to play the restored match on
+     * @return Restored match
+     * @throws IOException If the data is not a snapshot, has an unsupported
+     *                     version or is truncated
+     */
+    public static Match read(DataInput in, WarMap map) throws IOException {
+        return read(in, new MatchContext(map));
+    }
+
+    /**
+     * Reads a snapshot and rebuilds the match in the given context.
+     *
+     * @param in      Source
+     * @param context Map and audio settings of the restored match
+     * @return Restored match
+     * @throws IOException If the data is not a snapshot, has an unsupported
+     *                     version or is truncated
+     */
+    public static Match read(DataInput in, MatchContext context) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a save file");
+        }
+        int version = in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+        long seed = in.readLong();
+        long tick = in.readLong();
+        int enemyBaseX = in.readInt();
+        int playerBaseX = in.readInt();
+
+        Match match = new Match(context, seed, enemyBaseX, playerBaseX);
+        match.restoreTick(tick);
+        Base playerBase = match.getPlayerBase();
+        Base enemyBase = match.getEnemyBase();
+        Hero hero = match.getHero();
+
+        readBase(playerBase, in);
+        readBase(enemyBase, in);
+        hero.readState(in);
+
+        hero.setTarget(resolve(in.readShort(), enemyBase.getUnits(), hero));
+        readTargets(playerBase.getUnits(), enemyBase.getUnits(), hero, in);
+        readTargets(enemyBase.getUnits(), playerBase.getUnits(), hero, in);
+        return match;
+    }
+
+    private static void readBase(Base base, DataInput in) throws IOException {
+        base.readState(in);
+        int count = in.readUnsignedShort();
+        Base.Type[] types = Base.Type.values();
+        for (int i = 0; i < count; i++) {
+            int type = in.readUnsignedByte();
+            if (type >= types.length) {
+                throw new IOException("Unknown unit type " + type);
+            }
+            boolean inLane = in.readBoolean();
+            Unit unit = create(types[type], base);
+            unit.readState(in);
+            base.restoreUnit(unit, inLane);
+        }
+    }
+
+    private static void readTargets(List<Unit> units, List<Unit> opponents, Hero hero, DataInput in)
+            throws IOException {
+        for (Unit unit : units) {
+            unit.setTarget(resolve(in.readShort(), opponents, hero));
+        }
+    }
+
+    private static Unit resolve(int index, List<Unit> opponents, Hero hero) throws IOException {
+        if (index == NO_TARGET) {
+            return null;
+        }
+        if (index == HERO_TARGET) {
+            return hero;
+        }
+        if (index < 0 || index >= opponents.size()) {
+            throw new IOException("Invalid target index " + index);
+        }
+        return opponents.get(index);
+    }
+
+    /**
+     * Maps a unit to the base unit type used to recreate it.
+     *
+     * @param unit Soldier or zombie
+     * @return Its unit type
+     */
+    public static Base.Type typeOf(Unit unit) {
+        if (unit instanceof Melee) {
+            return Base.Type.MELEE;
+        } else if (unit instanceof Tank) {
+            return Base.Type.TANK;
+        } else if (unit instanceof Sniper) {
+            return Base.Type.SNIPER;
+        } else if (unit instanceof WZombie) {
+            return Base.Type.WOMAN;
+        } else if (unit instanceof CZombie) {
+            return Base.Type.CRAWL;
+        } else if (unit instanceof FZombie) {
+            return Base.Type.FAST;
+        }
+        throw new IllegalArgumentException("Cannot save unit " + unit.getType());
+    }
+
+    /**
+     * Creates a unit of the given type; its position and state are set next.
+     *
+     * @param type Unit type
+     * @param base Base owning the unit
+     * @return New unit at the origin
+     */
+    public static Unit create(Base.Type type, Base base) {
+        switch (type) {
+            case MELEE:
+                return new Melee(0, 0, base);
+            case TANK:
+                return new Tank(0, 0, base);
+            case SNIPER:
+                return new Sniper(0, 0, base);
+            case WOMAN:
+                return new WZombie(0, 0, base);
+            case CRAWL:
+                return new CZombie(0, 0, base);
+            default:
+                return new FZombie(0, 0, base);
+        }
+    }
+}
@@ -16,7 +16,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.main.Main;
-import com.utils.AudioSettings;
+import com.main.utils.FontLoader;
+import com.main.utils.TextureLoader;
+import com.main.utils.GameLog;
 
 /**
  * Options screen for configuring game audio settings.
@@ -85,12 +87,14 @@ public class OptionsScreen implements Screen {
         camera.setToOrtho(false, WORLD_WIDTH, WORLD_HEIGHT);
         viewport = new FitViewport(WORLD_WIDTH, WORLD_HEIGHT, camera);
 
-        // Load background
-        try {
-            background = new Texture(Gdx.files.internal("ui/titlescreen.png"));
-        } catch (Exception e) {
-            System.err.println("Warning: Could not load background texture");
-            background = null;
+        // Load background (not drawn over the paused game)
+        if (!fromPause) {
+            try {
+                background = TextureLoader.load("ui/titlescreen.png");
+            } catch (Exception e) {
+                GameLog.warn("OptionsScreen", "Could not load background texture");
+                background = null;
+            }
         }
 
         // Load fonts
@@ -105,7 +109,7 @@ public class OptionsScreen implements Screen {
             titleParam.shadowOffsetX = 3;
             titleParam.shadowOffsetY = 3;
             titleParam.shadowColor = new Color(0, 0, 0, 0.5f);
-            titleFont = generator.generateFont(titleParam);
+            titleFont = FontLoader.generate(generator, titleParam, "OptionsScreen");
 
             // Regular font
             FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
@@ -117,18 +121,18 @@ public class OptionsScreen implements Screen {
             parameter.shadowColor = new Color(0f, 0f, 0f, 0.7f);
             parameter.magFilter = Texture.TextureFilter.Nearest;
             parameter.minFilter = Texture.TextureFilter.Nearest;
-            font = generator.generateFont(parameter);
+            font = FontLoader.generate(generator, parameter, "OptionsScreen");
             
             generator.dispose();
         } catch (Exception e) {
-            System.err.println("Warning: Could not load font");
+            GameLog.warn("OptionsScreen", "Could not load font");
             font = new BitmapFont();
             titleFont = new BitmapFont();
         }
 
         // Initialize audio settings
-        musicVolume = AudioSettings.getMusicVolume();
-        soundEnabled = AudioSettings.isSoundEnabled();
+        musicVolume = game.getAudioSettings().getMusicVolume();
+        soundEnabled = game.getAudioSettings().isSoundEnabled();
 
         // Initialize slider (centered horizontally)
         float sliderWidth = 400f;
@@ -367,7 +371,7 @@ public class OptionsScreen implements Screen {
             // Sound toggle button
             if (soundButton.contains(mx, my)) {
                 soundEnabled = !soundEnabled;
-                AudioSettings.toggleSound();
+                game.getAudioSettings().toggleSound();
             }
 
             // Back button
@@ -408,7 +412,7 @@ public class OptionsScreen implements Screen {
         musicVolume = (volumeHandle.x - volumeSlider.x + 10f) / volumeSlider.width;
         musicVolume = Math.max(0f, Math.min(1f, musicVolume));
 
-        AudioSettings.setMusicVolume(musicVolume);
+        game.getAudioSettings().setMusicVolume(musicVolume);
         game.updateGameMusicVolume();
     }
 
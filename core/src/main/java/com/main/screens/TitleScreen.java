@@ -15,14 +15,18 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.main.Main;
+import com.main.utils.FontLoader;
+import com.main.utils.TextureLoader;
+import com.main.utils.GameLog;
+import com.ui.TextLabel;
 
 
 /**
@@ -48,6 +52,28 @@ public class TitleScreen implements Screen {
     private static final float ZOOM_TRANSITION_DURATION = 0.15f;
     private static final float MAX_ZOOM_SCALE = 1.2f;
 
+    /**
+     * Scale of the menu font, applied once to the font.
+     */
+    private static final float MENU_FONT_SCALE = 0.8f;
+
+    /**
+     * Baseline of the menu buttons and space between them.
+     */
+    private static final float BUTTON_Y = 60f;
+    private static final float BUTTON_SPACING = 80f;
+
+    /**
+     * Menu labels, in the order of {@code menuItems}, and their hitboxes.
+     */
+    private TextLabel[] menuLabels;
+    private Rectangle[] menuHitboxes;
+
+    /**
+     * Mouse position reused by hover tests.
+     */
+    private final Vector2 mousePosition = new Vector2();
+
     /**
      * Constructs the TitleScreen and initializes all resources (background, logo, font, camera, viewport).
      * Handles resource loading and fallback for headless mode.
@@ -60,7 +86,7 @@ public class TitleScreen implements Screen {
         try {
             batch = new SpriteBatch();
         } catch (Exception e) {
-            System.err.println("Warning: Could not create SpriteBatch (headless mode?)");
+            GameLog.warn("TitleScreen", "Could not create SpriteBatch (headless mode?)");
             batch = null;
         }
 
@@ -68,21 +94,7 @@ public class TitleScreen implements Screen {
         camera.setToOrtho(false, WORLD_WIDTH, WORLD_HEIGHT);
         viewport = new FitViewport(WORLD_WIDTH, WORLD_HEIGHT, camera);
 
-        // Image de fond
-        try {
-            background = new Texture(Gdx.files.internal("ui/titlescreen.png"));
-        } catch (Exception e) {
-            System.err.println("Warning: Could not load background texture (headless mode?)");
-            background = null;
-        }
-
-        // Logo principal
-        try {
-            titleLogo = new Texture(Gdx.files.internal("ui/titlelogo.png"));
-        } catch (Exception e) {
-            System.err.println("Warning: Could not load title logo texture (headless mode?)");
-            titleLogo = null;
-        }
+        loadMenuTextures();
 
         // === Police rétro pixel pour le menu
         try {
@@ -96,12 +108,42 @@ public class TitleScreen implements Screen {
             parameter.shadowColor = new Color(0f, 0f, 0f, 0.7f);
             parameter.magFilter = Texture.TextureFilter.Nearest;
             parameter.minFilter = Texture.TextureFilter.Nearest;
-            font = generator.generateFont(parameter);
+            font = FontLoader.generate(generator, parameter, "TitleScreen");
             generator.dispose();
         } catch (Exception e) {
-            System.err.println("Warning: Could not load font (headless mode?)");
+            GameLog.warn("TitleScreen", "Could not load font (headless mode?)");
             font = new BitmapFont(); // Fallback to default font
         }
+        font.getData().setScale(MENU_FONT_SCALE);
+        layoutMenu();
+    }
+
+    /**
+     * Lays the menu buttons out in a centred row and computes their hitboxes.
+     */
+    private void layoutMenu() {
+        menuLabels = new TextLabel[menuItems.length];
+        menuHitboxes = new Rectangle[menuItems.length];
+        float totalWidth = BUTTON_SPACING * (menuItems.length - 1);
+        for (int i = 0; i < menuItems.length; i++) {
+            menuLabels[i] = new TextLabel(font, menuItems[i]);
+            menuLabels[i].setColor(Color.WHITE);
+            totalWidth += menuLabels[i].getWidth();
+        }
+
+        // Position de départ pour centrer l'ensemble
+        float x = (WORLD_WIDTH - totalWidth) / 2f;
+        for (int i = 0; i < menuItems.length; i++) {
+            TextLabel label = menuLabels[i];
+            label.setPosition(x, BUTTON_Y, Align.left);
+            menuHitboxes[i] = new Rectangle(
+                x - 10,
+                BUTTON_Y - label.getHeight() - 5,
+                label.getWidth() + 20,
+                label.getHeight() + 10
+            );
+            x += label.getWidth() + BUTTON_SPACING;
+        }
     }
 
     /**
@@ -146,170 +188,30 @@ public class TitleScreen implements Screen {
         }
 
         // ==== MENU - BOUTONS EN LIGNE ====
-        if (font != null) {
-            // Position Y avec espace entre le logo et les boutons
-            float buttonY = 60f; // Position descendue
-            
-            // Calculer les layouts pour centrer les trois boutons (sans scale)
-            font.getData().setScale(0.8f);
-            GlyphLayout playLayout = new GlyphLayout(font, "PLAY");
-            GlyphLayout optionsLayout = new GlyphLayout(font, "OPTIONS");
-            GlyphLayout quitLayout = new GlyphLayout(font, "QUIT");
-            font.getData().setScale(1f);
-            
-            // Espacement entre les boutons
-            float buttonSpacing = 80f;
-            
-            // Largeur totale occupée par les trois boutons
-            float totalWidth = playLayout.width + buttonSpacing + optionsLayout.width + buttonSpacing + quitLayout.width;
-            
-            // Position de départ pour centrer l'ensemble
-            float startX = (WORLD_WIDTH - totalWidth) / 2f;
-            
-            // Dessiner PLAY
-            float playX = startX;
-            float playScale = 1.0f;
-            font.getData().setScale(0.8f * playScale);
-            font.setColor(Color.WHITE);
-            font.draw(batch, "PLAY", playX, buttonY);
-            font.getData().setScale(1f);
-            
-            // Dessiner OPTIONS
-            float optionsX = startX + playLayout.width + buttonSpacing;
-            float optionsScale = 1.0f;
-            font.getData().setScale(0.8f * optionsScale);
-            font.setColor(Color.WHITE);
-            font.draw(batch, "OPTIONS", optionsX, buttonY);
-            font.getData().setScale(1f);
-            
-            // Dessiner QUIT
-            float quitX = startX + playLayout.width + buttonSpacing + optionsLayout.width + buttonSpacing;
-            float quitScale = 1.0f;
-            font.getData().setScale(0.8f * quitScale);
-            font.setColor(Color.WHITE);
-            font.draw(batch, "QUIT", quitX, buttonY);
-            font.getData().setScale(1f);
+        for (TextLabel label : menuLabels) {
+            label.draw(batch);
         }
 
         batch.end();
     }
 
-    /**
-     * Draws menu text with a soft shadow for visual clarity.
-     *
-     * @param text The text to render
-     * @param x X position
-     * @param y Y position
-     * @param color Main color of the text
-     */
-    private void drawTextWithShadow(String text, float x, float y, Color color) {
-        if (font == null) return;
-        
-        GlyphLayout layout = new GlyphLayout(font, text);
-
-        // Ombre
-        font.setColor(0f, 0f, 0f, 0.6f);
-        font.draw(batch, layout, x + 3, y - 3);
-
-        // Couleur principale
-        font.setColor(color);
-        font.draw(batch, layout, x, y);
-    }
-
-    /**
-     * Draws menu text with inverted colors and a thick yellow shadow for hover effect.
-     *
-     * @param text The text to render
-     * @param x X position
-     * @param y Y position
-     */
-    private void drawTextWithShadowInverted(String text, float x, float y) {
-        if (font == null) return;
-        
-        GlyphLayout layout = new GlyphLayout(font, text);
-
-        // Ombre jaune/dorée (plus épaisse pour effet de fond)
-        font.setColor(Color.YELLOW);
-        for (int offsetX = -2; offsetX <= 2; offsetX++) {
-            for (int offsetY = -2; offsetY <= 2; offsetY++) {
-                font.draw(batch, layout, x + offsetX, y + offsetY);
-            }
-        }
-
-        // Texte noir par-dessus
-        font.setColor(Color.BLACK);
-        font.draw(batch, layout, x, y);
-    }
-
     /**
      * Updates the selectedIndex based on mouse hover over menu buttons.
      * Calculates button rectangles and checks mouse position for hover detection.
      */
     private void updateHover() {
-        if (font == null) return;
-        
-        font.getData().setScale(0.8f);
-        
-        Vector2 mouse = viewport.unproject(new Vector2(Gdx.input.getX(), Gdx.input.getY()));
+        Vector2 mouse = viewport.unproject(mousePosition.set(Gdx.input.getX(), Gdx.input.getY()));
         float mx = mouse.x;
         float my = mouse.y;
 
         int previousIndex = selectedIndex;
         selectedIndex = -1;
         
-        // Position Y des boutons (même que dans render)
-        float buttonY = 60f;
-        
-        // Calculer les layouts
-        GlyphLayout playLayout = new GlyphLayout(font, "PLAY");
-        GlyphLayout optionsLayout = new GlyphLayout(font, "OPTIONS");
-        GlyphLayout quitLayout = new GlyphLayout(font, "QUIT");
-        
-        float buttonSpacing = 80f;
-        float totalWidth = playLayout.width + buttonSpacing + optionsLayout.width + buttonSpacing + quitLayout.width;
-        float startX = (WORLD_WIDTH - totalWidth) / 2f;
-        
-        // Zone de collision PLAY
-        float playX = startX;
-        Rectangle playRect = new Rectangle(
-            playX - 10,
-            buttonY - playLayout.height - 5,
-            playLayout.width + 20,
-            playLayout.height + 10
-        );
-        
-        if (playRect.contains(mx, my)) {
-            selectedIndex = 0;
-            font.getData().setScale(1f);
-            return;
-        }
-        
-        // Zone de collision OPTIONS
-        float optionsX = startX + playLayout.width + buttonSpacing;
-        Rectangle optionsRect = new Rectangle(
-            optionsX - 10,
-            buttonY - optionsLayout.height - 5,
-            optionsLayout.width + 20,
-            optionsLayout.height + 10
-        );
-        
-        if (optionsRect.contains(mx, my)) {
-            selectedIndex = 1;
-            font.getData().setScale(1f);
-            return;
-        }
-        
-        // Zone de collision QUIT
-        float quitX = startX + playLayout.width + buttonSpacing + optionsLayout.width + buttonSpacing;
-        Rectangle quitRect = new Rectangle(
-            quitX - 10,
-            buttonY - quitLayout.height - 5,
-            quitLayout.width + 20,
-            quitLayout.height + 10
-        );
-        
-        if (quitRect.contains(mx, my)) {
-            selectedIndex = 2;
+        for (int i = 0; i < menuHitboxes.length; i++) {
+            if (menuHitboxes[i].contains(mx, my)) {
+                selectedIndex = i;
+                break;
+            }
         }
         
         // Reset hover time if we changed button or stopped hovering
@@ -317,8 +219,6 @@ public class TitleScreen implements Screen {
             hoverTime = 0f;
             lastHoveredIndex = selectedIndex;
         }
-        
-        font.getData().setScale(1f);
     }
 
     /**
@@ -389,9 +289,52 @@ public class TitleScreen implements Screen {
     @Override public void resize(int width, int height) { viewport.update(width, height, true); }
 
     /**
-     * Called when the screen is shown. No additional logic required.
+     * Loads the background and logo (TextureGroup.MENU) if they were released.
+     */
+    private void loadMenuTextures() {
+        // Image de fond
+        if (background == null) {
+            try {
+                background = TextureLoader.load("ui/titlescreen.png");
+            } catch (Exception e) {
+                GameLog.warn("TitleScreen", "Could not load background texture (headless mode?)");
+                background = null;
+            }
+        }
+
+        // Logo principal
+        if (titleLogo == null) {
+            try {
+                titleLogo = TextureLoader.load("ui/titlelogo.png");
+            } catch (Exception e) {
+                GameLog.warn("TitleScreen", "Could not load title logo texture (headless mode?)");
+                titleLogo = null;
+            }
+        }
+    }
+
+    /**
+     * Releases the background and logo so they are not resident while
+     * another screen is shown.
      */
-    @Override public void show() {}
+    private void releaseMenuTextures() {
+        if (background != null) {
+            background.dispose();
+            background = null;
+        }
+        if (titleLogo != null) {
+            titleLogo.dispose();
+            titleLogo = null;
+        }
+    }
+
+    /**
+     * Called when the screen is shown. Reloads the menu textures released
+     * when it was hidden.
+     */
+    @Override public void show() {
+        loadMenuTextures();
+    }
 
     /**
      * Called when the game is paused. No additional logic required.
@@ -404,9 +347,11 @@ public class TitleScreen implements Screen {
     @Override public void resume() {}
 
     /**
-     * Called when the screen is hidden. No additional logic required.
+     * Called when the screen is hidden. Releases the menu textures.
      */
-    @Override public void hide() {}
+    @Override public void hide() {
+        releaseMenuTextures();
+    }
 
     /**
      * Disposes all resources used by the title screen (batch, font, textures).
@@ -416,7 +361,6 @@ public class TitleScreen implements Screen {
     public void dispose() {
         if (batch != null) batch.dispose();
         if (font != null) font.dispose();
-        if (background != null) background.dispose();
-        if (titleLogo != null) titleLogo.dispose();
+        releaseMenuTextures();
     }
 }
\ No newline at end of file
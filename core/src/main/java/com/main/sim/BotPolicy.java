@@ -0,0 +1,118 @@
+package com.main.sim;
+
+import com.main.map.Base;
+import com.main.weapons.AssaultRifle;
+import com.main.weapons.Shotgun;
+import com.main.weapons.SniperRifle;
+import com.main.weapons.Weapon;
+
+/**
+ * How a {@link HeroBot} spends its gold: a list of weapon upgrades bought in
+ * order, each as soon as it is affordable, then soldiers bought in a fixed
+ * rotation of types. Until the last upgrade is bought the bot saves for it and
+ * buys no soldiers.
+ */
+public final class BotPolicy {
+
+    /**
+     * Weapons sold in the hero's shop, with the key that buys them.
+     */
+    public enum Upgrade {
+        /** Shotgun, key 2. */
+        SHOTGUN(InputFrame.WEAPON_2, 70, Shotgun.class),
+        /** SMG, key 3. */
+        SMG(InputFrame.WEAPON_3, 100, com.main.weapons.SMG.class),
+        /** Assault rifle, key 4. */
+        RIFLE(InputFrame.WEAPON_4, 150, AssaultRifle.class),
+        /** Sniper rifle, key 5. */
+        SNIPER_RIFLE(InputFrame.WEAPON_5, 200, SniperRifle.class);
+
+        private final int button;
+        private final int cost;
+        private final Class<? extends Weapon> weapon;
+
+        Upgrade(int button, int cost, Class<? extends Weapon> weapon) {
+            this.button = button;
+            this.cost = cost;
+            this.weapon = weapon;
+        }
+
+        public int getButton() {
+            return button;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        /**
+         * Checks if the hero already holds this weapon.
+         *
+         * @param current Weapon of the hero
+         * @return True if it is of this upgrade's class
+         */
+        public boolean isHeld(Weapon current) {
+            return weapon.isInstance(current);
+        }
+    }
+
+    /**
+     * Soldiers only, in a melee, tank, sniper rotation.
+     */
+    public static final BotPolicy ARMY = new BotPolicy(
+            new Base.Type[] { Base.Type.MELEE, Base.Type.TANK, Base.Type.SNIPER });
+    /**
+     * A shotgun first, then the same army.
+     */
+    public static final BotPolicy BALANCED = new BotPolicy(
+            new Base.Type[] { Base.Type.MELEE, Base.Type.TANK, Base.Type.SNIPER }, Upgrade.SHOTGUN);
+    /**
+     * The SMG then the assault rifle, then a tank and sniper line.
+     */
+    public static final BotPolicy GUNNER = new BotPolicy(
+            new Base.Type[] { Base.Type.TANK, Base.Type.SNIPER }, Upgrade.SMG, Upgrade.RIFLE);
+
+    private final Base.Type[] units;
+    private final Upgrade[] upgrades;
+
+    /**
+     * @param units    Soldier types bought in rotation
+     * @param upgrades Weapons bought first, in order
+     */
+    public BotPolicy(Base.Type[] units, Upgrade... upgrades) {
+        if (units.length == 0) {
+            throw new IllegalArgumentException("At least one unit type is needed");
+        }
+        this.units = units.clone();
+        this.upgrades = upgrades.clone();
+    }
+
+    /**
+     * Returns the soldier type of the given purchase.
+     *
+     * @param purchase Number of soldiers bought so far
+     * @return Type to buy next
+     */
+    public Base.Type unitAt(int purchase) {
+        return units[purchase % units.length];
+    }
+
+    /**
+     * Returns the number of weapon upgrades.
+     *
+     * @return Upgrade count
+     */
+    public int getUpgradeCount() {
+        return upgrades.length;
+    }
+
+    /**
+     * Returns an upgrade.
+     *
+     * @param index Position in the buying order
+     * @return The upgrade
+     */
+    public Upgrade getUpgrade(int index) {
+        return upgrades[index];
+    }
+}
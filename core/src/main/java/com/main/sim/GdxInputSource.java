@@ -0,0 +1,78 @@
+package com.main.sim;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.main.map.Base;
+
+/**
+ * Live input source reading the keyboard through {@code Gdx.input}.
+ * <p>
+ * Unit purchases come from shop clicks, which the screen resolves and queues
+ * with {@link #queuePurchase(Base.Type, int)}; the purchase is delivered with
+ * the next tick so it is recorded like any other input.
+ */
+public class GdxInputSource implements InputSource {
+
+    private byte pendingPurchase = InputFrame.NO_PURCHASE;
+
+    /**
+     * Queues a unit purchase for the next tick.
+     *
+     * @param type Unit type
+     * @param lane Lane index
+     */
+    public void queuePurchase(Base.Type type, int lane) {
+        pendingPurchase = InputFrame.encodePurchase(type, lane);
+    }
+
+    @Override
+    public boolean next(InputFrame frame, float delta) {
+        frame.set(delta, readButtons(), pendingPurchase);
+        pendingPurchase = InputFrame.NO_PURCHASE;
+        return true;
+    }
+
+    /**
+     * Reads the current keyboard state into a button bitmask.
+     *
+     * @return Button flags as defined in {@link InputFrame}
+     */
+    public static int readButtons() {
+        Input input = Gdx.input;
+        int buttons = 0;
+        if (input.isKeyPressed(Input.Keys.W) || input.isKeyPressed(Input.Keys.UP)) {
+            buttons |= InputFrame.MOVE_UP;
+        }
+        if (input.isKeyPressed(Input.Keys.S) || input.isKeyPressed(Input.Keys.DOWN)) {
+            buttons |= InputFrame.MOVE_DOWN;
+        }
+        if (input.isKeyPressed(Input.Keys.A) || input.isKeyPressed(Input.Keys.LEFT)) {
+            buttons |= InputFrame.MOVE_LEFT;
+        }
+        if (input.isKeyPressed(Input.Keys.D) || input.isKeyPressed(Input.Keys.RIGHT)) {
+            buttons |= InputFrame.MOVE_RIGHT;
+        }
+        if (input.isKeyPressed(Input.Keys.SPACE)) {
+            buttons |= InputFrame.ATTACK;
+        }
+        if (input.isKeyJustPressed(Input.Keys.R)) {
+            buttons |= InputFrame.RELOAD;
+        }
+        if (input.isKeyJustPressed(Input.Keys.NUM_1)) {
+            buttons |= InputFrame.WEAPON_1;
+        }
+        if (input.isKeyJustPressed(Input.Keys.NUM_2)) {
+            buttons |= InputFrame.WEAPON_2;
+        }
+        if (input.isKeyJustPressed(Input.Keys.NUM_3)) {
+            buttons |= InputFrame.WEAPON_3;
+        }
+        if (input.isKeyJustPressed(Input.Keys.NUM_4)) {
+            buttons |= InputFrame.WEAPON_4;
+        }
+        if (input.isKeyJustPressed(Input.Keys.NUM_5)) {
+            buttons |= InputFrame.WEAPON_5;
+        }
+        return buttons;
+    }
+}
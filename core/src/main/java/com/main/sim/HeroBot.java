@@ -0,0 +1,224 @@
+package com.main.sim;
+
+import java.util.List;
+
+import com.main.entities.Unit;
+import com.main.entities.player.Hero;
+import com.main.map.Base;
+import com.main.weapons.Weapon;
+
+/**
+ * Scripted player: an {@link InputSource} that reads the match and presses the
+ * same buttons a player would, so stress tests and benchmarks go through the
+ * hero's input handling, the weapon shop and unit purchases exactly like a
+ * game at the keyboard.
+ * <p>
+ * Every tick the bot finds the closest live zombie. It shoots while that zombie
+ * is in weapon range and walks towards it when it is not. It backs away when
+ * the zombie comes closer than half the range, which is kiting. When no zombie
+ * is near, it reloads a weapon that is running low and walks back to its post.
+ * Gold is spent by its {@link BotPolicy}. Soldiers go to the lane where the
+ * zombies outnumber the soldiers the most.
+ * <p>
+ * The bot only reads the match, so a match driven by it is as deterministic as
+ * a replay. Set {@code -Dzgame.bot=true} to let it play the interactive game.
+ */
+public class HeroBot implements InputSource {
+
+    /**
+     * System property enabling the bot in the game screen.
+     */
+    public static final String PROPERTY = "zgame.bot";
+
+    /**
+     * Fraction of the weapon range under which the bot backs away.
+     */
+    private static final float KITE_RATIO = 0.5f;
+    /**
+     * Fraction of the weapon range beyond which the bot closes in.
+     */
+    private static final float APPROACH_RATIO = 0.9f;
+    /**
+     * Distance in pixels considered aligned or arrived.
+     */
+    private static final float TOLERANCE = 12f;
+    /**
+     * The bot never kites further left than this, to stay off its own base.
+     */
+    private static final float MIN_X = 160f;
+    /**
+     * Zombies further than this many ranges away are not worth walking to; the
+     * bot holds its post instead.
+     */
+    private static final float ENGAGE_RANGES = 3f;
+
+    private final Match match;
+    private final BotPolicy policy;
+    private final float postX;
+    private final float postY;
+    private final int[] pressure = new int[3];
+
+    private int upgrades;
+    private int purchases;
+
+    /**
+     * Creates a bot following the {@link BotPolicy#BALANCED} policy.
+     *
+     * @param match Match whose hero the bot plays
+     */
+    public HeroBot(Match match) {
+        this(match, BotPolicy.BALANCED);
+    }
+
+    /**
+     * Creates a bot. Its post is where the hero stands now.
+     *
+     * @param match  Match whose hero the bot plays
+     * @param policy How gold is spent
+     */
+    public HeroBot(Match match, BotPolicy policy) {
+        this.match = match;
+        this.policy = policy;
+        this.postX = match.getHero().getPosX();
+        this.postY = match.getHero().getPosY();
+    }
+
+    @Override
+    public boolean next(InputFrame frame, float delta) {
+        Hero hero = match.getHero();
+        Weapon weapon = hero.getWeapon();
+        float range = weapon.getRange();
+        Unit closest = closestZombie(hero);
+        float distance = closest == null ? Float.MAX_VALUE : distance(hero, closest);
+
+        int buttons = 0;
+        if (closest != null && distance <= range * ENGAGE_RANGES) {
+            if (distance <= range) {
+                buttons |= InputFrame.ATTACK;
+            }
+            if (distance < range * KITE_RATIO) {
+                buttons |= away(hero, closest);
+            } else if (distance > range * APPROACH_RATIO) {
+                buttons |= towards(hero, closest.getPosX(), closest.getPosY());
+            } else {
+                // In range: only line up with the target's lane
+                buttons |= vertical(hero.getPosY(), closest.getPosY());
+            }
+        } else {
+            if (weapon.getMaxMunitions() != -1 && weapon.getMunitions() < weapon.getMaxMunitions() / 2) {
+                buttons |= InputFrame.RELOAD;
+            }
+            buttons |= towards(hero, postX, postY);
+        }
+
+        byte purchase = InputFrame.NO_PURCHASE;
+        if (upgrades < policy.getUpgradeCount()) {
+            BotPolicy.Upgrade upgrade = policy.getUpgrade(upgrades);
+            if (upgrade.isHeld(weapon)) {
+                upgrades++;
+            } else if (hero.getGold() >= upgrade.getCost()) {
+                buttons |= upgrade.getButton();
+                upgrades++;
+            }
+        } else {
+            Base.Type type = policy.unitAt(purchases);
+            if (hero.getGold() >= Base.costOf(type)) {
+                purchase = InputFrame.encodePurchase(type, busiestLane());
+                purchases++;
+            }
+        }
+        frame.set(delta, buttons, purchase);
+        return true;
+    }
+
+    private Unit closestZombie(Hero hero) {
+        Unit closest = null;
+        float best = Float.MAX_VALUE;
+        for (Unit zombie : match.getEnemyBase().getUnits()) {
+            if (zombie.isDead()) {
+                continue;
+            }
+            float distance = distance(hero, zombie);
+            if (distance < best) {
+                best = distance;
+                closest = zombie;
+            }
+        }
+        return closest;
+    }
+
+    private static float distance(Unit a, Unit b) {
+        float dx = a.getPosX() - b.getPosX();
+        float dy = a.getPosY() - b.getPosY();
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private static int away(Hero hero, Unit zombie) {
+        int buttons = 0;
+        if (zombie.getPosX() >= hero.getPosX()) {
+            if (hero.getPosX() > MIN_X) {
+                buttons |= InputFrame.MOVE_LEFT;
+            }
+        } else {
+            buttons |= InputFrame.MOVE_RIGHT;
+        }
+        return buttons;
+    }
+
+    private static int towards(Hero hero, float x, float y) {
+        int buttons = vertical(hero.getPosY(), y);
+        if (x > hero.getPosX() + TOLERANCE) {
+            buttons |= InputFrame.MOVE_RIGHT;
+        } else if (x < hero.getPosX() - TOLERANCE) {
+            buttons |= InputFrame.MOVE_LEFT;
+        }
+        return buttons;
+    }
+
+    private static int vertical(float from, float to) {
+        if (to > from + TOLERANCE) {
+            return InputFrame.MOVE_UP;
+        }
+        if (to < from - TOLERANCE) {
+            return InputFrame.MOVE_DOWN;
+        }
+        return 0;
+    }
+
+    /**
+     * Picks the lane where live zombies outnumber live soldiers the most; ties
+     * go to the lowest lane.
+     */
+    private int busiestLane() {
+        pressure[0] = 0;
+        pressure[1] = 0;
+        pressure[2] = 0;
+        count(match.getEnemyBase().getUnits(), 1);
+        count(match.getPlayerBase().getUnits(), -1);
+        int lane = 0;
+        for (int i = 1; i < pressure.length; i++) {
+            if (pressure[i] > pressure[lane]) {
+                lane = i;
+            }
+        }
+        return lane;
+    }
+
+    private void count(List<Unit> units, int weight) {
+        for (Unit unit : units) {
+            int lane = unit.getLane();
+            if (!unit.isDead() && lane >= 0 && lane < pressure.length) {
+                pressure[lane] += weight;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of soldiers the bot has ordered.
+     *
+     * @return Purchase count
+     */
+    public int getPurchases() {
+        return purchases;
+    }
+}
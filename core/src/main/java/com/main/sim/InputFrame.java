@@ -0,0 +1,163 @@
+package com.main.sim;
+
+import com.main.map.Base;
+
+/**
+ * Snapshot of the player's input for one simulation tick.
+ * <p>
+ * Everything the simulation reads from the player goes through this class:
+ * the tick delta, held/pressed buttons as a bitmask and an optional unit
+ * purchase. Recording these snapshots (see {@link ReplayRecorder}) is enough
+ * to re-simulate a match exactly. Instances are mutable and reused every tick.
+ */
+public final class InputFrame {
+
+    /** Move up (W / arrow up), held. */
+    public static final int MOVE_UP = 1;
+    /** Move down (S / arrow down), held. */
+    public static final int MOVE_DOWN = 1 << 1;
+    /** Move left (A / arrow left), held. */
+    public static final int MOVE_LEFT = 1 << 2;
+    /** Move right (D / arrow right), held. */
+    public static final int MOVE_RIGHT = 1 << 3;
+    /** Shoot the current target (SPACE), held. */
+    public static final int ATTACK = 1 << 4;
+    /** Reload the weapon (R), pressed this tick. */
+    public static final int RELOAD = 1 << 5;
+    /** Buy the pistol (1), pressed this tick. */
+    public static final int WEAPON_1 = 1 << 6;
+    /** Buy the shotgun (2), pressed this tick. */
+    public static final int WEAPON_2 = 1 << 7;
+    /** Buy the SMG (3), pressed this tick. */
+    public static final int WEAPON_3 = 1 << 8;
+    /** Buy the assault rifle (4), pressed this tick. */
+    public static final int WEAPON_4 = 1 << 9;
+    /** Buy the sniper rifle (5), pressed this tick. */
+    public static final int WEAPON_5 = 1 << 10;
+
+    /**
+     * Buttons that act once per press and must not be lost or repeated when
+     * input arrives at a different rate than the ticks.
+     */
+    public static final int EDGE_BUTTONS = RELOAD | WEAPON_1 | WEAPON_2 | WEAPON_3 | WEAPON_4 | WEAPON_5;
+
+    /**
+     * Purchase value meaning no unit is bought this tick.
+     */
+    public static final byte NO_PURCHASE = -1;
+
+    /**
+     * Number of lanes a unit can be bought for.
+     */
+    private static final int LANES = 3;
+
+    private float delta;
+    private int buttons;
+    private byte purchase = NO_PURCHASE;
+
+    /**
+     * Sets all fields at once.
+     *
+     * @param delta    Tick delta (seconds)
+     * @param buttons  Button bitmask
+     * @param purchase Encoded purchase or {@link #NO_PURCHASE}
+     */
+    public void set(float delta, int buttons, byte purchase) {
+        this.delta = delta;
+        this.buttons = buttons;
+        this.purchase = purchase;
+    }
+
+    /**
+     * Copies another frame into this one.
+     *
+     * @param other Frame to copy
+     */
+    public void set(InputFrame other) {
+        set(other.delta, other.buttons, other.purchase);
+    }
+
+    /**
+     * Resets to an idle frame with the given delta.
+     *
+     * @param delta Tick delta (seconds)
+     */
+    public void clear(float delta) {
+        set(delta, 0, NO_PURCHASE);
+    }
+
+    /**
+     * Returns the tick delta.
+     *
+     * @return Delta in seconds
+     */
+    public float getDelta() {
+        return delta;
+    }
+
+    /**
+     * Returns the button bitmask.
+     *
+     * @return Button flags
+     */
+    public int getButtons() {
+        return buttons;
+    }
+
+    /**
+     * Returns the encoded purchase.
+     *
+     * @return Encoded purchase or {@link #NO_PURCHASE}
+     */
+    public byte getPurchase() {
+        return purchase;
+    }
+
+    /**
+     * Returns whether a button (or any of several buttons) is set.
+     *
+     * @param button Button flag(s)
+     * @return True if set
+     */
+    public boolean isDown(int button) {
+        return (buttons & button) != 0;
+    }
+
+    /**
+     * Returns whether this frame buys a unit.
+     *
+     * @return True if a purchase is encoded
+     */
+    public boolean hasPurchase() {
+        return purchase != NO_PURCHASE;
+    }
+
+    /**
+     * Returns the unit type of the encoded purchase.
+     *
+     * @return Unit type
+     */
+    public Base.Type getPurchaseType() {
+        return Base.Type.values()[purchase / LANES];
+    }
+
+    /**
+     * Returns the lane of the encoded purchase.
+     *
+     * @return Lane index (0-2)
+     */
+    public int getPurchaseLane() {
+        return purchase % LANES;
+    }
+
+    /**
+     * Encodes a unit purchase into a single byte.
+     *
+     * @param type Unit type to buy
+     * @param lane Lane index (0-2)
+     * @return Encoded purchase
+     */
+    public static byte encodePurchase(Base.Type type, int lane) {
+        return (byte) (type.ordinal() * LANES + lane);
+    }
+}
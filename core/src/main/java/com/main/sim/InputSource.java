@@ -0,0 +1,18 @@
+package com.main.sim;
+
+/**
+ * Supplies one {@link InputFrame} per simulation tick, either from the live
+ * devices ({@link GdxInputSource}) or from a recording ({@link ReplayReader}).
+ */
+public interface InputSource {
+
+    /**
+     * Fills the frame for the next tick.
+     *
+     * @param frame Frame to fill
+     * @param delta Frame delta measured by the caller; live sources use it,
+     *              replays substitute the recorded delta
+     * @return False if the source is exhausted (end of a replay)
+     */
+    boolean next(InputFrame frame, float delta);
+}
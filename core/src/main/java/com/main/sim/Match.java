@@ -0,0 +1,346 @@
+package com.main.sim;
+
+import java.util.List;
+import java.util.Random;
+
+import com.main.entities.Unit;
+import com.main.entities.player.Hero;
+import com.main.map.Base;
+import com.main.map.WarMap;
+import com.main.utils.FrameProfiler;
+import com.main.utils.jfr.SimulationTickEvent;
+
+/**
+ * Simulation state of one match: both bases, the hero and the tick counter.
+ * <p>
+ * {@link #tick(InputFrame)} advances the match by one step using only the
+ * given input snapshot and the bases' seeded random generators, so two matches
+ * created with the same seed and fed the same input sequence stay identical.
+ * This is what makes replays ({@link ReplayRecorder}, {@link ReplayReader})
+ * possible; the screen only renders the state and collects the input.
+ */
+public class Match {
+
+    /**
+     * X position of the enemy base on the game map.
+     */
+    public static final int ENEMY_BASE_X = 1350;
+    /**
+     * X position of the player base on the game map.
+     */
+    public static final int PLAYER_BASE_X = -22;
+    /**
+     * Y position of both bases.
+     */
+    private static final int BASE_Y = 300;
+    /**
+     * Gold given to the hero per dead zombie, every tick while it is still in
+     * the enemy unit list.
+     */
+    private static final int KILL_REWARD = 15;
+
+    private final MatchContext context;
+    private final long seed;
+    private final int mapWidth;
+    private final int mapHeight;
+    private final Base enemyBase;
+    private final Base playerBase;
+    private final Hero hero;
+
+    /**
+     * Number of ticks simulated so far.
+     */
+    private long tick = 0L;
+
+    /**
+     * Optional profiler receiving the HERO and BASES sections.
+     */
+    private FrameProfiler profiler;
+
+    /**
+     * Creates a match with the bases at their normal positions.
+     *
+     * @param map  Loaded game map
+     * @param seed Seed from which every random stream of the match is derived
+     */
+    public Match(WarMap map, long seed) {
+        this(new MatchContext(map), seed);
+    }
+
+    /**
+     * Creates a match in the given context with the bases at their normal
+     * positions.
+     *
+     * @param context Map and audio settings of the match
+     * @param seed    Seed from which every random stream of the match is derived
+     */
+    public Match(MatchContext context, long seed) {
+        this(context, seed, ENEMY_BASE_X, PLAYER_BASE_X);
+    }
+
+    /**
+     * Creates a match with custom base positions.
+     *
+     * @param map         Loaded game map
+     * @param seed        Seed from which every random stream of the match is
+     *                    derived
+     * @param enemyBaseX  X position of the enemy base
+     * @param playerBaseX X position of the player base
+     */
+    public Match(WarMap map, long seed, int enemyBaseX, int playerBaseX) {
+        this(new MatchContext(map), seed, enemyBaseX, playerBaseX);
+    }
+
+    /**
+     * Creates a match in the given context with custom base positions.
+     *
+     * @param context     Map and audio settings of the match
+     * @param seed        Seed from which every random stream of the match is
+     *                    derived
+     * @param enemyBaseX  X position of the enemy base
+     * @param playerBaseX X position of the player base
+     */
+    public Match(MatchContext context, long seed, int enemyBaseX, int playerBaseX) {
+        WarMap map = context.getMap();
+        this.context = context;
+        this.seed = seed;
+        this.mapWidth = map.getMapWidthInPixels();
+        this.mapHeight = map.getMapHeightInPixels();
+        Random seeds = new Random(seed);
+        this.enemyBase = new Base(enemyBaseX, BASE_Y, false, mapHeight, seeds.nextLong());
+        this.playerBase = new Base(playerBaseX, BASE_Y, true, mapHeight, seeds.nextLong());
+        // Before the hero, which loads its frames through its base
+        this.enemyBase.setHeadless(context.isHeadless());
+        this.playerBase.setHeadless(context.isHeadless());
+        this.hero = new Hero(mapWidth / 2, mapHeight / 2, map, playerBase);
+        this.playerBase.setHero(hero);
+        this.hero.setAudioSettings(context.getAudioSettings());
+    }
+
+    /**
+     * Advances the simulation by one tick.
+     *
+     * @param input Input snapshot for this tick, including its delta
+     */
+    public void tick(InputFrame input) {
+        tick(input, null);
+    }
+
+    /**
+     * Advances the simulation by one tick with a second player commanding the
+     * zombie base (versus mode). Only the commander's purchase is used; its
+     * delta and buttons are ignored.
+     *
+     * @param input     Hero input for this tick, including its delta
+     * @param commander Zombie commander input, or null when the base spawns on
+     *                  its own
+     */
+    public void tick(InputFrame input, InputFrame commander) {
+        float delta = input.getDelta();
+        SimulationTickEvent tickEvent = new SimulationTickEvent();
+        tickEvent.begin();
+
+        if (input.hasPurchase()) {
+            Unit bought = playerBase.buyUnit(input.getPurchaseType(), input.getPurchaseLane(), hero);
+            playerBase.addUnit(bought);
+        }
+        if (commander != null && commander.hasPurchase()) {
+            enemyBase.buyZombie(commander.getPurchaseType(), commander.getPurchaseLane(), mapWidth);
+        }
+
+        begin(FrameProfiler.Section.HERO);
+        hero.update(delta, mapWidth, mapHeight, enemyBase.getUnits(), input);
+        end(FrameProfiler.Section.HERO);
+
+        begin(FrameProfiler.Section.BASES);
+        giveKillGold();
+        enemyBase.spawnUnit(mapWidth, delta);
+        playerBase.spawnUnit(mapWidth, delta);
+        // Les ennemis attaquent les alliés (et leur base) et vice-versa
+        enemyBase.updateUnits(delta, playerBase.getUnits(), playerBase, hero);
+        playerBase.updateUnits(delta, enemyBase.getUnits(), enemyBase, null);
+        end(FrameProfiler.Section.BASES);
+        tick++;
+
+        tickEvent.end();
+        if (tickEvent.shouldCommit()) {
+            tickEvent.delta = delta;
+            tickEvent.playerUnits = playerBase.getUnits().size();
+            tickEvent.enemyUnits = enemyBase.getUnits().size();
+            tickEvent.commit();
+        }
+    }
+
+    /**
+     * Rewards the hero for each dead zombie still held by the enemy base.
+     */
+    private void giveKillGold() {
+        for (Unit enemy : enemyBase.getUnits()) {
+            if (enemy.isDead()) {
+                hero.addGold(KILL_REWARD);
+            }
+        }
+    }
+
+    private void begin(FrameProfiler.Section section) {
+        if (profiler != null) {
+            profiler.begin(section);
+        }
+    }
+
+    private void end(FrameProfiler.Section section) {
+        if (profiler != null) {
+            profiler.end(section);
+        }
+    }
+
+    /**
+     * Computes a hash of the gameplay state (hero, bases and every unit). Two
+     * matches that simulated the same ticks have the same hash; used to check
+     * that a replay reproduces its recording.
+     *
+     * @return State hash
+     */
+    public long stateHash() {
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, tick);
+        hash = mix(hash, Float.floatToIntBits(hero.getPosX()));
+        hash = mix(hash, Float.floatToIntBits(hero.getPosY()));
+        hash = mix(hash, hero.getCurrentHealth());
+        hash = mix(hash, hero.getGold());
+        hash = mix(hash, hero.getWeapon() != null ? hero.getWeapon().getMunitions() : -1);
+        hash = mix(hash, playerBase.getHealth());
+        hash = mix(hash, enemyBase.getHealth());
+        hash = mix(hash, enemyBase.getGold());
+        hash = mixUnits(hash, playerBase.getUnits());
+        hash = mixUnits(hash, enemyBase.getUnits());
+        return hash;
+    }
+
+    private static long mixUnits(long hash, List<Unit> units) {
+        hash = mix(hash, units.size());
+        for (Unit unit : units) {
+            hash = mix(hash, unit.getType() != null ? unit.getType().hashCode() : 0);
+            hash = mix(hash, unit.getLane());
+            hash = mix(hash, Float.floatToIntBits(unit.getPosX()));
+            hash = mix(hash, Float.floatToIntBits(unit.getPosY()));
+            hash = mix(hash, unit.getHealth());
+        }
+        return hash;
+    }
+
+    /**
+     * FNV-1a step over the eight bytes of a value.
+     */
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Sets the profiler that times the hero and base updates.
+     *
+     * @param profiler Profiler, or null to disable
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Returns the seed of this match.
+     *
+     * @return Match seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of ticks simulated so far.
+     *
+     * @return Tick count
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Sets the tick counter of a match restored from a save.
+     *
+     * @param tick Number of ticks simulated before the save
+     */
+    public void restoreTick(long tick) {
+        this.tick = tick;
+    }
+
+    /**
+     * Returns the map the match is played on.
+     *
+     * @return WarMap instance
+     */
+    public WarMap getMap() {
+        return context.getMap();
+    }
+
+    /**
+     * Returns the context the match runs in.
+     *
+     * @return Match context
+     */
+    public MatchContext getContext() {
+        return context;
+    }
+
+    /**
+     * Checks if either base has been destroyed.
+     *
+     * @return True once the match has a winner
+     */
+    public boolean isOver() {
+        return playerBase.isDestroyed() || enemyBase.isDestroyed();
+    }
+
+    /**
+     * Returns the enemy base (spawns zombies).
+     *
+     * @return Base instance
+     */
+    public Base getEnemyBase() {
+        return enemyBase;
+    }
+
+    /**
+     * Returns the player base (spawns soldiers).
+     *
+     * @return Base instance
+     */
+    public Base getPlayerBase() {
+        return playerBase;
+    }
+
+    /**
+     * Returns the hero.
+     *
+     * @return Hero instance
+     */
+    public Hero getHero() {
+        return hero;
+    }
+
+    /**
+     * Releases the textures of the hero and of every unit of both bases. The
+     * match must not be rendered afterwards.
+     */
+    public void dispose() {
+        hero.dispose();
+        for (Unit unit : playerBase.getUnits()) {
+            unit.dispose();
+        }
+        for (Unit unit : enemyBase.getUnits()) {
+            unit.dispose();
+        }
+    }
+}
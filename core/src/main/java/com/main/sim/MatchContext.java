@@ -0,0 +1,94 @@
+package com.main.sim;
+
+import com.main.map.WarMap;
+import com.utils.AudioSettings;
+
+/**
+ * Everything a {@link Match} needs from outside its own state: the map it is
+ * played on and the audio settings of whoever is watching it.
+ * <p>
+ * A match reaches nothing else, so any number of matches can run in the same
+ * JVM. The map is only read during a match and can be shared by every context
+ * (see {@link MatchScheduler}); headless contexts have no audio settings and
+ * play no sound.
+ * <p>
+ * A context can also be headless for textures: its entities load no image,
+ * so the match can be ticked on a thread without a GL context (see
+ * {@link SimulationThread}) while the rest of the game keeps drawing.
+ */
+public final class MatchContext {
+
+    private final WarMap map;
+    private final AudioSettings audioSettings;
+    private final boolean headless;
+
+    /**
+     * Creates a silent context, for headless matches.
+     *
+     * @param map Loaded game map
+     */
+    public MatchContext(WarMap map) {
+        this(map, null);
+    }
+
+    /**
+     * Creates a context.
+     *
+     * @param map           Loaded game map
+     * @param audioSettings Settings deciding whether sound effects play, or null
+     *                      for none
+     */
+    public MatchContext(WarMap map, AudioSettings audioSettings) {
+        this(map, audioSettings, false);
+    }
+
+    /**
+     * Creates a context, optionally without textures.
+     *
+     * @param map           Loaded game map
+     * @param audioSettings Settings deciding whether sound effects play, or null
+     *                      for none
+     * @param headless      True for entities that load no texture
+     */
+    public MatchContext(WarMap map, AudioSettings audioSettings, boolean headless) {
+        this.map = map;
+        this.audioSettings = audioSettings;
+        this.headless = headless;
+    }
+
+    /**
+     * Returns the map.
+     *
+     * @return Game map
+     */
+    public WarMap getMap() {
+        return map;
+    }
+
+    /**
+     * Returns the audio settings.
+     *
+     * @return Audio settings, or null for a silent match
+     */
+    public AudioSettings getAudioSettings() {
+        return audioSettings;
+    }
+
+    /**
+     * Checks if sound effects should play.
+     *
+     * @return True if the context has audio settings with sounds enabled
+     */
+    public boolean isSoundEnabled() {
+        return audioSettings != null && audioSettings.isSoundEnabled();
+    }
+
+    /**
+     * Checks if the entities of the match load no texture.
+     *
+     * @return True for a context without textures
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+}
@@ -0,0 +1,334 @@
+package com.main.sim;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many independent matches on a shared thread pool, one fixed tick of
+ * every match per {@link #tickAll()} call.
+ * <p>
+ * Matches share nothing but their (read-only) map, so each round simply hands
+ * them out to the workers: every worker claims the next match that has not
+ * been ticked yet until none are left, which keeps all cores busy even when
+ * some matches cost much more than others. A match is only ever ticked by one
+ * worker per round and the round ends before the next starts, so the matches
+ * themselves need no locking.
+ * <p>
+ * The cost of every tick is measured per match; {@link #estimateCapacity()}
+ * turns the average into the number of matches the pool can keep at the tick
+ * rate, which is what decides how densely matches can be packed on a host.
+ */
+public class MatchScheduler implements Closeable {
+
+    private final float tickDelta;
+    private final ExecutorService pool;
+    private final List<Callable<Void>> workers = new ArrayList<>();
+    private final List<ScheduledMatch> matches = new ArrayList<>();
+    private final AtomicInteger nextMatch = new AtomicInteger();
+
+    /**
+     * Duration of the last round, in nanoseconds.
+     */
+    private long lastRoundNanos;
+    /**
+     * Total tick time of the last round, summed over every match.
+     */
+    private long lastRoundBusyNanos;
+    private long rounds;
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param threads   Number of worker threads, usually the core count
+     * @param tickDelta Simulated time of one tick, in seconds
+     */
+    public MatchScheduler(int threads, float tickDelta) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        this.tickDelta = tickDelta;
+        this.pool = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "match-worker-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        for (int i = 0; i < threads; i++) {
+            workers.add(this::work);
+        }
+    }
+
+    /**
+     * Adds a match, ticked from the next round on.
+     *
+     * @param match Match to run; must not be shared with another scheduler
+     * @param input Input of its hero, or null for a hero that stays idle
+     * @return Handle giving access to the match and its tick statistics
+     */
+    public ScheduledMatch add(Match match, InputSource input) {
+        ScheduledMatch scheduled = new ScheduledMatch(match, input);
+        matches.add(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Ticks every running match once and waits until all are done. Matches
+     * that are over or whose input ran out are skipped.
+     *
+     * @throws InterruptedException If interrupted while waiting for the workers
+     * @throws IllegalStateException If a match failed; it is marked finished
+     */
+    public void tickAll() throws InterruptedException {
+        long start = System.nanoTime();
+        nextMatch.set(0);
+        List<Future<Void>> done = pool.invokeAll(workers);
+        for (Future<Void> future : done) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Match tick failed", e.getCause());
+            }
+        }
+        long busy = 0L;
+        for (ScheduledMatch scheduled : matches) {
+            busy += scheduled.lastTickNanos;
+        }
+        lastRoundBusyNanos = busy;
+        lastRoundNanos = System.nanoTime() - start;
+        rounds++;
+    }
+
+    private Void work() {
+        int index;
+        while ((index = nextMatch.getAndIncrement()) < matches.size()) {
+            matches.get(index).tick(tickDelta);
+        }
+        return null;
+    }
+
+    /**
+     * Runs rounds until every match is finished or the round limit is hit.
+     *
+     * @param maxRounds Maximum number of rounds
+     * @return Number of rounds run
+     * @throws InterruptedException If interrupted while waiting for the workers
+     */
+    public int runToEnd(int maxRounds) throws InterruptedException {
+        int round = 0;
+        while (round < maxRounds && getRunningCount() > 0) {
+            tickAll();
+            round++;
+        }
+        return round;
+    }
+
+    /**
+     * Returns the scheduled matches, in the order they were added.
+     *
+     * @return Unmodifiable list of matches
+     */
+    public List<ScheduledMatch> getMatches() {
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Returns the number of matches still being ticked.
+     *
+     * @return Running match count
+     */
+    public int getRunningCount() {
+        int running = 0;
+        for (ScheduledMatch scheduled : matches) {
+            if (!scheduled.finished) {
+                running++;
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Returns the number of rounds run so far.
+     *
+     * @return Round count
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Returns how busy the workers were during the last round: the summed
+     * tick time divided by the round's duration times the thread count.
+     *
+     * @return Utilization between 0 and about 1
+     */
+    public double getLastRoundUtilization() {
+        if (lastRoundNanos == 0L) {
+            return 0.0;
+        }
+        return lastRoundBusyNanos / (double) (lastRoundNanos * workers.size());
+    }
+
+    /**
+     * Average tick cost over every tick of every match.
+     *
+     * @return Average cost in nanoseconds, 0 before the first round
+     */
+    public double getAverageTickNanos() {
+        long nanos = 0L;
+        long ticks = 0L;
+        for (ScheduledMatch scheduled : matches) {
+            nanos += scheduled.totalNanos;
+            ticks += scheduled.ticks;
+        }
+        return ticks == 0L ? 0.0 : nanos / (double) ticks;
+    }
+
+    /**
+     * Estimates how many matches like the ones measured so far the pool can
+     * tick in real time.
+     *
+     * @return Estimated match capacity, 0 before the first round
+     */
+    public int estimateCapacity() {
+        double average = getAverageTickNanos();
+        if (average == 0.0) {
+            return 0;
+        }
+        return (int) (workers.size() * (tickDelta * 1_000_000_000.0) / average);
+    }
+
+    /**
+     * Formats one line per match with its tick count and cost, followed by the
+     * pool totals.
+     *
+     * @return Multi-line report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        for (int i = 0; i < matches.size(); i++) {
+            ScheduledMatch scheduled = matches.get(i);
+            report.append(String.format(Locale.ROOT, "match %d seed %d: %d ticks, avg %.1f us, max %.1f us%s%n",
+                    i, scheduled.match.getSeed(), scheduled.ticks, scheduled.getAverageTickNanos() / 1000.0,
+                    scheduled.maxNanos / 1000.0, scheduled.finished ? " (finished)" : ""));
+        }
+        report.append(String.format(Locale.ROOT, "%d matches on %d threads: avg tick %.1f us, utilization %.0f%%, "
+                + "capacity %d matches", matches.size(), workers.size(), getAverageTickNanos() / 1000.0,
+                getLastRoundUtilization() * 100, estimateCapacity()));
+        return report.toString();
+    }
+
+    /**
+     * Stops the worker threads. Matches are left as they are.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * One match run by the scheduler, with the cost of its ticks.
+     * Statistics are written by the workers during a round and may only be
+     * read between rounds.
+     */
+    public static final class ScheduledMatch {
+
+        private final Match match;
+        private final InputSource input;
+        private final InputFrame frame = new InputFrame();
+
+        private long ticks;
+        private long totalNanos;
+        private long maxNanos;
+        private long lastTickNanos;
+        private boolean finished;
+
+        ScheduledMatch(Match match, InputSource input) {
+            this.match = match;
+            this.input = input;
+        }
+
+        void tick(float delta) {
+            lastTickNanos = 0L;
+            if (finished) {
+                return;
+            }
+            long start = System.nanoTime();
+            if (input == null) {
+                frame.clear(delta);
+            } else if (!input.next(frame, delta)) {
+                finished = true;
+                return;
+            }
+            try {
+                match.tick(frame);
+            } catch (RuntimeException e) {
+                finished = true;
+                throw e;
+            }
+            finished = match.isOver();
+            lastTickNanos = System.nanoTime() - start;
+            ticks++;
+            totalNanos += lastTickNanos;
+            maxNanos = Math.max(maxNanos, lastTickNanos);
+        }
+
+        /**
+         * Returns the match.
+         *
+         * @return Match instance
+         */
+        public Match getMatch() {
+            return match;
+        }
+
+        /**
+         * Returns the number of ticks run.
+         *
+         * @return Tick count
+         */
+        public long getTicks() {
+            return ticks;
+        }
+
+        /**
+         * Returns the average cost of one tick.
+         *
+         * @return Average cost in nanoseconds, 0 before the first tick
+         */
+        public double getAverageTickNanos() {
+            return ticks == 0L ? 0.0 : totalNanos / (double) ticks;
+        }
+
+        /**
+         * Returns the cost of the slowest tick.
+         *
+         * @return Maximum cost in nanoseconds
+         */
+        public long getMaxTickNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Checks if the match is over, its input ran out or it failed.
+         *
+         * @return True once the match is no longer ticked
+         */
+        public boolean isFinished() {
+            return finished;
+        }
+    }
+}
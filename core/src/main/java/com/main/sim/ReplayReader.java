@@ -0,0 +1,112 @@
+package com.main.sim;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Input source that plays back a file written by {@link ReplayRecorder}.
+ * <p>
+ * Each call to {@link #next(InputFrame, float)} returns the next recorded tick,
+ * including its recorded delta, so the match is re-simulated with exactly the
+ * same steps regardless of the current frame rate. Create the match with
+ * {@link #getSeed()} to reproduce the recorded spawns.
+ */
+public class ReplayReader implements InputSource, Closeable {
+
+    /**
+     * System property naming a replay file to play instead of live input.
+     */
+    public static final String PROPERTY = "zgame.replay.play";
+
+    private final DataInputStream in;
+    private final long seed;
+    private boolean finished = false;
+    private int ticks = 0;
+
+    /**
+     * Opens a replay file.
+     *
+     * @param file Replay file
+     * @throws IOException If the file cannot be read or is not a replay
+     */
+    public ReplayReader(File file) throws IOException {
+        this(new FileInputStream(file));
+    }
+
+    /**
+     * Opens a replay stream and reads its header.
+     *
+     * @param stream Replay content, closed with the reader
+     * @throws IOException If the stream is not a supported replay
+     */
+    public ReplayReader(InputStream stream) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(stream)));
+        if (in.readInt() != ReplayRecorder.MAGIC) {
+            in.close();
+            throw new IOException("Not a replay file");
+        }
+        int version = in.readUnsignedByte();
+        if (version != ReplayRecorder.VERSION) {
+            in.close();
+            throw new IOException("Unsupported replay version " + version);
+        }
+        this.seed = in.readLong();
+    }
+
+    /**
+     * Returns the seed of the recorded match.
+     *
+     * @return Match seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of ticks played back so far.
+     *
+     * @return Tick count
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns whether the end of the recording has been reached.
+     *
+     * @return True once {@link #next(InputFrame, float)} returned false
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public boolean next(InputFrame frame, float delta) {
+        if (finished) {
+            return false;
+        }
+        try {
+            float recordedDelta = in.readFloat();
+            int buttons = in.readUnsignedShort();
+            byte purchase = in.readByte();
+            frame.set(recordedDelta, buttons, purchase);
+            ticks++;
+            return true;
+        } catch (IOException e) {
+            // End of file; a truncated or corrupt file also ends the replay here
+            finished = true;
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
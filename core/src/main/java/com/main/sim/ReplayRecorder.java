@@ -0,0 +1,96 @@
+package com.main.sim;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a compact binary replay: the match seed followed by one
+ * {@link InputFrame} per tick.
+ * <p>
+ * File layout (big-endian, gzip-compressed): the magic {@code "ZGRP"}, a format
+ * version byte and the seed as a long, then for each tick the delta as a
+ * float, the button bitmask as a short and the encoded purchase as a byte.
+ * Seven bytes per tick before compression; idle ticks compress to almost
+ * nothing.
+ */
+public class ReplayRecorder implements Closeable {
+
+    /**
+     * File magic.
+     */
+    static final int MAGIC = ('Z' << 24) | ('G' << 16) | ('R' << 8) | 'P';
+    /**
+     * Current format version.
+     */
+    static final int VERSION = 1;
+    /**
+     * System property naming the file to record the next match into.
+     */
+    public static final String PROPERTY = "zgame.replay.record";
+
+    private final DataOutputStream out;
+    private int ticks = 0;
+
+    /**
+     * Creates a recorder writing to a file.
+     *
+     * @param file Destination file, overwritten if it exists
+     * @param seed Seed of the recorded match
+     * @throws IOException If the file cannot be created
+     */
+    public ReplayRecorder(File file, long seed) throws IOException {
+        this(new FileOutputStream(file), seed);
+    }
+
+    /**
+     * Creates a recorder writing to a stream.
+     *
+     * @param stream Destination stream, closed with the recorder
+     * @param seed   Seed of the recorded match
+     * @throws IOException If the header cannot be written
+     */
+    public ReplayRecorder(OutputStream stream, long seed) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(stream)));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+    }
+
+    /**
+     * Appends one tick.
+     *
+     * @param frame Input used for the tick
+     * @throws IOException If writing fails
+     */
+    public void write(InputFrame frame) throws IOException {
+        out.writeFloat(frame.getDelta());
+        out.writeShort(frame.getButtons());
+        out.writeByte(frame.getPurchase());
+        ticks++;
+    }
+
+    /**
+     * Returns the number of ticks recorded.
+     *
+     * @return Tick count
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Finishes the compressed stream and closes the file.
+     *
+     * @throws IOException If flushing fails
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
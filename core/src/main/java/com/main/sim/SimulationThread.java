@@ -0,0 +1,283 @@
+package com.main.sim;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.main.net.StateCapture;
+import com.main.net.WorldState;
+import com.main.utils.GameLog;
+
+/**
+ * Runs a {@link Match} on its own thread at a fixed tick rate and publishes
+ * what the renderer needs after every tick, so rendering never waits on game
+ * logic and game logic never waits on vsync.
+ * <p>
+ * After each tick the match is captured into a {@link WorldState} (positions,
+ * animation states, health) and handed over through three buffers. The
+ * simulation writes the back buffer and swaps it with the middle one, and
+ * {@link #latest()} swaps the middle one with the front buffer when it holds a
+ * newer state. Each side only ever touches its own buffer, so neither takes a
+ * lock or waits for the other; a state is never modified once published.
+ * <p>
+ * The match itself belongs to the simulation thread. The render thread sends
+ * input with {@link #submit(int, byte)} and runs anything else that needs the
+ * match (quick saves) through {@link #post(Consumer)}. Enable with
+ * {@code -Dzgame.simthread=true}.
+ */
+public class SimulationThread implements Closeable {
+
+    /**
+     * System property enabling the simulation thread in the game screen.
+     */
+    public static final String PROPERTY = "zgame.simthread";
+
+    /**
+     * Default fixed tick: 60 ticks per second.
+     */
+    public static final float DEFAULT_TICK = 1f / 60f;
+
+    /**
+     * Ticks the simulation may fall behind before it gives up catching up.
+     */
+    private static final int MAX_LAG_TICKS = 5;
+
+    /**
+     * Marks the middle buffer as holding a state the reader has not seen.
+     */
+    private static final int FRESH = 4;
+
+    /**
+     * Called on the simulation thread after every tick.
+     */
+    public interface Listener {
+
+        /**
+         * @param match Match just ticked
+         * @param input Input of that tick
+         */
+        void ticked(Match match, InputFrame input);
+    }
+
+    private final Match match;
+    private final float tickDelta;
+    private final Listener listener;
+    private final Thread thread;
+    private final InputFrame frame = new InputFrame();
+    private final StateCapture capture = new StateCapture();
+    private final Queue<Consumer<Match>> posted = new ConcurrentLinkedQueue<>();
+
+    private final WorldState[] buffers = { new WorldState(), new WorldState(), new WorldState() };
+    /**
+     * Index of the middle buffer, plus {@link #FRESH} when it is unread.
+     */
+    private final AtomicInteger middle = new AtomicInteger(1);
+    /**
+     * Buffer written by the simulation thread.
+     */
+    private int back = 0;
+    /**
+     * Buffer read by the render thread; -1 until the first state arrives.
+     */
+    private int front = -1;
+    private int spare = 2;
+
+    /**
+     * Scripted input (replay or bot) used before the live input, or null.
+     */
+    private InputSource script;
+    private volatile int heldButtons;
+    private final AtomicInteger pressedButtons = new AtomicInteger();
+    private final AtomicInteger purchase = new AtomicInteger(InputFrame.NO_PURCHASE);
+
+    private volatile boolean paused;
+    private volatile boolean closed;
+    private volatile boolean failed;
+    private volatile RuntimeException failure;
+    private volatile long ticks;
+    private volatile long lastTickNanos;
+
+    /**
+     * Creates the thread; {@link #start()} starts it.
+     *
+     * @param match     Match to simulate; owned by the thread from now on
+     * @param tickDelta Fixed tick, in seconds
+     * @param script    Input played before the submitted live input (replay or
+     *                  bot, read on the simulation thread), or null
+     * @param listener  Called after every tick, or null
+     */
+    public SimulationThread(Match match, float tickDelta, InputSource script, Listener listener) {
+        this.match = match;
+        this.tickDelta = tickDelta;
+        this.script = script;
+        this.listener = listener;
+        this.thread = new Thread(this::run, "simulation");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts ticking.
+     */
+    public void start() {
+        thread.start();
+    }
+
+    private void run() {
+        long period = (long) (tickDelta * 1_000_000_000L);
+        long next = System.nanoTime();
+        try {
+            while (!closed) {
+                long now = System.nanoTime();
+                if (now < next) {
+                    LockSupport.parkNanos(next - now);
+                    continue;
+                }
+                if (now - next > MAX_LAG_TICKS * period) {
+                    // After a stall, resume from now instead of running a burst of ticks
+                    next = now;
+                }
+                Consumer<Match> task;
+                while ((task = posted.poll()) != null) {
+                    task.accept(match);
+                }
+                if (!paused) {
+                    tick();
+                }
+                next += period;
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+            failed = true;
+            GameLog.error("SimulationThread", "Simulation stopped at tick {}", match.getTick(), e);
+        }
+    }
+
+    private void tick() {
+        long start = System.nanoTime();
+        if (script == null || !script.next(frame, tickDelta)) {
+            if (script != null) {
+                GameLog.info("SimulationThread", "Scripted input finished after {} ticks, switching to live input",
+                        match.getTick());
+                script = null;
+            }
+            int buttons = heldButtons | pressedButtons.getAndSet(0);
+            frame.set(tickDelta, buttons, (byte) purchase.getAndSet(InputFrame.NO_PURCHASE));
+        }
+        match.tick(frame);
+        if (listener != null) {
+            listener.ticked(match, frame);
+        }
+        publish();
+        lastTickNanos = System.nanoTime() - start;
+        ticks++;
+    }
+
+    private void publish() {
+        capture.capture(match, buffers[back]);
+        back = middle.getAndSet(back | FRESH) & ~FRESH;
+    }
+
+    /**
+     * Returns the newest published state. Called from the render thread only;
+     * the returned state stays valid and unchanged until the next call.
+     *
+     * @return Newest state, or null before the first tick
+     */
+    public WorldState latest() {
+        if ((middle.get() & FRESH) != 0) {
+            int previous = front >= 0 ? front : spare;
+            front = middle.getAndSet(previous) & ~FRESH;
+        }
+        return front >= 0 ? buffers[front] : null;
+    }
+
+    /**
+     * Sends the live input; held buttons replace the previous ones, pressed
+     * buttons and purchases are kept until a tick uses them.
+     *
+     * @param buttons  Buttons as read by {@link GdxInputSource}
+     * @param purchase Encoded purchase, or {@link InputFrame#NO_PURCHASE}
+     */
+    public void submit(int buttons, byte purchase) {
+        heldButtons = buttons & ~InputFrame.EDGE_BUTTONS;
+        if ((buttons & InputFrame.EDGE_BUTTONS) != 0) {
+            pressedButtons.getAndAccumulate(buttons & InputFrame.EDGE_BUTTONS, (a, b) -> a | b);
+        }
+        if (purchase != InputFrame.NO_PURCHASE) {
+            this.purchase.set(purchase);
+        }
+    }
+
+    /**
+     * Runs a task on the simulation thread before the next tick, even while
+     * paused.
+     *
+     * @param task Task receiving the match
+     */
+    public void post(Consumer<Match> task) {
+        posted.add(task);
+    }
+
+    /**
+     * Stops or resumes ticking. Posted tasks still run while paused.
+     *
+     * @param paused True to stop ticking
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Returns the number of ticks simulated by this thread.
+     *
+     * @return Tick count
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns how long the last tick took, capture included.
+     *
+     * @return Duration in nanoseconds
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Checks if the simulation stopped on an error.
+     *
+     * @return True after a failed tick
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns the error that stopped the simulation.
+     *
+     * @return The exception thrown by the failed tick, or null
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Stops the thread and waits for the tick in progress to end. The match
+     * may be used by the caller afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.main.utils;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.main.utils.jfr.FontGenerationEvent;
+
+/**
+ * Generates FreeType fonts and reports each generation as a
+ * {@link FontGenerationEvent} for Flight Recorder.
+ */
+public final class FontLoader {
+
+    private FontLoader() {
+    }
+
+    /**
+     * Generates a bitmap font from a FreeType generator.
+     *
+     * @param generator Generator for the font file
+     * @param parameter Size, colors and border settings
+     * @param owner     Name of the requesting class, shown in the recording
+     * @return The generated font
+     */
+    public static BitmapFont generate(FreeTypeFontGenerator generator,
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter, String owner) {
+        FontGenerationEvent event = new FontGenerationEvent();
+        event.begin();
+        BitmapFont font = generator.generateFont(parameter);
+        event.end();
+        if (event.shouldCommit()) {
+            event.owner = owner;
+            event.size = parameter.size;
+            event.borderWidth = parameter.borderWidth;
+            event.commit();
+        }
+        return font;
+    }
+}
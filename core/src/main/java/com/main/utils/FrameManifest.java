@@ -0,0 +1,94 @@
+package com.main.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Animation frames loaded by the hero, soldiers and zombies, for preloading
+ * them before the first unit of a type is created and for the decoding
+ * benchmark.
+ * <p>
+ * Mirrors the {@code loadFrames} calls of {@code Hero}, {@code Melee},
+ * {@code Sniper}, {@code Tank}, {@code CZombie}, {@code FZombie} and
+ * {@code WZombie}; keep it in sync when their animations change.
+ */
+public final class FrameManifest {
+
+    /**
+     * Numbered frames of one animation.
+     */
+    public static final class FrameSet {
+        /**
+         * File path pattern with a %d starting at 1.
+         */
+        public final String pattern;
+        public final int count;
+
+        FrameSet(String pattern, int count) {
+            this.pattern = pattern;
+            this.count = count;
+        }
+    }
+
+    public static final List<FrameSet> HERO = sets(
+            new FrameSet("sold/RIght%d.png", 8),
+            new FrameSet("sold/Left%d.png", 8),
+            new FrameSet("sold/Up%d.png", 8),
+            new FrameSet("sold/Down%d.png", 8),
+            new FrameSet("sold/WalkUR%d.png", 8),
+            new FrameSet("sold/WalkUL%d.png", 8),
+            new FrameSet("sold/WalkDR%d.png", 8),
+            new FrameSet("sold/WalkDL%d.png", 8),
+            new FrameSet("sold/Die%d.png", 7),
+            new FrameSet("sold/AttackR%d.png", 4),
+            new FrameSet("sold/AttackL%d.png", 4),
+            new FrameSet("sold/AttackU%d.png", 4),
+            new FrameSet("sold/AttackD%d.png", 4));
+
+    public static final List<FrameSet> SOLDIERS = sets(
+            new FrameSet("Melee/Walk%d.png", 8),
+            new FrameSet("Melee/Attack_%d.png", 10),
+            new FrameSet("Melee/Idle%d.png", 5),
+            new FrameSet("Sniper/Walk%d.png", 8),
+            new FrameSet("Sniper/Attack%d.png", 7),
+            new FrameSet("Sniper/Idle%d.png", 8),
+            new FrameSet("Sniper/Idlee%d.png", 7),
+            new FrameSet("Tank/Ride%d.png", 2),
+            new FrameSet("Tank/Attack%d.png", 7));
+
+    public static final List<FrameSet> ZOMBIES = sets(
+            new FrameSet("zombie/crawl/Walk%d.png", 10),
+            new FrameSet("zombie/crawl/Attack%d.png", 12),
+            new FrameSet("zombie/crawl/Idle%d.png", 9),
+            new FrameSet("zombie/normal/Walk%d.png", 10),
+            new FrameSet("zombie/normal/Attack%d.png", 4),
+            new FrameSet("zombie/normal/Idle%d.png", 6),
+            new FrameSet("zombie/women/Walk%d.png", 7),
+            new FrameSet("zombie/women/Attack%d.png", 20),
+            new FrameSet("zombie/women/Idle%d.png", 8));
+
+    private FrameManifest() {
+    }
+
+    private static List<FrameSet> sets(FrameSet... sets) {
+        return Collections.unmodifiableList(Arrays.asList(sets));
+    }
+
+    /**
+     * Expands frame sets into the paths of their frames.
+     *
+     * @param sets Frame sets
+     * @return Internal paths, in order
+     */
+    public static List<String> paths(List<FrameSet> sets) {
+        List<String> paths = new ArrayList<>();
+        for (FrameSet set : sets) {
+            for (int i = 0; i < set.count; i++) {
+                paths.add(String.format(set.pattern, i + 1));
+            }
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,263 @@
+package com.main.utils;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Chooses the frame rate of the game and how much optional work each frame
+ * does.
+ * <p>
+ * The launcher reports window focus and iconification; while the window is
+ * in the background the frame rate drops to {@link #BACKGROUND_FPS} (or
+ * {@link #IDLE_FPS} when minimized) and {@link #shouldSimulate()} tells
+ * offline matches to stop ticking. An optional power-saving cap, set with
+ * -Dzgame.fps.cap, limits the foreground rate.
+ * <p>
+ * Each frame also reports how long its update and render took. The smoothed
+ * time is compared with the frame budget of the target rate: after
+ * {@link #SHED_AFTER} frames over budget one more level of optional work is
+ * shed, and after {@link #RESTORE_AFTER} frames well under it one level comes
+ * back, so a single slow frame never flips the level.
+ */
+public class FramePacer {
+
+    /**
+     * System property holding the power-saving frame cap.
+     */
+    public static final String CAP_PROPERTY = "zgame.fps.cap";
+
+    /**
+     * Frame rate while the window is visible but not focused.
+     */
+    public static final int BACKGROUND_FPS = 10;
+
+    /**
+     * Frame rate while the window is minimized.
+     */
+    public static final int IDLE_FPS = 4;
+
+    /**
+     * Shed levels, each one dropping the work of the levels below as well.
+     * Debug drawing (range circles and hitboxes) goes first, then fewer new
+     * combat effects, then no combat effects at all.
+     */
+    public static final int SHED_NONE = 0;
+    public static final int SHED_DEBUG = 1;
+    public static final int SHED_EFFECTS = 2;
+    public static final int SHED_ALL_EFFECTS = 3;
+
+    /**
+     * Consecutive frames over budget before shedding one more level.
+     */
+    public static final int SHED_AFTER = 30;
+
+    /**
+     * Consecutive frames under {@link #RESTORE_RATIO} of the budget before
+     * restoring one level.
+     */
+    public static final int RESTORE_AFTER = 120;
+
+    private static final float SHED_RATIO = 0.9f;
+    private static final float RESTORE_RATIO = 0.6f;
+    private static final float SMOOTHING = 0.1f;
+    private static final int DEFAULT_FPS = 60;
+
+    private int foregroundFps = DEFAULT_FPS;
+    private int powerSaveFps;
+    private boolean focused = true;
+    private boolean iconified;
+    private boolean adaptive = true;
+
+    /**
+     * Smoothed update and render time of a frame, in seconds.
+     */
+    private float averageWork;
+    private int overBudget;
+    private int underBudget;
+    private int shedLevel = SHED_NONE;
+
+    /**
+     * Frame rate last passed to the graphics backend, or -1 before the first.
+     */
+    private int appliedFps = -1;
+
+    /**
+     * Creates a pacer with the power-saving cap from -Dzgame.fps.cap, if set.
+     *
+     * @return New pacer
+     */
+    public static FramePacer fromSystemProperty() {
+        FramePacer pacer = new FramePacer();
+        String cap = System.getProperty(CAP_PROPERTY);
+        if (cap != null && !cap.isEmpty()) {
+            try {
+                pacer.setPowerSaveFps(Integer.parseInt(cap.trim()));
+            } catch (NumberFormatException e) {
+                GameLog.warn("FramePacer", "Ignoring invalid {}: {}", CAP_PROPERTY, cap);
+            }
+        }
+        return pacer;
+    }
+
+    /**
+     * Sets the frame rate used while the window is focused, usually the
+     * monitor refresh rate.
+     *
+     * @param fps Frames per second, 0 for unlimited
+     */
+    public void setForegroundFps(int fps) {
+        foregroundFps = Math.max(0, fps);
+    }
+
+    /**
+     * Sets the power-saving cap applied over the foreground rate.
+     *
+     * @param fps Frames per second, 0 to disable
+     */
+    public void setPowerSaveFps(int fps) {
+        powerSaveFps = Math.max(0, fps);
+    }
+
+    public int getPowerSaveFps() {
+        return powerSaveFps;
+    }
+
+    /**
+     * Records whether the window has input focus.
+     *
+     * @param focused True when focused
+     */
+    public void setFocused(boolean focused) {
+        this.focused = focused;
+    }
+
+    /**
+     * Records whether the window is minimized.
+     *
+     * @param iconified True when minimized
+     */
+    public void setIconified(boolean iconified) {
+        this.iconified = iconified;
+    }
+
+    /**
+     * Enables or disables load shedding; disabling it restores every level.
+     *
+     * @param adaptive True to shed optional work on slow frames
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+        if (!adaptive) {
+            shedLevel = SHED_NONE;
+            overBudget = 0;
+            underBudget = 0;
+        }
+    }
+
+    /**
+     * Returns whether the game is in the foreground and offline matches
+     * should keep simulating.
+     *
+     * @return False while the window is unfocused or minimized
+     */
+    public boolean shouldSimulate() {
+        return focused && !iconified;
+    }
+
+    /**
+     * Returns the frame rate for the current window state.
+     *
+     * @return Frames per second, 0 for unlimited
+     */
+    public int getTargetFps() {
+        if (iconified) {
+            return IDLE_FPS;
+        }
+        if (!focused) {
+            return BACKGROUND_FPS;
+        }
+        if (powerSaveFps > 0 && (foregroundFps == 0 || powerSaveFps < foregroundFps)) {
+            return powerSaveFps;
+        }
+        return foregroundFps;
+    }
+
+    /**
+     * Returns the time a foreground frame may take, in seconds.
+     *
+     * @return Frame budget
+     */
+    public float getFrameBudget() {
+        int fps = powerSaveFps > 0 && (foregroundFps == 0 || powerSaveFps < foregroundFps)
+                ? powerSaveFps : foregroundFps;
+        return 1f / (fps > 0 ? fps : DEFAULT_FPS);
+    }
+
+    /**
+     * Reports a finished frame: updates the shed level and applies the target
+     * frame rate to the graphics backend when it changed.
+     *
+     * @param workSeconds Time spent updating and rendering the frame, without
+     *                    the wait for vsync or the frame cap
+     */
+    public void frame(float workSeconds) {
+        if (adaptive && shouldSimulate()) {
+            updateShedLevel(workSeconds);
+        }
+        int fps = getTargetFps();
+        if (fps != appliedFps && Gdx.graphics != null) {
+            Gdx.graphics.setForegroundFPS(fps);
+            appliedFps = fps;
+        }
+    }
+
+    private void updateShedLevel(float workSeconds) {
+        averageWork += (workSeconds - averageWork) * SMOOTHING;
+        float budget = getFrameBudget();
+        if (averageWork > budget * SHED_RATIO) {
+            underBudget = 0;
+            if (++overBudget >= SHED_AFTER && shedLevel < SHED_ALL_EFFECTS) {
+                shedLevel++;
+                overBudget = 0;
+                GameLog.debug("FramePacer", "Frames over budget, shed level {}", shedLevel);
+            }
+        } else if (averageWork < budget * RESTORE_RATIO) {
+            overBudget = 0;
+            if (++underBudget >= RESTORE_AFTER && shedLevel > SHED_NONE) {
+                shedLevel--;
+                underBudget = 0;
+                GameLog.debug("FramePacer", "Frames under budget, shed level {}", shedLevel);
+            }
+        } else {
+            overBudget = 0;
+            underBudget = 0;
+        }
+    }
+
+    /**
+     * Returns how much optional work is currently shed.
+     *
+     * @return One of the SHED_ levels
+     */
+    public int getShedLevel() {
+        return shedLevel;
+    }
+
+    /**
+     * Returns whether the work of a level is shed.
+     *
+     * @param level One of the SHED_ levels
+     * @return True when the current level is at least {@code level}
+     */
+    public boolean isShedding(int level) {
+        return shedLevel >= level;
+    }
+
+    /**
+     * Returns the smoothed frame work time.
+     *
+     * @return Seconds per frame
+     */
+    public float getAverageWork() {
+        return averageWork;
+    }
+}
@@ -0,0 +1,339 @@
+package com.main.utils;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Lightweight CPU profiler measuring how long each subsystem takes per frame.
+ * <p>
+ * Callers wrap each subsystem with {@link #begin(Section)} / {@link #end(Section)}
+ * and bracket the whole frame with {@link #beginFrame()} / {@link #endFrame()}.
+ * Section timings are smoothed with an exponential moving average and the total
+ * frame time is kept in a fixed-size ring buffer for the frame-time graph.
+ * When the profiler is disabled every call returns immediately, so it can stay
+ * wired into the game loop at no measurable cost.
+ */
+public class FrameProfiler {
+
+    /**
+     * Subsystems measured by the profiler, in display order.
+     */
+    public enum Section {
+        /** Hero input, movement and shooting. */
+        HERO,
+        /** Base spawning and unit AI ({@code Base.spawnUnit} / {@code Base.updateUnits}). */
+        BASES,
+        /** Tiled map rendering. */
+        MAP,
+        /** Unit and hero sprite rendering. */
+        UNITS,
+        /** HUD, shop, inventory and target rendering. */
+        HUD,
+        /** Pause / end-of-game overlays and debug shapes. */
+        OVERLAYS
+    }
+
+    /**
+     * Number of frames kept in the frame-time history.
+     */
+    public static final int HISTORY_SIZE = 120;
+
+    /**
+     * Weight of the newest sample in the moving averages.
+     */
+    private static final float SMOOTHING = 0.05f;
+
+    /**
+     * Nanoseconds per millisecond, used for conversions.
+     */
+    private static final float NANOS_PER_MS = 1_000_000f;
+
+    /**
+     * Time source in nanoseconds (System.nanoTime in the game).
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Whether timings are currently being collected.
+     */
+    private boolean enabled;
+
+    /**
+     * Start time of the section currently open, per section.
+     */
+    private final long[] sectionStart = new long[Section.values().length];
+
+    /**
+     * Time accumulated by each section during the current frame.
+     */
+    private final long[] sectionAccum = new long[Section.values().length];
+
+    /**
+     * Smoothed time of each section in milliseconds.
+     */
+    private final float[] sectionAverage = new float[Section.values().length];
+
+    /**
+     * Ring buffer of total frame times in milliseconds.
+     */
+    private final float[] frameHistory = new float[HISTORY_SIZE];
+
+    /**
+     * Next write position in {@link #frameHistory}.
+     */
+    private int historyIndex;
+
+    /**
+     * Number of valid entries in {@link #frameHistory}.
+     */
+    private int historyCount;
+
+    /**
+     * Start time of the current frame.
+     */
+    private long frameStart;
+
+    /**
+     * Smoothed total frame time in milliseconds.
+     */
+    private float frameAverage;
+
+    /**
+     * Unit sprites drawn and skipped by view culling in the last frame.
+     */
+    private int spritesSubmitted;
+    private int spritesCulled;
+
+    /**
+     * Texture changes between consecutive world sprites in the last frame.
+     */
+    private int textureSwitches;
+
+    /**
+     * Constructs a disabled profiler using {@link System#nanoTime()}.
+     */
+    public FrameProfiler() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Constructs a disabled profiler with a custom time source (used by tests).
+     *
+     * @param clock Supplier returning the current time in nanoseconds
+     */
+    FrameProfiler(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Enables or disables collection. Enabling clears previous measurements so
+     * the overlay does not show stale values from a previous session, and
+     * starts the current frame and sections now: when enabled mid-frame their
+     * begin calls were skipped, and the first samples would otherwise span
+     * the whole time the profiler was off.
+     *
+     * @param enabled True to collect timings
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            reset();
+            long now = clock.getAsLong();
+            frameStart = now;
+            for (int i = 0; i < sectionStart.length; i++) {
+                sectionStart[i] = now;
+            }
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether timings are currently being collected.
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Marks the start of a new frame and clears per-frame section accumulators.
+     */
+    public void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < sectionAccum.length; i++) {
+            sectionAccum[i] = 0L;
+        }
+        frameStart = clock.getAsLong();
+    }
+
+    /**
+     * Marks the end of the frame: folds section times into their moving
+     * averages and records the total frame time in the history.
+     */
+    public void endFrame() {
+        if (!enabled) {
+            return;
+        }
+        float frameMs = (clock.getAsLong() - frameStart) / NANOS_PER_MS;
+        for (int i = 0; i < sectionAccum.length; i++) {
+            sectionAverage[i] = smooth(sectionAverage[i], sectionAccum[i] / NANOS_PER_MS);
+        }
+        frameAverage = smooth(frameAverage, frameMs);
+        frameHistory[historyIndex] = frameMs;
+        historyIndex = (historyIndex + 1) % HISTORY_SIZE;
+        if (historyCount < HISTORY_SIZE) {
+            historyCount++;
+        }
+    }
+
+    /**
+     * Starts timing a section. A section may be opened several times per frame;
+     * its durations are summed.
+     *
+     * @param section Section being entered
+     */
+    public void begin(Section section) {
+        if (!enabled) {
+            return;
+        }
+        sectionStart[section.ordinal()] = clock.getAsLong();
+    }
+
+    /**
+     * Stops timing a section opened with {@link #begin(Section)}.
+     *
+     * @param section Section being left
+     */
+    public void end(Section section) {
+        if (!enabled) {
+            return;
+        }
+        int i = section.ordinal();
+        sectionAccum[i] += clock.getAsLong() - sectionStart[i];
+    }
+
+    /**
+     * Records how many unit sprites were drawn and how many were culled this
+     * frame.
+     *
+     * @param submitted Sprites handed to the batch
+     * @param culled    Sprites skipped because they were outside the view
+     */
+    public void countSprites(int submitted, int culled) {
+        if (!enabled) {
+            return;
+        }
+        spritesSubmitted = submitted;
+        spritesCulled = culled;
+    }
+
+    /**
+     * Records how many times the world pass changed texture this frame.
+     *
+     * @param switches Texture switches of the sorted render queue
+     */
+    public void countTextureSwitches(int switches) {
+        if (!enabled) {
+            return;
+        }
+        textureSwitches = switches;
+    }
+
+    /**
+     * Returns the number of texture switches of the last world pass.
+     *
+     * @return Texture switch count
+     */
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+
+    /**
+     * Returns the number of unit sprites drawn in the last frame.
+     *
+     * @return Submitted sprite count
+     */
+    public int getSpritesSubmitted() {
+        return spritesSubmitted;
+    }
+
+    /**
+     * Returns the number of unit sprites culled in the last frame.
+     *
+     * @return Culled sprite count
+     */
+    public int getSpritesCulled() {
+        return spritesCulled;
+    }
+
+    /**
+     * Returns the smoothed CPU time of a section.
+     *
+     * @param section Section to query
+     * @return Average time in milliseconds
+     */
+    public float getAverageMillis(Section section) {
+        return sectionAverage[section.ordinal()];
+    }
+
+    /**
+     * Returns the smoothed total frame time.
+     *
+     * @return Average frame time in milliseconds
+     */
+    public float getAverageFrameMillis() {
+        return frameAverage;
+    }
+
+    /**
+     * Returns a recorded frame time, oldest first.
+     *
+     * @param i Index between 0 and {@link #getHistoryCount()} - 1
+     * @return Frame time in milliseconds
+     */
+    public float getFrameMillis(int i) {
+        int start = historyCount < HISTORY_SIZE ? 0 : historyIndex;
+        return frameHistory[(start + i) % HISTORY_SIZE];
+    }
+
+    /**
+     * Returns the number of frames currently stored in the history.
+     *
+     * @return Number of valid history entries
+     */
+    public int getHistoryCount() {
+        return historyCount;
+    }
+
+    /**
+     * Clears all averages and history.
+     */
+    public void reset() {
+        for (int i = 0; i < sectionAverage.length; i++) {
+            sectionAverage[i] = 0f;
+            sectionAccum[i] = 0L;
+        }
+        frameAverage = 0f;
+        spritesSubmitted = 0;
+        spritesCulled = 0;
+        textureSwitches = 0;
+        historyIndex = 0;
+        historyCount = 0;
+    }
+
+    /**
+     * Blends a new sample into a moving average. The first sample seeds the
+     * average directly so values are meaningful right after enabling.
+     *
+     * @param average Current average
+     * @param sample  New sample
+     * @return Updated average
+     */
+    private float smooth(float average, float sample) {
+        if (historyCount == 0) {
+            return sample;
+        }
+        return average + (sample - average) * SMOOTHING;
+    }
+}
@@ -0,0 +1,411 @@
+package com.main.utils;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, leveled logger used instead of {@code System.out} in the game.
+ * <p>
+ * Log calls only copy a template and up to four arguments into a slot of a
+ * preallocated ring buffer; formatting ({@code {}} placeholders) and console
+ * I/O happen on a daemon flushing thread. A call never waits for I/O: when the
+ * ring is full the message is dropped and counted, and the drop count is
+ * reported with the next flushed line. Messages below the current level are
+ * rejected before touching the ring.
+ * <p>
+ * The level can be set with {@code -Dzgame.log.level=DEBUG|INFO|WARN|ERROR}
+ * (default INFO). WARN and ERROR go to stderr, the rest to stdout.
+ */
+public final class GameLog {
+
+    /**
+     * Severity of a log message.
+     */
+    public enum Level {
+        /** Verbose diagnostics, off by default. */
+        DEBUG,
+        /** Normal game events (purchases, screen changes). */
+        INFO,
+        /** Recoverable problems such as a missing asset. */
+        WARN,
+        /** Failures that lose data or functionality. */
+        ERROR
+    }
+
+    /**
+     * Number of slots in the ring buffer (power of two).
+     */
+    static final int CAPACITY = 1024;
+
+    /**
+     * Interval at which the flushing thread wakes up on its own.
+     */
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * One preallocated message slot.
+     */
+    private static final class Record {
+        long time;
+        Level level;
+        String tag;
+        String template;
+        int argCount;
+        Object a0;
+        Object a1;
+        Object a2;
+        Object a3;
+        Throwable error;
+
+        void copyFrom(Record other) {
+            time = other.time;
+            level = other.level;
+            tag = other.tag;
+            template = other.template;
+            argCount = other.argCount;
+            a0 = other.a0;
+            a1 = other.a1;
+            a2 = other.a2;
+            a3 = other.a3;
+            error = other.error;
+        }
+
+        void clear() {
+            tag = null;
+            template = null;
+            a0 = null;
+            a1 = null;
+            a2 = null;
+            a3 = null;
+            error = null;
+        }
+    }
+
+    private static final Record[] RING = new Record[CAPACITY];
+    private static final Object LOCK = new Object();
+    private static final long START = System.nanoTime();
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            RING[i] = new Record();
+        }
+    }
+
+    /**
+     * Index of the next slot to write (producers) and to read (flusher).
+     * Both only grow; guarded by {@link #LOCK}.
+     */
+    private static long head;
+    private static long tail;
+
+    /**
+     * Messages dropped because the ring was full, not yet reported.
+     */
+    private static int dropped;
+
+    private static volatile Level threshold = parseLevel(System.getProperty("zgame.log.level"));
+    private static volatile PrintStream out = System.out;
+    private static volatile PrintStream err = System.err;
+
+    private static final Thread FLUSHER = new Thread(GameLog::run, "game-log");
+
+    static {
+        FLUSHER.setDaemon(true);
+        FLUSHER.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(500), "game-log-shutdown"));
+    }
+
+    private GameLog() {
+    }
+
+    /**
+     * Sets the minimum level that is logged.
+     *
+     * @param level New threshold
+     */
+    public static void setLevel(Level level) {
+        threshold = level;
+    }
+
+    /**
+     * Returns whether messages of the given level are currently logged. Use it to
+     * guard calls whose arguments are expensive to compute.
+     *
+     * @param level Level to test
+     * @return True if enabled
+     */
+    public static boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold.ordinal();
+    }
+
+    /**
+     * Redirects output (used by tests).
+     *
+     * @param stdout Stream for DEBUG and INFO
+     * @param stderr Stream for WARN and ERROR
+     */
+    static void setOutput(PrintStream stdout, PrintStream stderr) {
+        out = stdout;
+        err = stderr;
+    }
+
+    /**
+     * Logs a DEBUG message.
+     */
+    public static void debug(String tag, String message) {
+        log(Level.DEBUG, tag, message, 0, null, null, null, null, null);
+    }
+
+    /**
+     * Logs a DEBUG message with one argument.
+     */
+    public static void debug(String tag, String template, Object a0) {
+        log(Level.DEBUG, tag, template, 1, a0, null, null, null, null);
+    }
+
+    /**
+     * Logs a DEBUG message with two arguments.
+     */
+    public static void debug(String tag, String template, Object a0, Object a1) {
+        log(Level.DEBUG, tag, template, 2, a0, a1, null, null, null);
+    }
+
+    /**
+     * Logs an INFO message.
+     */
+    public static void info(String tag, String message) {
+        log(Level.INFO, tag, message, 0, null, null, null, null, null);
+    }
+
+    /**
+     * Logs an INFO message with one argument.
+     */
+    public static void info(String tag, String template, Object a0) {
+        log(Level.INFO, tag, template, 1, a0, null, null, null, null);
+    }
+
+    /**
+     * Logs an INFO message with two arguments.
+     */
+    public static void info(String tag, String template, Object a0, Object a1) {
+        log(Level.INFO, tag, template, 2, a0, a1, null, null, null);
+    }
+
+    /**
+     * Logs an INFO message with three arguments.
+     */
+    public static void info(String tag, String template, Object a0, Object a1, Object a2) {
+        log(Level.INFO, tag, template, 3, a0, a1, a2, null, null);
+    }
+
+    /**
+     * Logs an INFO message with four arguments.
+     */
+    public static void info(String tag, String template, Object a0, Object a1, Object a2, Object a3) {
+        log(Level.INFO, tag, template, 4, a0, a1, a2, a3, null);
+    }
+
+    /**
+     * Logs a WARN message.
+     */
+    public static void warn(String tag, String message) {
+        log(Level.WARN, tag, message, 0, null, null, null, null, null);
+    }
+
+    /**
+     * Logs a WARN message with one argument.
+     */
+    public static void warn(String tag, String template, Object a0) {
+        log(Level.WARN, tag, template, 1, a0, null, null, null, null);
+    }
+
+    /**
+     * Logs a WARN message with two arguments.
+     */
+    public static void warn(String tag, String template, Object a0, Object a1) {
+        log(Level.WARN, tag, template, 2, a0, a1, null, null, null);
+    }
+
+    /**
+     * Logs an ERROR message and its stack trace.
+     */
+    public static void error(String tag, String message, Throwable error) {
+        log(Level.ERROR, tag, message, 0, null, null, null, null, error);
+    }
+
+    /**
+     * Logs an ERROR message with one argument and its stack trace.
+     */
+    public static void error(String tag, String template, Object a0, Throwable error) {
+        log(Level.ERROR, tag, template, 1, a0, null, null, null, error);
+    }
+
+    /**
+     * Copies a message into the ring, or counts it as dropped if full.
+     */
+    private static void log(Level level, String tag, String template, int argCount,
+            Object a0, Object a1, Object a2, Object a3, Throwable error) {
+        if (level.ordinal() < threshold.ordinal()) {
+            return;
+        }
+        synchronized (LOCK) {
+            if (head - tail >= CAPACITY) {
+                dropped++;
+                return;
+            }
+            Record record = RING[(int) (head & (CAPACITY - 1))];
+            record.time = System.nanoTime();
+            record.level = level;
+            record.tag = tag;
+            record.template = template;
+            record.argCount = argCount;
+            record.a0 = a0;
+            record.a1 = a1;
+            record.a2 = a2;
+            record.a3 = a3;
+            record.error = error;
+            head++;
+        }
+        if (level.ordinal() >= Level.WARN.ordinal()) {
+            LockSupport.unpark(FLUSHER);
+        }
+    }
+
+    /**
+     * Waits until every message logged so far has been written, or the timeout
+     * expires. Intended for shutdown and tests, never for the game loop.
+     *
+     * @param timeoutMillis Maximum time to wait
+     * @return True if everything was written
+     */
+    public static boolean flush(long timeoutMillis) {
+        long target;
+        synchronized (LOCK) {
+            target = head;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (System.nanoTime() < deadline) {
+            synchronized (LOCK) {
+                if (tail >= target) {
+                    return true;
+                }
+            }
+            LockSupport.unpark(FLUSHER);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return false;
+    }
+
+    /**
+     * Flushing thread body: drains the ring, then sleeps until woken or the
+     * flush interval elapses.
+     */
+    private static void run() {
+        Record current = new Record();
+        StringBuilder line = new StringBuilder(256);
+        while (true) {
+            boolean wrote = false;
+            while (true) {
+                int lost;
+                synchronized (LOCK) {
+                    if (tail == head) {
+                        break;
+                    }
+                    Record slot = RING[(int) (tail & (CAPACITY - 1))];
+                    current.copyFrom(slot);
+                    slot.clear();
+                    tail++;
+                    lost = dropped;
+                    dropped = 0;
+                }
+                PrintStream stream = current.level.ordinal() >= Level.WARN.ordinal() ? err : out;
+                if (lost > 0) {
+                    out.println("[game-log] " + lost + " messages dropped");
+                }
+                format(current, line);
+                stream.append(line).append(System.lineSeparator());
+                if (current.error != null) {
+                    current.error.printStackTrace(stream);
+                }
+                current.clear();
+                wrote = true;
+            }
+            if (wrote) {
+                out.flush();
+                err.flush();
+            }
+            LockSupport.parkNanos(FLUSH_INTERVAL_NANOS);
+        }
+    }
+
+    /**
+     * Formats a record as {@code [   12.345] INFO  Tag: message}.
+     */
+    private static void format(Record record, StringBuilder line) {
+        line.setLength(0);
+        long millis = TimeUnit.NANOSECONDS.toMillis(record.time - START);
+        String seconds = Long.toString(millis / 1000);
+        line.append('[');
+        for (int i = seconds.length(); i < 6; i++) {
+            line.append(' ');
+        }
+        line.append(seconds).append('.');
+        long frac = millis % 1000;
+        if (frac < 100) {
+            line.append('0');
+        }
+        if (frac < 10) {
+            line.append('0');
+        }
+        line.append(frac).append("] ");
+        String level = record.level.name();
+        line.append(level);
+        for (int i = level.length(); i < 6; i++) {
+            line.append(' ');
+        }
+        line.append(record.tag).append(": ");
+
+        String template = record.template;
+        int arg = 0;
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c == '{' && i + 1 < template.length() && template.charAt(i + 1) == '}' && arg < record.argCount) {
+                line.append(argument(record, arg++));
+                i += 2;
+            } else {
+                line.append(c);
+                i++;
+            }
+        }
+    }
+
+    private static Object argument(Record record, int index) {
+        switch (index) {
+            case 0:
+                return record.a0;
+            case 1:
+                return record.a1;
+            case 2:
+                return record.a2;
+            default:
+                return record.a3;
+        }
+    }
+
+    /**
+     * Parses a level name, falling back to INFO.
+     */
+    static Level parseLevel(String name) {
+        if (name != null) {
+            try {
+                return Level.valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ignored) {
+                // Unknown level, use default
+            }
+        }
+        return Level.INFO;
+    }
+}
@@ -0,0 +1,304 @@
+package com.main.utils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.main.entities.Unit;
+import com.main.entities.player.Hero;
+import com.main.map.Base;
+
+/**
+ * Writes one JSON line per second of play describing performance and game
+ * state, for soak runs and post-mortem analysis with {@link MetricsSummary}.
+ * <p>
+ * Each record contains the average and worst tick / render time, units alive
+ * per base and lane, spawns, deaths and gold income during the window, base
+ * health, heap usage and garbage collections. Records are formatted on the game
+ * thread once per second and handed to a daemon writer thread through a small
+ * bounded queue; if the disk stalls, records are dropped instead of blocking
+ * the game loop.
+ * <p>
+ * Enabled in {@link com.main.GameScreen} with {@code -Dzgame.metrics=<file>}.
+ */
+public class MetricsRecorder {
+
+    /**
+     * System property naming the output file.
+     */
+    public static final String PROPERTY = "zgame.metrics";
+
+    /**
+     * Length of one sampling window in seconds.
+     */
+    private static final float WINDOW = 1f;
+
+    /**
+     * Marker telling the writer thread to stop.
+     */
+    private static final String END = "";
+
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(64);
+    private final Writer writer;
+    private final Thread writerThread;
+    private final List<GarbageCollectorMXBean> collectors;
+    private final StringBuilder line = new StringBuilder(256);
+
+    /**
+     * Seconds since the recorder started, written as the record timestamp.
+     */
+    private int second = 0;
+
+    /**
+     * Accumulators for the current window.
+     */
+    private float windowTime;
+    private int frames;
+    private long tickNanos;
+    private long renderNanos;
+    private long maxTickNanos;
+    private long maxRenderNanos;
+
+    /**
+     * Cumulative counters at the start of the window; the bases and hero are
+     * remembered so a game reset starts the deltas from zero again.
+     */
+    private Base lastPlayerBase;
+    private Base lastEnemyBase;
+    private Hero lastHero;
+    private int playerSpawnsMark;
+    private int enemySpawnsMark;
+    private int playerDeathsMark;
+    private int enemyDeathsMark;
+    private int goldMark;
+
+    /**
+     * Number of records dropped because the writer fell behind.
+     */
+    private volatile int dropped;
+
+    /**
+     * Set once {@link #close()} has been called.
+     */
+    private boolean closed;
+
+    /**
+     * Opens the output file (creating parent directories) and starts the
+     * background writer.
+     *
+     * @param file Destination JSONL file, overwritten if it exists
+     * @throws IOException If the file cannot be created
+     */
+    public MetricsRecorder(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory " + parent);
+        }
+        this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+        this.collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        this.writerThread = new Thread(this::drain, "metrics-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Creates a recorder from the {@value #PROPERTY} system property.
+     *
+     * @return A recorder, or null if the property is unset or the file cannot be opened
+     */
+    public static MetricsRecorder fromSystemProperty() {
+        String path = System.getProperty(PROPERTY);
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        try {
+            return new MetricsRecorder(new File(path));
+        } catch (IOException e) {
+            GameLog.warn("MetricsRecorder", "Could not open metrics file {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Accounts for one frame and emits a record when a full second has elapsed.
+     *
+     * @param delta       Frame delta (seconds)
+     * @param tickNanos   Time spent in the simulation update this frame
+     * @param renderNanos Time spent rendering this frame
+     * @param playerBase  Player base
+     * @param enemyBase   Enemy base
+     * @param hero        Hero (may be null)
+     */
+    public void frame(float delta, long tickNanos, long renderNanos, Base playerBase, Base enemyBase, Hero hero) {
+        if (closed) {
+            return;
+        }
+        if (playerBase != lastPlayerBase || enemyBase != lastEnemyBase || hero != lastHero) {
+            lastPlayerBase = playerBase;
+            lastEnemyBase = enemyBase;
+            lastHero = hero;
+            playerSpawnsMark = 0;
+            enemySpawnsMark = 0;
+            playerDeathsMark = 0;
+            enemyDeathsMark = 0;
+            goldMark = 0;
+        }
+        frames++;
+        windowTime += delta;
+        this.tickNanos += tickNanos;
+        this.renderNanos += renderNanos;
+        maxTickNanos = Math.max(maxTickNanos, tickNanos);
+        maxRenderNanos = Math.max(maxRenderNanos, renderNanos);
+        if (windowTime >= WINDOW) {
+            emit(playerBase, enemyBase, hero);
+        }
+    }
+
+    /**
+     * Formats the current window as a JSON line and queues it for writing.
+     */
+    private void emit(Base playerBase, Base enemyBase, Hero hero) {
+        second++;
+        int goldEarned = hero != null ? hero.getGoldEarned() : 0;
+        long gcCount = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean gc : collectors) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcTime += Math.max(0, gc.getCollectionTime());
+        }
+        Runtime runtime = Runtime.getRuntime();
+
+        line.setLength(0);
+        line.append("{\"t\":").append(second);
+        line.append(",\"frames\":").append(frames);
+        field("tickMs", tickNanos / 1e6 / frames);
+        field("tickMaxMs", maxTickNanos / 1e6);
+        field("renderMs", renderNanos / 1e6 / frames);
+        field("renderMaxMs", maxRenderNanos / 1e6);
+        lanes("playerLanes", playerBase);
+        lanes("enemyLanes", enemyBase);
+        line.append(",\"playerSpawns\":").append(playerBase.getTotalSpawned() - playerSpawnsMark);
+        line.append(",\"enemySpawns\":").append(enemyBase.getTotalSpawned() - enemySpawnsMark);
+        line.append(",\"playerDeaths\":").append(playerBase.getTotalDeaths() - playerDeathsMark);
+        line.append(",\"enemyDeaths\":").append(enemyBase.getTotalDeaths() - enemyDeathsMark);
+        line.append(",\"gold\":").append(goldEarned - goldMark);
+        line.append(",\"playerBaseHp\":").append(playerBase.getHealth());
+        line.append(",\"enemyBaseHp\":").append(enemyBase.getHealth());
+        line.append(",\"heapMb\":").append((runtime.totalMemory() - runtime.freeMemory()) >> 20);
+        line.append(",\"gcCount\":").append(gcCount);
+        line.append(",\"gcMs\":").append(gcTime);
+        line.append('}');
+
+        if (!queue.offer(line.toString())) {
+            dropped++;
+        }
+
+        playerSpawnsMark = playerBase.getTotalSpawned();
+        enemySpawnsMark = enemyBase.getTotalSpawned();
+        playerDeathsMark = playerBase.getTotalDeaths();
+        enemyDeathsMark = enemyBase.getTotalDeaths();
+        goldMark = goldEarned;
+        windowTime = 0f;
+        frames = 0;
+        tickNanos = 0L;
+        renderNanos = 0L;
+        maxTickNanos = 0L;
+        maxRenderNanos = 0L;
+    }
+
+    /**
+     * Appends a numeric field with three decimals.
+     */
+    private void field(String name, double value) {
+        line.append(",\"").append(name).append("\":").append(Math.round(value * 1000.0) / 1000.0);
+    }
+
+    /**
+     * Appends the alive unit count of each lane as a JSON array.
+     */
+    private void lanes(String name, Base base) {
+        line.append(",\"").append(name).append("\":[");
+        List<List<Unit>> perLane = base.getUnitsPerLane();
+        for (int i = 0; i < perLane.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            int alive = 0;
+            for (Unit unit : perLane.get(i)) {
+                if (!unit.isDead()) {
+                    alive++;
+                }
+            }
+            line.append(alive);
+        }
+        line.append(']');
+    }
+
+    /**
+     * Writer thread body: writes queued lines until the end marker arrives.
+     */
+    private void drain() {
+        try {
+            while (true) {
+                String record = queue.take();
+                if (record == END) {
+                    break;
+                }
+                writer.write(record);
+                writer.write('\n');
+                if (queue.isEmpty()) {
+                    writer.flush();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            GameLog.warn("MetricsRecorder", "Metrics writer stopped: {}", e.getMessage());
+        } finally {
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+                // Nothing left to do
+            }
+        }
+    }
+
+    /**
+     * Returns how many records were dropped because the writer fell behind.
+     *
+     * @return Dropped record count
+     */
+    public int getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Flushes pending records and stops the writer thread. The partial window
+     * in progress is discarded.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (queue.offer(END, 1, TimeUnit.SECONDS)) {
+                writerThread.join(2000);
+            } else {
+                writerThread.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.main.utils;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Offline reader for files produced by {@link MetricsRecorder}.
+ * <p>
+ * Aggregates a run into averages, peaks and totals, and remembers the worst
+ * second (highest tick + render spike) together with the game state at that
+ * moment, so a frame-time spike can be related to what was happening.
+ * <p>
+ * Usage: {@code java -cp core.jar com.main.utils.MetricsSummary metrics.jsonl}
+ */
+public class MetricsSummary {
+
+    private int seconds;
+    private long frames;
+    private double tickMsWeighted;
+    private double renderMsWeighted;
+    private double maxTickMs;
+    private double maxRenderMs;
+    private int peakUnits;
+    private long playerSpawns;
+    private long enemySpawns;
+    private long playerDeaths;
+    private long enemyDeaths;
+    private long gold;
+    private int playerBaseHp;
+    private int enemyBaseHp;
+    private long peakHeapMb;
+    private long firstGcCount = -1;
+    private long firstGcMs;
+    private long lastGcCount;
+    private long lastGcMs;
+    private int worstSecond;
+    private double worstSpikeMs = -1;
+    private int worstSecondUnits;
+
+    /**
+     * Reads and aggregates a whole metrics stream. Blank or malformed lines are
+     * skipped so a file truncated by a crash can still be summarized.
+     *
+     * @param in Reader over the JSONL content
+     * @return The aggregated summary
+     * @throws IOException If reading fails
+     */
+    public static MetricsSummary read(Reader in) throws IOException {
+        MetricsSummary summary = new MetricsSummary();
+        BufferedReader reader = new BufferedReader(in);
+        String record;
+        while ((record = reader.readLine()) != null) {
+            record = record.trim();
+            if (record.startsWith("{") && record.endsWith("}")) {
+                summary.add(record);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Folds one record into the summary.
+     *
+     * @param record A single JSON line
+     */
+    void add(String record) {
+        int frameCount = (int) number(record, "frames");
+        if (frameCount <= 0) {
+            return;
+        }
+        seconds++;
+        frames += frameCount;
+        double tickMs = number(record, "tickMs");
+        double renderMs = number(record, "renderMs");
+        double tickMaxMs = number(record, "tickMaxMs");
+        double renderMaxMs = number(record, "renderMaxMs");
+        tickMsWeighted += tickMs * frameCount;
+        renderMsWeighted += renderMs * frameCount;
+        maxTickMs = Math.max(maxTickMs, tickMaxMs);
+        maxRenderMs = Math.max(maxRenderMs, renderMaxMs);
+
+        int units = (int) (arraySum(record, "playerLanes") + arraySum(record, "enemyLanes"));
+        peakUnits = Math.max(peakUnits, units);
+        playerSpawns += (long) number(record, "playerSpawns");
+        enemySpawns += (long) number(record, "enemySpawns");
+        playerDeaths += (long) number(record, "playerDeaths");
+        enemyDeaths += (long) number(record, "enemyDeaths");
+        gold += (long) number(record, "gold");
+        playerBaseHp = (int) number(record, "playerBaseHp");
+        enemyBaseHp = (int) number(record, "enemyBaseHp");
+        peakHeapMb = Math.max(peakHeapMb, (long) number(record, "heapMb"));
+
+        long gcCount = (long) number(record, "gcCount");
+        long gcMs = (long) number(record, "gcMs");
+        if (firstGcCount < 0) {
+            firstGcCount = gcCount;
+            firstGcMs = gcMs;
+        }
+        lastGcCount = gcCount;
+        lastGcMs = gcMs;
+
+        double spike = tickMaxMs + renderMaxMs;
+        if (spike > worstSpikeMs) {
+            worstSpikeMs = spike;
+            worstSecond = (int) number(record, "t");
+            worstSecondUnits = units;
+        }
+    }
+
+    /**
+     * Extracts a numeric field from a flat JSON object.
+     *
+     * @return The value, or 0 if the field is missing or malformed
+     */
+    private static double number(String record, String key) {
+        int start = valueStart(record, key);
+        if (start < 0) {
+            return 0;
+        }
+        int end = start;
+        while (end < record.length() && "-+.0123456789eE".indexOf(record.charAt(end)) >= 0) {
+            end++;
+        }
+        try {
+            return Double.parseDouble(record.substring(start, end));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Sums the numbers of an integer array field.
+     *
+     * @return The sum, or 0 if the field is missing
+     */
+    private static long arraySum(String record, String key) {
+        int start = valueStart(record, key);
+        if (start < 0 || record.charAt(start) != '[') {
+            return 0;
+        }
+        int end = record.indexOf(']', start);
+        if (end < 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (String part : record.substring(start + 1, end).split(",")) {
+            part = part.trim();
+            if (!part.isEmpty()) {
+                try {
+                    sum += Long.parseLong(part);
+                } catch (NumberFormatException ignored) {
+                    // Skip malformed entry
+                }
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the index of the first character of a field value, or -1.
+     */
+    private static int valueStart(String record, String key) {
+        String pattern = "\"" + key + "\":";
+        int index = record.indexOf(pattern);
+        return index < 0 ? -1 : index + pattern.length();
+    }
+
+    /**
+     * Returns the number of one-second records read.
+     *
+     * @return Record count
+     */
+    public int getSeconds() {
+        return seconds;
+    }
+
+    /**
+     * Returns the frame-weighted average simulation tick time.
+     *
+     * @return Average tick time in milliseconds
+     */
+    public double getAverageTickMs() {
+        return frames == 0 ? 0 : tickMsWeighted / frames;
+    }
+
+    /**
+     * Returns the frame-weighted average render time.
+     *
+     * @return Average render time in milliseconds
+     */
+    public double getAverageRenderMs() {
+        return frames == 0 ? 0 : renderMsWeighted / frames;
+    }
+
+    /**
+     * Returns the worst single-frame tick time.
+     *
+     * @return Maximum tick time in milliseconds
+     */
+    public double getMaxTickMs() {
+        return maxTickMs;
+    }
+
+    /**
+     * Returns the largest number of units alive at once.
+     *
+     * @return Peak unit count over both bases
+     */
+    public int getPeakUnits() {
+        return peakUnits;
+    }
+
+    /**
+     * Returns the total number of zombies spawned.
+     *
+     * @return Enemy spawn count
+     */
+    public long getEnemySpawns() {
+        return enemySpawns;
+    }
+
+    /**
+     * Returns the total number of zombies killed.
+     *
+     * @return Enemy death count
+     */
+    public long getEnemyDeaths() {
+        return enemyDeaths;
+    }
+
+    /**
+     * Returns the total gold earned during the run.
+     *
+     * @return Gold income
+     */
+    public long getGold() {
+        return gold;
+    }
+
+    /**
+     * Returns the timestamp of the second with the worst frame spike.
+     *
+     * @return Second index as written by the recorder
+     */
+    public int getWorstSecond() {
+        return worstSecond;
+    }
+
+    /**
+     * Returns the number of garbage collections during the run.
+     *
+     * @return Collection count
+     */
+    public long getGcCount() {
+        return firstGcCount < 0 ? 0 : lastGcCount - firstGcCount;
+    }
+
+    /**
+     * Formats the summary as a human-readable report.
+     *
+     * @return Multi-line report
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Duration        %d s (%d frames)%n", seconds, frames));
+        out.append(String.format(Locale.ROOT, "Tick            avg %.3f ms, max %.3f ms%n", getAverageTickMs(), maxTickMs));
+        out.append(String.format(Locale.ROOT, "Render          avg %.3f ms, max %.3f ms%n", getAverageRenderMs(), maxRenderMs));
+        out.append(String.format(Locale.ROOT, "Peak units      %d%n", peakUnits));
+        out.append(String.format(Locale.ROOT, "Soldiers        %d spawned, %d died%n", playerSpawns, playerDeaths));
+        out.append(String.format(Locale.ROOT, "Zombies         %d spawned, %d died%n", enemySpawns, enemyDeaths));
+        out.append(String.format(Locale.ROOT, "Gold earned     %d%n", gold));
+        out.append(String.format(Locale.ROOT, "Base health     player %d, enemy %d%n", playerBaseHp, enemyBaseHp));
+        out.append(String.format(Locale.ROOT, "Peak heap       %d MB%n", peakHeapMb));
+        out.append(String.format(Locale.ROOT, "GC              %d collections, %d ms%n", getGcCount(),
+                firstGcCount < 0 ? 0 : lastGcMs - firstGcMs));
+        if (worstSpikeMs >= 0) {
+            out.append(String.format(Locale.ROOT, "Worst second    t=%d, %.3f ms spike with %d units alive%n",
+                    worstSecond, worstSpikeMs, worstSecondUnits));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Command-line entry point: prints the summary of each file given.
+     *
+     * @param args Paths to metrics files
+     * @throws IOException If a file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: MetricsSummary <metrics.jsonl>...");
+            return;
+        }
+        for (String path : args) {
+            try (Reader in = new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8)) {
+                System.out.println("== " + path);
+                System.out.print(read(in).format());
+            }
+        }
+    }
+}
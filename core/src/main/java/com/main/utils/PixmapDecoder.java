@@ -0,0 +1,260 @@
+package com.main.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Decoding stage of texture loading: images are read and decoded into
+ * Pixmaps (already converted to the format of their {@link TextureGroup}) on
+ * a pool of worker threads, so only the GL upload is left to the render
+ * thread.
+ * <p>
+ * Decoded images wait in a bounded queue. When it is full the workers block,
+ * so no more than {@code capacity} decoded Pixmaps are held in memory however
+ * many files are submitted. The render thread calls {@link #upload(int)} once
+ * per frame to upload a few of them through {@link TextureLoader}, or
+ * {@link #uploadAll()} when it needs everything at once. The decoder keeps
+ * one reference to every texture it uploaded until {@link #release()}, so
+ * preloaded textures stay resident until the entities using them load them
+ * too.
+ * <p>
+ * Submitting and uploading happen on one thread; only decoding runs on the
+ * workers.
+ */
+public class PixmapDecoder implements Disposable {
+
+    private final ExecutorService pool;
+    private final BlockingQueue<Decoded> decoded;
+    private final List<Texture> uploaded = new ArrayList<>();
+    private int submitted;
+    private int handled;
+
+    /**
+     * Image decoded by a worker, or the reason it could not be.
+     */
+    private static final class Decoded {
+        final String path;
+        final Pixmap pixmap;
+        final Throwable error;
+
+        Decoded(String path, Pixmap pixmap, Throwable error) {
+            this.path = path;
+            this.pixmap = pixmap;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Creates a decoder with its own worker threads.
+     *
+     * @param threads  Number of workers, usually {@link #defaultThreads()}
+     * @param capacity Number of decoded images that may wait for upload
+     */
+    public PixmapDecoder(int threads, int capacity) {
+        if (threads < 1 || capacity < 1) {
+            throw new IllegalArgumentException("At least one thread and one queue slot are needed");
+        }
+        this.decoded = new ArrayBlockingQueue<>(capacity);
+        this.pool = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "pixmap-decoder-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Returns the number of workers that keeps every core busy.
+     *
+     * @return Available processors
+     */
+    public static int defaultThreads() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Queues an image for decoding.
+     *
+     * @param path Internal path of the image
+     */
+    public void submit(final String path) {
+        submitted++;
+        pool.execute(() -> decode(path));
+    }
+
+    /**
+     * Queues numbered animation frames for decoding.
+     *
+     * @param pattern File path pattern with a %d starting at 1
+     * @param count   Number of frames
+     */
+    public void submitFrames(String pattern, int count) {
+        for (int i = 0; i < count; i++) {
+            submit(String.format(pattern, i + 1));
+        }
+    }
+
+    /**
+     * Queues every frame of frame sets for decoding.
+     *
+     * @param sets Frame sets, see {@link FrameManifest}
+     */
+    public void submitAll(List<FrameManifest.FrameSet> sets) {
+        for (FrameManifest.FrameSet set : sets) {
+            submitFrames(set.pattern, set.count);
+        }
+    }
+
+    private void decode(String path) {
+        Decoded result;
+        try {
+            byte[] data = Gdx.files.internal(path).readBytes();
+            Pixmap.Format format = TextureGroup.of(path).formatFor(TextureLoader.hasAlpha(path, data));
+            result = new Decoded(path, convert(new Pixmap(data, 0, data.length), format), null);
+        } catch (Throwable e) {
+            // Reported on upload, so uploadAll() never waits for a lost image
+            result = new Decoded(path, null, e);
+        }
+        try {
+            decoded.put(result);
+        } catch (InterruptedException e) {
+            // Disposed while waiting for room in the queue
+            if (result.pixmap != null) {
+                result.pixmap.dispose();
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Converts a decoded image to the upload format, as the texture would on
+     * the render thread otherwise.
+     */
+    private static Pixmap convert(Pixmap pixmap, Pixmap.Format format) {
+        if (pixmap.getFormat() == format) {
+            return pixmap;
+        }
+        Pixmap converted = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), format);
+        converted.setBlending(Pixmap.Blending.None);
+        converted.drawPixmap(pixmap, 0, 0, 0, 0, pixmap.getWidth(), pixmap.getHeight());
+        pixmap.dispose();
+        return converted;
+    }
+
+    /**
+     * Uploads the images decoded so far, without waiting for more. Call on
+     * the render thread.
+     *
+     * @param max Most images to handle, the per-frame upload budget
+     * @return Number of images handled, failed ones included
+     */
+    public int upload(int max) {
+        int count = 0;
+        Decoded next;
+        while (count < max && (next = decoded.poll()) != null) {
+            accept(next);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Waits for every submitted image and uploads it. Call on the render
+     * thread.
+     */
+    public void uploadAll() {
+        while (handled < submitted) {
+            try {
+                accept(decoded.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void accept(Decoded next) {
+        handled++;
+        if (next.pixmap == null) {
+            GameLog.warn("PixmapDecoder", "Cannot decode {}: {}", next.path, next.error.getMessage());
+            return;
+        }
+        uploaded.add(TextureLoader.upload(next.path, next.pixmap));
+    }
+
+    /**
+     * Returns whether every submitted image has been uploaded.
+     *
+     * @return True when nothing is left to decode or upload
+     */
+    public boolean isDone() {
+        return handled == submitted;
+    }
+
+    /**
+     * Returns the number of submitted images not uploaded yet.
+     *
+     * @return Images being decoded or waiting in the queue
+     */
+    public int getPending() {
+        return submitted - handled;
+    }
+
+    /**
+     * Returns the number of textures the decoder holds a reference to.
+     *
+     * @return Uploaded textures not released yet
+     */
+    public int getUploadedCount() {
+        return uploaded.size();
+    }
+
+    /**
+     * Gives back the references to the uploaded textures; textures nothing
+     * else loaded are deleted.
+     */
+    public void release() {
+        for (Texture texture : uploaded) {
+            texture.dispose();
+        }
+        uploaded.clear();
+    }
+
+    /**
+     * Stops the workers, drops the images not uploaded yet and releases the
+     * uploaded textures.
+     */
+    @Override
+    public void dispose() {
+        pool.shutdownNow();
+        try {
+            pool.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Decoded next;
+        while ((next = decoded.poll()) != null) {
+            if (next.pixmap != null) {
+                next.pixmap.dispose();
+            }
+        }
+        handled = submitted;
+        release();
+    }
+}
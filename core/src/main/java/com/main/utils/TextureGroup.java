@@ -0,0 +1,94 @@
+package com.main.utils;
+
+import com.badlogic.gdx.graphics.Pixmap;
+
+/**
+ * Asset groups sharing a pixel format and a residency account.
+ * <p>
+ * Each group picks the format its images are uploaded in: one for images
+ * with an alpha channel and one for opaque images. The pixel-art sprites and
+ * the UI images hold few colors and hard alpha edges, so they use 16-bit
+ * formats at half the memory of RGBA8888 with no visible difference; the
+ * hero and weapons, always on screen and close to the camera, keep 32 bits.
+ * No group uses mipmaps: everything is drawn at or above its natural size.
+ */
+public enum TextureGroup {
+
+    /** Title and options screen backgrounds and logo, released in-game. */
+    MENU(Pixmap.Format.RGBA8888, Pixmap.Format.RGB565,
+            "ui/titlescreen.png", "ui/titlelogo.png"),
+    /** HUD, shop and inventory images. */
+    UI(Pixmap.Format.RGBA4444, Pixmap.Format.RGB565,
+            "ui/", "Frames/", "inventory/"),
+    /** Player hero and weapons. */
+    HERO(Pixmap.Format.RGBA8888, Pixmap.Format.RGB888,
+            "hero/", "weapon/"),
+    /** Soldier unit animation frames. */
+    UNITS(Pixmap.Format.RGBA4444, Pixmap.Format.RGB565,
+            "Melee/", "Sniper/", "Tank/", "sold/", "units/"),
+    /** Zombie animation frames. */
+    ZOMBIES(Pixmap.Format.RGBA4444, Pixmap.Format.RGB565,
+            "zombie/"),
+    /** Anything else, kept at full precision. */
+    OTHER(Pixmap.Format.RGBA8888, Pixmap.Format.RGB888);
+
+    private final Pixmap.Format alphaFormat;
+    private final Pixmap.Format opaqueFormat;
+    private final String[] prefixes;
+
+    TextureGroup(Pixmap.Format alphaFormat, Pixmap.Format opaqueFormat, String... prefixes) {
+        this.alphaFormat = alphaFormat;
+        this.opaqueFormat = opaqueFormat;
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * Returns the group of an internal image path. The first group with a
+     * matching prefix wins, so exact paths are listed before folders.
+     *
+     * @param path Internal path of the image
+     * @return Its group, {@link #OTHER} if none matches
+     */
+    public static TextureGroup of(String path) {
+        for (TextureGroup group : values()) {
+            for (String prefix : group.prefixes) {
+                if (path.startsWith(prefix)) {
+                    return group;
+                }
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * Returns the format images of this group are uploaded in.
+     *
+     * @param hasAlpha Whether the image has an alpha channel
+     * @return Upload pixel format
+     */
+    public Pixmap.Format formatFor(boolean hasAlpha) {
+        return hasAlpha ? alphaFormat : opaqueFormat;
+    }
+
+    /**
+     * Returns the bytes a texture of a format takes per pixel.
+     *
+     * @param format Pixel format
+     * @return Bytes per pixel
+     */
+    public static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
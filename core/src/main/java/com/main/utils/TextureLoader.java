@@ -0,0 +1,469 @@
+package com.main.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.main.utils.jfr.TextureLoadEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Central place where game textures are loaded from internal files.
+ * <p>
+ * Every load is reported as a {@link TextureLoadEvent} so Flight Recorder
+ * shows which asset caused a hitch. When recording is off the event is never
+ * populated or committed.
+ * <p>
+ * In headless mode (dedicated server) no image is read and no GL texture is
+ * created: {@link #load(String)} returns null and {@link #loadFrames} returns
+ * empty regions, so entities keep their animation lengths (which drive attack
+ * timings) without needing a graphics context.
+ * <p>
+ * Textures are shared by path: every unit of a type draws from the same
+ * textures instead of uploading its own copy. Each {@link #load(String)} takes
+ * a reference and each {@code dispose()} of the returned texture gives it
+ * back; the GL texture is deleted with the last reference. Images are
+ * uploaded in the pixel format of their {@link TextureGroup}, and the bytes
+ * resident per group are tracked against a budget (-Dzgame.textures.budget,
+ * in megabytes) so screens can release the groups they do not show.
+ * <p>
+ * {@link #loadFrames} decodes the frames that are not resident yet in
+ * parallel on a {@link PixmapDecoder}; only the uploads stay on the calling
+ * thread.
+ */
+public final class TextureLoader {
+
+    /**
+     * System property holding the texture memory budget in megabytes.
+     */
+    public static final String BUDGET_PROPERTY = "zgame.textures.budget";
+
+    private static final long DEFAULT_BUDGET = 256L * 1024 * 1024;
+
+    /**
+     * Resident key of the generated white pixel; not a file path.
+     */
+    private static final String WHITE_PIXEL = "<white pixel>";
+
+    private static volatile boolean headless = false;
+
+    /**
+     * Resident textures by path, guarded by the class lock. Textures are only
+     * created on the render thread: matches ticked on another thread use a
+     * headless {@link com.main.sim.MatchContext} and load none.
+     */
+    private static final Map<String, SharedTexture> resident = new HashMap<>();
+    private static final long[] residentBytes = new long[TextureGroup.values().length];
+    private static long budget = readBudget();
+    private static boolean overBudget;
+
+    /**
+     * Decoded frames waiting for upload in {@link #loadFrames}.
+     */
+    private static final int FRAME_QUEUE = 16;
+    /**
+     * Decoding stage of {@link #loadFrames}, created on first use. Only used
+     * under the class lock.
+     */
+    private static PixmapDecoder frameDecoder;
+
+    /**
+     * Texture shared by every caller loading the same path; disposing it
+     * returns one reference.
+     */
+    private static final class SharedTexture extends Texture {
+        private final String path;
+        private final TextureGroup group;
+        private final long bytes;
+        private int references = 1;
+
+        SharedTexture(FileHandle file, Pixmap.Format format, String path, TextureGroup group) {
+            super(file, format, false);
+            this.path = path;
+            this.group = group;
+            this.bytes = (long) getWidth() * getHeight() * TextureGroup.bytesPerPixel(format);
+        }
+
+        SharedTexture(Pixmap pixmap, String path, TextureGroup group) {
+            super(pixmap, pixmap.getFormat(), false);
+            this.path = path;
+            this.group = group;
+            this.bytes = (long) getWidth() * getHeight() * TextureGroup.bytesPerPixel(pixmap.getFormat());
+        }
+
+        @Override
+        public void dispose() {
+            release(this);
+        }
+
+        void free() {
+            super.dispose();
+        }
+    }
+
+    private TextureLoader() {
+    }
+
+    /**
+     * Switches headless mode on or off. Must be set before any entity is
+     * created.
+     *
+     * @param headless True to skip texture creation
+     */
+    public static void setHeadless(boolean headless) {
+        TextureLoader.headless = headless;
+    }
+
+    /**
+     * Returns whether textures are skipped.
+     *
+     * @return True in headless mode
+     */
+    public static boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Loads a texture from an internal file, or takes another reference to it
+     * if it is already resident. The caller disposes it once when done.
+     *
+     * @param path Internal path of the image
+     * @return The loaded texture, or null in headless mode
+     */
+    public static synchronized Texture load(String path) {
+        if (headless) {
+            return null;
+        }
+        TextureLoadEvent event = new TextureLoadEvent();
+        event.begin();
+        SharedTexture texture = resident.get(path);
+        FileHandle file = Gdx.files.internal(path);
+        boolean shared = texture != null;
+        if (shared) {
+            texture.references++;
+        } else {
+            TextureGroup group = TextureGroup.of(path);
+            Pixmap.Format format = group.formatFor(hasAlpha(file));
+            texture = new SharedTexture(file, format, path, group);
+            resident.put(path, texture);
+            residentBytes[group.ordinal()] += texture.bytes;
+            checkBudget();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.width = texture.getWidth();
+            event.height = texture.getHeight();
+            event.fileSize = file.length();
+            event.shared = shared;
+            event.commit();
+        }
+        return texture;
+    }
+
+    /**
+     * Returns a 1x1 opaque white texture, stretched and tinted to draw bars,
+     * particles and fills. One texture is shared by every caller; each call
+     * takes a reference, which the caller disposes once when done.
+     *
+     * @return The white pixel, or null in headless mode
+     */
+    public static synchronized Texture whitePixel() {
+        if (headless) {
+            return null;
+        }
+        SharedTexture texture = resident.get(WHITE_PIXEL);
+        if (texture != null) {
+            texture.references++;
+            return texture;
+        }
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        texture = new SharedTexture(pixmap, WHITE_PIXEL, TextureGroup.OTHER);
+        pixmap.dispose();
+        resident.put(WHITE_PIXEL, texture);
+        residentBytes[TextureGroup.OTHER.ordinal()] += texture.bytes;
+        return texture;
+    }
+
+    /**
+     * Uploads an image decoded off the render thread, or takes another
+     * reference to the texture if the path became resident meanwhile. The
+     * Pixmap is disposed either way; the caller disposes the texture once
+     * when done.
+     *
+     * @param path   Internal path the image was decoded from
+     * @param pixmap Decoded image, already in the format of its group
+     * @return The resident texture
+     */
+    static synchronized Texture upload(String path, Pixmap pixmap) {
+        TextureLoadEvent event = new TextureLoadEvent();
+        event.begin();
+        SharedTexture texture = resident.get(path);
+        boolean shared = texture != null;
+        if (shared) {
+            texture.references++;
+        } else {
+            TextureGroup group = TextureGroup.of(path);
+            texture = new SharedTexture(pixmap, path, group);
+            resident.put(path, texture);
+            residentBytes[group.ordinal()] += texture.bytes;
+            checkBudget();
+        }
+        pixmap.dispose();
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.width = texture.getWidth();
+            event.height = texture.getHeight();
+            event.fileSize = Gdx.files.internal(path).length();
+            event.shared = shared;
+            event.commit();
+        }
+        return texture;
+    }
+
+    /**
+     * Returns one reference to a shared texture, deleting it with the last.
+     */
+    private static synchronized void release(SharedTexture texture) {
+        if (texture.references <= 0) {
+            return;
+        }
+        if (--texture.references == 0) {
+            resident.remove(texture.path);
+            residentBytes[texture.group.ordinal()] -= texture.bytes;
+            texture.free();
+            if (overBudget && getResidentBytes() <= budget) {
+                overBudget = false;
+            }
+        }
+    }
+
+    /**
+     * Returns whether an image may have transparent pixels, read from its
+     * PNG header. Palette images and anything that is not a PNG count as
+     * transparent.
+     */
+    static boolean hasAlpha(FileHandle file) {
+        if (!"png".equalsIgnoreCase(file.extension())) {
+            return true;
+        }
+        byte[] header = new byte[26];
+        try (InputStream in = file.read()) {
+            int read = 0;
+            while (read < header.length) {
+                int n = in.read(header, read, header.length - read);
+                if (n < 0) {
+                    return true;
+                }
+                read += n;
+            }
+        } catch (IOException e) {
+            return true;
+        }
+        return pngHasAlpha(header);
+    }
+
+    /**
+     * Returns whether an image read into memory may have transparent pixels.
+     *
+     * @param path Internal path, for the file type
+     * @param data Content of the file
+     * @return True unless the PNG header says the image is opaque
+     */
+    static boolean hasAlpha(String path, byte[] data) {
+        if (!path.toLowerCase(Locale.ROOT).endsWith(".png") || data.length < 26) {
+            return true;
+        }
+        return pngHasAlpha(data);
+    }
+
+    private static boolean pngHasAlpha(byte[] header) {
+        // Color type: 0 grayscale, 2 RGB, 3 palette, 4 grayscale + alpha, 6 RGBA
+        int colorType = header[25];
+        return colorType != 0 && colorType != 2;
+    }
+
+    /**
+     * Warns once each time the resident textures grow past the budget.
+     */
+    private static void checkBudget() {
+        if (budget > 0 && !overBudget && getResidentBytes() > budget) {
+            overBudget = true;
+            GameLog.warn("TextureLoader", "Resident textures over budget of {} MB: {}",
+                    budget / (1024 * 1024), describeResidency());
+        }
+    }
+
+    private static long readBudget() {
+        String value = System.getProperty(BUDGET_PROPERTY);
+        if (value != null && !value.isEmpty()) {
+            try {
+                return Long.parseLong(value.trim()) * 1024 * 1024;
+            } catch (NumberFormatException e) {
+                GameLog.warn("TextureLoader", "Ignoring invalid {}: {}", BUDGET_PROPERTY, value);
+            }
+        }
+        return DEFAULT_BUDGET;
+    }
+
+    /**
+     * Sets the texture memory budget.
+     *
+     * @param bytes Budget in bytes, 0 for none
+     */
+    public static synchronized void setBudget(long bytes) {
+        budget = Math.max(0L, bytes);
+        overBudget = false;
+        checkBudget();
+    }
+
+    /**
+     * Returns the texture memory budget.
+     *
+     * @return Budget in bytes, 0 for none
+     */
+    public static synchronized long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns whether the resident textures exceed the budget.
+     *
+     * @return True when over budget
+     */
+    public static synchronized boolean isOverBudget() {
+        return budget > 0 && getResidentBytes() > budget;
+    }
+
+    /**
+     * Returns the GPU memory taken by the resident textures of a group.
+     *
+     * @param group Texture group
+     * @return Bytes, without driver overhead
+     */
+    public static synchronized long getResidentBytes(TextureGroup group) {
+        return residentBytes[group.ordinal()];
+    }
+
+    /**
+     * Returns the GPU memory taken by every resident texture.
+     *
+     * @return Bytes, without driver overhead
+     */
+    public static synchronized long getResidentBytes() {
+        long total = 0;
+        for (long bytes : residentBytes) {
+            total += bytes;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of resident textures.
+     *
+     * @return Texture count
+     */
+    public static synchronized int getResidentCount() {
+        return resident.size();
+    }
+
+    /**
+     * Returns the resident memory of every non-empty group, for logs.
+     *
+     * @return Text such as "UI 3.1 MB, UNITS 0.4 MB (total 3.5 MB)"
+     */
+    public static synchronized String describeResidency() {
+        StringBuilder text = new StringBuilder();
+        for (TextureGroup group : TextureGroup.values()) {
+            long bytes = residentBytes[group.ordinal()];
+            if (bytes > 0) {
+                if (text.length() > 0) {
+                    text.append(", ");
+                }
+                text.append(group).append(' ').append(megabytes(bytes)).append(" MB");
+            }
+        }
+        if (text.length() > 0) {
+            text.append(' ');
+        }
+        return text.append("(total ").append(megabytes(getResidentBytes())).append(" MB)").toString();
+    }
+
+    private static String megabytes(long bytes) {
+        return String.format(Locale.ROOT, "%.1f", bytes / (1024f * 1024f));
+    }
+
+    /**
+     * Loads numbered animation frames ({@code pattern} contains a %d starting at 1).
+     * Loaded textures are added to {@code owned} so the caller can dispose them;
+     * units of the same type share them. Frames not resident yet are decoded
+     * in parallel, then uploaded on the calling thread.
+     * In headless mode the regions are empty and nothing is added.
+     *
+     * @param pattern File path pattern for the frames
+     * @param count   Number of frames to load
+     * @param owned   List receiving the created textures
+     * @return Array of texture regions, one per frame
+     */
+    public static TextureRegion[] loadFrames(String pattern, int count, List<Texture> owned) {
+        return loadFrames(pattern, count, owned, false);
+    }
+
+    /**
+     * Loads numbered animation frames, or empty regions for an entity of a
+     * headless match (see {@link com.main.sim.MatchContext#isHeadless()}).
+     *
+     * @param pattern       File path pattern for the frames
+     * @param count         Number of frames to load
+     * @param owned         List receiving the created textures
+     * @param headlessMatch True when the entity's match loads no texture
+     * @return Array of texture regions, one per frame
+     */
+    public static synchronized TextureRegion[] loadFrames(String pattern, int count, List<Texture> owned,
+            boolean headlessMatch) {
+        TextureRegion[] frames = new TextureRegion[count];
+        if (headless || headlessMatch) {
+            for (int i = 0; i < count; i++) {
+                frames[i] = new TextureRegion();
+            }
+            return frames;
+        }
+        String[] paths = new String[count];
+        for (int i = 0; i < count; i++) {
+            paths[i] = String.format(pattern, i + 1);
+            if (!resident.containsKey(paths[i])) {
+                if (frameDecoder == null) {
+                    frameDecoder = new PixmapDecoder(PixmapDecoder.defaultThreads(), FRAME_QUEUE);
+                }
+                frameDecoder.submit(paths[i]);
+            }
+        }
+        try {
+            if (frameDecoder != null) {
+                frameDecoder.uploadAll();
+            }
+            // Frames that failed to decode are loaded again here and throw as before
+            for (int i = 0; i < count; i++) {
+                Texture tex = load(paths[i]);
+                owned.add(tex);
+                frames[i] = new TextureRegion(tex);
+            }
+        } finally {
+            if (frameDecoder != null) {
+                frameDecoder.release();
+            }
+        }
+        return frames;
+    }
+}
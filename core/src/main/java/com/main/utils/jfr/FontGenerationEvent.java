@@ -0,0 +1,35 @@
+package com.main.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering the rasterization of a FreeType font into a bitmap font.
+ */
+@Name("zgame.FontGeneration")
+@Label("Font Generation")
+@Category({"ZGame", "Assets"})
+@Description("Generating a bitmap font with FreeType")
+public class FontGenerationEvent extends Event {
+
+    /**
+     * Class that requested the font.
+     */
+    @Label("Owner")
+    public String owner;
+
+    /**
+     * Requested font size in pixels.
+     */
+    @Label("Size")
+    public int size;
+
+    /**
+     * Border width in pixels (0 when no outline is baked).
+     */
+    @Label("Border Width")
+    public float borderWidth;
+}
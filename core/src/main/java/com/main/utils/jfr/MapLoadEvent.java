@@ -0,0 +1,36 @@
+package com.main.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering the loading of the Tiled map, its renderer and collision
+ * rectangles.
+ */
+@Name("zgame.MapLoad")
+@Label("Map Load")
+@Category({"ZGame", "Assets"})
+@Description("Loading the TMX map, its tilesets and collision objects")
+public class MapLoadEvent extends Event {
+
+    /**
+     * Internal path of the TMX file.
+     */
+    @Label("Path")
+    public String path;
+
+    /**
+     * Number of map layers (tile and object layers).
+     */
+    @Label("Layers")
+    public int layers;
+
+    /**
+     * Number of collision rectangles parsed.
+     */
+    @Label("Collision Rects")
+    public int collisionRects;
+}
@@ -0,0 +1,30 @@
+package com.main.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering a screen change (hide of the old screen, show and resize
+ * of the new one).
+ */
+@Name("zgame.ScreenTransition")
+@Label("Screen Transition")
+@Category({"ZGame", "Screens"})
+@Description("Switching from one screen to another")
+public class ScreenTransitionEvent extends Event {
+
+    /**
+     * Simple class name of the previous screen, or null at startup.
+     */
+    @Label("From")
+    public String from;
+
+    /**
+     * Simple class name of the new screen.
+     */
+    @Label("To")
+    public String to;
+}
@@ -0,0 +1,37 @@
+package com.main.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one gameplay simulation step (hero, spawns and unit AI).
+ */
+@Name("zgame.SimulationTick")
+@Label("Simulation Tick")
+@Category({"ZGame", "Simulation"})
+@Description("One gameplay update: hero, base spawns and unit AI")
+@StackTrace(false)
+public class SimulationTickEvent extends Event {
+
+    /**
+     * Frame delta passed to the simulation (seconds).
+     */
+    @Label("Delta")
+    public float delta;
+
+    /**
+     * Soldiers managed by the player base at the end of the tick.
+     */
+    @Label("Player Units")
+    public int playerUnits;
+
+    /**
+     * Zombies managed by the enemy base at the end of the tick.
+     */
+    @Label("Enemy Units")
+    public int enemyUnits;
+}
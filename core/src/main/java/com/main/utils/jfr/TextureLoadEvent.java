@@ -0,0 +1,50 @@
+package com.main.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering the decode and GPU upload of one texture file, or the
+ * reuse of a texture already resident.
+ */
+@Name("zgame.TextureLoad")
+@Label("Texture Load")
+@Category({"ZGame", "Assets"})
+@Description("Decoding and uploading a texture")
+public class TextureLoadEvent extends Event {
+
+    /**
+     * Internal path of the image file.
+     */
+    @Label("Path")
+    public String path;
+
+    /**
+     * Texture width in pixels.
+     */
+    @Label("Width")
+    public int width;
+
+    /**
+     * Texture height in pixels.
+     */
+    @Label("Height")
+    public int height;
+
+    /**
+     * Size of the image file on disk.
+     */
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    /**
+     * True when an already resident texture was reused instead of loaded.
+     */
+    @Label("Shared")
+    public boolean shared;
+}
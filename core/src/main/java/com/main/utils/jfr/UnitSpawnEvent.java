@@ -0,0 +1,38 @@
+package com.main.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted when a base spawns or buys a unit. Its duration covers
+ * the unit constructor, which includes loading the unit's animation frames.
+ */
+@Name("zgame.UnitSpawn")
+@Label("Unit Spawn")
+@Category({"ZGame", "Simulation"})
+@Description("A unit created by a base, including texture loading")
+@StackTrace(false)
+public class UnitSpawnEvent extends Event {
+
+    /**
+     * Base type of the unit (MELEE, TANK, WOMAN...).
+     */
+    @Label("Unit Type")
+    public String unitType;
+
+    /**
+     * Lane index the unit was placed in.
+     */
+    @Label("Lane")
+    public int lane;
+
+    /**
+     * True for soldiers bought by the player, false for zombies.
+     */
+    @Label("Player Side")
+    public boolean playerSide;
+}
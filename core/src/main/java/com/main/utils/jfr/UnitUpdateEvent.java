@@ -0,0 +1,48 @@
+package com.main.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event covering one batch of unit updates in {@code Base.updateUnits}:
+ * target selection, cooldowns, base attacks and movement for every unit of
+ * a base. The part spent selecting targets is reported separately.
+ */
+@Name("zgame.UnitUpdate")
+@Label("Unit Update Batch")
+@Category({"ZGame", "Simulation"})
+@Description("Target selection, attacks and movement for all units of one base")
+@StackTrace(false)
+public class UnitUpdateEvent extends Event {
+
+    /**
+     * Name of the base whose units were updated.
+     */
+    @Label("Base")
+    public String base;
+
+    /**
+     * Number of units updated.
+     */
+    @Label("Units")
+    public int units;
+
+    /**
+     * Time spent filtering live enemies and selecting targets, summed over
+     * the units.
+     */
+    @Label("Target Selection Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long selectionTime;
+
+    /**
+     * Most candidate enemies a unit picked its target from.
+     */
+    @Label("Most Candidates")
+    public int maxCandidates;
+}
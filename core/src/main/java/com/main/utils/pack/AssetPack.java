@@ -0,0 +1,177 @@
+package com.main.utils.pack;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only view of an asset archive written by {@link AssetPacker}, memory
+ * mapped in one piece.
+ * <p>
+ * The file starts with its index: magic, version, entry count, then for each
+ * entry its path (relative to assets/, with '/' separators), its offset from
+ * the end of the index and its length. The data of every entry follows. The
+ * index is parsed once from the mapping; after that an entry is a slice of
+ * the mapped buffer, so reading it needs no system call and no copy.
+ */
+public class AssetPack {
+
+    /**
+     * "ZGPK" in ASCII.
+     */
+    static final int MAGIC = 0x5A47504B;
+    static final int VERSION = 1;
+
+    private final File file;
+    private final MappedByteBuffer buffer;
+    private final Map<String, ByteBuffer> entries;
+    private final Set<String> directories = new HashSet<>();
+
+    /**
+     * Maps an archive and reads its index.
+     *
+     * @param file Archive written by {@link AssetPacker}
+     * @throws IOException If the file cannot be mapped or is not an archive
+     */
+    public AssetPack(File file) throws IOException {
+        this.file = file;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        ByteBuffer indexView = buffer.duplicate();
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(indexView));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an asset pack: " + file);
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported asset pack version " + version + ": " + file);
+        }
+        int count = in.readInt();
+        String[] paths = new String[count];
+        long[] offsets = new long[count];
+        int[] lengths = new int[count];
+        for (int i = 0; i < count; i++) {
+            paths[i] = in.readUTF();
+            offsets[i] = in.readLong();
+            lengths[i] = in.readInt();
+        }
+        int dataStart = indexView.position();
+
+        entries = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            long start = dataStart + offsets[i];
+            if (start + lengths[i] > buffer.capacity()) {
+                throw new IOException("Truncated asset pack: " + file);
+            }
+            ByteBuffer slice = buffer.duplicate();
+            ((Buffer) slice).limit((int) start + lengths[i]);
+            ((Buffer) slice).position((int) start);
+            entries.put(paths[i], slice.slice());
+            for (int slash = paths[i].lastIndexOf('/'); slash > 0; slash = paths[i].lastIndexOf('/', slash - 1)) {
+                directories.add(paths[i].substring(0, slash));
+            }
+        }
+        directories.add("");
+    }
+
+    /**
+     * Returns the data of an entry.
+     *
+     * @param path Path relative to assets/, with '/' separators
+     * @return A new read-only view of the entry, positioned at its start, or
+     *         null if the archive has no such entry
+     */
+    public ByteBuffer get(String path) {
+        ByteBuffer data = entries.get(path);
+        return data != null ? data.duplicate() : null;
+    }
+
+    /**
+     * Returns whether an entry exists.
+     *
+     * @param path Path relative to assets/
+     * @return True for a packed file
+     */
+    public boolean contains(String path) {
+        return entries.containsKey(path);
+    }
+
+    /**
+     * Returns whether a path is a folder holding packed files.
+     *
+     * @param path Path relative to assets/, "" for the root
+     * @return True for a folder
+     */
+    public boolean isDirectory(String path) {
+        return directories.contains(path);
+    }
+
+    /**
+     * Returns the files and folders directly inside a folder, sorted.
+     *
+     * @param path Folder path, "" for the root
+     * @return Child paths
+     */
+    public List<String> list(String path) {
+        String prefix = path.isEmpty() ? "" : path + "/";
+        Set<String> children = new HashSet<>();
+        for (String entry : entries.keySet()) {
+            addChild(children, prefix, entry);
+        }
+        for (String directory : directories) {
+            addChild(children, prefix, directory);
+        }
+        List<String> sorted = new ArrayList<>(children);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static void addChild(Set<String> children, String prefix, String path) {
+        if (path.length() > prefix.length() && path.startsWith(prefix)) {
+            int slash = path.indexOf('/', prefix.length());
+            children.add(slash < 0 ? path : path.substring(0, slash));
+        }
+    }
+
+    /**
+     * Returns the number of packed files.
+     *
+     * @return Entry count
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the size of the mapped archive.
+     *
+     * @return Bytes
+     */
+    public long getMappedBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns the archive file.
+     *
+     * @return File
+     */
+    public File getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,97 @@
+package com.main.utils.pack;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Build step packing the assets folder into one {@link AssetPack} archive.
+ * <p>
+ * Run by the {@code packAssets} Gradle task:
+ * {@code AssetPacker <assets folder> <output file>}. Files are stored
+ * uncompressed in path order, so the same assets always give the same
+ * archive.
+ */
+public final class AssetPacker {
+
+    /**
+     * Top-level folder of save files that older builds wrote into the assets
+     * folder when run from Gradle; never packed.
+     */
+    static final String SAVES_FOLDER = "saves";
+
+    private AssetPacker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: AssetPacker <assets folder> <output file>");
+            System.exit(2);
+        }
+        File output = new File(args[1]);
+        int count = pack(new File(args[0]), output);
+        System.out.println("Packed " + count + " files into " + output + " (" + output.length() + " bytes)");
+    }
+
+    /**
+     * Writes every file under a folder into an archive, except save files.
+     *
+     * @param root   Folder whose files are packed, with paths relative to it
+     * @param output Archive to write, replaced if it exists
+     * @return Number of files packed
+     * @throws IOException If a file cannot be read or the archive written
+     */
+    public static int pack(File root, File output) throws IOException {
+        List<String> paths = new ArrayList<>();
+        collect(root, "", paths);
+        Collections.sort(paths);
+
+        File parent = output.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create " + parent);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)))) {
+            out.writeInt(AssetPack.MAGIC);
+            out.writeInt(AssetPack.VERSION);
+            out.writeInt(paths.size());
+            long offset = 0;
+            for (String path : paths) {
+                long length = new File(root, path).length();
+                if (length > Integer.MAX_VALUE) {
+                    throw new IOException("Asset too large to pack: " + path);
+                }
+                out.writeUTF(path);
+                out.writeLong(offset);
+                out.writeInt((int) length);
+                offset += length;
+            }
+            for (String path : paths) {
+                Files.copy(new File(root, path).toPath(), out);
+            }
+        }
+        return paths.size();
+    }
+
+    private static void collect(File folder, String prefix, List<String> paths) throws IOException {
+        File[] children = folder.listFiles();
+        if (children == null) {
+            throw new IOException("Cannot list " + folder);
+        }
+        for (File child : children) {
+            String path = prefix + child.getName();
+            if (child.isDirectory()) {
+                if (!path.equals(SAVES_FOLDER)) {
+                    collect(child, path + "/", paths);
+                }
+            } else {
+                paths.add(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.main.utils.pack;
+
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream reading the remaining bytes of a buffer, advancing its
+ * position.
+ */
+class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+    private int mark;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.mark = buffer.position();
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) {
+        int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        ((Buffer) buffer).position(buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        mark = buffer.position();
+    }
+
+    @Override
+    public synchronized void reset() {
+        ((Buffer) buffer).position(mark);
+    }
+}
@@ -0,0 +1,118 @@
+package com.main.utils.pack;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Internal file or folder served from an {@link AssetPack}.
+ * <p>
+ * Streams and {@link #map()} read the packed bytes straight from the memory
+ * mapping. Navigating with {@link #child}, {@link #sibling} and
+ * {@link #parent} goes back through {@link PackedFiles}, so relative paths
+ * such as the tilesets of a TMX map resolve inside the archive too.
+ */
+public class PackedFileHandle extends FileHandle {
+
+    private final PackedFiles files;
+
+    /**
+     * Data of the file, null for a folder.
+     */
+    private final ByteBuffer data;
+
+    PackedFileHandle(PackedFiles files, String path, ByteBuffer data) {
+        super(path, FileType.Internal);
+        this.files = files;
+        this.data = data;
+    }
+
+    @Override
+    public InputStream read() {
+        if (data == null) {
+            throw new GdxRuntimeException("Cannot open a stream to a directory: " + path());
+        }
+        return new ByteBufferInputStream(data.duplicate());
+    }
+
+    @Override
+    public byte[] readBytes() {
+        if (data == null) {
+            throw new GdxRuntimeException("Cannot read a directory: " + path());
+        }
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns the packed bytes without copying them.
+     *
+     * @return Direct, read-only view of the file
+     */
+    @Override
+    public ByteBuffer map() {
+        if (data == null) {
+            throw new GdxRuntimeException("Cannot map a directory: " + path());
+        }
+        return data.duplicate();
+    }
+
+    @Override
+    public long length() {
+        return data != null ? data.remaining() : 0;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return data == null;
+    }
+
+    @Override
+    public long lastModified() {
+        return 0;
+    }
+
+    @Override
+    public FileHandle[] list() {
+        if (data != null) {
+            return new FileHandle[0];
+        }
+        List<String> children = files.getPack().list(path());
+        FileHandle[] handles = new FileHandle[children.size()];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = files.internal(children.get(i));
+        }
+        return handles;
+    }
+
+    @Override
+    public FileHandle child(String name) {
+        String path = path();
+        return files.internal(path.isEmpty() ? name : path + "/" + name);
+    }
+
+    @Override
+    public FileHandle sibling(String name) {
+        if (path().isEmpty()) {
+            throw new GdxRuntimeException("Cannot get the sibling of the root.");
+        }
+        return parent().child(name);
+    }
+
+    @Override
+    public FileHandle parent() {
+        String path = path();
+        int slash = path.lastIndexOf('/');
+        return files.internal(slash < 0 ? "" : path.substring(0, slash));
+    }
+}
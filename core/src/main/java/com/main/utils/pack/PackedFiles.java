@@ -0,0 +1,175 @@
+package com.main.utils.pack;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+import com.main.utils.GameLog;
+
+/**
+ * {@link Files} serving internal files from a memory-mapped
+ * {@link AssetPack} and everything else from the backend's files.
+ * <p>
+ * Installed as {@code Gdx.files} by {@link com.main.Main} when
+ * {@code -Dzgame.pack=<archive>} is set (see the {@code packAssets} Gradle
+ * task), so every loader going through {@code Gdx.files.internal} reads from
+ * the one mapping instead of opening, stating and reading each file. Internal
+ * paths missing from the archive fall back to the backend. Files served from
+ * the archive and fallbacks are counted for the startup report.
+ */
+public class PackedFiles implements Files {
+
+    /**
+     * System property naming the archive to read assets from.
+     */
+    public static final String PROPERTY = "zgame.pack";
+
+    private final AssetPack pack;
+    private final Files fallback;
+
+    /**
+     * Counted atomically: decoder workers open files too.
+     */
+    private final AtomicInteger served = new AtomicInteger();
+    private final AtomicInteger fallbacks = new AtomicInteger();
+
+    /**
+     * Creates the files over an archive.
+     *
+     * @param pack     Mapped archive
+     * @param fallback Backend files for everything not in the archive
+     */
+    public PackedFiles(AssetPack pack, Files fallback) {
+        this.pack = pack;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Maps the archive named by -Dzgame.pack, if set.
+     *
+     * @param fallback Backend files
+     * @return Packed files, or null if the property is unset or the archive
+     *         cannot be read
+     */
+    public static PackedFiles fromSystemProperty(Files fallback) {
+        String path = System.getProperty(PROPERTY);
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        try {
+            AssetPack pack = new AssetPack(new File(path));
+            GameLog.info("PackedFiles", "Mapped {} assets ({} bytes) from {}", pack.size(),
+                    pack.getMappedBytes(), path);
+            return new PackedFiles(pack, fallback);
+        } catch (IOException e) {
+            GameLog.warn("PackedFiles", "Reading assets from disk, cannot map {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Normalizes an internal path to the archive's form: '/' separators, no
+     * leading "./" or '/', no trailing '/'.
+     */
+    static String normalize(String path) {
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+
+    @Override
+    public FileHandle internal(String path) {
+        String normalized = normalize(path);
+        if (pack.contains(normalized)) {
+            served.incrementAndGet();
+            return new PackedFileHandle(this, normalized, pack.get(normalized));
+        }
+        if (pack.isDirectory(normalized)) {
+            return new PackedFileHandle(this, normalized, null);
+        }
+        fallbacks.incrementAndGet();
+        return fallback.internal(path);
+    }
+
+    @Override
+    public FileHandle getFileHandle(String path, FileType type) {
+        return type == FileType.Internal ? internal(path) : fallback.getFileHandle(path, type);
+    }
+
+    @Override
+    public FileHandle classpath(String path) {
+        return fallback.classpath(path);
+    }
+
+    @Override
+    public FileHandle external(String path) {
+        return fallback.external(path);
+    }
+
+    @Override
+    public FileHandle absolute(String path) {
+        return fallback.absolute(path);
+    }
+
+    @Override
+    public FileHandle local(String path) {
+        return fallback.local(path);
+    }
+
+    @Override
+    public String getExternalStoragePath() {
+        return fallback.getExternalStoragePath();
+    }
+
+    @Override
+    public boolean isExternalStorageAvailable() {
+        return fallback.isExternalStorageAvailable();
+    }
+
+    @Override
+    public String getLocalStoragePath() {
+        return fallback.getLocalStoragePath();
+    }
+
+    @Override
+    public boolean isLocalStorageAvailable() {
+        return fallback.isLocalStorageAvailable();
+    }
+
+    /**
+     * Returns the archive.
+     *
+     * @return Mapped archive
+     */
+    public AssetPack getPack() {
+        return pack;
+    }
+
+    /**
+     * Returns the number of internal files served from the archive.
+     *
+     * @return File handles created over packed data
+     */
+    public int getServed() {
+        return served.get();
+    }
+
+    /**
+     * Returns the number of internal paths missing from the archive.
+     *
+     * @return Handles delegated to the backend
+     */
+    public int getFallbacks() {
+        return fallbacks.get();
+    }
+}
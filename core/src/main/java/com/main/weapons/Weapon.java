@@ -66,7 +66,6 @@ public abstract class Weapon {
      * Reloads the weapon, restoring ammunition to maximum capacity.
      */
     public void reload(){
-        this.playReloadSound();
         this.munitions = this.maxMunition;
     }
 
@@ -137,8 +136,13 @@ public abstract class Weapon {
         this.munitions = mun;
     }
 
-    public void playReloadSound(){
-        if (this.reloadSound != null && AudioSettings.isSoundEnabled())
+    /**
+     * Plays the reload sound if sound effects are enabled.
+     *
+     * @param audioSettings Settings of the match, or null for a silent match
+     */
+    public void playReloadSound(AudioSettings audioSettings){
+        if (this.reloadSound != null && audioSettings != null && audioSettings.isSoundEnabled())
             this.reloadSound.play(1.0f);
     }
 }
\ No newline at end of file
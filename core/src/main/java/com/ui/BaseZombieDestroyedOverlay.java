@@ -3,15 +3,17 @@ package com.ui;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.main.utils.FontLoader;
+import com.main.utils.GameLog;
 
 
 /**
@@ -58,9 +60,29 @@ public class BaseZombieDestroyedOverlay implements Disposable {
     private BitmapFont buttonFont;
 
     /**
-     * Layout for measuring and positioning the title text.
+     * Font for hovered button text: black glyphs with a yellow border baked in.
      */
-    private GlyphLayout titleLayout;
+    private BitmapFont highlightFont;
+
+    /**
+     * Title and button labels, laid out once.
+     */
+    private TextLabel titleLabel;
+    private TextLabel replayLabel;
+    private TextLabel quitLabel;
+    private TextLabel replayHighlightLabel;
+    private TextLabel quitHighlightLabel;
+
+    /**
+     * Clickable areas around the button labels.
+     */
+    private Rectangle replayHitbox;
+    private Rectangle quitHitbox;
+
+    /**
+     * Mouse position reused by hover and click tests.
+     */
+    private final Vector2 mousePosition = new Vector2();
 
     /**
      * Rectangle representing the REPLAY button for click detection.
@@ -108,17 +130,15 @@ public class BaseZombieDestroyedOverlay implements Disposable {
             parameter.shadowOffsetY = 3;
             parameter.shadowColor = new Color(0, 0, 0, 0.5f);
             
-            titleFont = generator.generateFont(parameter);
+            titleFont = FontLoader.generate(generator, parameter, "BaseZombieDestroyedOverlay");
             generator.dispose();
         } catch (Exception e) {
-            System.err.println("Could not load PressStart2P font: " + e.getMessage());
+            GameLog.warn("BaseZombieDestroyedOverlay", "Could not load PressStart2P font: {}", e.getMessage());
             titleFont = new BitmapFont();
             titleFont.setColor(Color.GREEN);
             titleFont.getData().setScale(3f);
         }
         
-        titleLayout = new GlyphLayout();
-        
         // Initialize button font (same style as GameOverOverlay)
         FreeTypeFontGenerator generator2 = new FreeTypeFontGenerator(Gdx.files.internal("fonts/PressStart2P.ttf"));
         FreeTypeFontGenerator.FreeTypeFontParameter buttonParam = new FreeTypeFontGenerator.FreeTypeFontParameter();
@@ -130,7 +150,17 @@ public class BaseZombieDestroyedOverlay implements Disposable {
         buttonParam.shadowColor = new Color(0f, 0f, 0f, 0.7f);
         buttonParam.magFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest;
         buttonParam.minFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest;
-        buttonFont = generator2.generateFont(buttonParam);
+        buttonFont = FontLoader.generate(generator2, buttonParam, "BaseZombieDestroyedOverlay");
+
+        // Hover style, replacing the text drawn 25 times over itself in yellow
+        FreeTypeFontGenerator.FreeTypeFontParameter highlightParam = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        highlightParam.size = 32;
+        highlightParam.color = Color.BLACK;
+        highlightParam.borderWidth = 4.5f;
+        highlightParam.borderColor = Color.YELLOW;
+        highlightParam.magFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest;
+        highlightParam.minFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest;
+        highlightFont = FontLoader.generate(generator2, highlightParam, "BaseZombieDestroyedOverlay");
         generator2.dispose();
         
         // Initialize button rectangles (centered below the title)
@@ -150,6 +180,62 @@ public class BaseZombieDestroyedOverlay implements Disposable {
             BUTTON_WIDTH, 
             BUTTON_HEIGHT
         );
+
+        layoutLabels();
+    }
+
+    /**
+     * Creates the labels of the overlay and their hitboxes.
+     * The overlay's world size is fixed by its viewport, so this only runs once.
+     */
+    private void layoutLabels() {
+        titleLabel = new TextLabel(titleFont, "YOU WIN");
+        // Shrink the title if it is wider than 85% of the overlay
+        float maxWidth = OVERLAY_WIDTH * 0.85f;
+        if (titleLabel.getWidth() > maxWidth) {
+            titleLabel.setScale(maxWidth / titleLabel.getWidth());
+        }
+        titleLabel.setPosition(OVERLAY_WIDTH / 2f, OVERLAY_HEIGHT / 2f + 100f, Align.center);
+
+        replayLabel = createButtonLabel(buttonFont, "REPLAY", replayButton);
+        quitLabel = createButtonLabel(buttonFont, "QUIT", quitButton);
+        replayHighlightLabel = createButtonLabel(highlightFont, "REPLAY", replayButton);
+        quitHighlightLabel = createButtonLabel(highlightFont, "QUIT", quitButton);
+
+        replayHitbox = createHitbox(replayLabel, replayButton);
+        quitHitbox = createHitbox(quitLabel, quitButton);
+    }
+
+    /**
+     * Creates a button label centred on the overlay.
+     *
+     * @param font   Font of the label
+     * @param text   Button text
+     * @param button Button area
+     * @return The label
+     */
+    private TextLabel createButtonLabel(BitmapFont font, String text, Rectangle button) {
+        TextLabel label = new TextLabel(font, text);
+        label.setPosition(OVERLAY_WIDTH / 2f, button.y + 40, Align.center);
+        return label;
+    }
+
+    /**
+     * Creates the hitbox of a button label, padded around its text.
+     *
+     * @param label  Button label
+     * @param button Button area
+     * @return The hitbox
+     */
+    private Rectangle createHitbox(TextLabel label, Rectangle button) {
+        float w = label.getWidth();
+        float h = label.getHeight();
+        return new Rectangle(
+            (OVERLAY_WIDTH - w) / 2f - 10,
+            button.y + 40 - h - 5,
+            w + 20,
+            h + 10
+        );
     }
     
     /**
@@ -180,111 +266,28 @@ public class BaseZombieDestroyedOverlay implements Disposable {
         
         batch.begin();
         
-        // Titre "destruction de la base des zombies"
-        String title = "YOU WIN";
-        titleLayout.setText(titleFont, title);
-        
-        // Adapter l'échelle de la font si le texte est trop large
-        float scale = 1f;
-        float maxWidth = screenWidth * 0.85f; // 85% de la largeur de l'écran
-        if (titleLayout.width > maxWidth) {
-            scale = maxWidth / titleLayout.width;
-            titleFont.getData().setScale(scale);
-            titleLayout.setText(titleFont, title);
-        }
-        
-        float titleX = (screenWidth - titleLayout.width) / 2f;
-        float titleY = screenHeight / 2f + 100f;
-        
-        titleFont.draw(batch, title, titleX, titleY);
-        
-        // Restaurer l'échelle originale
-        if (scale != 1f) {
-            titleFont.getData().setScale(1f);
-        }
+        titleLabel.draw(batch);
         
         // Draw buttons REPLAY and QUIT with hover effect
-        GlyphLayout replayLayout = new GlyphLayout(buttonFont, "REPLAY");
-        float replayX = (screenWidth - replayLayout.width) / 2f;
-        if (selectedIndex == 0) {
-            drawTextInverted("REPLAY", replayX, replayButton.y + 40);
-        } else {
-            buttonFont.setColor(Color.WHITE);
-            buttonFont.draw(batch, replayLayout, replayX, replayButton.y + 40);
-        }
-
-        GlyphLayout quitLayout = new GlyphLayout(buttonFont, "QUIT");
-        float quitX = (screenWidth - quitLayout.width) / 2f;
-        if (selectedIndex == 1) {
-            drawTextInverted("QUIT", quitX, quitButton.y + 40);
-        } else {
-            buttonFont.setColor(Color.WHITE);
-            buttonFont.draw(batch, quitLayout, quitX, quitButton.y + 40);
-        }
+        (selectedIndex == 0 ? replayHighlightLabel : replayLabel).draw(batch);
+        (selectedIndex == 1 ? quitHighlightLabel : quitLabel).draw(batch);
         
         batch.end();
     }
     
-    /**
-     * Draws button text with inverted effect (yellow background, black text) for hover state.
-     *
-     * @param text The text to render
-     * @param x X position
-     * @param y Y position
-     */
-    private void drawTextInverted(String text, float x, float y) {
-        GlyphLayout layout = new GlyphLayout(buttonFont, text);
-
-        // Ombre jaune/dorée (plus épaisse pour effet de fond)
-        buttonFont.setColor(Color.YELLOW);
-        for (int offsetX = -2; offsetX <= 2; offsetX++) {
-            for (int offsetY = -2; offsetY <= 2; offsetY++) {
-                buttonFont.draw(batch, layout, x + offsetX, y + offsetY);
-            }
-        }
-
-        // Texte noir par-dessus
-        buttonFont.setColor(Color.BLACK);
-        buttonFont.draw(batch, layout, x, y);
-    }
-    
     /**
      * Updates the hover effect for buttons based on mouse position.
      * Sets {@code selectedIndex} to the hovered button index.
      */
     private void updateHover() {
-        Vector2 mouse = viewport.unproject(new Vector2(Gdx.input.getX(), Gdx.input.getY()));
+        Vector2 mouse = unproject(Gdx.input.getX(), Gdx.input.getY());
         float mx = mouse.x;
         float my = mouse.y;
 
         selectedIndex = -1;
-
-        // REPLAY button
-        GlyphLayout replayLayout = new GlyphLayout(buttonFont, "REPLAY");
-        float replayX = (OVERLAY_WIDTH - replayLayout.width) / 2f;
-        
-        Rectangle replayHitbox = new Rectangle(
-            replayX - 10, 
-            replayButton.y + 40 - replayLayout.height - 5,
-            replayLayout.width + 20,
-            replayLayout.height + 10
-        );
-        
         if (replayHitbox.contains(mx, my)) {
             selectedIndex = 0;
         }
-
-        // QUIT button
-        GlyphLayout quitLayout = new GlyphLayout(buttonFont, "QUIT");
-        float quitX = (OVERLAY_WIDTH - quitLayout.width) / 2f;
-        
-        Rectangle quitHitbox = new Rectangle(
-            quitX - 10,
-            quitButton.y + 40 - quitLayout.height - 5,
-            quitLayout.width + 20,
-            quitLayout.height + 10
-        );
-        
         if (quitHitbox.contains(mx, my)) {
             selectedIndex = 1;
         }
@@ -298,42 +301,26 @@ public class BaseZombieDestroyedOverlay implements Disposable {
      * @return "replay" if REPLAY button was clicked, "quit" if QUIT button was clicked, {@code null} otherwise
      */
     public String handleClick(int screenX, int screenY) {
-        Vector2 mouse = viewport.unproject(new Vector2(screenX, screenY));
-        float worldX = mouse.x;
-        float worldY = mouse.y;
-        
-        // Check REPLAY button
-        GlyphLayout replayLayout = new GlyphLayout(buttonFont, "REPLAY");
-        float replayX = (OVERLAY_WIDTH - replayLayout.width) / 2f;
-        
-        Rectangle replayHitbox = new Rectangle(
-            replayX - 10, 
-            replayButton.y + 40 - replayLayout.height - 5,
-            replayLayout.width + 20,
-            replayLayout.height + 10
-        );
-        
-        if (replayHitbox.contains(worldX, worldY)) {
+        Vector2 mouse = unproject(screenX, screenY);
+        if (replayHitbox.contains(mouse.x, mouse.y)) {
             return "replay";
         }
-        
-        // Check QUIT button
-        GlyphLayout quitLayout = new GlyphLayout(buttonFont, "QUIT");
-        float quitX = (OVERLAY_WIDTH - quitLayout.width) / 2f;
-        
-        Rectangle quitHitbox = new Rectangle(
-            quitX - 10,
-            quitButton.y + 40 - quitLayout.height - 5,
-            quitLayout.width + 20,
-            quitLayout.height + 10
-        );
-        
-        if (quitHitbox.contains(worldX, worldY)) {
+        if (quitHitbox.contains(mouse.x, mouse.y)) {
             return "quit";
         }
-        
         return null;
     }
+
+    /**
+     * Converts a screen position to overlay coordinates.
+     *
+     * @param screenX Screen X coordinate
+     * @param screenY Screen Y coordinate
+     * @return The shared mouse vector, in overlay coordinates
+     */
+    private Vector2 unproject(int screenX, int screenY) {
+        return viewport.unproject(mousePosition.set(screenX, screenY));
+    }
     
     /**
      * Resizes the overlay viewport when the window size changes.
@@ -355,5 +342,6 @@ public class BaseZombieDestroyedOverlay implements Disposable {
         shapeRenderer.dispose();
         titleFont.dispose();
         buttonFont.dispose();
+        highlightFont.dispose();
     }
 }
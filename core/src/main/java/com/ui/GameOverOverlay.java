@@ -17,11 +17,12 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.main.utils.FontLoader;
 
 public class GameOverOverlay implements Disposable {
     
@@ -37,9 +38,22 @@ public class GameOverOverlay implements Disposable {
     private OrthographicCamera camera;
 
     /**
-     * Layout for measuring and positioning the title text.
+     * Title and button labels, laid out once.
      */
-    private GlyphLayout titleLayout;
+    private TextLabel titleLabel;
+    private TextLabel replayLabel;
+    private TextLabel quitLabel;
+
+    /**
+     * Hover areas around the button labels.
+     */
+    private Rectangle replayHitbox;
+    private Rectangle quitHitbox;
+
+    /**
+     * Mouse position reused by hover and click tests.
+     */
+    private final Vector2 mousePosition = new Vector2();
 
     /**
      * SpriteBatch for drawing textures and fonts.
@@ -127,7 +141,7 @@ public class GameOverOverlay implements Disposable {
         parameter.shadowColor = new Color(0f, 0f, 0f, 0.7f);
         parameter.magFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest;
         parameter.minFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest;
-        buttonFont = generator.generateFont(parameter);
+        buttonFont = FontLoader.generate(generator, parameter, "GameOverOverlay");
         generator.dispose();
         
         // Initialize button rectangles (centered)
@@ -147,6 +161,51 @@ public class GameOverOverlay implements Disposable {
             BUTTON_WIDTH, 
             BUTTON_HEIGHT
         );
+
+        layoutLabels();
+    }
+
+    /**
+     * Creates the labels of the overlay and the hover areas of the buttons.
+     */
+    private void layoutLabels() {
+        titleLabel = new TextLabel(titleFont, "Game Over");
+        titleLabel.setPosition(OVERLAY_WIDTH / 2f, OVERLAY_HEIGHT / 2 + 120, Align.center);
+
+        replayLabel = new TextLabel(buttonFont, "REPLAY");
+        replayLabel.setPosition(OVERLAY_WIDTH / 2f, replayButton.y + 40, Align.center);
+        quitLabel = new TextLabel(buttonFont, "QUIT");
+        quitLabel.setPosition(OVERLAY_WIDTH / 2f, quitButton.y + 40, Align.center);
+
+        replayHitbox = createHitbox(replayLabel, replayButton);
+        quitHitbox = createHitbox(quitLabel, quitButton);
+    }
+
+    /**
+     * Changes the title, e.g. to tell the match ended on an error.
+     *
+     * @param title Text shown above the buttons
+     */
+    public void setTitle(String title) {
+        titleLabel.setText(title);
+    }
+
+    /**
+     * Creates the hover area of a button label, padded around its text.
+     *
+     * @param label  Button label
+     * @param button Button area
+     * @return The hover area
+     */
+    private Rectangle createHitbox(TextLabel label, Rectangle button) {
+        float w = label.getWidth();
+        float h = label.getHeight();
+        return new Rectangle(
+            (OVERLAY_WIDTH - w) / 2f - 10,
+            button.y + 40 - h - 5,
+            w + 20,
+            h + 10
+        );
     }
 
     /**
@@ -191,27 +250,15 @@ public class GameOverOverlay implements Disposable {
         // Draw text
         batch.begin();
         
-        // Title: "Game Over"
-        GlyphLayout titleLayout = new GlyphLayout(titleFont, "Game Over");
-        float titleX = (OVERLAY_WIDTH - titleLayout.width) / 2f;
-        titleFont.draw(batch, "Game Over", 
-            titleX, 
-            OVERLAY_HEIGHT / 2 + 120
-        );
+        titleLabel.draw(batch);
         
         // Hover effect for REPLAY (visually on top, but index 1 due to Y inversion)
-        GlyphLayout replayLayout = new GlyphLayout(buttonFont, "REPLAY");
-        float replayX = (OVERLAY_WIDTH - replayLayout.width) / 2f;
-        Color replayColor = (selectedIndex == 1) ? Color.YELLOW : Color.WHITE;
-        buttonFont.setColor(replayColor);
-        buttonFont.draw(batch, replayLayout, replayX, replayButton.y + 40);
+        replayLabel.setColor((selectedIndex == 1) ? Color.YELLOW : Color.WHITE);
+        replayLabel.draw(batch);
 
         // Hover effect for QUIT (visually on bottom, but index 0 due to Y inversion)
-        GlyphLayout quitLayout = new GlyphLayout(buttonFont, "QUIT");
-        float quitX = (OVERLAY_WIDTH - quitLayout.width) / 2f;
-        Color quitColor = (selectedIndex == 0) ? Color.YELLOW : Color.WHITE;
-        buttonFont.setColor(quitColor);
-        buttonFont.draw(batch, quitLayout, quitX, quitButton.y + 40);
+        quitLabel.setColor((selectedIndex == 0) ? Color.YELLOW : Color.WHITE);
+        quitLabel.draw(batch);
         
         batch.end();
     }
@@ -247,7 +294,7 @@ public class GameOverOverlay implements Disposable {
      */
     public String handleClick(int screenX, int screenY) {
         // Convert screen coordinates to viewport coordinates using unproject (same as TitleScreen)
-        Vector2 mouse = viewport.unproject(new Vector2(screenX, screenY));
+        Vector2 mouse = viewport.unproject(mousePosition.set(screenX, screenY));
         float worldX = mouse.x;
         float worldY = mouse.y;
         
@@ -268,34 +315,18 @@ public class GameOverOverlay implements Disposable {
      * Should be called every frame before rendering.
      */
     private void updateHover() {
-        Vector2 mouse = viewport.unproject(new Vector2(Gdx.input.getX(), Gdx.input.getY()));
+        Vector2 mouse = viewport.unproject(mousePosition.set(Gdx.input.getX(), Gdx.input.getY()));
         float mx = mouse.x;
         float my = mouse.y;
 
         selectedIndex = -1;
 
-        // QUIT button (bottom, index 1) - uses Rectangle for detection
-        GlyphLayout quitLayout = new GlyphLayout(buttonFont, "QUIT");
-        float quitX = (OVERLAY_WIDTH - quitLayout.width) / 2f;
-        Rectangle quitHitbox = new Rectangle(
-            quitX - 10,
-            quitButton.y + 40 - quitLayout.height - 5,
-            quitLayout.width + 20,
-            quitLayout.height + 10
-        );
+        // QUIT button (bottom, index 1)
         if (quitHitbox.contains(mx, my)) {
             selectedIndex = 1;
         }
 
-        // REPLAY button (top, index 0) - uses Rectangle for detection
-        GlyphLayout replayLayout = new GlyphLayout(buttonFont, "REPLAY");
-        float replayX = (OVERLAY_WIDTH - replayLayout.width) / 2f;
-        Rectangle replayHitbox = new Rectangle(
-            replayX - 10, 
-            replayButton.y + 40 - replayLayout.height - 5,
-            replayLayout.width + 20,
-            replayLayout.height + 10
-        );
+        // REPLAY button (top, index 0)
         if (replayHitbox.contains(mx, my)) {
             selectedIndex = 0;
         }
@@ -3,7 +3,6 @@ package com.ui;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
@@ -17,6 +16,8 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.main.entities.player.Hero;
 import com.main.weapons.Weapon;
 import com.ui.UnitShopButton.ButtonType;
+import com.main.utils.TextureLoader;
+import com.main.utils.GameLog;
 
 public class Inventory {
     private List<UnitShopButton> unitTypeButtons;
@@ -53,7 +54,7 @@ public class Inventory {
         this.hero = hero;
         this.weapon = hero.getWeapon().getClass().getSimpleName();
         this.currentWeaponName = this.weapon;
-        System.out.println(weapon);
+        GameLog.debug("Inventory", "Initial weapon: {}", weapon);
         this.unitTypeButtons = new ArrayList<>();
         this.spawnPointButtons = new ArrayList<>();
 
@@ -66,10 +67,10 @@ public class Inventory {
 
         touchPos = new Vector3();
 
-        Texture idleTex = new Texture(Gdx.files.internal("inventory/inventory.png"));
+        Texture idleTex = TextureLoader.load("inventory/inventory.png");
         this.idleFrame = new TextureRegion(idleTex);
 
-        Texture chooseTex = new Texture(Gdx.files.internal("inventory/choose.png"));
+        Texture chooseTex = TextureLoader.load("inventory/choose.png");
         this.chooseFrame = new TextureRegion(chooseTex);
         this.chooseTexture = chooseTex;
         // START_X is already in pixels; do not multiply by BUTTON_WIDTH again.
@@ -115,9 +116,9 @@ public class Inventory {
             this.weapon = weaponName;
             this.currentWeaponName = weaponName;
             bounds2.x = CHOOSE_X;
-            System.out.println("Inventory: weapon texture reloaded -> " + weaponName);
+            GameLog.debug("Inventory", "Weapon texture reloaded -> {}", weaponName);
         } catch (Exception e) {
-       System.out.println("Inventory: failed to load weapon texture for " + weaponName + " : " + e.getMessage());
+       GameLog.warn("Inventory", "Failed to load weapon texture for {}: {}", weaponName, e.getMessage());
        
     }
 }
@@ -0,0 +1,276 @@
+package com.ui;
+
+import java.nio.IntBuffer;
+import java.util.List;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.main.entities.Unit;
+import com.main.entities.player.Hero;
+import com.main.map.Base;
+import com.main.map.WarMap;
+import com.main.utils.TextureLoader;
+
+/**
+ * Small overview of the whole battlefield in the bottom-left corner of the
+ * screen.
+ * <p>
+ * The map is drawn once, on the first frame, into a {@link FrameBuffer} at a
+ * few times the widget's size; every frame then draws that image as one quad,
+ * so the cost does not depend on the map's layers or tiles. Units are shown
+ * as blips on their lane's row, the bases as their collision boxes, the hero
+ * as a white dot and the camera view as a frame. Everything is a tinted white pixel in a
+ * single batch, so the widget costs one texture switch plus one quad per
+ * unit. When no frame buffer can be created the map area is a plain fill.
+ */
+public class Minimap implements Disposable {
+
+    /**
+     * Width of the widget in UI units; the height follows the map's aspect.
+     */
+    private static final float WIDTH = 200f;
+
+    /**
+     * Bottom-left corner of the widget in UI units.
+     */
+    private static final float X = 10f;
+    private static final float Y = 10f;
+
+    /**
+     * Resolution of the baked map image relative to the widget size.
+     */
+    private static final int BAKE_SCALE = 2;
+
+    private static final float BLIP_SIZE = 3f;
+    private static final float HERO_SIZE = 4f;
+    private static final float FRAME_THICKNESS = 1f;
+
+    private static final Color BACKGROUND_COLOR = new Color(0.1f, 0.15f, 0.1f, 0.85f);
+    private static final Color BORDER_COLOR = new Color(0f, 0f, 0f, 1f);
+    private static final Color PLAYER_COLOR = new Color(0.2f, 0.6f, 1f, 1f);
+    private static final Color ENEMY_COLOR = new Color(0.9f, 0.15f, 0.1f, 1f);
+    private static final Color HERO_COLOR = new Color(1f, 1f, 1f, 1f);
+    private static final Color VIEW_COLOR = new Color(1f, 1f, 0.4f, 0.8f);
+
+    private final WarMap map;
+    private final float mapWidth;
+    private final float mapHeight;
+    private final float height;
+
+    /**
+     * UI units per world pixel.
+     */
+    private final float scale;
+
+    private final OrthographicCamera camera;
+    private final Viewport viewport;
+    private final SpriteBatch batch;
+    private final Texture pixelTexture;
+
+    /**
+     * Baked map image, flipped upright, or null before the first frame or if
+     * it could not be created.
+     */
+    private FrameBuffer mapImage;
+    private TextureRegion mapRegion;
+    private boolean baked;
+
+    private final Rectangle heroBounds = new Rectangle();
+    private final FloatArray blips = new FloatArray();
+    private final IntBuffer glViewport = BufferUtils.newIntBuffer(16);
+
+    /**
+     * Creates the minimap of a loaded map. The map image is baked on the first
+     * {@link #render}.
+     *
+     * @param map Battlefield map
+     */
+    public Minimap(WarMap map) {
+        this.map = map;
+        this.mapWidth = map.getMapWidthInPixels();
+        this.mapHeight = map.getMapHeightInPixels();
+        this.scale = WIDTH / mapWidth;
+        this.height = mapHeight * scale;
+
+        camera = new OrthographicCamera();
+        viewport = new FitViewport(800, 600, camera);
+        camera.position.set(viewport.getWorldWidth() / 2, viewport.getWorldHeight() / 2, 0);
+        batch = new SpriteBatch();
+
+        pixelTexture = TextureLoader.whitePixel();
+    }
+
+    /**
+     * Draws the whole map into the frame buffer, then restores the GL
+     * viewport. The caller sets the map's view back to the game camera before
+     * the next map render.
+     */
+    private void bake() {
+        baked = true;
+        int width = Math.round(WIDTH * BAKE_SCALE);
+        int bakedHeight = Math.max(1, Math.round(height * BAKE_SCALE));
+        try {
+            mapImage = new FrameBuffer(Pixmap.Format.RGBA8888, width, bakedHeight, false);
+        } catch (RuntimeException e) {
+            mapImage = null;
+            return;
+        }
+        mapRegion = new TextureRegion(mapImage.getColorBufferTexture());
+        mapRegion.flip(false, true);
+
+        OrthographicCamera mapCamera = new OrthographicCamera(mapWidth, mapHeight);
+        mapCamera.position.set(mapWidth / 2, mapHeight / 2, 0);
+        mapCamera.update();
+
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, glViewport);
+        mapImage.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        map.setView(mapCamera);
+        map.render();
+        mapImage.end(glViewport.get(0), glViewport.get(1), glViewport.get(2), glViewport.get(3));
+    }
+
+    /**
+     * Draws the minimap over the screen.
+     *
+     * @param playerBase Player base and its units
+     * @param enemyBase  Enemy base and its units
+     * @param hero       Player hero
+     * @param gameCamera Camera of the world view, shown as a frame
+     */
+    public void render(Base playerBase, Base enemyBase, Hero hero, OrthographicCamera gameCamera) {
+        if (!baked) {
+            bake();
+        }
+        camera.update();
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+
+        fill(BORDER_COLOR, X - 1f, Y - 1f, WIDTH + 2f, height + 2f);
+        if (mapRegion != null) {
+            batch.setColor(Color.WHITE);
+            batch.draw(mapRegion, X, Y, WIDTH, height);
+        } else {
+            fill(BACKGROUND_COLOR, X, Y, WIDTH, height);
+        }
+
+        drawBase(playerBase, PLAYER_COLOR);
+        drawBase(enemyBase, ENEMY_COLOR);
+        drawUnits(playerBase, PLAYER_COLOR);
+        drawUnits(enemyBase, ENEMY_COLOR);
+
+        hero.getVisualBounds(heroBounds);
+        batch.setColor(HERO_COLOR);
+        blip(heroBounds.x + heroBounds.width / 2, heroBounds.y + heroBounds.height / 2, HERO_SIZE);
+
+        drawView(gameCamera);
+
+        batch.setColor(Color.WHITE);
+        batch.end();
+    }
+
+    /**
+     * Draws a base as its collision box.
+     */
+    private void drawBase(Base base, Color color) {
+        Rectangle box = base.getCollisionBox();
+        fill(color, X + box.x * scale, Y + box.y * scale,
+                Math.max(2f, box.width * scale), Math.max(2f, box.height * scale));
+    }
+
+    /**
+     * Draws one blip per living unit of a base.
+     */
+    private void drawUnits(Base base, Color color) {
+        batch.setColor(color);
+        collectBlips(base, blips);
+        for (int i = 0; i < blips.size; i += 2) {
+            blip(blips.get(i), blips.get(i + 1), BLIP_SIZE);
+        }
+    }
+
+    /**
+     * Computes the blip centres of the living units of a base, in world
+     * pixels. Walks every unit of the base rather than its lane lists, which
+     * are empty for the units of a mirrored match (see
+     * {@link com.main.net.RemoteMatchView}). Units stay on their lane's row,
+     * so the row gives the blip's height.
+     *
+     * @param base Base whose units are shown
+     * @param out  Cleared, then receives x, y pairs
+     */
+    static void collectBlips(Base base, FloatArray out) {
+        out.clear();
+        List<Unit> units = base.getUnits();
+        for (int i = 0, n = units.size(); i < n; i++) {
+            Unit unit = units.get(i);
+            if (!unit.isDead()) {
+                out.add(unit.getPosX() + unit.getWidth() / 2, base.getLaneY(unit.getLane()) + unit.getHeight() / 2);
+            }
+        }
+    }
+
+    /**
+     * Outlines the part of the map shown by the game camera.
+     */
+    private void drawView(OrthographicCamera gameCamera) {
+        float viewWidth = gameCamera.viewportWidth * gameCamera.zoom;
+        float viewHeight = gameCamera.viewportHeight * gameCamera.zoom;
+        float left = X + Math.max(0f, gameCamera.position.x - viewWidth / 2) * scale;
+        float bottom = Y + Math.max(0f, gameCamera.position.y - viewHeight / 2) * scale;
+        float width = Math.min(WIDTH - (left - X), viewWidth * scale);
+        float frameHeight = Math.min(height - (bottom - Y), viewHeight * scale);
+        batch.setColor(VIEW_COLOR);
+        batch.draw(pixelTexture, left, bottom, width, FRAME_THICKNESS);
+        batch.draw(pixelTexture, left, bottom + frameHeight - FRAME_THICKNESS, width, FRAME_THICKNESS);
+        batch.draw(pixelTexture, left, bottom, FRAME_THICKNESS, frameHeight);
+        batch.draw(pixelTexture, left + width - FRAME_THICKNESS, bottom, FRAME_THICKNESS, frameHeight);
+    }
+
+    /**
+     * Draws a square centred on a world position with the current color.
+     */
+    private void blip(float worldX, float worldY, float size) {
+        batch.draw(pixelTexture, X + worldX * scale - size / 2, Y + worldY * scale - size / 2, size, size);
+    }
+
+    private void fill(Color color, float x, float y, float width, float height) {
+        batch.setColor(color);
+        batch.draw(pixelTexture, x, y, width, height);
+    }
+
+    /**
+     * Resizes the widget's viewport when the window size changes.
+     *
+     * @param width  New width of the window
+     * @param height New height of the window
+     */
+    public void resize(int width, int height) {
+        viewport.update(width, height);
+        camera.position.set(viewport.getWorldWidth() / 2, viewport.getWorldHeight() / 2, 0);
+    }
+
+    @Override
+    public void dispose() {
+        batch.dispose();
+        pixelTexture.dispose();
+        if (mapImage != null) {
+            mapImage.dispose();
+            mapImage = null;
+        }
+    }
+}
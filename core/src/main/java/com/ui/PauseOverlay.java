@@ -4,15 +4,17 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.main.utils.FontLoader;
+import com.main.utils.GameLog;
 
 /**
  * Represents the pause overlay UI displayed when the game is paused.
@@ -48,9 +50,29 @@ public class PauseOverlay implements Disposable {
     private BitmapFont confirmFont;
 
     /**
-     * Layout for measuring and positioning the title text.
+     * Title, confirmation and button labels, laid out once.
      */
-    private GlyphLayout titleLayout;
+    private TextLabel titleLabel;
+    private TextLabel confirmLabel;
+    private TextLabel resumeLabel;
+    private TextLabel optionsLabel;
+    private TextLabel quitLabel;
+    private TextLabel yesLabel;
+    private TextLabel noLabel;
+
+    /**
+     * Clickable areas around the button labels.
+     */
+    private Rectangle resumeHitbox;
+    private Rectangle optionsHitbox;
+    private Rectangle quitHitbox;
+    private Rectangle yesHitbox;
+    private Rectangle noHitbox;
+
+    /**
+     * Mouse position reused by hover and click tests.
+     */
+    private final Vector2 mousePosition = new Vector2();
 
     /**
      * Rectangle for RESUME button hitbox.
@@ -134,17 +156,15 @@ public class PauseOverlay implements Disposable {
             parameter.shadowOffsetY = 3;
             parameter.shadowColor = new Color(0, 0, 0, 0.5f);
             
-            titleFont = generator.generateFont(parameter);
+            titleFont = FontLoader.generate(generator, parameter, "PauseOverlay");
             generator.dispose();
         } catch (Exception e) {
-            System.err.println("Could not load PressStart2P font: " + e.getMessage());
+            GameLog.warn("PauseOverlay", "Could not load PressStart2P font: {}", e.getMessage());
             titleFont = new BitmapFont();
             titleFont.setColor(Color.WHITE);
             titleFont.getData().setScale(4f);
         }
         
-        titleLayout = new GlyphLayout();
-        
         // Initialize button font (same style as GameOverOverlay)
         FreeTypeFontGenerator generator2 = new FreeTypeFontGenerator(Gdx.files.internal("fonts/PressStart2P.ttf"));
         FreeTypeFontGenerator.FreeTypeFontParameter buttonParam = new FreeTypeFontGenerator.FreeTypeFontParameter();
@@ -156,7 +176,7 @@ public class PauseOverlay implements Disposable {
         buttonParam.shadowColor = new Color(0f, 0f, 0f, 0.7f);
         buttonParam.magFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest;
         buttonParam.minFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest;
-        buttonFont = generator2.generateFont(buttonParam);
+        buttonFont = FontLoader.generate(generator2, buttonParam, "PauseOverlay");
         generator2.dispose();
         
         // Initialize confirmation font (smaller)
@@ -170,7 +190,7 @@ public class PauseOverlay implements Disposable {
         confirmParam.shadowColor = new Color(0f, 0f, 0f, 0.7f);
         confirmParam.magFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest;
         confirmParam.minFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest;
-        confirmFont = generator3.generateFont(confirmParam);
+        confirmFont = FontLoader.generate(generator3, confirmParam, "PauseOverlay");
         generator3.dispose();
         
         // Initialize button rectangles (centered below the title)
@@ -215,8 +235,69 @@ public class PauseOverlay implements Disposable {
             BUTTON_WIDTH,
             BUTTON_HEIGHT
         );
+
+        layoutLabels();
     }
     
+    /**
+     * Creates the labels of the overlay and their hitboxes.
+     * The overlay's world size is fixed by its viewport, so this only runs once.
+     */
+    private void layoutLabels() {
+        titleLabel = new TextLabel(titleFont, "PAUSED");
+        titleLabel.setPosition(OVERLAY_WIDTH / 2f, OVERLAY_HEIGHT / 2f + 150f, Align.center);
+
+        confirmLabel = new TextLabel(confirmFont, "RETURN TO MENU ?");
+        confirmLabel.setColor(Color.YELLOW);
+        confirmLabel.setPosition(OVERLAY_WIDTH / 2f, OVERLAY_HEIGHT / 2f + 100f, Align.center);
+
+        resumeLabel = createButtonLabel("RESUME", OVERLAY_WIDTH / 2f, resumeButton, 20f);
+        optionsLabel = createButtonLabel("OPTIONS", OVERLAY_WIDTH / 2f, optionsButton, 20f);
+        quitLabel = createButtonLabel("QUIT", OVERLAY_WIDTH / 2f, quitButton, 20f);
+        yesLabel = createButtonLabel("YES", yesButton.x + BUTTON_WIDTH / 2f, yesButton, 40f);
+        noLabel = createButtonLabel("NO", noButton.x + BUTTON_WIDTH / 2f, noButton, 40f);
+
+        resumeHitbox = createHitbox(resumeLabel, OVERLAY_WIDTH / 2f, resumeButton);
+        optionsHitbox = createHitbox(optionsLabel, OVERLAY_WIDTH / 2f, optionsButton);
+        quitHitbox = createHitbox(quitLabel, OVERLAY_WIDTH / 2f, quitButton);
+        yesHitbox = createHitbox(yesLabel, yesButton.x + BUTTON_WIDTH / 2f, yesButton);
+        noHitbox = createHitbox(noLabel, noButton.x + BUTTON_WIDTH / 2f, noButton);
+    }
+
+    /**
+     * Creates a button label centred on a column of the overlay.
+     *
+     * @param text    Button text
+     * @param centerX Horizontal centre of the text
+     * @param button  Button area
+     * @param offsetY Height of the top of the text above the button's bottom edge
+     * @return The label
+     */
+    private TextLabel createButtonLabel(String text, float centerX, Rectangle button, float offsetY) {
+        TextLabel label = new TextLabel(buttonFont, text);
+        label.setPosition(centerX, button.y + offsetY, Align.center);
+        return label;
+    }
+
+    /**
+     * Creates the hitbox of a button label, padded around its unscaled text.
+     *
+     * @param label   Button label
+     * @param centerX Horizontal centre of the text
+     * @param button  Button area
+     * @return The hitbox
+     */
+    private Rectangle createHitbox(TextLabel label, float centerX, Rectangle button) {
+        float w = label.getWidth();
+        float h = label.getHeight();
+        return new Rectangle(
+            centerX - w / 2f - 10,
+            button.y + 40 - h - 5,
+            w + 20,
+            h + 10
+        );
+    }
+
     /**
      * Renders the pause overlay UI, including background, title, buttons, and confirmation dialog.
      * Handles hover effects and button highlighting based on mouse position.
@@ -252,101 +333,46 @@ public class PauseOverlay implements Disposable {
         batch.begin();
         
         if (!showConfirmation) {
-            // Titre "PAUSED"
-            String title = "PAUSED";
-            titleLayout.setText(titleFont, title);
-            
-            float titleX = (screenWidth - titleLayout.width) / 2f;
-            float titleY = screenHeight / 2f + 150f;
-            
-            titleFont.draw(batch, title, titleX, titleY);
+            titleLabel.draw(batch);
             
             // Draw buttons RESUME, OPTIONS, and QUIT with zoom effect
-            float resumeScale = getZoomScale(0);
-            buttonFont.getData().setScale(resumeScale);
-            buttonFont.setColor(Color.WHITE);
-            GlyphLayout resumeScaledLayout = new GlyphLayout(buttonFont, "RESUME");
-            float resumeX = (screenWidth - resumeScaledLayout.width) / 2f;
-            buttonFont.draw(batch, resumeScaledLayout, resumeX, resumeButton.y + 20);
-            buttonFont.getData().setScale(1f);
-
-            float optionsScale = getZoomScale(1);
-            buttonFont.getData().setScale(optionsScale);
-            buttonFont.setColor(Color.WHITE);
-            GlyphLayout optionsScaledLayout = new GlyphLayout(buttonFont, "OPTIONS");
-            float optionsX = (screenWidth - optionsScaledLayout.width) / 2f;
-            buttonFont.draw(batch, optionsScaledLayout, optionsX, optionsButton.y + 20);
-            buttonFont.getData().setScale(1f);
-
-            float quitScale = getZoomScale(2);
-            buttonFont.getData().setScale(quitScale);
-            buttonFont.setColor(Color.WHITE);
-            GlyphLayout quitScaledLayout = new GlyphLayout(buttonFont, "QUIT");
-            float quitX = (screenWidth - quitScaledLayout.width) / 2f;
-            buttonFont.draw(batch, quitScaledLayout, quitX, quitButton.y + 20);
-            buttonFont.getData().setScale(1f);
+            resumeLabel.setScale(getZoomScale(0));
+            resumeLabel.draw(batch);
+            optionsLabel.setScale(getZoomScale(1));
+            optionsLabel.draw(batch);
+            quitLabel.setScale(getZoomScale(2));
+            quitLabel.draw(batch);
         } else {
-            // Confirmation screen
-            String confirmText = "RETURN TO MENU ?";
-            GlyphLayout confirmLayout = new GlyphLayout(confirmFont, confirmText);
-            float confirmX = (screenWidth - confirmLayout.width) / 2f;
-            float confirmY = screenHeight / 2f + 100f;
-            
-            confirmFont.setColor(Color.YELLOW);
-            confirmFont.draw(batch, confirmText, confirmX, confirmY);
+            confirmLabel.draw(batch);
             
             // Draw YES and NO buttons with zoom effect
-            float yesScale = getZoomScale(0);
-            buttonFont.getData().setScale(yesScale);
-            buttonFont.setColor(Color.WHITE);
-            GlyphLayout yesScaledLayout = new GlyphLayout(buttonFont, "YES");
-            float yesX = yesButton.x + (BUTTON_WIDTH - yesScaledLayout.width) / 2f;
-            buttonFont.draw(batch, yesScaledLayout, yesX, yesButton.y + 40);
-            buttonFont.getData().setScale(1f);
-
-            float noScale = getZoomScale(1);
-            buttonFont.getData().setScale(noScale);
-            buttonFont.setColor(Color.WHITE);
-            GlyphLayout noScaledLayout = new GlyphLayout(buttonFont, "NO");
-            float noX = noButton.x + (BUTTON_WIDTH - noScaledLayout.width) / 2f;
-            buttonFont.draw(batch, noScaledLayout, noX, noButton.y + 40);
-            buttonFont.getData().setScale(1f);
+            yesLabel.setScale(getZoomScale(0));
+            yesLabel.draw(batch);
+            noLabel.setScale(getZoomScale(1));
+            noLabel.draw(batch);
         }
         
         batch.end();
     }
     
     /**
-     * Draws button text with an inverted effect (yellow background, black text) for hover highlighting.
-     * Used to visually indicate the currently hovered or selected button.
+     * Converts a screen position to overlay coordinates.
      *
-     * @param text The button label to draw.
-     * @param x The X position for the text.
-     * @param y The Y position for the text.
-     */
-    private void drawTextInverted(String text, float x, float y) {
-        GlyphLayout layout = new GlyphLayout(buttonFont, text);
-
-        // Draw thick yellow shadow for highlight effect
-        buttonFont.setColor(Color.YELLOW);
-        for (int offsetX = -2; offsetX <= 2; offsetX++) {
-            for (int offsetY = -2; offsetY <= 2; offsetY++) {
-                buttonFont.draw(batch, layout, x + offsetX, y + offsetY);
-            }
-        }
-
-        // Draw black text on top
-        buttonFont.setColor(Color.BLACK);
-        buttonFont.draw(batch, layout, x, y);
+     * @param screenX Screen X coordinate
+     * @param screenY Screen Y coordinate
+     * @return The shared mouse vector, in overlay coordinates
+     */
+    private Vector2 unproject(int screenX, int screenY) {
+        return viewport.unproject(mousePosition.set(screenX, screenY));
     }
-    
+
     /**
      * Updates the hover effect for buttons based on the current mouse position.
      * Determines which button is currently hovered and updates selectedIndex accordingly.
      * Supports both main menu and confirmation dialog states.
      */
     private void updateHover() {
-        Vector2 mouse = viewport.unproject(new Vector2(Gdx.input.getX(), Gdx.input.getY()));
+        Vector2 mouse = unproject(Gdx.input.getX(), Gdx.input.getY());
         float mx = mouse.x;
         float my = mouse.y;
 
@@ -354,77 +380,19 @@ public class PauseOverlay implements Disposable {
         selectedIndex = -1;
 
         if (!showConfirmation) {
-            // RESUME button
-            GlyphLayout resumeLayout = new GlyphLayout(buttonFont, "RESUME");
-            float resumeX = (OVERLAY_WIDTH - resumeLayout.width) / 2f;
-
-            Rectangle resumeHitbox = new Rectangle(
-                resumeX - 10,
-                resumeButton.y + 40 - resumeLayout.height - 5,
-                resumeLayout.width + 20,
-                resumeLayout.height + 10
-            );
-
             if (resumeHitbox.contains(mx, my)) {
                 selectedIndex = 0;
             }
-
-            // OPTIONS button
-            GlyphLayout optionsLayout = new GlyphLayout(buttonFont, "OPTIONS");
-            float optionsX = (OVERLAY_WIDTH - optionsLayout.width) / 2f;
-
-            Rectangle optionsHitbox = new Rectangle(
-                optionsX - 10,
-                optionsButton.y + 40 - optionsLayout.height - 5,
-                optionsLayout.width + 20,
-                optionsLayout.height + 10
-            );
-
             if (optionsHitbox.contains(mx, my)) {
                 selectedIndex = 1;
             }
-
-            // QUIT button
-            GlyphLayout quitLayout = new GlyphLayout(buttonFont, "QUIT");
-            float quitX = (OVERLAY_WIDTH - quitLayout.width) / 2f;
-
-            Rectangle quitHitbox = new Rectangle(
-                quitX - 10,
-                quitButton.y + 40 - quitLayout.height - 5,
-                quitLayout.width + 20,
-                quitLayout.height + 10
-            );
-
             if (quitHitbox.contains(mx, my)) {
                 selectedIndex = 2;
             }
         } else {
-            // YES button
-            GlyphLayout yesLayout = new GlyphLayout(buttonFont, "YES");
-            float yesX = yesButton.x + (BUTTON_WIDTH - yesLayout.width) / 2f;
-
-            Rectangle yesHitbox = new Rectangle(
-                yesX - 10,
-                yesButton.y + 40 - yesLayout.height - 5,
-                yesLayout.width + 20,
-                yesLayout.height + 10
-            );
-
             if (yesHitbox.contains(mx, my)) {
                 selectedIndex = 0;
             }
-
-            // NO button
-            GlyphLayout noLayout = new GlyphLayout(buttonFont, "NO");
-            float noX = noButton.x + (BUTTON_WIDTH - noLayout.width) / 2f;
-
-            Rectangle noHitbox = new Rectangle(
-                noX - 10,
-                noButton.y + 40 - noLayout.height - 5,
-                noLayout.width + 20,
-                noLayout.height + 10
-            );
-
             if (noHitbox.contains(mx, my)) {
                 selectedIndex = 1;
             }
@@ -468,84 +436,26 @@ public class PauseOverlay implements Disposable {
      * @return "resume" if RESUME is clicked, "options" if OPTIONS is clicked, "confirm" if QUIT is clicked (shows confirmation), "quit" if YES is confirmed, "cancel" if NO is selected, null otherwise.
      */
     public String handleClick(int screenX, int screenY) {
-        Vector2 mouse = viewport.unproject(new Vector2(screenX, screenY));
+        Vector2 mouse = unproject(screenX, screenY);
         float worldX = mouse.x;
         float worldY = mouse.y;
 
         if (!showConfirmation) {
-            // Check RESUME button
-            GlyphLayout resumeLayout = new GlyphLayout(buttonFont, "RESUME");
-            float resumeX = (OVERLAY_WIDTH - resumeLayout.width) / 2f;
-
-            Rectangle resumeHitbox = new Rectangle(
-                resumeX - 10,
-                resumeButton.y + 40 - resumeLayout.height - 5,
-                resumeLayout.width + 20,
-                resumeLayout.height + 10
-            );
-
             if (resumeHitbox.contains(worldX, worldY)) {
                 return "resume";
             }
-
-            // Check OPTIONS button
-            GlyphLayout optionsLayout = new GlyphLayout(buttonFont, "OPTIONS");
-            float optionsX = (OVERLAY_WIDTH - optionsLayout.width) / 2f;
-
-            Rectangle optionsHitbox = new Rectangle(
-                optionsX - 10,
-                optionsButton.y + 40 - optionsLayout.height - 5,
-                optionsLayout.width + 20,
-                optionsLayout.height + 10
-            );
-
             if (optionsHitbox.contains(worldX, worldY)) {
                 return "options";
             }
-
-            // Check QUIT button
-            GlyphLayout quitLayout = new GlyphLayout(buttonFont, "QUIT");
-            float quitX = (OVERLAY_WIDTH - quitLayout.width) / 2f;
-
-            Rectangle quitHitbox = new Rectangle(
-                quitX - 10,
-                quitButton.y + 40 - quitLayout.height - 5,
-                quitLayout.width + 20,
-                quitLayout.height + 10
-            );
-
             if (quitHitbox.contains(worldX, worldY)) {
                 showConfirmation = true;
                 return "confirm";
             }
         } else {
-            // Check YES button
-            GlyphLayout yesLayout = new GlyphLayout(buttonFont, "YES");
-            float yesX = yesButton.x + (BUTTON_WIDTH - yesLayout.width) / 2f;
-
-            Rectangle yesHitbox = new Rectangle(
-                yesX - 10,
-                yesButton.y + 40 - yesLayout.height - 5,
-                yesLayout.width + 20,
-                yesLayout.height + 10
-            );
-
             if (yesHitbox.contains(worldX, worldY)) {
                 showConfirmation = false; // Reset for next time
                 return "quit";
             }
-
-            // Check NO button
-            GlyphLayout noLayout = new GlyphLayout(buttonFont, "NO");
-            float noX = noButton.x + (BUTTON_WIDTH - noLayout.width) / 2f;
-
-            Rectangle noHitbox = new Rectangle(
-                noX - 10,
-                noButton.y + 40 - noLayout.height - 5,
-                noLayout.width + 20,
-                noLayout.height + 10
-            );
-
             if (noHitbox.contains(worldX, worldY)) {
                 showConfirmation = false; // Back to pause menu
                 return "cancel";
@@ -0,0 +1,330 @@
+package com.ui;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.GLProfiler;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.main.entities.Unit;
+import com.main.map.Base;
+import com.main.utils.FrameProfiler;
+
+/**
+ * Debug overlay showing per-subsystem CPU timings, a frame-time graph, unit
+ * counts per lane, GL draw calls / texture binds, drawn and culled unit
+ * sprites with their texture switches, heap usage and GC rate.
+ * <p>
+ * Toggled with F3 in {@link com.main.GameScreen}. While hidden the GL profiler
+ * and the {@link FrameProfiler} are disabled, so the overlay costs nothing.
+ * Text is built in a reused {@link StringBuilder} to avoid per-frame garbage
+ * that would skew the GC numbers it displays.
+ */
+public class ProfilerOverlay implements Disposable {
+
+    /**
+     * Logical width of the overlay in world units.
+     */
+    private static final float OVERLAY_WIDTH = 800f;
+    /**
+     * Logical height of the overlay in world units.
+     */
+    private static final float OVERLAY_HEIGHT = 600f;
+    /**
+     * Left edge of the panel.
+     */
+    private static final float PANEL_X = 540f;
+    /**
+     * Top edge of the panel.
+     */
+    private static final float PANEL_TOP = 590f;
+    /**
+     * Width of the panel.
+     */
+    private static final float PANEL_WIDTH = 250f;
+    /**
+     * Height of the frame-time graph.
+     */
+    private static final float GRAPH_HEIGHT = 60f;
+    /**
+     * Frame time mapped to the top of the graph, in milliseconds.
+     */
+    private static final float GRAPH_MAX_MS = 50f;
+    /**
+     * Target frame time (60 FPS), drawn as a reference line.
+     */
+    private static final float TARGET_MS = 1000f / 60f;
+    /**
+     * Vertical spacing between text lines.
+     */
+    private static final float LINE_HEIGHT = 14f;
+    /**
+     * Cached section list (values() allocates a new array on each call).
+     */
+    private static final FrameProfiler.Section[] SECTIONS = FrameProfiler.Section.values();
+
+    private final Viewport viewport;
+    private final SpriteBatch batch;
+    private final ShapeRenderer shapeRenderer;
+    private final BitmapFont font;
+    private final FrameProfiler profiler;
+    private final GLProfiler glProfiler;
+
+    /**
+     * Reused buffer for building each text line.
+     */
+    private final StringBuilder text = new StringBuilder(64);
+
+    /**
+     * Garbage collectors of the running JVM, sampled once per second.
+     */
+    private final List<GarbageCollectorMXBean> collectors;
+
+    /**
+     * Whether the overlay is visible.
+     */
+    private boolean visible = false;
+
+    /**
+     * Draw calls and texture binds of the last completed frame.
+     */
+    private int drawCalls;
+    private int textureBindings;
+
+    /**
+     * GC statistics over the last sampling window.
+     */
+    private long lastGcCount = -1;
+    private long lastGcTime;
+    private float gcSampleTimer;
+    private long gcPerSecond;
+    private long gcMillisPerSecond;
+
+    /**
+     * Constructs the overlay for the given profiler.
+     *
+     * @param profiler Profiler whose section timings are displayed
+     */
+    public ProfilerOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+        this.viewport = new FitViewport(OVERLAY_WIDTH, OVERLAY_HEIGHT);
+        this.batch = new SpriteBatch();
+        this.shapeRenderer = new ShapeRenderer();
+        this.font = new BitmapFont();
+        this.font.getData().setScale(0.9f);
+        this.glProfiler = new GLProfiler(Gdx.graphics);
+        this.collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    }
+
+    /**
+     * Shows or hides the overlay, enabling the profilers only while visible.
+     */
+    public void toggle() {
+        visible = !visible;
+        profiler.setEnabled(visible);
+        if (visible) {
+            glProfiler.enable();
+            glProfiler.reset();
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    /**
+     * Returns whether the overlay is currently visible.
+     *
+     * @return True if visible
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Renders the overlay on top of the frame. Must be called last so the GL
+     * counters cover everything drawn this frame; the overlay's own draw calls
+     * are counted in the next frame's reset window and therefore excluded.
+     *
+     * @param delta      Time elapsed since last frame (seconds)
+     * @param playerBase Player base, for lane counts
+     * @param enemyBase  Enemy base, for lane counts
+     */
+    public void render(float delta, Base playerBase, Base enemyBase) {
+        if (!visible) {
+            return;
+        }
+        drawCalls = glProfiler.getDrawCalls();
+        textureBindings = glProfiler.getTextureBindings();
+        sampleGc(delta);
+
+        viewport.apply();
+        shapeRenderer.setProjectionMatrix(viewport.getCamera().combined);
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+
+        float graphBottom = PANEL_TOP - GRAPH_HEIGHT;
+        int textLines = SECTIONS.length + 6;
+        float panelBottom = graphBottom - 8f - textLines * LINE_HEIGHT;
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0f, 0f, 0f, 0.6f);
+        shapeRenderer.rect(PANEL_X - 5f, panelBottom, PANEL_WIDTH + 10f, PANEL_TOP - panelBottom + 5f);
+        drawGraph(graphBottom);
+        shapeRenderer.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+
+        batch.begin();
+        float y = graphBottom - 6f;
+        text.setLength(0);
+        text.append("Frame ");
+        appendMillis(profiler.getAverageFrameMillis());
+        text.append("  FPS ").append(Gdx.graphics.getFramesPerSecond());
+        y = line(Color.WHITE, y);
+
+        for (FrameProfiler.Section section : SECTIONS) {
+            text.setLength(0);
+            text.append(section.name()).append(' ');
+            appendMillis(profiler.getAverageMillis(section));
+            y = line(Color.LIGHT_GRAY, y);
+        }
+
+        text.setLength(0);
+        text.append("Draw calls ").append(drawCalls).append("  Binds ").append(textureBindings);
+        y = line(Color.CYAN, y);
+
+        text.setLength(0);
+        text.append("Sprites ").append(profiler.getSpritesSubmitted()).append("  Culled ")
+                .append(profiler.getSpritesCulled()).append("  Tex ").append(profiler.getTextureSwitches());
+        y = line(Color.CYAN, y);
+
+        y = laneLine("Soldiers", playerBase, Color.GREEN, y);
+        y = laneLine("Zombies ", enemyBase, Color.SALMON, y);
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedMb = (runtime.totalMemory() - runtime.freeMemory()) >> 20;
+        text.setLength(0);
+        text.append("Heap ").append(usedMb).append(" / ").append(runtime.maxMemory() >> 20).append(" MB");
+        y = line(Color.YELLOW, y);
+
+        text.setLength(0);
+        text.append("GC ").append(gcPerSecond).append("/s  ").append(gcMillisPerSecond).append(" ms/s");
+        line(Color.YELLOW, y);
+        batch.end();
+
+        glProfiler.reset();
+    }
+
+    /**
+     * Draws the frame-time history as vertical bars with a 60 FPS reference line.
+     *
+     * @param bottom Bottom Y of the graph
+     */
+    private void drawGraph(float bottom) {
+        int count = profiler.getHistoryCount();
+        float barWidth = PANEL_WIDTH / FrameProfiler.HISTORY_SIZE;
+        for (int i = 0; i < count; i++) {
+            float ms = profiler.getFrameMillis(i);
+            float h = Math.min(ms, GRAPH_MAX_MS) / GRAPH_MAX_MS * GRAPH_HEIGHT;
+            if (ms > TARGET_MS * 2f) {
+                shapeRenderer.setColor(Color.RED);
+            } else if (ms > TARGET_MS) {
+                shapeRenderer.setColor(Color.ORANGE);
+            } else {
+                shapeRenderer.setColor(Color.GREEN);
+            }
+            shapeRenderer.rect(PANEL_X + i * barWidth, bottom, barWidth, h);
+        }
+        shapeRenderer.setColor(Color.WHITE);
+        float targetY = bottom + TARGET_MS / GRAPH_MAX_MS * GRAPH_HEIGHT;
+        shapeRenderer.rect(PANEL_X, targetY, PANEL_WIDTH, 1f);
+    }
+
+    /**
+     * Writes the alive unit count of each lane of a base.
+     */
+    private float laneLine(String label, Base base, Color color, float y) {
+        text.setLength(0);
+        text.append(label);
+        List<List<Unit>> lanes = base.getUnitsPerLane();
+        for (int i = 0; i < lanes.size(); i++) {
+            text.append("  L").append(i).append(' ').append(lanes.get(i).size());
+        }
+        text.append("  total ").append(base.getUnits().size());
+        return line(color, y);
+    }
+
+    /**
+     * Draws the current content of {@link #text} and returns the next line Y.
+     */
+    private float line(Color color, float y) {
+        font.setColor(color);
+        font.draw(batch, text, PANEL_X, y);
+        return y - LINE_HEIGHT;
+    }
+
+    /**
+     * Appends a millisecond value with two decimals without allocating.
+     */
+    private void appendMillis(float ms) {
+        int hundredths = Math.round(ms * 100f);
+        text.append(hundredths / 100).append('.');
+        int frac = hundredths % 100;
+        if (frac < 10) {
+            text.append('0');
+        }
+        text.append(frac).append(" ms");
+    }
+
+    /**
+     * Updates collection count and time per second once every second.
+     *
+     * @param delta Time elapsed since last frame (seconds)
+     */
+    private void sampleGc(float delta) {
+        gcSampleTimer += delta;
+        if (lastGcCount >= 0 && gcSampleTimer < 1f) {
+            return;
+        }
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean gc : collectors) {
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        if (lastGcCount >= 0) {
+            gcPerSecond = Math.round((count - lastGcCount) / gcSampleTimer);
+            gcMillisPerSecond = Math.round((time - lastGcTime) / gcSampleTimer);
+        }
+        lastGcCount = count;
+        lastGcTime = time;
+        gcSampleTimer = 0f;
+    }
+
+    /**
+     * Updates the viewport when the window is resized.
+     *
+     * @param width  New width
+     * @param height New height
+     */
+    public void resize(int width, int height) {
+        viewport.update(width, height, true);
+    }
+
+    /**
+     * Disposes of all rendering resources and stops GL profiling.
+     */
+    @Override
+    public void dispose() {
+        glProfiler.disable();
+        batch.dispose();
+        shapeRenderer.dispose();
+        font.dispose();
+    }
+}
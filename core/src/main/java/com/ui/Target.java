@@ -3,7 +3,6 @@ package com.ui;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -16,6 +15,8 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.main.GameScreen;
 import com.main.entities.Unit;
 import com.main.entities.player.Hero;
+import com.main.utils.TextureLoader;
+import com.main.utils.GameLog;
 
 public class Target {
 
@@ -43,7 +44,7 @@ public class Target {
     public Target(Hero hero, OrthographicCamera camera) {
         this.hero = hero;
         this.target = hero.getTarget();
-        System.out.println(target);
+        GameLog.debug("Target", "Initial target: {}", target);
 
         // if
 
@@ -54,7 +55,7 @@ public class Target {
 
         // touchPos = new Vector3();
 
-        Texture chooseTex = new Texture(Gdx.files.internal("Frames/aim.png"));
+        Texture chooseTex = TextureLoader.load("Frames/aim.png");
         this.chooseFrame = new TextureRegion(chooseTex);
         this.chooseTexture = chooseTex;
 
@@ -85,7 +86,7 @@ public class Target {
             bounds.y = target.getPosY();
             // System.out.println("Target: target position changed -> " + target);
         } catch (Exception e) {
-            System.out.println("Target: failed to update for " + target + " : " + e.getMessage());
+            GameLog.warn("Target", "Failed to update for {}: {}", target, e.getMessage());
 
         }
     }
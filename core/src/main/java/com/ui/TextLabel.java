@@ -0,0 +1,192 @@
+package com.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * A line of text laid out once and drawn with a single call.
+ * <p>
+ * Outlines and shadows are not drawn by the label: they are baked into the
+ * glyphs when the font is rasterized, by generating it with FreeType's
+ * {@code borderWidth} and {@code shadowOffsetX/Y}, so each label is drawn
+ * once. The glyph vertices are kept in a {@link BitmapFontCache} and are only
+ * rebuilt when the text, color, scale or position changes; drawing an
+ * unchanged label is a single copy of the cached vertices into the batch.
+ * <p>
+ * The label does not own its font.
+ */
+public class TextLabel {
+
+    private final BitmapFont font;
+    private final BitmapFontCache cache;
+    private final GlyphLayout layout = new GlyphLayout();
+    private final Color color = new Color();
+    private String text;
+    private float scale = 1f;
+    private float x;
+    private float y;
+    private int halign = Align.left;
+
+    /**
+     * Size of the text at scale 1.
+     */
+    private float width;
+    private float height;
+
+    /**
+     * True when the text changed and its size must be measured again.
+     */
+    private boolean sizeDirty = true;
+
+    /**
+     * True when the cached vertices must be rebuilt.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Creates a label drawn with a font, tinted with the font's current color.
+     *
+     * @param font Font with its outline baked in
+     * @param text Text to draw
+     */
+    public TextLabel(BitmapFont font, String text) {
+        this.font = font;
+        this.cache = font.newFontCache();
+        this.text = text;
+        color.set(font.getColor());
+    }
+
+    /**
+     * Sets the text, laying the label out again if it changed.
+     *
+     * @param text New text
+     */
+    public void setText(String text) {
+        if (!text.equals(this.text)) {
+            this.text = text;
+            sizeDirty = true;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Returns the text of the label.
+     *
+     * @return Current text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Sets the color the glyphs are tinted with.
+     *
+     * @param color New color
+     */
+    public void setColor(Color color) {
+        if (!this.color.equals(color)) {
+            this.color.set(color);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Sets the scale of the text, on top of the font's own scale.
+     *
+     * @param scale Scale factor, 1 for the font's size
+     */
+    public void setScale(float scale) {
+        if (scale > 0f && scale != this.scale) {
+            this.scale = scale;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Sets where the text is drawn.
+     *
+     * @param x      Left edge, or horizontal centre if {@code halign} is
+     *               {@link Align#center}
+     * @param y      Top of the text, as with {@link BitmapFont#draw}
+     * @param halign {@link Align#left} or {@link Align#center}
+     */
+    public void setPosition(float x, float y, int halign) {
+        if (x != this.x || y != this.y || halign != this.halign) {
+            this.x = x;
+            this.y = y;
+            this.halign = halign;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Lays the label out again on its next draw, after the font's own scale
+     * changed.
+     */
+    public void invalidate() {
+        sizeDirty = true;
+        dirty = true;
+    }
+
+    /**
+     * Returns the width of the text at scale 1.
+     *
+     * @return Unscaled width
+     */
+    public float getWidth() {
+        measure();
+        return width;
+    }
+
+    /**
+     * Returns the height of the text at scale 1.
+     *
+     * @return Unscaled height
+     */
+    public float getHeight() {
+        measure();
+        return height;
+    }
+
+    /**
+     * Draws the label, laying it out first if it changed.
+     *
+     * @param batch Batch between begin and end
+     */
+    public void draw(Batch batch) {
+        if (dirty) {
+            layOut();
+        }
+        cache.draw(batch);
+    }
+
+    private void measure() {
+        if (sizeDirty) {
+            layout.setText(font, text);
+            width = layout.width;
+            height = layout.height;
+            sizeDirty = false;
+        }
+    }
+
+    private void layOut() {
+        measure();
+        BitmapFont.BitmapFontData data = font.getData();
+        float scaleX = data.scaleX;
+        float scaleY = data.scaleY;
+        if (scale != 1f) {
+            data.setScale(scaleX * scale, scaleY * scale);
+        }
+        layout.setText(font, text, color, 0f, Align.left, false);
+        float left = Align.isCenterHorizontal(halign) ? x - layout.width / 2f : x;
+        cache.setText(layout, left, y);
+        if (scale != 1f) {
+            data.setScale(scaleX, scaleY);
+        }
+        dirty = false;
+    }
+}
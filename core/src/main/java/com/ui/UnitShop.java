@@ -133,16 +133,8 @@ public class UnitShop {
     public boolean handleClick(int screenX, int screenY) {
         touchPos.set(screenX, screenY, 0);
         viewport.unproject(touchPos);
-        for (int i = 0; i < spawnPointButtons.size(); i++) {
-            UnitShopButton button = spawnPointButtons.get(i);
-            if (button.isClicked(touchPos.x, touchPos.y)) {
-                for (UnitShopButton btn : spawnPointButtons) {
-                    btn.setSelected(false);
-                }
-                button.setSelected(true);
-                selectedSpawnPoint = i;
-                return true;
-            }
+        if (selectSpawnPoint()) {
+            return true;
         }
         for (UnitShopButton button : unitTypeButtons) {
             if (button.isClicked(touchPos.x, touchPos.y)) {
@@ -159,6 +151,58 @@ public class UnitShop {
         return false;
     }
 
+    /**
+     * Handles a click without buying anything: spawn point buttons update the
+     * selection, unit buttons return their type so the purchase can go through
+     * the simulation input (and be recorded in replays).
+     *
+     * @param screenX Screen X coordinate of the click
+     * @param screenY Screen Y coordinate of the click
+     * @return The unit type clicked, or null
+     */
+    public Base.Type resolveClick(int screenX, int screenY) {
+        touchPos.set(screenX, screenY, 0);
+        viewport.unproject(touchPos);
+        if (selectSpawnPoint()) {
+            return null;
+        }
+        for (UnitShopButton button : unitTypeButtons) {
+            if (button.isClicked(touchPos.x, touchPos.y)) {
+                return button.getUnitType();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the lane currently selected for purchases.
+     *
+     * @return Spawn point index (0-2)
+     */
+    public int getSelectedSpawnPoint() {
+        return selectedSpawnPoint;
+    }
+
+    /**
+     * Selects the spawn point button under {@code touchPos}, if any.
+     *
+     * @return true if a spawn point button was clicked
+     */
+    private boolean selectSpawnPoint() {
+        for (int i = 0; i < spawnPointButtons.size(); i++) {
+            UnitShopButton button = spawnPointButtons.get(i);
+            if (button.isClicked(touchPos.x, touchPos.y)) {
+                for (UnitShopButton btn : spawnPointButtons) {
+                    btn.setSelected(false);
+                }
+                button.setSelected(true);
+                selectedSpawnPoint = i;
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Resizes the shop UI viewport when the window size changes.
      * Ensures UI elements remain properly scaled and positioned.
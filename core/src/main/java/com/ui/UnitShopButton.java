@@ -8,11 +8,11 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Rectangle;
 import com.main.map.Base;
+import com.main.utils.TextureLoader;
 
 /**
  * Represents a button in the unit shop UI for selecting unit types or spawn points.
@@ -108,7 +108,7 @@ public class UnitShopButton {
                 break;
         }
 
-        Texture idleTex = new Texture(Gdx.files.internal("Frames/" + this.label + ".png"));
+        Texture idleTex = TextureLoader.load("Frames/" + this.label + ".png");
         this.idleFrame = new TextureRegion(idleTex);
     }
 
@@ -131,7 +131,7 @@ public class UnitShopButton {
         this.font = new BitmapFont();
         this.font.getData().setScale(1.2f);
 
-        Texture idleTex = new Texture(Gdx.files.internal("Frames/" + this.label + ".png"));
+        Texture idleTex = TextureLoader.load("Frames/" + this.label + ".png");
         this.idleFrame = new TextureRegion(idleTex);
     }
 
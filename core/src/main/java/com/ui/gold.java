@@ -1,11 +1,17 @@
 package com.ui;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Disposable;
+import com.main.utils.FontLoader;
+import com.main.utils.TextureLoader;
+import com.main.utils.GameLog;
 
 
 /**
@@ -27,6 +33,16 @@ public class gold implements Disposable {
     private static final Color BACKGROUND_COLOR = new Color(0.2f, 0.2f, 0.2f, 0.7f);
     private static final float PADDING_X = 10f;
     private static final float PADDING_Y = 8f;
+
+    /**
+     * Gold text, laid out once per value and drawn with a single call.
+     */
+    private TextLabel label;
+
+    /**
+     * True when the display changed since the owner last cached it.
+     */
+    private boolean dirty = true;
     
     /**
      * Constructs a gold display UI component without an icon.
@@ -40,17 +56,25 @@ public class gold implements Disposable {
         this.gold = 0;
         this.hasIcon = false;
         
-        // Initialize font
-        font = new BitmapFont();
+        // White glyphs with the black outline baked in, tinted yellow when drawn
+        try {
+            FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/PressStart2P.ttf"));
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+            parameter.size = 22;
+            parameter.borderWidth = 1.5f;
+            parameter.borderColor = Color.BLACK;
+            parameter.magFilter = Texture.TextureFilter.Nearest;
+            parameter.minFilter = Texture.TextureFilter.Nearest;
+            font = FontLoader.generate(generator, parameter, "gold");
+            generator.dispose();
+        } catch (Exception e) {
+            GameLog.warn("gold", "Could not load PressStart2P font: {}", e.getMessage());
+            font = new BitmapFont();
+            font.getData().setScale(1.9f);
+        }
         // Utiliser un jaune plus brillant et saturé pour meilleure visibilité
         font.setColor(new Color(1f, 1f, 0f, 1f)); // Jaune pur très visible
-        font.getData().setScale(1.9f);
-        
-        // Set text to be bold and crisp
-        font.getRegion().getTexture().setFilter(
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear,
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear
-        );
+        label = new TextLabel(font, " " + gold);
     }
     
     /**
@@ -63,10 +87,10 @@ public class gold implements Disposable {
     public gold(float x, float y, String coinIconPath) {
         this(x, y);
         try {
-            this.coinIcon = new Texture(coinIconPath);
+            this.coinIcon = TextureLoader.load(coinIconPath);
             this.hasIcon = true;
         } catch (Exception e) {
-            System.err.println("Could not load coin icon: " + coinIconPath);
+            GameLog.warn("gold", "Could not load coin icon: {}", coinIconPath);
             this.hasIcon = false;
         }
     }
@@ -77,7 +101,7 @@ public class gold implements Disposable {
      * @param gold Current gold amount
      */
     public void update(int gold) {
-        this.gold = Math.max(0, gold); // Ensure non-negative
+        setGold(gold);
     }
     
     /**
@@ -98,26 +122,38 @@ public class gold implements Disposable {
             textX += TEXT_OFFSET_X;
         }
         
-        // Draw gold text with subtle black outline
-        String goldText = " " + gold;
-        
-        // Save original color
-        Color originalColor = font.getColor().cpy();
-        
-        // Draw subtle black outline (4 directions only)
-        font.setColor(Color.BLACK);
-        float offset = 1f;
-        font.draw(batch, goldText, textX - offset, y);
-        font.draw(batch, goldText, textX + offset, y);
-        font.draw(batch, goldText, textX, y - offset);
-        font.draw(batch, goldText, textX, y + offset);
-        
-        // Draw main text in yellow
-        font.setColor(originalColor);
-        font.draw(batch, goldText, textX, y);
+        // Draw gold text, its outline is part of the glyphs
+        label.setPosition(textX, y, Align.left);
+        label.draw(batch);
         
         batch.end();
     }
+
+    /**
+     * Updates the label and flags the display as changed.
+     */
+    private void invalidate() {
+        label.setText(" " + gold);
+        label.setColor(font.getColor());
+        label.invalidate();
+        dirty = true;
+    }
+
+    /**
+     * Returns whether the display changed since {@link #markClean()}.
+     *
+     * @return True if a cached image of it is stale
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Marks the current state as cached by the owner.
+     */
+    public void markClean() {
+        dirty = false;
+    }
     
     /**
      * Renders the gold display with a background using the provided {@link ShapeRenderer} and {@link SpriteBatch}.
@@ -154,8 +190,11 @@ public class gold implements Disposable {
      * @param y New Y position
      */
     public void setPosition(float x, float y) {
-        this.x = x;
-        this.y = y;
+        if (x != this.x || y != this.y) {
+            this.x = x;
+            this.y = y;
+            invalidate();
+        }
     }
     
     /**
@@ -178,7 +217,7 @@ public class gold implements Disposable {
      */
     public boolean removeGold(int amount) {
         if (this.gold >= amount) {
-            this.gold -= amount;
+            setGold(this.gold - amount);
             return true;
         }
         return false;
@@ -190,7 +229,11 @@ public class gold implements Disposable {
      * @param gold Gold amount to set
      */
     public void setGold(int gold) {
-        this.gold = Math.max(0, gold);
+        int value = Math.max(0, gold); // Ensure non-negative
+        if (value != this.gold) {
+            this.gold = value;
+            invalidate();
+        }
     }
     
     /**
@@ -209,6 +252,7 @@ public class gold implements Disposable {
      */
     public void setColor(Color color) {
         font.setColor(color);
+        invalidate();
     }
     
     /**
@@ -217,8 +261,10 @@ public class gold implements Disposable {
      * @param scale Font scale (must be positive)
      */
     public void setFontScale(float scale) {
-        if (scale > 0f)
+        if (scale > 0f) {
             font.getData().setScale(scale);
+            invalidate();
+        }
     }
     
     /**
@@ -1,12 +1,12 @@
 package com.ui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Disposable;
+import com.main.utils.TextureLoader;
 
 /**
  * Represents a health bar UI component for displaying the hero's health in the game.
@@ -119,6 +119,11 @@ public class healthbar implements Disposable {
      * Thickness of the health bar border (pixels).
      */
     private static final float BORDER_THICKNESS = 4f;
+
+    /**
+     * True when the bar changed since the owner last cached it.
+     */
+    private boolean dirty = true;
     
     /**
      * Constructs a HealthBar without a heart icon.
@@ -157,7 +162,7 @@ public class healthbar implements Disposable {
         
         // Attempt to load the heart icon texture
         try {
-            this.heartIcon = new Texture(heartIconPath);
+            this.heartIcon = TextureLoader.load(heartIconPath);
             this.hasIcon = true;
         } catch (Exception e) {
             this.hasIcon = false;
@@ -165,7 +170,7 @@ public class healthbar implements Disposable {
 
         // Attempt to load the custom health bar texture
         try {
-            this.healthbarTexture = new Texture(Gdx.files.internal("ui/healthbar.png"));
+            this.healthbarTexture = TextureLoader.load("ui/healthbar.png");
             this.useCustomTexture = true;
         } catch (Exception e) {
             this.useCustomTexture = false;
@@ -179,8 +184,29 @@ public class healthbar implements Disposable {
      * @param maxHealth Maximum health value
      */
     public void update(int currentHealth, int maxHealth) {
-        this.currentHealth = Math.max(0, currentHealth);
-        this.maxHealth = Math.max(1, maxHealth);
+        int health = Math.max(0, currentHealth);
+        int max = Math.max(1, maxHealth);
+        if (health != this.currentHealth || max != this.maxHealth) {
+            this.currentHealth = health;
+            this.maxHealth = max;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Returns whether the bar changed since {@link #markClean()}.
+     *
+     * @return True if a cached image of it is stale
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Marks the current state as cached by the owner.
+     */
+    public void markClean() {
+        dirty = false;
     }
     
     /**
@@ -311,6 +337,7 @@ public class healthbar implements Disposable {
     public void setPosition(float x, float y) {
         this.x = x;
         this.y = y;
+        dirty = true;
     }
     
     /**
@@ -322,6 +349,7 @@ public class healthbar implements Disposable {
     public void setSize(float width, float height) {
         this.width = width;
         this.height = height;
+        dirty = true;
     }
     
     /**
@@ -1,10 +1,18 @@
 package com.ui;
 
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
@@ -14,6 +22,11 @@ import com.badlogic.gdx.utils.viewport.Viewport;
  * It is responsible for rendering and updating all user interface elements,
  * including health bars, gold counter, and base health indicators.
  * The HUD provides essential player and base information during gameplay.
+ * <p>
+ * The screen-space widgets (health bar and gold counter) are rasterized into a
+ * {@link FrameBuffer} only when one of them reports a change or the window is
+ * resized; other frames draw the cached image as a single quad. When no frame
+ * buffer can be created the widgets are drawn directly.
  * Implements {@link Disposable} for proper resource management.
  */
 public class hud implements Disposable {
@@ -112,6 +125,31 @@ public class hud implements Disposable {
      * Y position for the enemy base health bar (updated dynamically).
      */
     private float enemyBaseHealthBarY = 150f;
+
+    /**
+     * Cached image of the screen-space widgets, sized to the GL viewport.
+     */
+    private FrameBuffer cache;
+
+    /**
+     * Color buffer of {@link #cache}, flipped upright.
+     */
+    private TextureRegion cacheRegion;
+
+    /**
+     * True when the cache must be redrawn regardless of the widgets (resize).
+     */
+    private boolean layoutDirty = true;
+
+    /**
+     * True once creating the frame buffer failed; widgets are then drawn directly.
+     */
+    private boolean cacheUnavailable;
+
+    /**
+     * GL viewport saved while drawing into the cache.
+     */
+    private final IntBuffer glViewport = BufferUtils.newIntBuffer(16);
     
     /**
      * Constructs the HUD and initializes all UI components, rendering tools, and positions.
@@ -239,13 +277,73 @@ public class hud implements Disposable {
         // Set projection matrices for UI elements (health bar, gold)
         shapeRenderer.setProjectionMatrix(camera.combined);
         batch.setProjectionMatrix(camera.combined);
-        
+
+        if (!cacheUnavailable && (layoutDirty || healthBar.isDirty() || goldDisplay.isDirty())) {
+            rebuildCache();
+        }
+        if (cacheUnavailable) {
+            renderWidgets();
+            return;
+        }
+
+        // The cache holds premultiplied colors
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.begin();
+        batch.draw(cacheRegion, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
+        batch.end();
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /**
+     * Draws the health bar and gold display with the current projection.
+     */
+    private void renderWidgets() {
         // Render health bar with heart icon
         healthBar.render(shapeRenderer, batch);
         
         // Render gold display with coin icon
         goldDisplay.render(batch);
     }
+
+    /**
+     * Redraws the widgets into the cache at the resolution of the current GL
+     * viewport, then restores that viewport.
+     */
+    private void rebuildCache() {
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, glViewport);
+        int x = glViewport.get(0);
+        int y = glViewport.get(1);
+        int width = Math.max(1, glViewport.get(2));
+        int height = Math.max(1, glViewport.get(3));
+        if (cache == null || cache.getWidth() != width || cache.getHeight() != height) {
+            if (cache != null) {
+                cache.dispose();
+                cache = null;
+            }
+            try {
+                cache = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            } catch (RuntimeException e) {
+                cacheUnavailable = true;
+                return;
+            }
+            cacheRegion = new TextureRegion(cache.getColorBufferTexture());
+            cacheRegion.flip(false, true);
+        }
+
+        cache.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        // Keep alpha correct over the transparent background
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        renderWidgets();
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.end(x, y, width, height);
+
+        healthBar.markClean();
+        goldDisplay.markClean();
+        layoutDirty = false;
+    }
     
     /**
      * Renders the base health bars in the game world using the provided camera.
@@ -271,6 +369,7 @@ public class hud implements Disposable {
     public void resize(int width, int height) {
         viewport.update(width, height);
         camera.position.set(viewport.getWorldWidth() / 2, viewport.getWorldHeight() / 2, 0);
+        layoutDirty = true;
     }
     
     /**
@@ -332,5 +431,8 @@ public class hud implements Disposable {
         playerBaseHealthBar.dispose();
         enemyBaseHealthBar.dispose();
         goldDisplay.dispose();
+        if (cache != null) {
+            cache.dispose();
+        }
     }
 }
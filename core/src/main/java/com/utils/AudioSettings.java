@@ -2,11 +2,14 @@ package com.utils;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
+import com.main.utils.GameLog;
 
 /**
- * Manages global audio settings for the game.
+ * Audio settings of one game instance.
  * Handles music volume and sound effects on/off state.
- * Settings are persisted using LibGDX Preferences.
+ * Settings created with {@link #load()} are persisted using LibGDX Preferences;
+ * those created with the constructor live in memory only (headless matches,
+ * tests).
  */
 public class AudioSettings {
     
@@ -14,23 +17,46 @@ public class AudioSettings {
     private static final String MUSIC_VOLUME_KEY = "musicVolume";
     private static final String SOUND_ENABLED_KEY = "soundEnabled";
     
-    private static Preferences prefs;
-    private static float musicVolume = 0.5f;
-    private static boolean soundEnabled = true;
+    private Preferences prefs;
+    private float musicVolume = 0.5f;
+    private boolean soundEnabled = true;
+
+    /**
+     * Creates in-memory settings with the default values.
+     */
+    public AudioSettings() {
+    }
+
+    /**
+     * Creates settings with the given values, kept in memory only.
+     *
+     * @param musicVolume  Music volume between 0.0 and 1.0
+     * @param soundEnabled True to enable sound effects
+     */
+    public AudioSettings(float musicVolume, boolean soundEnabled) {
+        this.musicVolume = Math.max(0f, Math.min(1f, musicVolume));
+        this.soundEnabled = soundEnabled;
+    }
     
     /**
-     * Initializes the audio settings by loading saved preferences.
+     * Loads the settings saved in the preferences; later changes are saved
+     * back.
+     *
+     * @return Loaded settings, or the defaults if the preferences are unavailable
      */
-    public static void initialize() {
+    public static AudioSettings load() {
+        AudioSettings settings = new AudioSettings();
         try {
-            prefs = Gdx.app.getPreferences(PREFS_NAME);
-            musicVolume = prefs.getFloat(MUSIC_VOLUME_KEY, 0.5f);
-            soundEnabled = prefs.getBoolean(SOUND_ENABLED_KEY, true);
+            settings.prefs = Gdx.app.getPreferences(PREFS_NAME);
+            settings.musicVolume = settings.prefs.getFloat(MUSIC_VOLUME_KEY, 0.5f);
+            settings.soundEnabled = settings.prefs.getBoolean(SOUND_ENABLED_KEY, true);
         } catch (Exception e) {
-            System.err.println("Could not load preferences: " + e.getMessage());
-            musicVolume = 0.5f;
-            soundEnabled = true;
+            GameLog.warn("AudioSettings", "Could not load preferences: {}", e.getMessage());
+            settings.prefs = null;
+            settings.musicVolume = 0.5f;
+            settings.soundEnabled = true;
         }
+        return settings;
     }
     
     /**
@@ -38,7 +64,7 @@ public class AudioSettings {
      * 
      * @return Music volume between 0.0 and 1.0
      */
-    public static float getMusicVolume() {
+    public float getMusicVolume() {
         return musicVolume;
     }
     
@@ -47,7 +73,7 @@ public class AudioSettings {
      * 
      * @param volume Volume level between 0.0 and 1.0
      */
-    public static void setMusicVolume(float volume) {
+    public void setMusicVolume(float volume) {
         musicVolume = Math.max(0f, Math.min(1f, volume));
         savePreferences();
     }
@@ -57,7 +83,7 @@ public class AudioSettings {
      * 
      * @return True if sounds are enabled, false otherwise
      */
-    public static boolean isSoundEnabled() {
+    public boolean isSoundEnabled() {
         return soundEnabled;
     }
     
@@ -66,7 +92,7 @@ public class AudioSettings {
      * 
      * @param enabled True to enable sounds, false to disable
      */
-    public static void setSoundEnabled(boolean enabled) {
+    public void setSoundEnabled(boolean enabled) {
         soundEnabled = enabled;
         savePreferences();
     }
@@ -76,7 +102,7 @@ public class AudioSettings {
      * 
      * @return The new sound enabled state
      */
-    public static boolean toggleSound() {
+    public boolean toggleSound() {
         soundEnabled = !soundEnabled;
         savePreferences();
         return soundEnabled;
@@ -85,14 +111,14 @@ public class AudioSettings {
     /**
      * Saves current settings to preferences.
      */
-    private static void savePreferences() {
+    private void savePreferences() {
         if (prefs != null) {
             try {
                 prefs.putFloat(MUSIC_VOLUME_KEY, musicVolume);
                 prefs.putBoolean(SOUND_ENABLED_KEY, soundEnabled);
                 prefs.flush();
             } catch (Exception e) {
-                System.err.println("Could not save preferences: " + e.getMessage());
+                GameLog.warn("AudioSettings", "Could not save preferences: {}", e.getMessage());
             }
         }
     }
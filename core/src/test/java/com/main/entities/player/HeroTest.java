@@ -531,6 +531,14 @@ public class HeroTest {
         assertEquals("Gold should be 150", 150, hero.getGold());
     }
 
+    @Test
+    public void testGoldEarnedIgnoresSpending() {
+        hero.addGold(50);
+        hero.removeGold(30);
+        hero.addGold(20);
+        assertEquals("Gold earned should only count income", 70, hero.getGoldEarned());
+    }
+
     @Test
     public void testAddGoldMultipleTimes() {
         hero.addGold(25);
@@ -0,0 +1,128 @@
+package com.main.fx;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.main.entities.Unit;
+import com.main.entities.units.Melee;
+import com.main.map.Base;
+
+public class FxEventQueueTest {
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    @Test
+    public void testDrainKeepsOrder() {
+        FxEventQueue queue = new FxEventQueue(8);
+        queue.damaged(1f, 2f, 30, CombatEvents.ZOMBIE);
+        queue.died(3f, 4f, CombatEvents.SOLDIER);
+        queue.goldGained(5f, 6f, 10);
+        assertEquals(3, queue.size());
+
+        CombatEvents receiver = Mockito.mock(CombatEvents.class);
+        assertEquals(3, queue.drain(receiver));
+        InOrder order = Mockito.inOrder(receiver);
+        order.verify(receiver).damaged(1f, 2f, 30, CombatEvents.ZOMBIE);
+        order.verify(receiver).died(3f, 4f, CombatEvents.SOLDIER);
+        order.verify(receiver).goldGained(5f, 6f, 10);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testFullQueueDropsNewEvents() {
+        FxEventQueue queue = new FxEventQueue(4);
+        for (int i = 0; i < 6; i++) {
+            queue.goldGained(0f, 0f, i);
+        }
+        assertEquals(4, queue.size());
+        assertEquals(2, queue.getDropped());
+
+        CombatEvents receiver = Mockito.mock(CombatEvents.class);
+        queue.drain(receiver);
+        Mockito.verify(receiver).goldGained(0f, 0f, 3);
+        Mockito.verify(receiver, Mockito.never()).goldGained(0f, 0f, 4);
+
+        // Drained slots are reused
+        queue.goldGained(0f, 0f, 7);
+        assertEquals(1, queue.drain(receiver));
+    }
+
+    @Test
+    public void testEventsCrossThreads() throws InterruptedException {
+        FxEventQueue queue = new FxEventQueue(64);
+        int total = 20000;
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                queue.damaged(i, 0f, 1, CombatEvents.BASE);
+            }
+        });
+        int[] received = new int[1];
+        float[] last = { -1f };
+        boolean[] ordered = { true };
+        CombatEvents receiver = new CombatEvents() {
+            @Override
+            public void damaged(float x, float y, int amount, int target) {
+                ordered[0] &= x > last[0];
+                last[0] = x;
+                received[0]++;
+            }
+
+            @Override
+            public void died(float x, float y, int target) {
+            }
+
+            @Override
+            public void goldGained(float x, float y, int amount) {
+            }
+        };
+        writer.start();
+        while (writer.isAlive()) {
+            queue.drain(receiver);
+        }
+        writer.join();
+        queue.drain(receiver);
+        assertEquals(total, received[0] + queue.getDropped());
+        assertEquals(true, ordered[0]);
+    }
+
+    @Test
+    public void testUnitAndBaseReportThroughTheirBase() {
+        Base base = new Base(0, 0, true, 1280, 1L);
+        CombatEvents receiver = Mockito.mock(CombatEvents.class);
+        base.setCombatEvents(receiver);
+
+        Unit unit = new Melee(100f, 200f, base);
+        unit.takeDamage(10);
+        Mockito.verify(receiver).damaged(Mockito.anyFloat(), Mockito.anyFloat(), Mockito.eq(10),
+                Mockito.eq(CombatEvents.SOLDIER));
+        Mockito.verify(receiver, Mockito.never()).died(Mockito.anyFloat(), Mockito.anyFloat(), Mockito.anyInt());
+
+        int health = unit.getHealth();
+        unit.takeDamage(health + 500);
+        // Only the health actually lost is reported, and the death once
+        Mockito.verify(receiver).damaged(Mockito.anyFloat(), Mockito.anyFloat(), Mockito.eq(health),
+                Mockito.eq(CombatEvents.SOLDIER));
+        unit.takeDamage(5);
+        Mockito.verify(receiver).died(Mockito.anyFloat(), Mockito.anyFloat(), Mockito.eq(CombatEvents.SOLDIER));
+
+        base.takeDamage(50);
+        Mockito.verify(receiver).damaged(Mockito.anyFloat(), Mockito.anyFloat(), Mockito.eq(50),
+                Mockito.eq(CombatEvents.BASE));
+    }
+}
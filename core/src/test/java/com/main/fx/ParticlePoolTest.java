@@ -0,0 +1,78 @@
+package com.main.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+public class ParticlePoolTest {
+
+    private static final int WHITE = Color.toIntBits(255, 255, 255, 255);
+
+    @Test
+    public void testCapacityIsFixed() {
+        ParticlePool pool = new ParticlePool(3);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(pool.spawn(0f, 0f, 0f, 0f, 1f, 2f, WHITE));
+        }
+        assertFalse(pool.spawn(0f, 0f, 0f, 0f, 1f, 2f, WHITE));
+        assertEquals(3, pool.size());
+        assertEquals(1, pool.getRefused());
+    }
+
+    @Test
+    public void testEmissionCapResetsEachUpdate() {
+        ParticlePool pool = new ParticlePool(100);
+        pool.setMaxPerFrame(5);
+        int spawned = 0;
+        for (int i = 0; i < 20; i++) {
+            if (pool.spawn(0f, 0f, 0f, 0f, 10f, 2f, WHITE)) {
+                spawned++;
+            }
+        }
+        assertEquals(5, spawned);
+
+        pool.update(0.01f, 0f);
+        assertTrue(pool.spawn(0f, 0f, 0f, 0f, 10f, 2f, WHITE));
+        assertEquals(6, pool.size());
+    }
+
+    @Test
+    public void testExpiredParticlesAreCompacted() {
+        ParticlePool pool = new ParticlePool(10);
+        pool.spawn(0f, 0f, 10f, 0f, 0.5f, 2f, WHITE);
+        pool.spawn(0f, 0f, 10f, 0f, 2f, 2f, WHITE);
+        pool.spawn(0f, 0f, 10f, 0f, 0.5f, 2f, WHITE);
+        pool.spawn(0f, 0f, 10f, 0f, 2f, 2f, WHITE);
+
+        pool.update(1f, 0f);
+        assertEquals(2, pool.size());
+
+        Batch batch = Mockito.mock(Batch.class);
+        TextureRegion pixel = new TextureRegion(Mockito.mock(Texture.class));
+        pool.draw(batch, pixel);
+        // Both survivors moved 10 px right; drawn centred on their position
+        Mockito.verify(batch, Mockito.times(2)).draw(pixel, 9f, -1f, 2f, 2f);
+
+        pool.update(2f, 0f);
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testGravityPullsDown() {
+        ParticlePool pool = new ParticlePool(1);
+        pool.spawn(0f, 100f, 0f, 0f, 5f, 2f, WHITE);
+        pool.update(1f, 50f);
+
+        Batch batch = Mockito.mock(Batch.class);
+        TextureRegion pixel = new TextureRegion(Mockito.mock(Texture.class));
+        pool.draw(batch, pixel);
+        Mockito.verify(batch).draw(pixel, -1f, 49f, 2f, 2f);
+    }
+}
@@ -1,5 +1,8 @@
 package com.main.map;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -29,6 +32,12 @@ import com.main.entities.enemies.FZombie;
 import com.main.entities.enemies.WZombie;
 import com.main.entities.player.Hero;
 import com.main.utils.Position;
+import com.main.utils.TextureGroup;
+import com.main.utils.TextureLoader;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 public class BaseTest {
 
@@ -397,6 +406,54 @@ public class BaseTest {
         assertTrue("Should contain alive unit", playerBase.getUnits().contains(mockUnit2));
     }
 
+    @Test
+    public void testDeadUnitsReleaseTheirTextures() {
+        when(mockHero.getGold()).thenReturn(1000);
+        long before = TextureLoader.getResidentBytes(TextureGroup.UNITS);
+        Unit tank = playerBase.buyUnit(Base.Type.TANK, 0, mockHero);
+        playerBase.addUnit(tank);
+        long loaded = TextureLoader.getResidentBytes(TextureGroup.UNITS);
+        assertTrue(loaded >= before);
+
+        tank.takeDamage(tank.getHealth());
+        playerBase.updateUnits(1.3f, new ArrayList<>(), enemyBase, null);
+
+        assertFalse(playerBase.getUnits().contains(tank));
+        assertEquals("Dead unit should give its textures back", before,
+                TextureLoader.getResidentBytes(TextureGroup.UNITS));
+    }
+
+    @Test
+    public void testUnitUpdateEventReportsSelectionSeparately() throws IOException {
+        playerBase.addUnit(mockUnit1);
+        playerBase.addUnit(mockUnit2);
+        List<Unit> enemies = new ArrayList<>();
+        enemies.add(new TestUnit(300, 60));
+        enemies.add(new TestUnit(320, 60));
+
+        Path dump = File.createTempFile("units", ".jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable("zgame.UnitUpdate");
+            recording.start();
+            playerBase.updateUnits(0.1f, enemies, enemyBase, mockHero);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        boolean found = false;
+        for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+            if ("zgame.UnitUpdate".equals(event.getEventType().getName())) {
+                assertEquals(2, event.getInt("units"));
+                // Both enemies and the hero
+                assertEquals(3, event.getInt("maxCandidates"));
+                assertTrue(event.getDuration("selectionTime").compareTo(event.getDuration()) <= 0);
+                found = true;
+            }
+        }
+        dump.toFile().delete();
+        assertTrue("UnitUpdate event should be recorded", found);
+    }
+
     @Test
     public void testUpdateUnitsFiltersDeadEnemies() {
         playerBase.addUnit(mockUnit1);
@@ -641,4 +698,36 @@ public class BaseTest {
         assertNotNull("Should not be null", czombie);
         assertNotNull("Should not be null", fzombie);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testTotalSpawnedCountsPurchases() {
+        when(mockHero.getGold()).thenReturn(1000);
+        assertEquals(0, playerBase.getTotalSpawned());
+        playerBase.buyUnit(Base.Type.MELEE, 0, mockHero);
+        playerBase.buyUnit(Base.Type.TANK, 1, mockHero);
+        assertEquals(2, playerBase.getTotalSpawned());
+    }
+
+    @Test
+    public void testTotalSpawnedCountsZombies() {
+        enemyBase.spawnUnit(mockScreen, 6f);
+        enemyBase.spawnUnit(mockScreen, 0.1f);
+        assertEquals(1, enemyBase.getTotalSpawned());
+    }
+
+    @Test
+    public void testTotalDeathsCountsDeadLaneUnits() {
+        List<List<Unit>> lanes = new ArrayList<>();
+        List<Unit> lane = new ArrayList<>();
+        lane.add(mockUnit1);
+        lane.add(mockUnit2);
+        lanes.add(lane);
+        playerBase.setUnitsPerLane(lanes);
+        mockUnit1.takeDamage(100);
+
+        playerBase.updateUnits(0.1f, new ArrayList<>(), enemyBase, null);
+        playerBase.updateUnits(0.1f, new ArrayList<>(), enemyBase, null);
+
+        assertEquals("Dead unit should be counted once", 1, playerBase.getTotalDeaths());
+    }
+}
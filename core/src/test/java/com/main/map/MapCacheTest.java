@@ -0,0 +1,84 @@
+package com.main.map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+
+public class MapCacheTest {
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    private static TiledMapTileLayer layer() {
+        TiledMapTileLayer layer = new TiledMapTileLayer(4, 3, 16, 16);
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(new StaticTiledMapTile(new TextureRegion()));
+        layer.setCell(0, 0, cell);
+        layer.setCell(3, 2, new TiledMapTileLayer.Cell().setTile(cell.getTile()));
+        return layer;
+    }
+
+    @Test
+    public void testStaticLayerIsCacheable() {
+        TiledMapTileLayer layer = layer();
+        assertTrue(MapCache.isCacheable(layer));
+        assertEquals(2, MapCache.countSprites(layer));
+        assertFalse("Object layers are not baked", MapCache.isCacheable(new MapLayer()));
+    }
+
+    @Test
+    public void testAnimatedOrRotatedLayerFallsBack() {
+        TiledMapTileLayer animated = layer();
+        Array<StaticTiledMapTile> frames = new Array<>();
+        frames.add(new StaticTiledMapTile(new TextureRegion()));
+        frames.add(new StaticTiledMapTile(new TextureRegion()));
+        animated.setCell(1, 1, new TiledMapTileLayer.Cell().setTile(new AnimatedTiledMapTile(0.2f, frames)));
+        assertFalse(MapCache.isCacheable(animated));
+
+        TiledMapTileLayer rotated = layer();
+        rotated.getCell(0, 0).setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+        assertFalse(MapCache.isCacheable(rotated));
+
+        TiledMapTileLayer parallax = layer();
+        parallax.setParallaxX(0.5f);
+        assertFalse(MapCache.isCacheable(parallax));
+    }
+
+    @Test
+    public void testGameMapTileLayersAreAllCached() {
+        WarMap warMap = new WarMap();
+        TiledMap map = warMap.getMap();
+        int tileLayers = 0;
+        for (MapLayer layer : map.getLayers()) {
+            if (layer instanceof TiledMapTileLayer) {
+                tileLayers++;
+                assertTrue(layer.getName(), MapCache.isCacheable(layer));
+            }
+        }
+        assertTrue(tileLayers > 0);
+        warMap.dispose();
+    }
+}
@@ -0,0 +1,121 @@
+package com.main.net;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.main.map.Base;
+import com.main.map.WarMap;
+import com.main.sim.InputFrame;
+import com.main.sim.Match;
+
+public class LockstepTest {
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    @Test
+    public void testCommanderPurchaseMapping() {
+        InputFrame frame = new InputFrame();
+        frame.set(0f, 0, LockstepSession.toCommanderPurchase(InputFrame.encodePurchase(Base.Type.TANK, 1)));
+        assertEquals(Base.Type.FAST, frame.getPurchaseType());
+        assertEquals(1, frame.getPurchaseLane());
+        frame.set(0f, 0, LockstepSession.toCommanderPurchase(InputFrame.encodePurchase(Base.Type.MELEE, 2)));
+        assertEquals(Base.Type.WOMAN, frame.getPurchaseType());
+        assertEquals(InputFrame.NO_PURCHASE, LockstepSession.toCommanderPurchase(InputFrame.NO_PURCHASE));
+    }
+
+    @Test
+    public void testBothPeersStayInSync() throws Exception {
+        int ticks = 300;
+        LockstepRelay relay = new LockstepRelay(0, 424242L);
+        relay.start();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        LockstepClient heroClient;
+        LockstepClient commanderClient;
+        try {
+            Future<LockstepClient> first = pool.submit(() -> LockstepClient.connect("127.0.0.1", relay.getPort(), 2000));
+            // The relay gives the hero role to the first player to connect
+            Thread.sleep(200);
+            Future<LockstepClient> second = pool.submit(() -> LockstepClient.connect("127.0.0.1", relay.getPort(), 2000));
+            heroClient = first.get(5, TimeUnit.SECONDS);
+            commanderClient = second.get(5, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(LockstepProtocol.ROLE_HERO, heroClient.getRole());
+        assertEquals(LockstepProtocol.ROLE_COMMANDER, commanderClient.getRole());
+        assertEquals(heroClient.getSeed(), commanderClient.getSeed());
+
+        Match heroMatch = new Match(new WarMap(), heroClient.getSeed());
+        Match commanderMatch = new Match(new WarMap(), commanderClient.getSeed());
+        LockstepSession hero = new LockstepSession(heroMatch, heroClient);
+        LockstepSession commander = new LockstepSession(commanderMatch, commanderClient);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        int heroSent = 0;
+        int commanderSent = 0;
+        while (hero.getTick() < ticks || commander.getTick() < ticks) {
+            assertTrue("Lockstep should not stall forever", System.nanoTime() < deadline);
+            boolean progressed = false;
+            if (hero.getTick() < ticks) {
+                int buttons = InputFrame.MOVE_RIGHT | (heroSent % 40 < 20 ? InputFrame.ATTACK : 0);
+                byte purchase = heroSent == 30 ? InputFrame.encodePurchase(Base.Type.MELEE, 0) : InputFrame.NO_PURCHASE;
+                hero.update(0f, buttons, purchase);
+                progressed |= hero.step();
+                heroSent++;
+            }
+            if (commander.getTick() < ticks) {
+                byte purchase = InputFrame.NO_PURCHASE;
+                if (commanderSent == 20 || commanderSent == 60) {
+                    purchase = LockstepSession.toCommanderPurchase(InputFrame.encodePurchase(Base.Type.MELEE, 1));
+                }
+                commander.update(0f, 0, purchase);
+                progressed |= commander.step();
+                commanderSent++;
+            }
+            if (!progressed) {
+                // Waiting for the other peer's input to come back from the relay
+                Thread.sleep(1);
+            }
+        }
+
+        assertEquals(heroMatch.getTick(), commanderMatch.getTick());
+        assertEquals(heroMatch.stateHash(), commanderMatch.stateHash());
+        assertTrue("The commander should have deployed zombies", heroMatch.getEnemyBase().getTotalSpawned() > 0);
+        // One fixed-size input message per simulated tick
+        assertEquals(LockstepProtocol.INPUT_SIZE * (long) ticks, heroClient.getBytesSent());
+
+        hero.close();
+        commander.close();
+        relay.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void testConnectFailsWithoutRelay() throws IOException {
+        LockstepRelay relay = new LockstepRelay(0, 1L);
+        int port = relay.getPort();
+        relay.close();
+        LockstepClient.connect("127.0.0.1", port, 500);
+    }
+}
@@ -0,0 +1,164 @@
+package com.main.net;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class StateCodecTest {
+
+    private static byte[] encode(WorldState previous, WorldState current) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StateCodec.encode(previous, current, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static WorldState decode(WorldState previous, byte[] frame) throws IOException {
+        WorldState state = new WorldState();
+        StateCodec.decode(previous, new DataInputStream(new ByteArrayInputStream(frame)), state);
+        return state;
+    }
+
+    private static void assertSameState(WorldState expected, WorldState actual) {
+        assertEquals(expected.tick, actual.tick);
+        assertEquals(expected.heroX, actual.heroX);
+        assertEquals(expected.heroY, actual.heroY);
+        assertEquals(expected.heroHealth, actual.heroHealth);
+        assertEquals(expected.heroGold, actual.heroGold);
+        assertEquals(expected.heroPose, actual.heroPose);
+        assertEquals(expected.playerBaseHealth, actual.playerBaseHealth);
+        assertEquals(expected.enemyBaseHealth, actual.enemyBaseHealth);
+        assertEquals(expected.getUnitCount(), actual.getUnitCount());
+        for (int i = 0; i < expected.getUnitCount(); i++) {
+            assertEquals(expected.getId(i), actual.getId(i));
+            assertEquals(expected.getType(i), actual.getType(i));
+            assertEquals(expected.getLane(i), actual.getLane(i));
+            assertEquals(expected.getX(i), actual.getX(i));
+            assertEquals(expected.getY(i), actual.getY(i));
+            assertEquals(expected.getHealth(i), actual.getHealth(i));
+            assertEquals(expected.getState(i), actual.getState(i));
+        }
+    }
+
+    /**
+     * A field of {@code count} units, half of them walking at {@code tick}.
+     */
+    private static WorldState field(int tick, int count) {
+        WorldState state = new WorldState();
+        state.tick = tick;
+        state.heroX = StateCodec.quantize(700f + tick);
+        state.heroY = StateCodec.quantize(320f);
+        state.heroHealth = 500;
+        state.heroGold = 50 + tick / 10;
+        state.heroPose = 3 | WorldState.POSE_MOVING;
+        state.playerBaseHealth = 1000;
+        state.enemyBaseHealth = 1000 - tick / 30;
+        for (int id = count; id >= 1; id--) {
+            boolean walking = id % 2 == 0;
+            float x = 100f + id * 4 + (walking ? tick * 2f : 0f);
+            // One fighting unit in ten is losing health
+            int health = id % 10 == 1 ? 200 - tick % 200 : 200;
+            state.addUnit(id, id % 6, id % 3, StateCodec.quantize(x), StateCodec.quantize(100f + (id % 3) * 150),
+                    health, walking ? 1 : 2);
+        }
+        state.sortById();
+        return state;
+    }
+
+    @Test
+    public void testKeyframeRoundTrip() throws IOException {
+        WorldState state = field(42, 50);
+        assertSameState(state, decode(null, encode(null, state)));
+    }
+
+    @Test
+    public void testDeltaRoundTripWithSpawnsAndDeaths() throws IOException {
+        WorldState first = field(3, 40);
+        WorldState second = new WorldState();
+        second.set(field(6, 40));
+        second.clearUnits();
+        WorldState moved = field(6, 40);
+        for (int i = 0; i < moved.getUnitCount(); i++) {
+            // Units 5 and 17 died, 41 and 42 spawned
+            if (moved.getId(i) == 5 || moved.getId(i) == 17) {
+                continue;
+            }
+            second.addUnit(moved.getId(i), moved.getType(i), moved.getLane(i), moved.getX(i), moved.getY(i),
+                    moved.getHealth(i), moved.getState(i));
+        }
+        second.addUnit(41, 3, 0, 5600, 400, 200, 1);
+        second.addUnit(42, 4, 2, 5600, 1600, 150, 1);
+
+        WorldState decodedFirst = decode(null, encode(null, first));
+        WorldState decodedSecond = decode(decodedFirst, encode(first, second));
+        assertSameState(second, decodedSecond);
+        assertTrue(decodedSecond.indexOf(5) < 0);
+        assertTrue(decodedSecond.indexOf(42) >= 0);
+    }
+
+    @Test
+    public void testUnchangedStateIsTiny() throws IOException {
+        WorldState state = field(90, 300);
+        WorldState same = new WorldState();
+        same.set(state);
+        // flags, tick delta, no removed units, no changed units
+        assertEquals(4, encode(state, same).length);
+    }
+
+    @Test
+    public void testDeltaIsMuchSmallerThanKeyframe() throws IOException {
+        WorldState previous = field(30, 300);
+        WorldState current = field(33, 300);
+        int keyframe = encode(null, current).length;
+        int delta = encode(previous, current).length;
+        // Walking units cost an id gap, a mask and one position delta
+        assertTrue("delta " + delta + " vs keyframe " + keyframe, delta * 3 < keyframe);
+        assertTrue("delta " + delta, delta < 180 * 4 + 16);
+    }
+
+    @Test(expected = IOException.class)
+    public void testDeltaWithoutKeyframeIsRejected() throws IOException {
+        decode(null, encode(field(3, 5), field(6, 5)));
+    }
+
+    @Test
+    public void testInterpolation() {
+        WorldState from = new WorldState();
+        from.tick = 0;
+        from.addUnit(1, 0, 0, 0, 0, 200, 1);
+        from.addUnit(2, 0, 0, 40, 0, 200, 1);
+        WorldState to = new WorldState();
+        to.tick = 3;
+        to.heroX = 100;
+        to.addUnit(2, 0, 0, 80, 0, 150, 1);
+        to.addUnit(3, 3, 1, 400, 0, 200, 1);
+
+        WorldState out = new WorldState();
+        out.interpolate(from, to, 0.5f);
+        assertEquals(50, out.heroX);
+        assertEquals(2, out.getUnitCount());
+        assertEquals(60, out.getX(out.indexOf(2)));
+        assertEquals(150, out.getHealth(out.indexOf(2)));
+        // A unit that just appeared is shown where the server put it
+        assertEquals(400, out.getX(out.indexOf(3)));
+    }
+
+    @Test
+    public void testVarIntRoundTrip() throws IOException {
+        int[] values = { 0, 1, -1, 63, -64, 64, 1000, -100000, Integer.MAX_VALUE, Integer.MIN_VALUE };
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int value : values) {
+            StateCodec.writeSigned(out, value);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (int value : values) {
+            assertEquals(value, StateCodec.readSigned(in));
+        }
+    }
+}
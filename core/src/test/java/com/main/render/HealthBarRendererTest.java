@@ -0,0 +1,79 @@
+package com.main.render;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.main.entities.Unit;
+import com.main.entities.units.Melee;
+import com.main.entities.units.Tank;
+import com.main.map.Base;
+
+public class HealthBarRendererTest {
+
+    private static final int MAP_HEIGHT = 1280;
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    private static Unit place(Unit unit, Base base, float x) {
+        unit.setLane(1);
+        unit.setSpritePosX(x);
+        unit.setSpritePosY(base.getLaneY(1));
+        base.restoreUnit(unit, true);
+        return unit;
+    }
+
+    @Test
+    public void testUnitTypesSetMaxHealth() {
+        Base base = new Base(0, 0, true, MAP_HEIGHT, 1L);
+        Unit melee = new Melee(0f, 0f, base);
+        Unit tank = new Tank(0f, 0f, base);
+        assertEquals(melee.getHealth(), melee.getMaxHealth());
+        assertEquals(tank.getHealth(), tank.getMaxHealth());
+        melee.takeDamage(10);
+        assertEquals(melee.getHealth() + 10, melee.getMaxHealth());
+    }
+
+    @Test
+    public void testOnlyDamagedVisibleUnitsGetBars() {
+        Base base = new Base(0, 0, true, MAP_HEIGHT, 1L);
+        ViewCuller culler = new ViewCuller();
+        culler.setView(0f, base.getLaneY(1) - 140f, 600f, 450f);
+
+        place(new Melee(0f, 0f, base), base, 100f);
+        Unit hurt = place(new Melee(0f, 0f, base), base, 200f);
+        hurt.takeDamage(hurt.getMaxHealth() / 2);
+        Unit hurtOffScreen = place(new Melee(0f, 0f, base), base, 2000f);
+        hurtOffScreen.takeDamage(10);
+        Unit dead = place(new Melee(0f, 0f, base), base, 300f);
+        dead.takeDamage(dead.getMaxHealth());
+
+        Batch batch = Mockito.mock(Batch.class);
+        TextureRegion pixel = new TextureRegion(Mockito.mock(Texture.class));
+        HealthBarRenderer bars = new HealthBarRenderer();
+        assertEquals(1, bars.draw(batch, pixel, base, culler));
+
+        // Border, background and fill of one bar, on the same batch
+        Mockito.verify(batch, Mockito.times(3)).draw(Mockito.eq(pixel), Mockito.anyFloat(), Mockito.anyFloat(),
+                Mockito.anyFloat(), Mockito.anyFloat());
+        Mockito.verify(batch).draw(Mockito.eq(pixel), Mockito.anyFloat(), Mockito.anyFloat(),
+                Mockito.eq(HealthBarRenderer.WIDTH / 2f), Mockito.eq(HealthBarRenderer.HEIGHT));
+    }
+}
@@ -0,0 +1,89 @@
+package com.main.render;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+public class RenderQueueTest {
+
+    private static TextureRegion region(Texture texture) {
+        return new TextureRegion(texture);
+    }
+
+    @Test
+    public void testFartherSpritesAreDrawnFirst() {
+        RenderQueue queue = new RenderQueue();
+        TextureRegion front = region(Mockito.mock(Texture.class));
+        TextureRegion back = region(Mockito.mock(Texture.class));
+        queue.add(RenderQueue.LAYER_UNITS, front, 10f, 100f, 32f, 48f);
+        queue.add(RenderQueue.LAYER_UNITS, back, 12f, 300f, 32f, 48f);
+
+        Batch batch = Mockito.mock(Batch.class);
+        queue.flush(batch);
+        InOrder order = Mockito.inOrder(batch);
+        order.verify(batch).draw(back, 12f, 300f, 32f, 48f);
+        order.verify(batch).draw(front, 10f, 100f, 32f, 48f);
+        assertEquals(0, queue.size());
+        assertEquals(2, queue.getSubmitted());
+    }
+
+    @Test
+    public void testSameDepthIsGroupedByTexture() {
+        RenderQueue queue = new RenderQueue();
+        Texture zombies = Mockito.mock(Texture.class);
+        Texture soldiers = Mockito.mock(Texture.class);
+        TextureRegion[] regions = {
+            region(zombies), region(soldiers), region(zombies), region(soldiers), region(zombies)
+        };
+        // One lane: every unit shares the same Y
+        for (int i = 0; i < regions.length; i++) {
+            queue.add(RenderQueue.LAYER_UNITS, regions[i], i * 40f, 200f, 32f, 48f);
+        }
+
+        Batch batch = Mockito.mock(Batch.class);
+        queue.flush(batch);
+        assertEquals(2, queue.getTextureSwitches());
+        // Submission order is kept within a texture
+        InOrder order = Mockito.inOrder(batch);
+        order.verify(batch).draw(regions[0], 0f, 200f, 32f, 48f);
+        order.verify(batch).draw(regions[2], 80f, 200f, 32f, 48f);
+        order.verify(batch).draw(regions[4], 160f, 200f, 32f, 48f);
+        order.verify(batch).draw(regions[1], 40f, 200f, 32f, 48f);
+        order.verify(batch).draw(regions[3], 120f, 200f, 32f, 48f);
+    }
+
+    @Test
+    public void testLayerComesBeforeDepth() {
+        RenderQueue queue = new RenderQueue();
+        Texture texture = Mockito.mock(Texture.class);
+        TextureRegion above = region(texture);
+        TextureRegion unit = region(texture);
+        queue.add(RenderQueue.LAYER_UNITS + 1, above, 0f, 500f, 8f, 8f);
+        queue.add(RenderQueue.LAYER_UNITS, unit, 0f, 0f, 8f, 8f);
+
+        Batch batch = Mockito.mock(Batch.class);
+        queue.flush(batch);
+        InOrder order = Mockito.inOrder(batch);
+        order.verify(batch).draw(unit, 0f, 0f, 8f, 8f);
+        order.verify(batch).draw(above, 0f, 500f, 8f, 8f);
+        assertEquals(1, queue.getTextureSwitches());
+    }
+
+    @Test
+    public void testQueueGrows() {
+        RenderQueue queue = new RenderQueue();
+        TextureRegion sprite = region(Mockito.mock(Texture.class));
+        for (int i = 0; i < 1000; i++) {
+            queue.add(RenderQueue.LAYER_UNITS, sprite, i, i % 7, 1f, 1f);
+        }
+        assertEquals(1000, queue.size());
+        queue.flush(Mockito.mock(Batch.class));
+        assertEquals(1000, queue.getSubmitted());
+        assertEquals(1, queue.getTextureSwitches());
+    }
+}
@@ -0,0 +1,93 @@
+package com.main.render;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.Rectangle;
+import com.main.entities.Unit;
+import com.main.entities.units.Melee;
+import com.main.entities.units.Tank;
+import com.main.map.Base;
+
+public class ViewCullerTest {
+
+    private static final int MAP_HEIGHT = 1280;
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    private static Unit place(Unit unit, Base base, int lane, float x) {
+        unit.setLane(lane);
+        unit.setSpritePosX(x);
+        unit.setSpritePosY(base.getLaneY(lane));
+        base.restoreUnit(unit, true);
+        return unit;
+    }
+
+    @Test
+    public void testTankBoundsIncludeWideSprite() {
+        Base base = new Base(0, 0, true, MAP_HEIGHT, 1L);
+        Tank tank = new Tank(600f, 400f, base);
+        Rectangle bounds = tank.getVisualBounds(new Rectangle());
+        assertEquals(85f, bounds.width, 0.001f);
+        assertTrue(bounds.x < tank.getPosX());
+        assertEquals(tank.getPosX() + tank.getWidth() / 2f, bounds.x + bounds.width / 2f, 0.001f);
+    }
+
+    @Test
+    public void testCullsOutsideView() {
+        Base base = new Base(0, 0, true, MAP_HEIGHT, 1L);
+        // The view only covers the middle lane
+        ViewCuller culler = new ViewCuller();
+        culler.setView(0f, base.getLaneY(1) - 140f, 600f, 450f);
+        assertFalse(culler.isVisible(0f, base.getLaneY(0), 10f));
+        assertFalse(culler.isVisible(0f, base.getLaneY(2), 10f));
+
+        Unit inside = place(new Melee(0f, 0f, base), base, 1, 100f);
+        Unit farRight = place(new Melee(0f, 0f, base), base, 1, 2000f);
+        Unit otherLane = place(new Melee(0f, 0f, base), base, 2, 100f);
+        // Its hitbox is right of the view but its sprite reaches into it
+        Unit edgeTank = place(new Tank(0f, 0f, base), base, 1, 610f);
+
+        assertTrue(culler.isVisible(inside));
+        assertFalse(culler.isVisible(farRight));
+        assertTrue(culler.isVisible(edgeTank));
+
+        RenderQueue queue = new RenderQueue();
+        culler.submit(base, queue);
+        assertEquals(2, queue.size());
+        assertEquals(2, culler.getSubmitted());
+        assertEquals(2, culler.getCulled());
+        assertFalse(culler.isVisible(otherLane));
+
+        // Setting the view starts a new count
+        culler.setView(0f, 0f, 10f, 10f);
+        assertEquals(0, culler.getSubmitted());
+        assertEquals(0, culler.getCulled());
+    }
+
+    @Test
+    public void testRangeCircleVisibility() {
+        ViewCuller culler = new ViewCuller();
+        culler.setView(100f, 100f, 600f, 450f);
+        assertTrue(culler.isVisible(50f, 300f, 60f));
+        assertFalse(culler.isVisible(50f, 300f, 40f));
+        assertTrue(culler.isVisible(400f, 300f, 1f));
+    }
+}
@@ -0,0 +1,122 @@
+package com.main.save;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.main.map.Base;
+import com.main.map.WarMap;
+import com.main.sim.InputFrame;
+import com.main.sim.Match;
+
+public class MatchSnapshotTest {
+
+    private static HeadlessApplication application;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    /**
+     * Scripted input: walk right and shoot, buy a unit on each lane early on.
+     */
+    private static void script(long tick, InputFrame frame) {
+        int buttons = InputFrame.MOVE_RIGHT | InputFrame.ATTACK;
+        byte purchase = InputFrame.NO_PURCHASE;
+        if (tick == 10 || tick == 20 || tick == 30) {
+            purchase = InputFrame.encodePurchase(Base.Type.MELEE, (int) (tick / 10 - 1));
+        }
+        frame.set(1f / 60f, buttons, purchase);
+    }
+
+    private static void run(Match match, int ticks) {
+        InputFrame frame = new InputFrame();
+        for (int i = 0; i < ticks; i++) {
+            script(match.getTick(), frame);
+            match.tick(frame);
+        }
+    }
+
+    private static Match decode(byte[] state) throws IOException {
+        return MatchSnapshot.read(new DataInputStream(new ByteArrayInputStream(state)), new WarMap());
+    }
+
+    @Test
+    public void testRestoredMatchContinuesIdentically() throws IOException {
+        Match original = new Match(new WarMap(), 42L);
+        run(original, 700);
+        assertTrue("Zombies should have spawned", original.getEnemyBase().getTotalSpawned() > 0);
+
+        Match restored = decode(MatchSnapshot.encode(original));
+        assertEquals(original.getTick(), restored.getTick());
+        assertEquals(original.stateHash(), restored.stateHash());
+        assertEquals(original.getHero().getGold(), restored.getHero().getGold());
+        assertEquals(original.getEnemyBase().getTotalSpawned(), restored.getEnemyBase().getTotalSpawned());
+
+        // Timers, targets and the spawn generator must also match for the
+        // two matches to keep evolving the same way
+        run(original, 700);
+        run(restored, 700);
+        assertEquals(original.stateHash(), restored.stateHash());
+        assertEquals(original.getEnemyBase().getTotalSpawned(), restored.getEnemyBase().getTotalSpawned());
+    }
+
+    @Test
+    public void testAutoSaverRoundTrip() throws IOException {
+        Match original = new Match(new WarMap(), 7L);
+        run(original, 400);
+        File file = new File(folder.getRoot(), "saves/test.zgs");
+
+        AutoSaver saver = new AutoSaver(new File(folder.getRoot(), "auto.zgs"), 60f);
+        assertTrue(saver.save(original, file));
+        assertTrue(saver.awaitIdle(5000));
+        saver.dispose();
+
+        assertTrue(file.isFile());
+        assertTrue("Compressed save should be smaller", file.length() < saver.getLastSize());
+        Match loaded = AutoSaver.load(file, new WarMap());
+        assertEquals(original.stateHash(), loaded.stateHash());
+    }
+
+    @Test
+    public void testAutosaveInterval() throws IOException {
+        Match match = new Match(new WarMap(), 1L);
+        File auto = new File(folder.getRoot(), "auto.zgs");
+        AutoSaver saver = new AutoSaver(auto, 1f);
+        saver.update(0.5f, match);
+        assertTrue(saver.awaitIdle(5000));
+        assertTrue("No save before the interval", !auto.exists());
+        saver.update(0.5f, match);
+        assertTrue(saver.awaitIdle(5000));
+        saver.dispose();
+        assertTrue(auto.isFile());
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsOtherVersions() throws IOException {
+        byte[] state = MatchSnapshot.encode(new Match(new WarMap(), 3L));
+        state[5] = (byte) (MatchSnapshot.VERSION + 1);
+        decode(state);
+    }
+}
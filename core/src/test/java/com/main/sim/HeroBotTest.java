@@ -0,0 +1,95 @@
+package com.main.sim;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.main.entities.enemies.WZombie;
+import com.main.entities.player.Hero;
+import com.main.map.WarMap;
+import com.main.weapons.AssaultRifle;
+
+public class HeroBotTest {
+
+    private static final float TICK = 1f / 30f;
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    /**
+     * Puts a zombie at the given offset from the hero.
+     */
+    private static void addZombie(Match match, float dx) {
+        Hero hero = match.getHero();
+        WZombie zombie = new WZombie((int) (hero.getPosX() + dx), (int) hero.getPosY(), match.getEnemyBase());
+        match.getEnemyBase().addUnit(zombie);
+    }
+
+    @Test
+    public void testShootsAndBacksAwayFromCloseZombie() {
+        Match match = new Match(new WarMap(), 1L);
+        addZombie(match, 10f);
+        InputFrame frame = new InputFrame();
+        new HeroBot(match, BotPolicy.ARMY).next(frame, TICK);
+        assertTrue(frame.isDown(InputFrame.ATTACK));
+        assertTrue(frame.isDown(InputFrame.MOVE_LEFT));
+        assertFalse(frame.isDown(InputFrame.MOVE_RIGHT));
+    }
+
+    @Test
+    public void testClosesInOnZombieOutOfRange() {
+        Match match = new Match(new WarMap(), 1L);
+        addZombie(match, match.getHero().getWeapon().getRange() * 2f);
+        InputFrame frame = new InputFrame();
+        new HeroBot(match, BotPolicy.ARMY).next(frame, TICK);
+        assertFalse(frame.isDown(InputFrame.ATTACK));
+        assertTrue(frame.isDown(InputFrame.MOVE_RIGHT));
+    }
+
+    @Test
+    public void testPlaysMatchByPolicy() {
+        Match match = new Match(new WarMap(), 2024L);
+        HeroBot bot = new HeroBot(match, BotPolicy.GUNNER);
+        InputFrame frame = new InputFrame();
+        // Two simulated minutes
+        for (int i = 0; i < 3600 && !match.isOver(); i++) {
+            bot.next(frame, TICK);
+            match.tick(frame);
+        }
+        assertTrue("Both upgrades should be bought", match.getHero().getWeapon() instanceof AssaultRifle);
+        assertTrue(bot.getPurchases() > 0);
+        assertEquals(bot.getPurchases(), match.getPlayerBase().getTotalSpawned());
+        assertTrue(match.getEnemyBase().getTotalDeaths() > 0);
+    }
+
+    @Test
+    public void testBotMatchesAreDeterministic() {
+        long[] hashes = new long[2];
+        for (int run = 0; run < 2; run++) {
+            Match match = new Match(new WarMap(), 77L);
+            HeroBot bot = new HeroBot(match);
+            InputFrame frame = new InputFrame();
+            for (int i = 0; i < 900; i++) {
+                bot.next(frame, TICK);
+                match.tick(frame);
+            }
+            hashes[run] = match.stateHash();
+        }
+        assertEquals(hashes[0], hashes[1]);
+    }
+}
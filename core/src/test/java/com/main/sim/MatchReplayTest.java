@@ -0,0 +1,130 @@
+package com.main.sim;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.main.map.Base;
+import com.main.map.WarMap;
+
+public class MatchReplayTest {
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    /**
+     * Scripted input: walk right while shooting, reload now and then, buy a
+     * unit on each lane early on.
+     */
+    private static void script(int tick, InputFrame frame) {
+        float delta = tick % 7 == 0 ? 0.02f : 1f / 60f;
+        int buttons = InputFrame.MOVE_RIGHT | InputFrame.ATTACK;
+        if (tick % 90 == 0) {
+            buttons |= InputFrame.RELOAD;
+        }
+        if (tick % 50 < 10) {
+            buttons |= InputFrame.MOVE_UP;
+        }
+        byte purchase = InputFrame.NO_PURCHASE;
+        if (tick == 10 || tick == 20 || tick == 30) {
+            purchase = InputFrame.encodePurchase(Base.Type.MELEE, tick / 10 - 1);
+        }
+        frame.set(delta, buttons, purchase);
+    }
+
+    @Test
+    public void testPurchaseEncoding() {
+        InputFrame frame = new InputFrame();
+        frame.set(0.1f, 0, InputFrame.encodePurchase(Base.Type.SNIPER, 2));
+        assertTrue(frame.hasPurchase());
+        assertEquals(Base.Type.SNIPER, frame.getPurchaseType());
+        assertEquals(2, frame.getPurchaseLane());
+        frame.clear(0.1f);
+        assertFalse(frame.hasPurchase());
+    }
+
+    @Test
+    public void testRecorderRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(bytes, 1234L);
+        InputFrame frame = new InputFrame();
+        for (int i = 0; i < 100; i++) {
+            script(i, frame);
+            recorder.write(frame);
+        }
+        recorder.close();
+
+        ReplayReader reader = new ReplayReader(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(1234L, reader.getSeed());
+        InputFrame expected = new InputFrame();
+        for (int i = 0; i < 100; i++) {
+            script(i, expected);
+            assertTrue(reader.next(frame, 0f));
+            assertEquals(expected.getDelta(), frame.getDelta(), 0f);
+            assertEquals(expected.getButtons(), frame.getButtons());
+            assertEquals(expected.getPurchase(), frame.getPurchase());
+        }
+        assertFalse(reader.next(frame, 0f));
+        assertTrue(reader.isFinished());
+        reader.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void testReaderRejectsOtherFiles() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(bytes);
+        gzip.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13 });
+        gzip.close();
+        new ReplayReader(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    @Test
+    public void testReplayReproducesMatch() throws IOException {
+        long seed = 987654321L;
+        int ticks = 900;
+
+        Match recorded = new Match(new WarMap(), seed);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(bytes, recorded.getSeed());
+        InputFrame frame = new InputFrame();
+        for (int i = 0; i < ticks; i++) {
+            script(i, frame);
+            recorder.write(frame);
+            recorded.tick(frame);
+        }
+        recorder.close();
+        assertTrue("Zombies should have spawned", recorded.getEnemyBase().getTotalSpawned() > 0);
+
+        ReplayReader reader = new ReplayReader(new ByteArrayInputStream(bytes.toByteArray()));
+        Match replayed = new Match(new WarMap(), reader.getSeed());
+        while (reader.next(frame, 0f)) {
+            replayed.tick(frame);
+        }
+        reader.close();
+
+        assertEquals(ticks, replayed.getTick());
+        assertEquals(recorded.stateHash(), replayed.stateHash());
+        assertEquals(recorded.getEnemyBase().getTotalSpawned(), replayed.getEnemyBase().getTotalSpawned());
+        assertEquals(recorded.getHero().getGold(), replayed.getHero().getGold());
+    }
+}
@@ -0,0 +1,127 @@
+package com.main.sim;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.main.map.Base;
+import com.main.map.WarMap;
+import com.utils.AudioSettings;
+
+public class MatchSchedulerTest {
+
+    private static final float TICK = 1f / 30f;
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    /**
+     * Input that differs per match: walk one way, shoot, and buy a unit every
+     * few seconds on a lane picked by the match number.
+     */
+    private static InputSource script(final int number) {
+        return new InputSource() {
+            private int tick;
+
+            @Override
+            public boolean next(InputFrame frame, float delta) {
+                int buttons = (number % 2 == 0 ? InputFrame.MOVE_RIGHT : InputFrame.MOVE_LEFT) | InputFrame.ATTACK;
+                byte purchase = InputFrame.NO_PURCHASE;
+                if (tick % 90 == 0) {
+                    purchase = InputFrame.encodePurchase(Base.Type.values()[number % 3], (number + tick / 90) % 3);
+                }
+                frame.set(delta, buttons, purchase);
+                tick++;
+                return true;
+            }
+        };
+    }
+
+    @Test
+    public void testParallelMatchesMatchSequentialRuns() throws InterruptedException {
+        int count = 24;
+        int ticks = 300;
+        // One map for every scheduled match
+        MatchContext shared = new MatchContext(new WarMap());
+        MatchScheduler scheduler = new MatchScheduler(4, TICK);
+        for (int i = 0; i < count; i++) {
+            scheduler.add(new Match(shared, 1000L + i), script(i));
+        }
+        for (int i = 0; i < ticks; i++) {
+            scheduler.tickAll();
+        }
+        scheduler.close();
+
+        MatchContext own = new MatchContext(new WarMap());
+        InputFrame frame = new InputFrame();
+        List<MatchScheduler.ScheduledMatch> matches = scheduler.getMatches();
+        for (int i = 0; i < count; i++) {
+            Match expected = new Match(own, 1000L + i);
+            InputSource input = script(i);
+            for (int t = 0; t < ticks; t++) {
+                input.next(frame, TICK);
+                expected.tick(frame);
+            }
+            MatchScheduler.ScheduledMatch scheduled = matches.get(i);
+            assertEquals(ticks, scheduled.getTicks());
+            assertEquals("Match " + i + " diverged", expected.stateHash(), scheduled.getMatch().stateHash());
+            assertTrue(scheduled.getAverageTickNanos() > 0);
+            assertTrue(scheduled.getMaxTickNanos() >= scheduled.getAverageTickNanos());
+        }
+        assertEquals(ticks, scheduler.getRounds());
+        assertTrue(scheduler.estimateCapacity() > 0);
+        assertTrue(scheduler.report().contains("24 matches on 4 threads"));
+    }
+
+    @Test
+    public void testExhaustedInputFinishesMatch() throws InterruptedException {
+        MatchContext context = new MatchContext(new WarMap());
+        MatchScheduler scheduler = new MatchScheduler(2, TICK);
+        MatchScheduler.ScheduledMatch idle = scheduler.add(new Match(context, 1L), null);
+        MatchScheduler.ScheduledMatch limited = scheduler.add(new Match(context, 2L), new InputSource() {
+            private int left = 5;
+
+            @Override
+            public boolean next(InputFrame frame, float delta) {
+                frame.clear(delta);
+                return left-- > 0;
+            }
+        });
+        assertEquals(20, scheduler.runToEnd(20));
+        scheduler.close();
+
+        assertEquals(20, idle.getTicks());
+        assertFalse(idle.isFinished());
+        assertEquals(5, limited.getTicks());
+        assertTrue(limited.isFinished());
+        assertEquals(1, scheduler.getRunningCount());
+    }
+
+    @Test
+    public void testContextAudioIsPerMatch() {
+        WarMap map = new WarMap();
+        AudioSettings muted = new AudioSettings(0.5f, false);
+        assertFalse(new MatchContext(map).isSoundEnabled());
+        assertFalse(new MatchContext(map, muted).isSoundEnabled());
+        assertTrue(new MatchContext(map, new AudioSettings()).isSoundEnabled());
+        muted.toggleSound();
+        assertTrue(new Match(new MatchContext(map, muted), 3L).getContext().isSoundEnabled());
+    }
+}
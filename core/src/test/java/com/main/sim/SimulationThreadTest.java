@@ -0,0 +1,176 @@
+package com.main.sim;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.main.entities.Unit;
+import com.main.map.Base;
+import com.main.map.WarMap;
+import com.main.net.StateCodec;
+import com.main.net.WorldState;
+
+public class SimulationThreadTest {
+
+    /**
+     * Fast ticks so the tests do not wait long.
+     */
+    private static final float TICK = 1f / 500f;
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    private static void awaitTicks(SimulationThread thread, long ticks) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getTicks() < ticks) {
+            assertTrue("Simulation should keep ticking", System.nanoTime() < deadline);
+            assertFalse(thread.isFailed());
+            Thread.sleep(2);
+        }
+    }
+
+    @Test
+    public void testPublishesStatesWhileRenderingReads() throws InterruptedException {
+        Match match = new Match(new WarMap(), 11L);
+        float startX = match.getHero().getPosX();
+        SimulationThread thread = new SimulationThread(match, TICK, null, null);
+        assertNull(thread.latest());
+        thread.start();
+        thread.submit(InputFrame.MOVE_RIGHT, InputFrame.NO_PURCHASE);
+
+        // Read as fast as a renderer could: states only ever move forward
+        int lastTick = -1;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (lastTick < 300) {
+            assertTrue(System.nanoTime() < deadline);
+            WorldState state = thread.latest();
+            if (state != null) {
+                assertTrue(state.tick >= lastTick);
+                lastTick = state.tick;
+            }
+        }
+        thread.submit(0, InputFrame.NO_PURCHASE);
+        thread.close();
+
+        WorldState state = thread.latest();
+        assertNotNull(state);
+        assertEquals(match.getTick(), state.tick);
+        assertTrue(StateCodec.dequantize(state.heroX) > startX);
+        assertEquals(StateCodec.quantize(match.getHero().getPosX()), state.heroX);
+    }
+
+    @Test
+    public void testPressedButtonsAndPurchasesAreNotLost() throws InterruptedException {
+        Match match = new Match(new WarMap(), 12L);
+        match.getHero().setGold(1000);
+        AtomicLong reloads = new AtomicLong();
+        AtomicLong purchases = new AtomicLong();
+        SimulationThread thread = new SimulationThread(match, TICK, null, (simulated, input) -> {
+            if (input.isDown(InputFrame.RELOAD)) {
+                reloads.incrementAndGet();
+            }
+            if (input.hasPurchase()) {
+                purchases.incrementAndGet();
+            }
+        });
+        thread.setPaused(true);
+        thread.start();
+        // Pressed while paused, used by the first tick only
+        thread.submit(InputFrame.RELOAD, InputFrame.encodePurchase(Base.Type.MELEE, 1));
+        Thread.sleep(20);
+        assertEquals(0, thread.getTicks());
+        thread.setPaused(false);
+        awaitTicks(thread, 50);
+        thread.close();
+
+        assertEquals(1, reloads.get());
+        assertEquals(1, purchases.get());
+        assertEquals(1, match.getPlayerBase().getTotalSpawned());
+    }
+
+    @Test
+    public void testScriptedInputMatchesSequentialRun() throws InterruptedException {
+        final int ticks = 400;
+        Match expected = new Match(new WarMap(), 13L);
+        InputFrame frame = new InputFrame();
+        HeroBot sequentialBot = new HeroBot(expected, BotPolicy.ARMY);
+        for (int i = 0; i < ticks; i++) {
+            sequentialBot.next(frame, TICK);
+            expected.tick(frame);
+        }
+
+        Match threaded = new Match(new WarMap(), 13L);
+        AtomicReference<Long> hash = new AtomicReference<>();
+        SimulationThread thread = new SimulationThread(threaded, TICK, new HeroBot(threaded, BotPolicy.ARMY),
+                (simulated, input) -> {
+                    if (simulated.getTick() == ticks) {
+                        hash.set(simulated.stateHash());
+                    }
+                });
+        thread.start();
+        awaitTicks(thread, ticks);
+        thread.close();
+        assertEquals(Long.valueOf(expected.stateHash()), hash.get());
+    }
+
+    @Test
+    public void testHeadlessMatchCreatesNoTextures() throws InterruptedException {
+        Match match = new Match(new MatchContext(new WarMap(), null, true), 15L);
+        match.getHero().setGold(1000);
+        assertNull(match.getHero().getTexture());
+        SimulationThread thread = new SimulationThread(match, TICK, null, null);
+        thread.start();
+        thread.submit(InputFrame.RELOAD, InputFrame.encodePurchase(Base.Type.TANK, 0));
+        awaitTicks(thread, 100);
+        thread.close();
+
+        assertEquals(1, match.getPlayerBase().getTotalSpawned());
+        for (Unit unit : match.getPlayerBase().getUnits()) {
+            assertNull(unit.getTexture());
+        }
+        for (Unit unit : match.getEnemyBase().getUnits()) {
+            assertNull(unit.getTexture());
+        }
+        // Published for the render thread, which plays the sound
+        assertTrue(thread.latest().heroReloads >= 1);
+    }
+
+    @Test
+    public void testPostedTaskRunsOnSimulationThread() throws InterruptedException {
+        Match match = new Match(new WarMap(), 14L);
+        SimulationThread thread = new SimulationThread(match, TICK, null, null);
+        thread.setPaused(true);
+        thread.start();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> name = new AtomicReference<>();
+        thread.post(simulated -> {
+            name.set(Thread.currentThread().getName());
+            done.countDown();
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        thread.close();
+        assertEquals("simulation", name.get());
+    }
+}
@@ -0,0 +1,102 @@
+package com.main.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class FramePacerTest {
+
+    private FramePacer pacer;
+
+    @Before
+    public void setUp() {
+        pacer = new FramePacer();
+        pacer.setForegroundFps(60);
+    }
+
+    private void frames(int count, float seconds) {
+        for (int i = 0; i < count; i++) {
+            pacer.frame(seconds);
+        }
+    }
+
+    @Test
+    public void testTargetFollowsWindowState() {
+        assertEquals(60, pacer.getTargetFps());
+        assertTrue(pacer.shouldSimulate());
+
+        pacer.setFocused(false);
+        assertEquals(FramePacer.BACKGROUND_FPS, pacer.getTargetFps());
+        assertFalse(pacer.shouldSimulate());
+
+        pacer.setIconified(true);
+        assertEquals(FramePacer.IDLE_FPS, pacer.getTargetFps());
+
+        pacer.setIconified(false);
+        pacer.setFocused(true);
+        assertEquals(60, pacer.getTargetFps());
+        assertTrue(pacer.shouldSimulate());
+    }
+
+    @Test
+    public void testPowerSaveCapsForeground() {
+        pacer.setPowerSaveFps(30);
+        assertEquals(30, pacer.getTargetFps());
+        assertEquals(1f / 30f, pacer.getFrameBudget(), 0.0001f);
+
+        // A cap above the refresh rate changes nothing
+        pacer.setPowerSaveFps(144);
+        assertEquals(60, pacer.getTargetFps());
+
+        pacer.setForegroundFps(0);
+        assertEquals(144, pacer.getTargetFps());
+    }
+
+    @Test
+    public void testSlowFramesShedOneLevelAtATime() {
+        frames(FramePacer.SHED_AFTER * 3, 0.005f);
+        assertEquals(FramePacer.SHED_NONE, pacer.getShedLevel());
+
+        // A single slow frame is absorbed by the average
+        pacer.frame(0.05f);
+        assertEquals(FramePacer.SHED_NONE, pacer.getShedLevel());
+
+        frames(FramePacer.SHED_AFTER * 2, 0.03f);
+        assertTrue(pacer.isShedding(FramePacer.SHED_DEBUG));
+        assertFalse(pacer.isShedding(FramePacer.SHED_ALL_EFFECTS));
+
+        frames(FramePacer.SHED_AFTER * 10, 0.03f);
+        assertEquals(FramePacer.SHED_ALL_EFFECTS, pacer.getShedLevel());
+    }
+
+    @Test
+    public void testFastFramesRestoreLevels() {
+        frames(FramePacer.SHED_AFTER * 10, 0.03f);
+        assertEquals(FramePacer.SHED_ALL_EFFECTS, pacer.getShedLevel());
+
+        frames(FramePacer.RESTORE_AFTER + 40, 0.002f);
+        assertEquals(FramePacer.SHED_EFFECTS, pacer.getShedLevel());
+
+        frames(FramePacer.RESTORE_AFTER * 3, 0.002f);
+        assertEquals(FramePacer.SHED_NONE, pacer.getShedLevel());
+    }
+
+    @Test
+    public void testBackgroundFramesDoNotShed() {
+        pacer.setFocused(false);
+        frames(FramePacer.SHED_AFTER * 10, 0.5f);
+        assertEquals(FramePacer.SHED_NONE, pacer.getShedLevel());
+    }
+
+    @Test
+    public void testDisablingAdaptiveRestoresEverything() {
+        frames(FramePacer.SHED_AFTER * 10, 0.03f);
+        pacer.setAdaptive(false);
+        assertEquals(FramePacer.SHED_NONE, pacer.getShedLevel());
+        frames(FramePacer.SHED_AFTER * 10, 0.03f);
+        assertEquals(FramePacer.SHED_NONE, pacer.getShedLevel());
+    }
+}
@@ -0,0 +1,134 @@
+package com.main.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class FrameProfilerTest {
+
+    private long now;
+    private FrameProfiler profiler;
+
+    @Before
+    public void setUp() {
+        now = 0L;
+        profiler = new FrameProfiler(() -> now);
+    }
+
+    private void advanceMillis(long ms) {
+        now += ms * 1_000_000L;
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertFalse(profiler.isEnabled());
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        profiler.beginFrame();
+        profiler.begin(FrameProfiler.Section.MAP);
+        advanceMillis(5);
+        profiler.end(FrameProfiler.Section.MAP);
+        profiler.endFrame();
+
+        assertEquals(0, profiler.getHistoryCount());
+        assertEquals(0f, profiler.getAverageMillis(FrameProfiler.Section.MAP), 0.0001f);
+    }
+
+    @Test
+    public void testFirstFrameSeedsAverages() {
+        profiler.setEnabled(true);
+        profiler.beginFrame();
+        profiler.begin(FrameProfiler.Section.MAP);
+        advanceMillis(4);
+        profiler.end(FrameProfiler.Section.MAP);
+        advanceMillis(2);
+        profiler.endFrame();
+
+        assertTrue(profiler.isEnabled());
+        assertEquals(4f, profiler.getAverageMillis(FrameProfiler.Section.MAP), 0.0001f);
+        assertEquals(6f, profiler.getAverageFrameMillis(), 0.0001f);
+        assertEquals(1, profiler.getHistoryCount());
+        assertEquals(6f, profiler.getFrameMillis(0), 0.0001f);
+    }
+
+    @Test
+    public void testEnablingMidFrameStartsTimingNow() {
+        advanceMillis(10_000);
+        profiler.beginFrame();
+        profiler.begin(FrameProfiler.Section.MAP);
+        advanceMillis(5);
+        // Toggled from inside the frame, as the F3 key does
+        profiler.setEnabled(true);
+        advanceMillis(2);
+        profiler.end(FrameProfiler.Section.MAP);
+        advanceMillis(1);
+        profiler.endFrame();
+
+        assertEquals(1, profiler.getHistoryCount());
+        assertEquals(3f, profiler.getFrameMillis(0), 0.0001f);
+        assertEquals(2f, profiler.getAverageMillis(FrameProfiler.Section.MAP), 0.0001f);
+    }
+
+    @Test
+    public void testSectionAccumulatesWithinFrame() {
+        profiler.setEnabled(true);
+        profiler.beginFrame();
+        profiler.begin(FrameProfiler.Section.UNITS);
+        advanceMillis(1);
+        profiler.end(FrameProfiler.Section.UNITS);
+        profiler.begin(FrameProfiler.Section.UNITS);
+        advanceMillis(2);
+        profiler.end(FrameProfiler.Section.UNITS);
+        profiler.endFrame();
+
+        assertEquals(3f, profiler.getAverageMillis(FrameProfiler.Section.UNITS), 0.0001f);
+    }
+
+    @Test
+    public void testAverageMovesTowardsNewSamples() {
+        profiler.setEnabled(true);
+        profiler.beginFrame();
+        advanceMillis(10);
+        profiler.endFrame();
+        profiler.beginFrame();
+        advanceMillis(20);
+        profiler.endFrame();
+
+        float average = profiler.getAverageFrameMillis();
+        assertTrue(average > 10f);
+        assertTrue(average < 20f);
+    }
+
+    @Test
+    public void testHistoryWrapsOldestFirst() {
+        profiler.setEnabled(true);
+        for (int i = 0; i < FrameProfiler.HISTORY_SIZE + 5; i++) {
+            profiler.beginFrame();
+            advanceMillis(i);
+            profiler.endFrame();
+        }
+
+        assertEquals(FrameProfiler.HISTORY_SIZE, profiler.getHistoryCount());
+        assertEquals(5f, profiler.getFrameMillis(0), 0.0001f);
+        assertEquals(FrameProfiler.HISTORY_SIZE + 4f,
+                profiler.getFrameMillis(FrameProfiler.HISTORY_SIZE - 1), 0.0001f);
+    }
+
+    @Test
+    public void testReenableClearsHistory() {
+        profiler.setEnabled(true);
+        profiler.beginFrame();
+        advanceMillis(3);
+        profiler.endFrame();
+        profiler.setEnabled(false);
+        profiler.setEnabled(true);
+
+        assertEquals(0, profiler.getHistoryCount());
+        assertEquals(0f, profiler.getAverageFrameMillis(), 0.0001f);
+    }
+}
@@ -0,0 +1,95 @@
+package com.main.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GameLogTest {
+
+    private ByteArrayOutputStream out;
+    private ByteArrayOutputStream err;
+
+    @Before
+    public void setUp() {
+        GameLog.flush(1000);
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+        GameLog.setOutput(new PrintStream(out, true), new PrintStream(err, true));
+        GameLog.setLevel(GameLog.Level.INFO);
+    }
+
+    @After
+    public void tearDown() {
+        GameLog.flush(1000);
+        GameLog.setOutput(System.out, System.err);
+        GameLog.setLevel(GameLog.Level.INFO);
+    }
+
+    @Test
+    public void testFormatsPlaceholders() {
+        GameLog.info("Hero", "Changed weapon to {}: {} damage", "Pistol", 10);
+        assertTrue(GameLog.flush(1000));
+
+        String text = out.toString();
+        assertTrue(text, text.contains("INFO  Hero: Changed weapon to Pistol: 10 damage"));
+    }
+
+    @Test
+    public void testExtraPlaceholdersKeptLiterally() {
+        GameLog.info("Test", "{} and {}", "one");
+        GameLog.flush(1000);
+        assertTrue(out.toString().contains("Test: one and {}"));
+    }
+
+    @Test
+    public void testLevelFiltering() {
+        GameLog.debug("Test", "hidden");
+        GameLog.setLevel(GameLog.Level.DEBUG);
+        GameLog.debug("Test", "shown");
+        GameLog.flush(1000);
+
+        String text = out.toString();
+        assertFalse(text.contains("hidden"));
+        assertTrue(text.contains("shown"));
+    }
+
+    @Test
+    public void testWarningsGoToStderr() {
+        GameLog.warn("WarMap", "No renderer: {}", "headless");
+        GameLog.flush(1000);
+
+        assertTrue(err.toString().contains("WARN  WarMap: No renderer: headless"));
+        assertEquals("", out.toString());
+    }
+
+    @Test
+    public void testErrorPrintsStackTrace() {
+        GameLog.error("GameScreen", "Could not load sounds", new IllegalStateException("boom"));
+        GameLog.flush(1000);
+
+        String text = err.toString();
+        assertTrue(text.contains("ERROR GameScreen: Could not load sounds"));
+        assertTrue(text.contains("IllegalStateException: boom"));
+    }
+
+    @Test
+    public void testIsEnabled() {
+        GameLog.setLevel(GameLog.Level.WARN);
+        assertFalse(GameLog.isEnabled(GameLog.Level.INFO));
+        assertTrue(GameLog.isEnabled(GameLog.Level.ERROR));
+    }
+
+    @Test
+    public void testParseLevel() {
+        assertEquals(GameLog.Level.DEBUG, GameLog.parseLevel("debug"));
+        assertEquals(GameLog.Level.INFO, GameLog.parseLevel("nonsense"));
+        assertEquals(GameLog.Level.INFO, GameLog.parseLevel(null));
+    }
+}
@@ -0,0 +1,88 @@
+package com.main.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.main.map.Base;
+
+public class MetricsRecorderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Base playerBase;
+    private Base enemyBase;
+
+    @Before
+    public void setUp() {
+        playerBase = new Base(0, 300, true, 640);
+        enemyBase = new Base(1350, 300, false, 640);
+    }
+
+    private List<String> record(File file, int frames, float delta) throws IOException {
+        MetricsRecorder recorder = new MetricsRecorder(file);
+        for (int i = 0; i < frames; i++) {
+            recorder.frame(delta, 1_000_000L, 2_000_000L, playerBase, enemyBase, null);
+        }
+        recorder.close();
+        return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testOneRecordPerSecond() throws IOException {
+        File file = new File(folder.getRoot(), "run.jsonl");
+        List<String> lines = record(file, 20, 0.125f);
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"t\":1,\"frames\":8,"));
+        assertTrue(lines.get(1).startsWith("{\"t\":2,"));
+    }
+
+    @Test
+    public void testRecordContainsTimingsAndState() throws IOException {
+        File file = new File(folder.getRoot(), "run.jsonl");
+        List<String> lines = record(file, 4, 0.25f);
+
+        String line = lines.get(0);
+        assertTrue(line.contains("\"tickMs\":1.0"));
+        assertTrue(line.contains("\"renderMs\":2.0"));
+        assertTrue(line.contains("\"playerLanes\":[0,0,0]"));
+        assertTrue(line.contains("\"playerBaseHp\":1000"));
+        assertTrue(line.contains("\"gold\":0"));
+        assertTrue(line.endsWith("}"));
+    }
+
+    @Test
+    public void testCreatesParentDirectories() throws IOException {
+        File file = new File(folder.getRoot(), "nested/dir/run.jsonl");
+        record(file, 0, 0.1f);
+        assertTrue(file.exists());
+    }
+
+    @Test
+    public void testFrameAfterCloseIsIgnored() throws IOException {
+        File file = new File(folder.getRoot(), "run.jsonl");
+        MetricsRecorder recorder = new MetricsRecorder(file);
+        recorder.close();
+        recorder.frame(2f, 0L, 0L, playerBase, enemyBase, null);
+        assertEquals(0, Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size());
+        assertEquals(0, recorder.getDropped());
+    }
+
+    @Test
+    public void testFromSystemPropertyUnset() {
+        System.clearProperty(MetricsRecorder.PROPERTY);
+        assertEquals(null, MetricsRecorder.fromSystemProperty());
+    }
+}
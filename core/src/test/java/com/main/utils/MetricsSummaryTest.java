@@ -0,0 +1,59 @@
+package com.main.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+public class MetricsSummaryTest {
+
+    private static final String RUN =
+            "{\"t\":1,\"frames\":60,\"tickMs\":1.0,\"tickMaxMs\":2.0,\"renderMs\":4.0,\"renderMaxMs\":5.0,"
+            + "\"playerLanes\":[1,0,0],\"enemyLanes\":[2,1,0],\"playerSpawns\":1,\"enemySpawns\":3,"
+            + "\"playerDeaths\":0,\"enemyDeaths\":0,\"gold\":10,\"playerBaseHp\":1000,\"enemyBaseHp\":1000,"
+            + "\"heapMb\":40,\"gcCount\":3,\"gcMs\":12}\n"
+            + "{\"t\":2,\"frames\":20,\"tickMs\":3.0,\"tickMaxMs\":30.0,\"renderMs\":8.0,\"renderMaxMs\":9.0,"
+            + "\"playerLanes\":[2,1,1],\"enemyLanes\":[3,2,1],\"playerSpawns\":0,\"enemySpawns\":1,"
+            + "\"playerDeaths\":1,\"enemyDeaths\":2,\"gold\":30,\"playerBaseHp\":950,\"enemyBaseHp\":1000,"
+            + "\"heapMb\":55,\"gcCount\":5,\"gcMs\":20}\n";
+
+    @Test
+    public void testAggregatesRun() throws IOException {
+        MetricsSummary summary = MetricsSummary.read(new StringReader(RUN));
+
+        assertEquals(2, summary.getSeconds());
+        assertEquals((1.0 * 60 + 3.0 * 20) / 80, summary.getAverageTickMs(), 0.0001);
+        assertEquals((4.0 * 60 + 8.0 * 20) / 80, summary.getAverageRenderMs(), 0.0001);
+        assertEquals(30.0, summary.getMaxTickMs(), 0.0001);
+        assertEquals(10, summary.getPeakUnits());
+        assertEquals(4, summary.getEnemySpawns());
+        assertEquals(2, summary.getEnemyDeaths());
+        assertEquals(40, summary.getGold());
+        assertEquals(2, summary.getGcCount());
+        assertEquals(2, summary.getWorstSecond());
+    }
+
+    @Test
+    public void testSkipsMalformedLines() throws IOException {
+        MetricsSummary summary = MetricsSummary.read(new StringReader("garbage\n\n{\"t\":1,\"frames\":0}\n" + RUN));
+        assertEquals(2, summary.getSeconds());
+    }
+
+    @Test
+    public void testEmptyInput() throws IOException {
+        MetricsSummary summary = MetricsSummary.read(new StringReader(""));
+        assertEquals(0, summary.getSeconds());
+        assertEquals(0.0, summary.getAverageTickMs(), 0.0001);
+        assertEquals(0, summary.getGcCount());
+    }
+
+    @Test
+    public void testFormatMentionsWorstSecond() throws IOException {
+        String report = MetricsSummary.read(new StringReader(RUN)).format();
+        assertTrue(report.contains("t=2"));
+        assertTrue(report.contains("Peak units      10"));
+    }
+}
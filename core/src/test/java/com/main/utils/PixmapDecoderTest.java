@@ -0,0 +1,102 @@
+package com.main.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+public class PixmapDecoderTest {
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+
+        Gdx.gl20 = mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    @Test
+    public void testUploadsStayWithinTheFrameBudget() throws InterruptedException {
+        PixmapDecoder decoder = new PixmapDecoder(4, 2);
+        try {
+            decoder.submitFrames("Tank/Attack%d.png", 7);
+            assertEquals(7, decoder.getPending());
+            long deadline = System.currentTimeMillis() + 10000;
+            while (!decoder.isDone()) {
+                assertTrue("Decoding should finish", System.currentTimeMillis() < deadline);
+                assertTrue(decoder.upload(2) <= 2);
+                Thread.sleep(1);
+            }
+            assertEquals(7, decoder.getUploadedCount());
+
+            // Converted to the format of the group on the workers
+            Texture texture = TextureLoader.load("Tank/Attack3.png");
+            assertEquals(Pixmap.Format.RGBA4444, texture.getTextureData().getFormat());
+            texture.dispose();
+        } finally {
+            decoder.dispose();
+        }
+        assertEquals(0, decoder.getUploadedCount());
+    }
+
+    @Test
+    public void testMissingImagesAreSkipped() {
+        PixmapDecoder decoder = new PixmapDecoder(2, 1);
+        try {
+            decoder.submit("missing/none.png");
+            decoder.submitFrames("Tank/Ride%d.png", 2);
+            decoder.uploadAll();
+            assertTrue(decoder.isDone());
+            assertEquals(2, decoder.getUploadedCount());
+        } finally {
+            decoder.dispose();
+        }
+    }
+
+    @Test
+    public void testLoadFramesSharesParallelDecodedTextures() {
+        List<Texture> first = new ArrayList<>();
+        List<Texture> second = new ArrayList<>();
+        TextureRegion[] frames = TextureLoader.loadFrames("zombie/normal/Attack%d.png", 4, first);
+        TextureLoader.loadFrames("zombie/normal/Attack%d.png", 4, second);
+        assertEquals(4, frames.length);
+        for (int i = 0; i < 4; i++) {
+            assertSame(first.get(i), second.get(i));
+            assertSame(first.get(i), frames[i].getTexture());
+        }
+        for (Texture texture : first) {
+            texture.dispose();
+        }
+        for (Texture texture : second) {
+            texture.dispose();
+        }
+    }
+
+    @Test
+    public void testManifestFramesExist() {
+        List<String> paths = new ArrayList<>(FrameManifest.paths(FrameManifest.HERO));
+        paths.addAll(FrameManifest.paths(FrameManifest.SOLDIERS));
+        paths.addAll(FrameManifest.paths(FrameManifest.ZOMBIES));
+        for (String path : paths) {
+            assertTrue(path, Gdx.files.internal(path).exists());
+        }
+    }
+}
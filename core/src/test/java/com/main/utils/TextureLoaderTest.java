@@ -0,0 +1,149 @@
+package com.main.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class TextureLoaderTest {
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+
+        Gdx.gl20 = mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    @Test
+    public void testLoad() {
+        Texture texture = TextureLoader.load("ui/heart.png");
+        assertNotNull(texture);
+        assertTrue(texture.getWidth() > 0);
+        texture.dispose();
+    }
+
+    @Test
+    public void testLoadFramesTracksTextures() {
+        List<Texture> owned = new ArrayList<>();
+        TextureRegion[] frames = TextureLoader.loadFrames("sold/Left%d.png", 2, owned);
+        assertEquals(2, frames.length);
+        assertEquals(2, owned.size());
+        assertEquals(owned.get(1), frames[1].getTexture());
+        for (Texture tex : owned) {
+            tex.dispose();
+        }
+    }
+
+    @Test
+    public void testLoadEmitsJfrEvent() throws IOException {
+        Path dump = File.createTempFile("textures", ".jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable("zgame.TextureLoad");
+            recording.start();
+            TextureLoader.load("ui/heart.png").dispose();
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        boolean found = false;
+        for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+            if ("zgame.TextureLoad".equals(event.getEventType().getName())) {
+                assertEquals("ui/heart.png", event.getString("path"));
+                assertTrue(event.getInt("width") > 0);
+                found = true;
+            }
+        }
+        dump.toFile().delete();
+        assertTrue("Texture load should be recorded", found);
+    }
+
+    @Test
+    public void testTexturesAreSharedAndReferenceCounted() {
+        // Not used by the game, so no other test holds it
+        long before = TextureLoader.getResidentBytes(TextureGroup.UI);
+        Texture first = TextureLoader.load("ui/explosion.png");
+        Texture second = TextureLoader.load("ui/explosion.png");
+        assertSame(first, second);
+
+        // 800x720 RGBA image uploaded as RGBA4444
+        long bytes = 800L * 720L * 2L;
+        assertEquals(before + bytes, TextureLoader.getResidentBytes(TextureGroup.UI));
+        first.dispose();
+        assertEquals(before + bytes, TextureLoader.getResidentBytes(TextureGroup.UI));
+        second.dispose();
+        assertEquals(before, TextureLoader.getResidentBytes(TextureGroup.UI));
+    }
+
+    @Test
+    public void testWhitePixelIsShared() {
+        long before = TextureLoader.getResidentBytes(TextureGroup.OTHER);
+        Texture first = TextureLoader.whitePixel();
+        Texture second = TextureLoader.whitePixel();
+        assertSame(first, second);
+        assertEquals(1, first.getWidth());
+        assertEquals(before + 4L, TextureLoader.getResidentBytes(TextureGroup.OTHER));
+        first.dispose();
+        assertEquals(before + 4L, TextureLoader.getResidentBytes(TextureGroup.OTHER));
+        second.dispose();
+        assertEquals(before, TextureLoader.getResidentBytes(TextureGroup.OTHER));
+    }
+
+    @Test
+    public void testGroupsChooseFormats() {
+        assertEquals(TextureGroup.MENU, TextureGroup.of("ui/titlescreen.png"));
+        assertEquals(TextureGroup.UI, TextureGroup.of("ui/heart.png"));
+        assertEquals(TextureGroup.UNITS, TextureGroup.of("Tank/Ride1.png"));
+        assertEquals(TextureGroup.ZOMBIES, TextureGroup.of("zombie/women/Idle5.png"));
+        assertEquals(TextureGroup.HERO, TextureGroup.of("weapon/pistol.png"));
+        assertEquals(TextureGroup.OTHER, TextureGroup.of("libgdx.png"));
+
+        assertFalse(TextureLoader.hasAlpha(Gdx.files.internal("ui/titlescreen.png")));
+        assertTrue(TextureLoader.hasAlpha(Gdx.files.internal("ui/heart.png")));
+        assertEquals(Pixmap.Format.RGB565, TextureGroup.MENU.formatFor(false));
+        assertEquals(Pixmap.Format.RGBA4444, TextureGroup.ZOMBIES.formatFor(true));
+        assertEquals(Pixmap.Format.RGBA8888, TextureGroup.HERO.formatFor(true));
+    }
+
+    @Test
+    public void testBudget() {
+        long budget = TextureLoader.getBudget();
+        try {
+            TextureLoader.setBudget(1L);
+            Texture texture = TextureLoader.load("ui/heart.png");
+            assertTrue(TextureLoader.isOverBudget());
+            texture.dispose();
+            TextureLoader.setBudget(0L);
+            assertFalse(TextureLoader.isOverBudget());
+        } finally {
+            TextureLoader.setBudget(budget);
+        }
+    }
+}
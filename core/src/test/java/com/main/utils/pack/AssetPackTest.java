@@ -0,0 +1,165 @@
+package com.main.utils.pack;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+
+public class AssetPackTest {
+
+    private static HeadlessApplication application;
+
+    private File root;
+    private File archive;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("assets").toFile();
+        new File(root, "map").mkdirs();
+        new File(root, "tilesets/outdoor").mkdirs();
+        write("map/level.tmx", "<map/>");
+        write("tilesets/outdoor/grass.tsx", "<tileset/>");
+        write("readme.txt", "hello");
+        write("empty.bin", "");
+        archive = File.createTempFile("assets", ".pack");
+    }
+
+    @After
+    public void tearDown() {
+        archive.delete();
+        deleteTree(root);
+    }
+
+    private void write(String path, String text) throws IOException {
+        Files.write(new File(root, path).toPath(), text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void deleteTree(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteTree(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static String text(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testEntriesRoundTrip() throws IOException {
+        assertEquals(4, AssetPacker.pack(root, archive));
+        AssetPack pack = new AssetPack(archive);
+        assertEquals(4, pack.size());
+        assertEquals("<map/>", text(pack.get("map/level.tmx")));
+        assertEquals("hello", text(pack.get("readme.txt")));
+        assertEquals(0, pack.get("empty.bin").remaining());
+        assertEquals(null, pack.get("missing.png"));
+
+        // Each call returns an independent view
+        ByteBuffer first = pack.get("readme.txt");
+        first.get();
+        assertEquals(5, pack.get("readme.txt").remaining());
+
+        assertTrue(pack.isDirectory("tilesets"));
+        assertTrue(pack.isDirectory("tilesets/outdoor"));
+        assertFalse(pack.isDirectory("map/level.tmx"));
+        assertEquals(4, pack.list("").size());
+        assertEquals("tilesets/outdoor", pack.list("tilesets").get(0));
+    }
+
+    @Test
+    public void testSaveFilesAreNotPacked() throws IOException {
+        new File(root, AssetPacker.SAVES_FOLDER).mkdirs();
+        write("saves/autosave.zgs", "save");
+        assertEquals(4, AssetPacker.pack(root, archive));
+        assertEquals(null, new AssetPack(archive).get("saves/autosave.zgs"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsOtherFiles() throws IOException {
+        Files.write(archive.toPath(), "not a pack at all".getBytes(StandardCharsets.UTF_8));
+        new AssetPack(archive);
+    }
+
+    @Test
+    public void testHandlesReadAndNavigateInsideThePack() throws IOException {
+        AssetPacker.pack(root, archive);
+        PackedFiles files = new PackedFiles(new AssetPack(archive), Gdx.files);
+
+        FileHandle map = files.internal("map/level.tmx");
+        assertTrue(map instanceof PackedFileHandle);
+        assertEquals("<map/>", map.readString());
+        assertEquals(6, map.length());
+        assertEquals("level", map.nameWithoutExtension());
+        assertTrue(map.map().isDirect());
+
+        // The relative path a TMX map uses for its tileset
+        FileHandle tileset = map.parent().parent().child("tilesets").child("outdoor").child("grass.tsx");
+        assertTrue(tileset instanceof PackedFileHandle);
+        assertEquals("<tileset/>", tileset.readString());
+        assertEquals("readme.txt", files.internal("./readme.txt").path());
+
+        try (InputStream in = files.internal("readme.txt").read()) {
+            byte[] bytes = new byte[16];
+            assertEquals(5, in.read(bytes));
+            assertArrayEquals("hello".getBytes(StandardCharsets.UTF_8), Arrays.copyOf(bytes, 5));
+            assertEquals(-1, in.read());
+        }
+
+        assertTrue(files.internal("tilesets").isDirectory());
+        assertEquals(1, files.internal("tilesets").list().length);
+        // Directories are not counted
+        assertEquals(4, files.getServed());
+    }
+
+    @Test
+    public void testMissingPathsFallBackToTheBackend() throws IOException {
+        AssetPacker.pack(root, archive);
+        PackedFiles files = new PackedFiles(new AssetPack(archive), Gdx.files);
+
+        FileHandle heart = files.internal("ui/heart.png");
+        assertFalse(heart instanceof PackedFileHandle);
+        assertTrue(heart.exists());
+        assertEquals(1, files.getFallbacks());
+    }
+
+    @Test
+    public void testNormalize() {
+        assertEquals("ui/heart.png", PackedFiles.normalize("./ui\\heart.png"));
+        assertEquals("tilesets", PackedFiles.normalize("/tilesets/"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.ui;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.FloatArray;
+import com.main.entities.Unit;
+import com.main.map.Base;
+import com.main.map.WarMap;
+import com.main.save.MatchSnapshot;
+import com.main.sim.Match;
+import com.main.sim.MatchContext;
+
+public class MinimapTest {
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+    }
+
+    /**
+     * Adds a unit the way a mirrored match does: in the base but in no lane.
+     */
+    private static Unit mirrored(Base base, int lane, float x, int health) {
+        Unit unit = MatchSnapshot.create(Base.Type.TANK, base);
+        unit.setLane(lane);
+        unit.applyRemoteState(x, base.getLaneY(lane), health, Unit.UnitState.WALKING, 0f);
+        base.restoreUnit(unit, false);
+        return unit;
+    }
+
+    @Test
+    public void testMirroredUnitsGetBlips() {
+        Match match = new Match(new MatchContext(new WarMap(), null, true), 5L);
+        Base base = match.getPlayerBase();
+        Unit alive = mirrored(base, 2, 300f, 40);
+        mirrored(base, 1, 500f, 0);
+
+        FloatArray blips = new FloatArray();
+        Minimap.collectBlips(base, blips);
+        assertEquals("Only the living unit is shown", 2, blips.size);
+        assertEquals(300f + alive.getWidth() / 2, blips.get(0), 0.001f);
+        assertEquals(base.getLaneY(2) + alive.getHeight() / 2, blips.get(1), 0.001f);
+
+        // Lane units are shown once, previous blips are dropped
+        match.getHero().setGold(1000);
+        base.addUnit(base.buyUnit(Base.Type.MELEE, 0, match.getHero()));
+        Minimap.collectBlips(base, blips);
+        assertEquals(4, blips.size);
+        assertEquals(base.getLaneY(0) + base.getUnits().get(2).getHeight() / 2, blips.get(3), 0.001f);
+    }
+}
@@ -2,7 +2,9 @@ package com.main.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3WindowAdapter;
 import com.main.Main;
+import com.main.utils.FramePacer;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
@@ -12,10 +14,11 @@ public class Lwjgl3Launcher {
     }
 
     private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+        Main main = new Main();
+        return new Lwjgl3Application(main, getDefaultConfiguration(main.getFramePacer()));
     }
 
-    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
+    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration(FramePacer pacer) {
         Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
         configuration.setTitle("zombie-game");
         //// Vsync limits the frames per second to what your hardware can display, and helps eliminate
@@ -23,7 +26,28 @@ public class Lwjgl3Launcher {
         configuration.useVsync(true);
         //// Limits FPS to the refresh rate of the currently active monitor, plus 1 to try to match fractional
         //// refresh rates. The Vsync setting above should limit the actual FPS to match the monitor.
-        configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
+        int refreshRate = Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1;
+        configuration.setForegroundFPS(refreshRate);
+        //// Minimized windows render at a few frames per second; unfocused ones are slowed down by the
+        //// FramePacer, which also applies the optional -Dzgame.fps.cap power-saving limit.
+        configuration.setIdleFPS(FramePacer.IDLE_FPS);
+        pacer.setForegroundFps(refreshRate);
+        configuration.setWindowListener(new Lwjgl3WindowAdapter() {
+            @Override
+            public void iconified(boolean isIconified) {
+                pacer.setIconified(isIconified);
+            }
+
+            @Override
+            public void focusLost() {
+                pacer.setFocused(false);
+            }
+
+            @Override
+            public void focusGained() {
+                pacer.setFocused(true);
+            }
+        });
         //// If you remove the above line and set Vsync to false, you can get unlimited FPS, which can be
         //// useful for testing performance, but can also be very stressful to some hardware.
         //// You may also need to configure GPU drivers to fully disable Vsync; this can cause screen tearing.
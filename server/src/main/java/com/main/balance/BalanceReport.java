@@ -0,0 +1,162 @@
+package com.main.balance;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Aggregates {@link MatchResult}s per strategy and writes them as CSV, one row
+ * per strategy in the order strategies were first seen.
+ * <p>
+ * Columns: match counts, win rate with its 95% confidence half-width (normal
+ * approximation), the average time to destroy the zombie base in won matches
+ * and to lose the player base in lost ones, and gold efficiency as zombies
+ * killed per 100 gold spent.
+ */
+public class BalanceReport {
+
+    /**
+     * Header of the CSV output.
+     */
+    public static final String HEADER = "strategy,matches,wins,losses,timeouts,win_rate,win_rate_ci95,"
+            + "avg_win_seconds,avg_loss_seconds,avg_gold_spent,avg_units_bought,avg_zombies_killed,"
+            + "avg_units_lost,kills_per_100_gold";
+
+    private final float tickDelta;
+    private final Map<String, Row> rows = new LinkedHashMap<>();
+
+    /**
+     * @param tickDelta Simulated seconds per tick, to convert match lengths
+     */
+    public BalanceReport(float tickDelta) {
+        this.tickDelta = tickDelta;
+    }
+
+    /**
+     * Adds the result of one match.
+     *
+     * @param result Match result
+     */
+    public void add(MatchResult result) {
+        Row row = rows.get(result.strategy.getName());
+        if (row == null) {
+            row = new Row(result.strategy.getName());
+            rows.put(row.strategy, row);
+        }
+        row.add(result);
+    }
+
+    /**
+     * Returns the win rate of a strategy.
+     *
+     * @param strategy Strategy name
+     * @return Fraction of matches won, 0 if the strategy has no results
+     */
+    public double getWinRate(String strategy) {
+        Row row = rows.get(strategy);
+        return row == null ? 0.0 : row.winRate();
+    }
+
+    /**
+     * Returns the number of matches added.
+     *
+     * @return Match count over every strategy
+     */
+    public int getMatchCount() {
+        int count = 0;
+        for (Row row : rows.values()) {
+            count += row.matches;
+        }
+        return count;
+    }
+
+    /**
+     * Formats the report as CSV lines, header first.
+     *
+     * @return CSV lines without line separators
+     */
+    public List<String> toCsv() {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (Row row : rows.values()) {
+            double winRate = row.winRate();
+            double ci = 1.96 * Math.sqrt(winRate * (1 - winRate) / row.matches);
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.4f,%.4f,%.1f,%.1f,%.1f,%.2f,%.2f,%.2f,%.3f",
+                    row.strategy, row.matches, row.wins, row.losses, row.timeouts, winRate, ci,
+                    average(row.winTicks * tickDelta, row.wins), average(row.lossTicks * tickDelta, row.losses),
+                    average(row.goldSpent, row.matches), average(row.unitsBought, row.matches),
+                    average(row.zombiesKilled, row.matches), average(row.unitsLost, row.matches),
+                    row.goldSpent == 0 ? 0.0 : row.zombiesKilled * 100.0 / row.goldSpent));
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the report as CSV.
+     *
+     * @param out Destination, not closed
+     * @throws IOException If writing fails
+     */
+    public void writeCsv(Writer out) throws IOException {
+        for (String line : toCsv()) {
+            out.write(line);
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private static double average(double total, int count) {
+        return count == 0 ? 0.0 : total / count;
+    }
+
+    /**
+     * Running totals of one strategy.
+     */
+    private static final class Row {
+
+        private final String strategy;
+        private int matches;
+        private int wins;
+        private int losses;
+        private int timeouts;
+        private long winTicks;
+        private long lossTicks;
+        private long goldSpent;
+        private long unitsBought;
+        private long zombiesKilled;
+        private long unitsLost;
+
+        Row(String strategy) {
+            this.strategy = strategy;
+        }
+
+        void add(MatchResult result) {
+            matches++;
+            switch (result.outcome) {
+                case WIN:
+                    wins++;
+                    winTicks += result.ticks;
+                    break;
+                case LOSS:
+                    losses++;
+                    lossTicks += result.ticks;
+                    break;
+                default:
+                    timeouts++;
+                    break;
+            }
+            goldSpent += result.goldSpent;
+            unitsBought += result.unitsBought;
+            zombiesKilled += result.zombiesKilled;
+            unitsLost += result.unitsLost;
+        }
+
+        double winRate() {
+            return matches == 0 ? 0.0 : wins / (double) matches;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.main.balance;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.main.entities.player.Hero;
+import com.main.map.Base;
+import com.main.map.WarMap;
+import com.main.sim.InputFrame;
+import com.main.sim.Match;
+import com.main.sim.MatchContext;
+import com.main.utils.GameLog;
+import com.main.utils.TextureLoader;
+
+/**
+ * Command-line Monte Carlo balance tool: plays thousands of seeded headless
+ * matches with scripted {@link Strategy strategies} on every core and writes
+ * the aggregated {@link BalanceReport} as CSV.
+ * <p>
+ * Every strategy plays the same seeds, so the zombie waves they face are
+ * identical and the differences between rows come from the strategies (and
+ * the unit stats being tuned), not from luck. Each match runs to the end on
+ * one pool thread; matches share only the read-only map.
+ * <p>
+ * Usage: {@code gradlew server:balance --args="[--matches N] [--threads T]
+ * [--seed S] [--max-seconds M] [--strategies a,b] [--out file.csv]"}.
+ * {@code --matches} is per strategy; the output defaults to
+ * {@code -Dzgame.balance.out} or {@code balance.csv}.
+ */
+public final class BalanceRunner {
+
+    /**
+     * Simulated seconds per tick, the server's fixed step.
+     */
+    public static final float TICK = 1f / 30f;
+
+    private BalanceRunner() {
+    }
+
+    /**
+     * Plays one match to the end or the time limit.
+     *
+     * @param context  Context to create the match in, usually shared
+     * @param strategy Purchase plan of the player
+     * @param seed     Match seed
+     * @param maxTicks Time limit in ticks
+     * @return Match outcome and statistics
+     */
+    public static MatchResult play(MatchContext context, Strategy strategy, long seed, int maxTicks) {
+        Match match = new Match(context, seed);
+        Hero hero = match.getHero();
+        Base playerBase = match.getPlayerBase();
+        Base enemyBase = match.getEnemyBase();
+        InputFrame frame = new InputFrame();
+        boolean weaponBought = strategy.getWeaponButton() == 0;
+        int bought = 0;
+        int goldSpent = 0;
+
+        while (match.getTick() < maxTicks && !match.isOver()) {
+            int buttons = strategy.isHeroFighting() ? InputFrame.ATTACK : 0;
+            byte purchase = InputFrame.NO_PURCHASE;
+            Base.Type type = strategy.unitAt(bought);
+            if (!weaponBought) {
+                if (hero.getGold() >= strategy.getWeaponCost()) {
+                    buttons |= strategy.getWeaponButton();
+                    goldSpent += strategy.getWeaponCost();
+                    weaponBought = true;
+                }
+            } else if (hero.getGold() >= Base.costOf(type)) {
+                purchase = InputFrame.encodePurchase(type, strategy.laneAt(bought));
+            }
+            int spawned = playerBase.getTotalSpawned();
+            frame.set(TICK, buttons, purchase);
+            match.tick(frame);
+            if (playerBase.getTotalSpawned() > spawned) {
+                goldSpent += Base.costOf(type);
+                bought++;
+            }
+        }
+
+        MatchResult.Outcome outcome;
+        if (enemyBase.isDestroyed()) {
+            outcome = MatchResult.Outcome.WIN;
+        } else if (playerBase.isDestroyed()) {
+            outcome = MatchResult.Outcome.LOSS;
+        } else {
+            outcome = MatchResult.Outcome.TIMEOUT;
+        }
+        return new MatchResult(strategy, seed, outcome, match.getTick(), goldSpent, bought,
+                enemyBase.getTotalDeaths(), playerBase.getTotalDeaths());
+    }
+
+    /**
+     * Plays every strategy on the same seeds in parallel.
+     *
+     * @param context            Context shared by every match
+     * @param strategies         Strategies to compare
+     * @param matchesPerStrategy Matches played by each strategy
+     * @param seed               Seed of the first match; the others follow
+     * @param maxTicks           Time limit of a match in ticks
+     * @param threads            Worker threads
+     * @return Aggregated results, rows in strategy order
+     * @throws InterruptedException If interrupted while waiting for the matches
+     * @throws ExecutionException   If a match failed
+     */
+    public static BalanceReport run(MatchContext context, List<Strategy> strategies, int matchesPerStrategy,
+            long seed, int maxTicks, int threads) throws InterruptedException, ExecutionException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<MatchResult>> results = new ArrayList<>();
+            for (Strategy strategy : strategies) {
+                for (int i = 0; i < matchesPerStrategy; i++) {
+                    long matchSeed = seed + i;
+                    results.add(pool.submit(() -> play(context, strategy, matchSeed, maxTicks)));
+                }
+            }
+            BalanceReport report = new BalanceReport(TICK);
+            for (Future<MatchResult> result : results) {
+                report.add(result.get());
+            }
+            return report;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int matches = 500;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1L;
+        int maxSeconds = 900;
+        List<Strategy> strategies = Strategy.presets();
+        String out = System.getProperty("zgame.balance.out", "balance.csv");
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--matches":
+                    matches = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--max-seconds":
+                    maxSeconds = Integer.parseInt(value);
+                    break;
+                case "--strategies":
+                    strategies = new ArrayList<>();
+                    for (String name : value.split(",")) {
+                        strategies.add(Strategy.preset(name.trim()));
+                    }
+                    break;
+                case "--out":
+                    out = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        // Files and audio stubs only; the matches run on the pool
+        TextureLoader.setHeadless(true);
+        HeadlessApplication application = new HeadlessApplication(new ApplicationAdapter() {},
+                new HeadlessApplicationConfiguration());
+        // Purchases and weapon changes are logged at INFO by the game
+        GameLog.setLevel(GameLog.Level.WARN);
+        int exit = 0;
+        try {
+            MatchContext context = new MatchContext(new WarMap(true));
+            long start = System.nanoTime();
+            BalanceReport report = run(context, strategies, matches, seed, Math.round(maxSeconds / TICK), threads);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(out), StandardCharsets.UTF_8)) {
+                report.writeCsv(writer);
+            }
+            GameLog.setLevel(GameLog.Level.INFO);
+            GameLog.info("BalanceRunner", "{} matches in {} s on {} threads ({} matches/s)", report.getMatchCount(),
+                    Math.round(seconds * 10) / 10.0, threads, Math.round(report.getMatchCount() / seconds * 10) / 10.0);
+            GameLog.info("BalanceRunner", "Report written to {}", new File(out).getAbsolutePath());
+        } catch (IOException e) {
+            GameLog.error("BalanceRunner", "Cannot write {}", out, e);
+            exit = 1;
+        } finally {
+            application.exit();
+            GameLog.flush(1000);
+        }
+        System.exit(exit);
+    }
+}
@@ -0,0 +1,82 @@
+package com.main.balance;
+
+/**
+ * Outcome of one simulated balance match.
+ */
+public final class MatchResult {
+
+    /**
+     * How a match ended.
+     */
+    public enum Outcome {
+        /** The zombie base was destroyed. */
+        WIN,
+        /** The player base was destroyed. */
+        LOSS,
+        /** Neither base fell before the time limit. */
+        TIMEOUT
+    }
+
+    final Strategy strategy;
+    final long seed;
+    final Outcome outcome;
+    final long ticks;
+    final int goldSpent;
+    final int unitsBought;
+    final int zombiesKilled;
+    final int unitsLost;
+
+    MatchResult(Strategy strategy, long seed, Outcome outcome, long ticks, int goldSpent, int unitsBought,
+            int zombiesKilled, int unitsLost) {
+        this.strategy = strategy;
+        this.seed = seed;
+        this.outcome = outcome;
+        this.ticks = ticks;
+        this.goldSpent = goldSpent;
+        this.unitsBought = unitsBought;
+        this.zombiesKilled = zombiesKilled;
+        this.unitsLost = unitsLost;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Returns the length of the match.
+     *
+     * @return Ticks simulated until a base fell or the time limit
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns the gold spent on soldiers and the weapon.
+     *
+     * @return Gold spent
+     */
+    public int getGoldSpent() {
+        return goldSpent;
+    }
+
+    public int getUnitsBought() {
+        return unitsBought;
+    }
+
+    public int getZombiesKilled() {
+        return zombiesKilled;
+    }
+
+    public int getUnitsLost() {
+        return unitsLost;
+    }
+}
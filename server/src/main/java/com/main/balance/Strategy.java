@@ -0,0 +1,114 @@
+package com.main.balance;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.main.map.Base;
+import com.main.sim.InputFrame;
+
+/**
+ * Scripted purchase plan played by the {@link BalanceRunner}: an optional
+ * weapon bought as soon as it is affordable, then soldiers bought in a fixed
+ * rotation of types and lanes whenever the hero has the gold.
+ * <p>
+ * Strategies are immutable and shared by every match; the per-match purchase
+ * counter lives in the runner.
+ */
+public final class Strategy {
+
+    private final String name;
+    private final Base.Type[] units;
+    private final int weaponButton;
+    private final int weaponCost;
+    private final boolean heroFights;
+
+    /**
+     * @param name         Name used in the report
+     * @param units        Soldier types bought in rotation
+     * @param weaponButton {@link InputFrame} weapon button to buy, or 0 to keep
+     *                     the pistol
+     * @param weaponCost   Price of that weapon in the hero's shop
+     * @param heroFights   True if the hero holds the attack button, false if it
+     *                     stays idle
+     */
+    public Strategy(String name, Base.Type[] units, int weaponButton, int weaponCost, boolean heroFights) {
+        this.name = name;
+        this.units = units.clone();
+        this.weaponButton = weaponButton;
+        this.weaponCost = weaponCost;
+        this.heroFights = heroFights;
+    }
+
+    /**
+     * Returns the built-in strategies: one per soldier type, a mixed army, the
+     * mixed army with each weapon upgrade, and an idle hero as a baseline.
+     *
+     * @return Preset strategies
+     */
+    public static List<Strategy> presets() {
+        Base.Type[] mixed = { Base.Type.MELEE, Base.Type.TANK, Base.Type.SNIPER };
+        return Arrays.asList(
+                new Strategy("melee", new Base.Type[] { Base.Type.MELEE }, 0, 0, true),
+                new Strategy("tank", new Base.Type[] { Base.Type.TANK }, 0, 0, true),
+                new Strategy("sniper", new Base.Type[] { Base.Type.SNIPER }, 0, 0, true),
+                new Strategy("mixed", mixed, 0, 0, true),
+                new Strategy("mixed+shotgun", mixed, InputFrame.WEAPON_2, 70, true),
+                new Strategy("mixed+smg", mixed, InputFrame.WEAPON_3, 100, true),
+                new Strategy("mixed+rifle", mixed, InputFrame.WEAPON_4, 150, true),
+                new Strategy("mixed+sniper-rifle", mixed, InputFrame.WEAPON_5, 200, true),
+                new Strategy("mixed-idle-hero", mixed, 0, 0, false));
+    }
+
+    /**
+     * Finds a preset by name.
+     *
+     * @param name Preset name
+     * @return The preset
+     * @throws IllegalArgumentException If no preset has that name
+     */
+    public static Strategy preset(String name) {
+        for (Strategy strategy : presets()) {
+            if (strategy.name.equals(name)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown strategy " + name);
+    }
+
+    /**
+     * Returns the soldier type of the given purchase.
+     *
+     * @param purchase Number of soldiers bought so far in the match
+     * @return Type to buy next
+     */
+    public Base.Type unitAt(int purchase) {
+        return units[purchase % units.length];
+    }
+
+    /**
+     * Returns the lane of the given purchase; lanes rotate after each full
+     * turn of the unit rotation so every type reaches every lane.
+     *
+     * @param purchase Number of soldiers bought so far in the match
+     * @return Lane index
+     */
+    public int laneAt(int purchase) {
+        return (purchase + purchase / units.length) % 3;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeaponButton() {
+        return weaponButton;
+    }
+
+    public int getWeaponCost() {
+        return weaponCost;
+    }
+
+    public boolean isHeroFighting() {
+        return heroFights;
+    }
+}
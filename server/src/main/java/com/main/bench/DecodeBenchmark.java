@@ -0,0 +1,139 @@
+package com.main.bench;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.main.utils.FrameManifest;
+import com.main.utils.GameLog;
+import com.main.utils.PixmapDecoder;
+import com.main.utils.TextureLoader;
+
+/**
+ * Command-line benchmark of the parallel {@link PixmapDecoder}: loads every
+ * hero, soldier and zombie frame with 1, 2, 4 and 8 decoding threads and
+ * reports the wall-clock time of each.
+ * <p>
+ * Runs headless with a GL stub, so the numbers cover reading, decoding,
+ * format conversion and the upload bookkeeping but no driver work. Each
+ * thread count is measured over several runs after a warm-up run (which also
+ * fills the OS file cache), and every run starts with no frame resident.
+ * <p>
+ * Usage: {@code gradlew server:decodeBenchmark --args="[--threads 1,2,4,8]
+ * [--runs 5] [--queue 16]"}.
+ */
+public final class DecodeBenchmark {
+
+    private DecodeBenchmark() {
+    }
+
+    /**
+     * Loads every frame once.
+     *
+     * @param paths    Frames to load
+     * @param threads  Decoding threads
+     * @param capacity Decoded images that may wait for upload
+     * @return Wall-clock time in nanoseconds
+     */
+    public static long loadAll(List<String> paths, int threads, int capacity) {
+        PixmapDecoder decoder = new PixmapDecoder(threads, capacity);
+        try {
+            long start = System.nanoTime();
+            for (String path : paths) {
+                decoder.submit(path);
+            }
+            decoder.uploadAll();
+            return System.nanoTime() - start;
+        } finally {
+            // Deletes the textures, so the next run loads them again
+            decoder.dispose();
+        }
+    }
+
+    /**
+     * GL that does nothing, enough for textures to be created headless.
+     */
+    private static GL20 stubGl() {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Class<?> type = method.getReturnType();
+            if (type == boolean.class) {
+                return false;
+            }
+            if (type == int.class) {
+                return 0;
+            }
+            if (type == float.class) {
+                return 0f;
+            }
+            return null;
+        };
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {GL20.class}, handler);
+    }
+
+    public static void main(String[] args) {
+        int[] threadCounts = {1, 2, 4, 8};
+        int runs = 5;
+        int capacity = 16;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--threads":
+                    String[] counts = value.split(",");
+                    threadCounts = new int[counts.length];
+                    for (int j = 0; j < counts.length; j++) {
+                        threadCounts[j] = Integer.parseInt(counts[j].trim());
+                    }
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(value);
+                    break;
+                case "--queue":
+                    capacity = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        HeadlessApplication application = new HeadlessApplication(new ApplicationAdapter() {},
+                new HeadlessApplicationConfiguration());
+        Gdx.gl20 = stubGl();
+        Gdx.gl = Gdx.gl20;
+        TextureLoader.setBudget(0L);
+        try {
+            List<String> paths = new ArrayList<>(FrameManifest.paths(FrameManifest.HERO));
+            paths.addAll(FrameManifest.paths(FrameManifest.SOLDIERS));
+            paths.addAll(FrameManifest.paths(FrameManifest.ZOMBIES));
+            loadAll(paths, PixmapDecoder.defaultThreads(), capacity);
+
+            GameLog.info("DecodeBenchmark", "{} frames, {} runs per thread count, {} cores", paths.size(), runs,
+                    Runtime.getRuntime().availableProcessors());
+            double single = 0;
+            for (int threads : threadCounts) {
+                long[] times = new long[runs];
+                for (int run = 0; run < runs; run++) {
+                    times[run] = loadAll(paths, threads, capacity);
+                }
+                Arrays.sort(times);
+                double median = times[runs / 2] / 1e6;
+                if (single == 0) {
+                    single = median;
+                }
+                GameLog.info("DecodeBenchmark", "{} threads: median {} ms, best {} ms, speedup x{}", threads,
+                        Math.round(median * 10) / 10.0, Math.round(times[0] / 1e5) / 10.0,
+                        Math.round(single / median * 100) / 100.0);
+            }
+        } finally {
+            application.exit();
+            GameLog.flush(1000);
+        }
+        System.exit(0);
+    }
+}
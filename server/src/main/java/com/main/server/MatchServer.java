@@ -0,0 +1,306 @@
+package com.main.server;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.main.net.StateCapture;
+import com.main.net.StateCodec;
+import com.main.net.StreamProtocol;
+import com.main.net.WorldState;
+import com.main.sim.InputFrame;
+import com.main.sim.Match;
+import com.main.utils.GameLog;
+
+/**
+ * Authoritative match server: simulates a {@link Match} at a fixed tick and
+ * streams delta-compressed {@link WorldState}s to every connected client.
+ * <p>
+ * {@link #tick()} is driven by the caller ({@link ServerLauncher} runs it from
+ * the headless application loop, tests call it directly). Every
+ * {@link StreamProtocol#SNAPSHOT_INTERVAL} ticks the match is captured once and
+ * encoded for each client against the last state that client was sent. Frames
+ * are handed to one writer thread per client through a small queue; a client
+ * that falls behind has frames dropped and gets a keyframe next, so a slow
+ * connection never blocks the simulation.
+ */
+public class MatchServer implements Closeable {
+
+    /**
+     * Frames buffered per client before they are dropped.
+     */
+    private static final int CLIENT_QUEUE = 8;
+
+    private final Match match;
+    private final ServerSocket server;
+    private final List<ClientConnection> clients = new CopyOnWriteArrayList<>();
+    private final InputFrame input = new InputFrame();
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    /**
+     * Gives units the stable network ids the deltas are keyed on.
+     */
+    private final StateCapture stateCapture = new StateCapture();
+
+    /**
+     * Latest input of the controlling client. Edge buttons (see
+     * {@link InputFrame#EDGE_BUTTONS}) are latched until a tick consumes them,
+     * so a press released before the next tick still acts exactly once.
+     */
+    private volatile int heroButtons;
+    private final AtomicInteger heroPressed = new AtomicInteger();
+    private final AtomicInteger heroPurchase = new AtomicInteger(InputFrame.NO_PURCHASE);
+
+    private Thread acceptThread;
+    private volatile boolean closed;
+
+    /**
+     * Opens the server socket.
+     *
+     * @param port     Port to listen on (0 picks a free port)
+     * @param loopback True to only accept local connections
+     * @param match    Match to run, created on a headless map
+     * @throws IOException If the port cannot be bound
+     */
+    public MatchServer(int port, boolean loopback, Match match) throws IOException {
+        this.match = match;
+        this.server = loopback ? new ServerSocket(port, 8, InetAddress.getLoopbackAddress()) : new ServerSocket(port);
+    }
+
+    /**
+     * Starts accepting clients in the background.
+     */
+    public void start() {
+        acceptThread = new Thread(this::acceptLoop, "match-server");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    private void acceptLoop() {
+        try {
+            while (!closed) {
+                Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                ClientConnection client = new ClientConnection(socket, clients.isEmpty());
+                clients.add(client);
+                GameLog.info("MatchServer", "Client connected from {} ({})", socket.getRemoteSocketAddress(),
+                        client.controller ? "hero" : "spectator");
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                GameLog.warn("MatchServer", "Server stopped: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Simulates one fixed tick with the controlling client's input and sends a
+     * snapshot when due.
+     */
+    public void tick() {
+        byte purchase = (byte) heroPurchase.getAndSet(InputFrame.NO_PURCHASE);
+        input.set(StreamProtocol.TICK, heroButtons | heroPressed.getAndSet(0), purchase);
+        match.tick(input);
+        if (match.getTick() % StreamProtocol.SNAPSHOT_INTERVAL == 0 && !clients.isEmpty()) {
+            broadcast(capture());
+        }
+    }
+
+    /**
+     * Takes an input message of the controlling client. Called by its reader
+     * thread.
+     *
+     * @param buttons  Button bitmask
+     * @param purchase Encoded purchase, or {@link InputFrame#NO_PURCHASE}
+     */
+    void receiveInput(int buttons, byte purchase) {
+        heroButtons = buttons & ~InputFrame.EDGE_BUTTONS;
+        if ((buttons & InputFrame.EDGE_BUTTONS) != 0) {
+            heroPressed.getAndAccumulate(buttons & InputFrame.EDGE_BUTTONS, (a, b) -> a | b);
+        }
+        if (purchase != InputFrame.NO_PURCHASE) {
+            heroPurchase.set(purchase);
+        }
+    }
+
+    /**
+     * Captures the match as a quantized world state, assigning ids to new
+     * units and forgetting those of removed ones.
+     *
+     * @return New state, never modified afterwards
+     */
+    WorldState capture() {
+        WorldState state = new WorldState();
+        stateCapture.capture(match, state);
+        return state;
+    }
+
+    private void broadcast(WorldState state) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (ClientConnection client : clients) {
+            if (client.closed) {
+                clients.remove(client);
+                continue;
+            }
+            bytes.reset();
+            try {
+                StateCodec.encode(client.lastSent, state, out);
+            } catch (IOException e) {
+                // Writing to memory does not fail
+                throw new IllegalStateException(e);
+            }
+            if (client.queue.offer(bytes.toByteArray())) {
+                client.lastSent = state;
+            } else {
+                // The next frame must not depend on the dropped one
+                client.lastSent = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return Local port
+     */
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Returns the number of snapshot bytes written to clients so far.
+     *
+     * @return Sent byte count, length prefixes included
+     */
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    /**
+     * Returns the number of connected clients.
+     *
+     * @return Client count
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Returns the simulated match.
+     *
+     * @return Match instance
+     */
+    public Match getMatch() {
+        return match;
+    }
+
+    /**
+     * Stops accepting clients and disconnects everyone.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        for (ClientConnection client : clients) {
+            client.close();
+        }
+        clients.clear();
+        server.close();
+    }
+
+    /**
+     * One connected client: a writer thread draining its frame queue and a
+     * reader thread taking its inputs.
+     */
+    private final class ClientConnection {
+
+        private final Socket socket;
+        private final boolean controller;
+        private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(CLIENT_QUEUE);
+
+        /**
+         * Last state queued for this client; null means the next frame is a
+         * keyframe. Only used by the tick thread.
+         */
+        private WorldState lastSent;
+        private volatile boolean closed;
+
+        ClientConnection(Socket socket, boolean controller) {
+            this.socket = socket;
+            this.controller = controller;
+            Thread writer = new Thread(this::write, "match-server-writer");
+            writer.setDaemon(true);
+            writer.start();
+            Thread reader = new Thread(this::read, "match-server-reader");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        private void write() {
+            try {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                while (!closed) {
+                    byte[] frame = queue.take();
+                    bytesSent.addAndGet(4 + frame.length);
+                    out.writeInt(frame.length);
+                    out.write(frame);
+                    if (queue.isEmpty()) {
+                        out.flush();
+                    }
+                }
+            } catch (IOException e) {
+                close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+            }
+        }
+
+        private void read() {
+            try {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                while (true) {
+                    if (in.readByte() != StreamProtocol.MSG_INPUT) {
+                        throw new IOException("Unexpected message");
+                    }
+                    int buttons = in.readUnsignedShort();
+                    byte purchase = in.readByte();
+                    if (controller) {
+                        receiveInput(buttons, purchase);
+                    }
+                }
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (controller) {
+                heroButtons = 0;
+            }
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+            // Wake the writer up so it notices
+            queue.offer(new byte[0]);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.main.server;
+
+import java.io.IOException;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.main.map.WarMap;
+import com.main.net.StreamProtocol;
+import com.main.sim.HeroBot;
+import com.main.sim.Match;
+import com.main.sim.MatchContext;
+import com.main.sim.MatchScheduler;
+import com.main.utils.GameLog;
+import com.main.utils.TextureLoader;
+
+/**
+ * Launches the dedicated match server: a headless libGDX application (files
+ * and audio stubs only, no window or GL context) whose loop runs
+ * {@link MatchServer#tick()} at the fixed server tick rate.
+ * <p>
+ * Usage: {@code ServerLauncher [port]}; clients join with
+ * {@code -Dzgame.server=host:port}.
+ * <p>
+ * {@code ServerLauncher --matches <count> [threads]} instead hosts that many
+ * bot-played matches on a {@link MatchScheduler} sharing one map, and logs
+ * their tick cost every {@link #REPORT_INTERVAL} ticks; used to find how many
+ * matches a host can take.
+ */
+public class ServerLauncher extends ApplicationAdapter {
+
+    /**
+     * Ticks between two scheduler reports in multi-match mode.
+     */
+    private static final int REPORT_INTERVAL = 300;
+
+    private final int port;
+    private final int matchCount;
+    private final int threads;
+    private MatchServer server;
+    private MatchScheduler scheduler;
+
+    public ServerLauncher(int port) {
+        this(port, 0, 0);
+    }
+
+    /**
+     * @param port       Port of the streamed match, unused in multi-match mode
+     * @param matchCount Number of scheduled matches, 0 for one streamed match
+     * @param threads    Worker threads of the scheduler
+     */
+    public ServerLauncher(int port, int matchCount, int threads) {
+        this.port = port;
+        this.matchCount = matchCount;
+        this.threads = threads;
+    }
+
+    @Override
+    public void create() {
+        if (matchCount > 0) {
+            MatchContext context = new MatchContext(new WarMap(true));
+            scheduler = new MatchScheduler(threads, StreamProtocol.TICK);
+            long seed = System.nanoTime();
+            for (int i = 0; i < matchCount; i++) {
+                Match match = new Match(context, seed + i);
+                scheduler.add(match, new HeroBot(match));
+            }
+            GameLog.info("ServerLauncher", "Hosting {} matches on {} threads", matchCount, threads);
+            return;
+        }
+        Match match = new Match(new WarMap(true), System.nanoTime());
+        try {
+            server = new MatchServer(port, false, match);
+        } catch (IOException e) {
+            GameLog.error("ServerLauncher", "Cannot listen on port {}", port, e);
+            GameLog.flush(1000);
+            System.exit(1);
+            return;
+        }
+        server.start();
+        GameLog.info("ServerLauncher", "Match server listening on port {} (seed {})", server.getPort(), match.getSeed());
+    }
+
+    @Override
+    public void render() {
+        if (scheduler == null) {
+            server.tick();
+            return;
+        }
+        try {
+            scheduler.tickAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (scheduler.getRounds() % REPORT_INTERVAL == 0) {
+            GameLog.info("ServerLauncher", "{}", scheduler.report());
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (server != null) {
+            try {
+                server.close();
+            } catch (IOException ignored) {
+                // Shutting down anyway
+            }
+        }
+        if (scheduler != null) {
+            scheduler.close();
+        }
+        GameLog.flush(1000);
+    }
+
+    public static void main(String[] args) {
+        ServerLauncher launcher;
+        if (args.length > 1 && "--matches".equals(args[0])) {
+            int count = Integer.parseInt(args[1]);
+            int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+            launcher = new ServerLauncher(0, count, threads);
+        } else {
+            int port = args.length > 0 ? Integer.parseInt(args[0]) : StreamProtocol.DEFAULT_PORT;
+            launcher = new ServerLauncher(port);
+        }
+        TextureLoader.setHeadless(true);
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = Math.round(1f / StreamProtocol.TICK);
+        new HeadlessApplication(launcher, config);
+    }
+}
@@ -0,0 +1,94 @@
+package com.main.balance;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.main.map.WarMap;
+import com.main.sim.MatchContext;
+import com.main.utils.TextureLoader;
+
+public class BalanceRunnerTest {
+
+    /**
+     * Thirty simulated seconds.
+     */
+    private static final int MAX_TICKS = 900;
+
+    private static HeadlessApplication application;
+    private static MatchContext context;
+
+    @BeforeClass
+    public static void init() {
+        TextureLoader.setHeadless(true);
+        application = new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        context = new MatchContext(new WarMap(true));
+    }
+
+    private static void assertSameResult(MatchResult expected, MatchResult actual) {
+        assertEquals(expected.getSeed(), actual.getSeed());
+        assertEquals(expected.getOutcome(), actual.getOutcome());
+        assertEquals(expected.getTicks(), actual.getTicks());
+        assertEquals(expected.getGoldSpent(), actual.getGoldSpent());
+        assertEquals(expected.getUnitsBought(), actual.getUnitsBought());
+        assertEquals(expected.getZombiesKilled(), actual.getZombiesKilled());
+        assertEquals(expected.getUnitsLost(), actual.getUnitsLost());
+    }
+
+    @Test
+    public void testSeedDecidesResult() {
+        Strategy mixed = Strategy.preset("mixed");
+        assertSameResult(BalanceRunner.play(context, mixed, 5L, MAX_TICKS),
+                BalanceRunner.play(context, mixed, 5L, MAX_TICKS));
+    }
+
+    @Test
+    public void testWeaponIsBoughtBeforeSoldiers() {
+        MatchResult result = BalanceRunner.play(context, Strategy.preset("mixed+shotgun"), 9L, MAX_TICKS);
+        assertTrue(result.getUnitsBought() > 0);
+        // The shotgun, then at least one soldier
+        assertTrue("spent " + result.getGoldSpent(), result.getGoldSpent() >= 70 + 20);
+        assertTrue(result.getTicks() <= MAX_TICKS);
+    }
+
+    @Test
+    public void testParallelRunMatchesSequentialPlay() throws Exception {
+        List<Strategy> strategies = Arrays.asList(Strategy.preset("melee"), Strategy.preset("tank"));
+        BalanceReport report = BalanceRunner.run(context, strategies, 6, 100L, MAX_TICKS, 3);
+        assertEquals(12, report.getMatchCount());
+
+        BalanceReport sequential = new BalanceReport(BalanceRunner.TICK);
+        for (Strategy strategy : strategies) {
+            for (int i = 0; i < 6; i++) {
+                sequential.add(BalanceRunner.play(context, strategy, 100L + i, MAX_TICKS));
+            }
+        }
+        List<String> csv = report.toCsv();
+        assertEquals(sequential.toCsv(), csv);
+        assertEquals(3, csv.size());
+        assertEquals(BalanceReport.HEADER, csv.get(0));
+        assertTrue(csv.get(1).startsWith("melee,6,"));
+        assertTrue(csv.get(2).startsWith("tank,6,"));
+        assertEquals(BalanceReport.HEADER.split(",").length, csv.get(1).split(",").length);
+    }
+
+    @Test
+    public void testReportAggregates() {
+        Strategy melee = Strategy.preset("melee");
+        BalanceReport report = new BalanceReport(0.5f);
+        report.add(new MatchResult(melee, 1L, MatchResult.Outcome.WIN, 100, 200, 10, 30, 5));
+        report.add(new MatchResult(melee, 2L, MatchResult.Outcome.WIN, 300, 100, 5, 10, 5));
+        report.add(new MatchResult(melee, 3L, MatchResult.Outcome.LOSS, 50, 100, 5, 0, 5));
+        report.add(new MatchResult(melee, 4L, MatchResult.Outcome.TIMEOUT, 400, 0, 0, 0, 0));
+        assertEquals(0.5, report.getWinRate("melee"), 1e-9);
+        // Wins last 100 s on average, the loss 25 s; 40 kills for 400 gold
+        assertEquals("melee,4,2,1,1,0.5000,0.4900,100.0,25.0,100.0,5.00,10.00,3.75,10.000", report.toCsv().get(1));
+    }
+}
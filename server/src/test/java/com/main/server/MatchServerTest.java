@@ -0,0 +1,132 @@
+package com.main.server;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.main.entities.Unit;
+import com.main.map.Base;
+import com.main.map.WarMap;
+import com.main.net.StateCodec;
+import com.main.net.StateStreamClient;
+import com.main.net.StreamProtocol;
+import com.main.net.WorldState;
+import com.main.sim.InputFrame;
+import com.main.sim.Match;
+import com.main.utils.GameLog;
+import com.main.utils.TextureLoader;
+
+public class MatchServerTest {
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void init() {
+        // No GL context at all: the server must not need one
+        TextureLoader.setHeadless(true);
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+    }
+
+    @Test
+    public void testHeadlessMapHasCollisions() {
+        WarMap map = new WarMap(true);
+        assertNull(map.getMap());
+        assertEquals(45, map.getMapWidth());
+        assertEquals(20, map.getMapHeight());
+        assertFalse(map.getCollisionRects().isEmpty());
+    }
+
+    @Test
+    public void testPressReleasedBetweenTicksActsOnce() throws Exception {
+        Match match = new Match(new WarMap(true), 99L);
+        MatchServer server = new MatchServer(0, true, match);
+        try {
+            server.tick();
+            // Press and release arrive before the next tick
+            server.receiveInput(InputFrame.RELOAD | InputFrame.MOVE_RIGHT, InputFrame.NO_PURCHASE);
+            server.receiveInput(InputFrame.MOVE_RIGHT, InputFrame.NO_PURCHASE);
+            server.tick();
+            assertEquals(1, match.getHero().getReloads());
+
+            // Held buttons stay down, the press is not repeated
+            float x = match.getHero().getPosX();
+            server.tick();
+            assertEquals(1, match.getHero().getReloads());
+            assertTrue(match.getHero().getPosX() > x);
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testClientFollowsServer() throws Exception {
+        Match match = new Match(new WarMap(true), 1234L);
+        // Fill the lanes so the stream carries a few hundred units
+        match.getHero().setGold(1_000_000);
+        Base playerBase = match.getPlayerBase();
+        for (int i = 0; i < 200; i++) {
+            Unit unit = playerBase.buyUnit(Base.Type.values()[i % 3], i % 3, match.getHero());
+            playerBase.addUnit(unit);
+        }
+
+        MatchServer server = new MatchServer(0, true, match);
+        server.start();
+        StateStreamClient client = StateStreamClient.connect("127.0.0.1", server.getPort(), 2000);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (server.getClientCount() == 0) {
+            assertTrue("Client should be accepted", System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+
+        client.sendInput(InputFrame.MOVE_RIGHT, InputFrame.NO_PURCHASE);
+        float startX = match.getHero().getPosX();
+        int ticks = 300;
+        for (int i = 0; i < ticks; i++) {
+            server.tick();
+            Thread.sleep(1);
+        }
+        int snapshots = ticks / StreamProtocol.SNAPSHOT_INTERVAL;
+        deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (client.getFramesReceived() < snapshots) {
+            assertTrue("All snapshots should arrive", System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+        assertTrue("Hero should follow the client's input", match.getHero().getPosX() > startX);
+
+        // Once the render clock reaches the newest snapshot, the client shows the server state
+        WorldState shown = new WorldState();
+        assertTrue(client.sample(0f, shown));
+        assertTrue(client.sample(10f, shown));
+        WorldState expected = server.capture();
+        assertEquals(expected.tick, shown.tick);
+        assertEquals(expected.heroX, shown.heroX);
+        assertEquals(expected.getUnitCount(), shown.getUnitCount());
+        for (int i = 0; i < expected.getUnitCount(); i++) {
+            assertEquals(expected.getId(i), shown.getId(i));
+            assertEquals(expected.getX(i), shown.getX(i));
+            assertEquals(expected.getHealth(i), shown.getHealth(i));
+        }
+        assertTrue(Math.abs(StateCodec.dequantize(shown.heroX) - match.getHero().getPosX()) <= 1f / StateCodec.QUANT);
+
+        // Bandwidth per simulated second, keyframe included
+        double seconds = ticks * StreamProtocol.TICK;
+        double kbps = client.getBytesReceived() * 8 / seconds / 1000.0;
+        GameLog.info("MatchServerTest", "{} units streamed at {} kbit/s", expected.getUnitCount(),
+                Math.round(kbps * 10) / 10.0);
+        assertTrue("Stream should carry a few hundred units", expected.getUnitCount() >= 100);
+        assertTrue("Stream used " + kbps + " kbit/s", kbps < 128);
+        assertEquals(server.getBytesSent(), client.getBytesReceived());
+
+        client.close();
+        server.close();
+    }
+}